@@ -0,0 +1,104 @@
+
+package java_cup.runtime;
+
+/** An array based stack of Symbols used as the parse stack.  Unlike
+ *  java.util.Stack it is not synchronized, as each parse stack is used
+ *  by one parser only, and its elements need no casts.  The array is
+ *  kept between the parses, so a parser used for many inputs grows it
+ *  only to the deepest stack needed.
+ *
+ * @see     java_cup.runtime.lr_parser
+ */
+
+public class SymbolStack {
+  /*-----------------------------------------------------------*/
+  /*--- Constructor(s) ----------------------------------------*/
+  /*-----------------------------------------------------------*/
+
+  /** Constructor for an empty stack. */
+  public SymbolStack()
+    {
+      elements = new Symbol[256];
+      size = 0;
+    }
+
+  /*-----------------------------------------------------------*/
+  /*--- (Access to) Instance Variables ------------------------*/
+  /*-----------------------------------------------------------*/
+
+  /** The elements of the stack, the bottom one first. */
+  protected Symbol[] elements;
+
+  /** The number of the elements on the stack. */
+  protected int size;
+
+  /*-----------------------------------------------------------*/
+  /*--- General Methods ---------------------------------------*/
+  /*-----------------------------------------------------------*/
+
+  /** Push a Symbol onto the stack. */
+  public void push(Symbol sym)
+    {
+      if (size == elements.length)
+	{
+	  Symbol[] new_elements = new Symbol[2*size];
+	  System.arraycopy(elements, 0, new_elements, 0, size);
+	  elements = new_elements;
+	}
+      elements[size++] = sym;
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Pop the top Symbol off the stack and return it. */
+  public Symbol pop()
+    {
+      Symbol sym = elements[--size];
+      elements[size] = null;
+      return sym;
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Return the top Symbol of the stack (without popping it). */
+  public Symbol peek()
+    {
+      return elements[size-1];
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Return the Symbol at the given index, the bottom one being 0. */
+  public Symbol elementAt(int index)
+    {
+      return elements[index];
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Return the number of the Symbols on the stack. */
+  public int size()
+    {
+      return size;
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Indicate whether the stack is empty. */
+  public boolean empty()
+    {
+      return size == 0;
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Remove all the Symbols from the stack. */
+  public void removeAllElements()
+    {
+      while (size > 0)
+	elements[--size] = null;
+    }
+
+  /*-----------------------------------------------------------*/
+
+}
@@ -1,7 +1,6 @@
 
 package java_cup.runtime;
 
-import java.util.Stack;
 
 /** This class implements a temporary or "virtual" parse stack that 
  *  replaces the top portion of the actual parse stack (the part that 
@@ -25,7 +24,7 @@ public class virtual_parse_stack {
   /*-----------------------------------------------------------*/
 
   /** Constructor to build a virtual stack out of a real stack. */
-  public virtual_parse_stack(Stack shadowing_stack) throws java.lang.Exception
+  public virtual_parse_stack(SymbolStack shadowing_stack) throws java.lang.Exception
     {
       /* sanity check */
       if (shadowing_stack == null)
@@ -34,7 +33,8 @@ public class virtual_parse_stack {
 
       /* set up our internals */
       real_stack = shadowing_stack;
-      vstack     = new Stack();
+      vstack     = new int[16];
+      vsize      = 0;
       real_next  = 0;
 
       /* get one element onto the virtual portion of the stack */
@@ -49,7 +49,7 @@ public class virtual_parse_stack {
    *  the bottom of the virtual portion of the stack, but is always left
    *  unmodified.
    */
-  protected Stack real_stack;
+  protected SymbolStack real_stack;
 
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
 
@@ -61,13 +61,16 @@ public class virtual_parse_stack {
 
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
 
-  /** The virtual top portion of the stack.  This stack contains Integer
-   *  objects with state numbers.  This stack shadows the top portion
+  /** The virtual top portion of the stack.  This stack contains the
+   *  state numbers.  This stack shadows the top portion
    *  of the real stack within the area that has been modified (via operations
    *  on the virtual stack).  When this portion of the stack becomes empty we 
    *  transfer elements from the underlying stack onto this stack. 
    */
-  protected Stack vstack;
+  protected int[] vstack;
+
+  /** The number of the state numbers in vstack. */
+  protected int vsize;
 
   /*-----------------------------------------------------------*/
   /*--- General Methods ---------------------------------------*/
@@ -84,13 +87,13 @@ public class virtual_parse_stack {
       if (real_next >= real_stack.size()) return;
 
       /* get a copy of the first Symbol we have not transfered */
-      stack_sym = (Symbol)real_stack.elementAt(real_stack.size()-1-real_next);
+      stack_sym = real_stack.elementAt(real_stack.size()-1-real_next);
 
       /* record the transfer */
       real_next++;
 
       /* put the state number from the Symbol onto the virtual stack */
-      vstack.push(new Integer(stack_sym.parse_state));
+      push(stack_sym.parse_state);
     }
 
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
@@ -100,7 +103,7 @@ public class virtual_parse_stack {
     {
       /* if vstack is empty then we were unable to transfer onto it and 
 	 the whole thing is empty. */
-      return vstack.empty();
+      return vsize == 0;
     }
 
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
@@ -108,11 +111,11 @@ public class virtual_parse_stack {
   /** Return value on the top of the stack (without popping it). */
   public int top() throws java.lang.Exception
     {
-      if (vstack.empty())
+      if (vsize == 0)
 	throw new Exception(
 		  "Internal parser error: top() called on empty virtual stack");
 
-      return ((Integer)vstack.peek()).intValue();
+      return vstack[vsize-1];
     }
 
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
@@ -120,15 +123,15 @@ public class virtual_parse_stack {
   /** Pop the stack. */
   public void pop() throws java.lang.Exception
     {
-      if (vstack.empty())
+      if (vsize == 0)
 	throw new Exception(
 		  "Internal parser error: pop from empty virtual stack");
 
       /* pop it */
-      vstack.pop();
+      vsize--;
 
       /* if we are now empty transfer an element (if there is one) */
-      if (vstack.empty())
+      if (vsize == 0)
         get_from_real();
     }
 
@@ -137,7 +140,13 @@ public class virtual_parse_stack {
   /** Push a state number onto the stack. */
   public void push(int state_num)
     {
-      vstack.push(new Integer(state_num));
+      if (vsize == vstack.length)
+	{
+	  int[] new_vstack = new int[2*vsize];
+	  System.arraycopy(vstack, 0, new_vstack, 0, vsize);
+	  vstack = new_vstack;
+	}
+      vstack[vsize++] = state_num;
     }
 
   /*-----------------------------------------------------------*/
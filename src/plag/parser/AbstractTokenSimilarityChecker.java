@@ -0,0 +1,478 @@
+/* 
+ *  Copyright (C) 2006 Aleksi Ahtiainen, Mikko Rahikainen.
+ * 
+ *  This file is part of Plaggie.
+ *
+ *  Plaggie is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published
+ *  by the Free Software Foundation; either version 2 of the License,
+ *  or (at your option) any later version.
+ *
+ *  Plaggie is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Plaggie; if not, write to the Free Software
+ *  Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ *  02110-1301  USA
+ */
+package plag.parser;
+
+import java.util.Arrays;
+
+/**
+ * Common base for the greedy string tiling implementations. Holds the
+ * token lists and the resulting tiles of the latest comparison and
+ * counts the similarity values from them. Subclasses only need to
+ * implement the tiling itself in tile(byte[], byte[], boolean[],
+ * boolean[], TilingWorkspace).
+ * <p>
+ * All the subclasses have to produce exactly the same tiles (and tile
+ * ids) as SimpleTokenSimilarityChecker, so that they can be used
+ * interchangeably. If a similarity threshold is set, the subclasses
+ * stop the tiling as soon as stopTiling tells that the threshold can
+ * not be reached.
+ */
+public abstract class AbstractTokenSimilarityChecker
+    implements BoundedTokenSimilarityChecker
+{
+
+    protected TokenList tokensA;
+    protected TokenList tokensB;
+    protected int minimumMatchLength;
+
+    protected MatchedTileSet tiles = null;
+
+    protected CodeExcluder codeExcluder;
+
+    /** The multiplier used in the rolling hash */
+    private static final int HASH_BASE = 0x01000193;
+
+    /** The workspace buffer slots used, see TilingWorkspace */
+    private static final int COVER_HASHES = 14;
+    private static final int COVER_TABLE = 15;
+
+    /** Marks an empty entry in the hash set of COVER_TABLE */
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    /** The number of matched tokens in tiles */
+    private int matchedTokenCount;
+
+    /** The number of tokens in the tiles added during the tiling */
+    private int tiledTokenCount;
+
+    /** The similarity threshold, 0.0 if the tiling is never stopped */
+    private double similarityThreshold = 0.0;
+
+    /** Whether the last tiling was stopped because of the threshold */
+    private boolean belowThreshold;
+
+    /** The most tokens the stopped tiling could have matched */
+    private int maximumMatchedTokenCount;
+
+    /** Whether only the similarity values are counted, not the tiles */
+    private boolean scoreOnly = false;
+
+    protected AbstractTokenSimilarityChecker(int minimumMatchLength,
+					     CodeExcluder codeExcluder) {
+	if (codeExcluder == null) {
+	    throw new IllegalArgumentException("Illegal code excluder: "+codeExcluder);
+	}
+	if (minimumMatchLength < 1) {
+	    throw new IllegalArgumentException("Illegal minimum match length: "+minimumMatchLength);
+	}
+	this.minimumMatchLength = minimumMatchLength;
+	this.codeExcluder = codeExcluder;
+    }
+
+    /**
+     * Returns a code excluder, which does not exclude anything.
+     */
+    protected static CodeExcluder createEmptyCodeExcluder() {
+	return new CodeExcluder() {
+		public void mark(TokenList tokensA,
+				 TokenList tokensB,
+				 boolean[] marksA,
+				 boolean[] marksB)
+		{}
+	    };
+    }
+
+    /**
+     * Counts the similarity of the given tokens. The tiling is run in
+     * the workspace of the current thread, the result tiles are
+     * created after the tiling is complete.
+     */
+    public void countSimilarities(TokenList tokensA,
+				  TokenList tokensB) {
+	this.tokensA = tokensA;
+	this.tokensB = tokensB;
+	this.tiledTokenCount = 0;
+	this.belowThreshold = false;
+
+	byte[] A = tokensA.getValueArray();
+	byte[] B = tokensB.getValueArray();
+
+	TilingWorkspace ws = TilingWorkspace.acquire();
+	try {
+	    boolean[] marksA = ws.getMarksA(A.length);
+	    boolean[] marksB = ws.getMarksB(B.length);
+
+	    // Run the code excluder
+	    this.codeExcluder.mark(tokensA, tokensB,
+				   marksA, marksB);
+
+	    if (isWholeMatch(A, B, marksA, marksB)) {
+		// Identical files give one tile covering both of them,
+		// like the tiling would
+		addTiles(new int[] { 0 }, new int[] { 0 }, 1, A.length, ws);
+	    }
+	    else {
+		this.tile(A, B, marksA, marksB, ws);
+	    }
+
+	    this.publishTiles(ws);
+	}
+	finally {
+	    ws.release();
+	}
+    }
+
+    /**
+     * Tiles the given token values with the given marks, which
+     * already contain the excluded code and are changed by the
+     * tiling. The similarity threshold is not used. Used for tiling
+     * whole submissions, see WholeSubmissionSimilarityChecker.
+     *
+     * @return The tiles in the order of their ids, each as the start
+     * index in A, the start index in B and the length
+     */
+    public int[] tileValues(byte[] A, byte[] B,
+			    boolean[] marksA, boolean[] marksB) {
+	double threshold = this.similarityThreshold;
+	this.similarityThreshold = 0.0;
+	this.tiledTokenCount = 0;
+
+	TilingWorkspace ws = TilingWorkspace.acquire();
+	try {
+	    this.tile(A, B, marksA, marksB, ws);
+
+	    int[] tiles = new int[3*ws.getTileCount()];
+	    for (int i = 0; i < ws.getTileCount(); i++) {
+		tiles[3*i] = ws.getTileStartA(i);
+		tiles[3*i+1] = ws.getTileStartB(i);
+		tiles[3*i+2] = ws.getTileLength(i);
+	    }
+	    return tiles;
+	}
+	finally {
+	    ws.release();
+	    this.similarityThreshold = threshold;
+	}
+    }
+
+    /**
+     * Returns the code excluder used by this checker.
+     */
+    public CodeExcluder getCodeExcluder() {
+	return this.codeExcluder;
+    }
+
+    /**
+     * Returns true, if the given values are equal, have no marks and
+     * are at least minimumMatchLength tokens long, so that the tiling
+     * would match all of them with one tile.
+     */
+    private boolean isWholeMatch(byte[] A, byte[] B,
+				 boolean[] marksA, boolean[] marksB) {
+	if ((A.length < minimumMatchLength) || !Arrays.equals(A, B)) {
+	    return false;
+	}
+	for (int i = 0; i < A.length; i++) {
+	    if (marksA[i] || marksB[i]) {
+		return false;
+	    }
+	}
+	return true;
+    }
+
+    /**
+     * Runs the greedy string tiling on the given token values. Tiles
+     * are reported with addTiles and the tokens covered by them have
+     * to be marked by the implementation. The mark arrays may be
+     * longer than the value arrays.
+     *
+     * @param A The token values of file A
+     * @param B The token values of file B
+     * @param marksA The marks of A, already containing the excluded code
+     * @param marksB The marks of B, already containing the excluded code
+     * @param ws The workspace to use for temporary data
+     */
+    protected abstract void tile(byte[] A, byte[] B,
+				 boolean[] marksA, boolean[] marksB,
+				 TilingWorkspace ws);
+
+    /**
+     * Adds the tiles found in one tiling iteration to the tile arena
+     * of the workspace. The tiles have to be given in the order in
+     * which SimpleTokenSimilarityChecker would find them (ascending A
+     * index, then ascending B index), the ids are given in the same
+     * order as SimpleTokenSimilarityChecker gives them.
+     *
+     * @param startsA The start indices of the tiles in A
+     * @param startsB The start indices of the tiles in B
+     * @param count The number of tiles in startsA and startsB
+     * @param length The length of all the tiles
+     * @param ws The workspace containing the tile arena
+     */
+    protected void addTiles(int[] startsA, int[] startsB,
+			    int count, int length, TilingWorkspace ws) {
+	for (int i = count - 1; i >= 0; i--) {
+	    ws.addTile(startsA[i], startsB[i], length);
+	}
+	tiledTokenCount += count*length;
+    }
+
+    /**
+     * Counts the hashes of all the token sequences of length
+     * minimumMatchLength in the given values into hashes. The hash at
+     * index i is the hash of the sequence starting from i. The values
+     * have to contain at least minimumMatchLength tokens.
+     */
+    protected void createHashes(byte[] values, int[] hashes) {
+	int count = values.length - minimumMatchLength + 1;
+
+	// HASH_BASE^(minimumMatchLength-1), for removing the first value
+	int highPower = 1;
+	for (int i = 1; i < minimumMatchLength; i++) {
+	    highPower *= HASH_BASE;
+	}
+
+	int h = 0;
+	for (int i = 0; i < minimumMatchLength; i++) {
+	    h = h*HASH_BASE + (values[i] & 0xff);
+	}
+	hashes[0] = h;
+	for (int i = 1; i < count; i++) {
+	    h = (h - (values[i-1] & 0xff)*highPower)*HASH_BASE + (values[i+minimumMatchLength-1] & 0xff);
+	    hashes[i] = h;
+	}
+    }
+
+    /**
+     * Returns the hash table bucket of the given hash.
+     */
+    protected static int bucket(int hash, int mask) {
+	hash ^= (hash >>> 16);
+	hash *= 0x85ebca6b;
+	hash ^= (hash >>> 13);
+	return hash & mask;
+    }
+
+    /**
+     * Sets the score only mode. In the score only mode only the
+     * similarity values are counted, getSimilarityTiles returns an
+     * empty set. The tiles can be counted later with another checker
+     * for the results that need them, see
+     * DetectionResult.recountMatches.
+     */
+    public void setScoreOnly(boolean scoreOnly) {
+	this.scoreOnly = scoreOnly;
+    }
+
+    public void setSimilarityThreshold(double threshold) {
+	this.similarityThreshold = threshold;
+    }
+
+    public double getSimilarityThreshold() {
+	return this.similarityThreshold;
+    }
+
+    public boolean isBelowThreshold() {
+	return this.belowThreshold;
+    }
+
+    /**
+     * Counts the number of unmarked tokens in X, which are covered by
+     * an unmarked token sequence of length minimumMatchLength that
+     * also occurs unmarked in Y. Only these tokens can still be
+     * covered by tiles. Hash collisions can only make the count
+     * larger.
+     */
+    private int countCoverableTokens(byte[] X, boolean[] marksX,
+				     byte[] Y, boolean[] marksY,
+				     TilingWorkspace ws) {
+	if ((X.length < minimumMatchLength) || (Y.length < minimumMatchLength)) {
+	    return 0;
+	}
+
+	// Collect the hashes of the unmarked sequences of Y into a set
+	int tableSize = 1;
+	while (tableSize < 2*Y.length) {
+	    tableSize <<= 1;
+	}
+	int mask = tableSize - 1;
+	long[] table = ws.getLongs(COVER_TABLE, tableSize);
+	Arrays.fill(table, 0, tableSize, EMPTY);
+	int[] hashes = ws.getInts(COVER_HASHES, Y.length);
+	createHashes(Y, hashes);
+	int run = 0;
+	for (int s = Y.length - 1; s >= 0; s--) {
+	    run = marksY[s] ? 0 : run + 1;
+	    if (run >= minimumMatchLength) {
+		int index = bucket(hashes[s], mask);
+		while ((table[index] != EMPTY) && (table[index] != hashes[s])) {
+		    index = (index + 1) & mask;
+		}
+		table[index] = hashes[s];
+	    }
+	}
+
+	// Flag the unmarked sequences of X found in the set, then count
+	// the tokens covered by them
+	hashes = ws.getInts(COVER_HASHES, X.length);
+	createHashes(X, hashes);
+	run = 0;
+	for (int s = X.length - 1; s >= 0; s--) {
+	    run = marksX[s] ? 0 : run + 1;
+	    if (s > X.length - minimumMatchLength) {
+		continue;
+	    }
+	    boolean found = false;
+	    if (run >= minimumMatchLength) {
+		int index = bucket(hashes[s], mask);
+		while (table[index] != EMPTY) {
+		    if (table[index] == hashes[s]) {
+			found = true;
+			break;
+		    }
+		    index = (index + 1) & mask;
+		}
+	    }
+	    hashes[s] = found ? 1 : 0;
+	}
+	int count = 0;
+	int coverEnd = 0;
+	for (int i = 0; i < X.length; i++) {
+	    if ((i <= X.length - minimumMatchLength) && (hashes[i] == 1)) {
+		coverEnd = i + minimumMatchLength;
+	    }
+	    if (i < coverEnd) {
+		count++;
+	    }
+	}
+	return count;
+    }
+
+    /**
+     * Checks, whether the tiling can be stopped since neither of the
+     * similarity values can reach the similarity threshold. The upper
+     * bound of the matched tokens is the number of tokens already
+     * tiled plus the tokens that can still be tiled in the file with
+     * less of them, see countCoverableTokens. To be called by the subclasses before each tiling
+     * iteration, including the first one.
+     *
+     * @return true, if the tiling should be stopped
+     */
+    protected boolean stopTiling(byte[] A, boolean[] marksA,
+				 byte[] B, boolean[] marksB,
+				 TilingWorkspace ws) {
+	if (similarityThreshold <= 0.0) {
+	    return false;
+	}
+	int maxMatched = tiledTokenCount +
+	    Math.min(countCoverableTokens(A, marksA, B, marksB, ws),
+		     countCoverableTokens(B, marksB, A, marksA, ws));
+	if ((getSimilarityValue(maxMatched, A.length) >= similarityThreshold) ||
+	    (getSimilarityValue(maxMatched, B.length) >= similarityThreshold)) {
+	    return false;
+	}
+	Debug.println(this, "Stopping tiling, at most "+maxMatched+" tokens can be matched.");
+	this.belowThreshold = true;
+	this.maximumMatchedTokenCount = maxMatched;
+	return true;
+    }
+
+    /**
+     * Creates the result tile set from the tiles in the tile arena.
+     * The tile id is the index of the tile in the arena. In the score
+     * only mode, only the matched tokens are counted and the tile set
+     * is left empty.
+     */
+    private void publishTiles(TilingWorkspace ws) {
+	this.tiles = new MatchedTileSet();
+	this.matchedTokenCount = 0;
+	for (int i = 0; i < ws.getTileCount(); i++) {
+	    int length = ws.getTileLength(i);
+	    matchedTokenCount += length;
+	    if (scoreOnly) {
+		continue;
+	    }
+	    Tile tileA = new Tile(tokensA, ws.getTileStartA(i), ws.getTileStartA(i)+length-1);
+	    Tile tileB = new Tile(tokensB, ws.getTileStartB(i), ws.getTileStartB(i)+length-1);
+	    MatchedTile mt = new MatchedTile(tileA, tileB, i);
+	    tiles.addMatchedTile(mt);
+	    Debug.println(this, "Adding tile "+mt);
+	}
+    }
+
+    /**
+     * Returns the similarity value of a file with the given number of
+     * tokens, when the given number of them are matched.
+     */
+    private static double getSimilarityValue(int cMatchedTokens, int cAllTokens) {
+	if (cAllTokens == 0) {
+	    // Empty file, avoid division by zero!
+	    return 0.0;
+	}
+	return (double)cMatchedTokens / (double)cAllTokens;
+    }
+
+    public double getSimilarityValueA()
+	throws IllegalStateException
+    {
+	if (tokensA == null) {
+	    throw new IllegalStateException("Similarity count not yet run.");
+	}
+	return getSimilarityValue(matchedTokenCount, tokensA.size());
+    }
+
+    public double getSimilarityValueB()
+	throws IllegalStateException
+    {
+	if (tokensA == null) {
+	    throw new IllegalStateException("Similarity count not yet run.");
+	}
+	return getSimilarityValue(matchedTokenCount, tokensB.size());
+    }
+
+    public double getMaximumSimilarityValueA()
+	throws IllegalStateException
+    {
+	if (!belowThreshold) {
+	    return getSimilarityValueA();
+	}
+	return getSimilarityValue(maximumMatchedTokenCount, tokensA.size());
+    }
+
+    public double getMaximumSimilarityValueB()
+	throws IllegalStateException
+    {
+	if (!belowThreshold) {
+	    return getSimilarityValueB();
+	}
+	return getSimilarityValue(maximumMatchedTokenCount, tokensB.size());
+    }
+
+    public MatchedTileSet getSimilarityTiles()
+	throws IllegalStateException
+    {
+	if (tokensA == null) {
+	    throw new IllegalStateException("Similarity count not yet run.");
+	}
+	return tiles;
+    }
+
+}
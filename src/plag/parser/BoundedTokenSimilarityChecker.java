@@ -0,0 +1,65 @@
+/* 
+ *  Copyright (C) 2006 Aleksi Ahtiainen, Mikko Rahikainen.
+ * 
+ *  This file is part of Plaggie.
+ *
+ *  Plaggie is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published
+ *  by the Free Software Foundation; either version 2 of the License,
+ *  or (at your option) any later version.
+ *
+ *  Plaggie is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Plaggie; if not, write to the Free Software
+ *  Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ *  02110-1301  USA
+ */
+package plag.parser;
+
+/**
+ * A token similarity checker, which can stop the similarity count as
+ * soon as the similarity values of the compared files can not reach a
+ * given threshold anymore. If the count is stopped, the similarity
+ * values and tiles contain only the matches found until then, i.e. the
+ * similarity values are lower than the real values, but still below
+ * the threshold.
+ */
+public interface BoundedTokenSimilarityChecker
+    extends TokenSimilarityChecker
+{
+    /**
+     * Sets the threshold. The count is stopped, when neither of the
+     * similarity values can reach the threshold. A threshold of 0.0
+     * (the default) means that the count is never stopped.
+     */
+    public void setSimilarityThreshold(double threshold);
+
+    /**
+     * Returns the threshold, 0.0 if the count is never stopped.
+     */
+    public double getSimilarityThreshold();
+
+    /**
+     * Returns true, if the last similarity count was stopped, since
+     * the similarity values could not reach the threshold.
+     */
+    public boolean isBelowThreshold();
+
+    /**
+     * Returns an upper bound of the similarity value A of the last
+     * count. If the count was stopped, it is below the threshold,
+     * otherwise it is the similarity value itself.
+     */
+    public double getMaximumSimilarityValueA();
+
+    /**
+     * Returns an upper bound of the similarity value B of the last
+     * count, see getMaximumSimilarityValueA.
+     */
+    public double getMaximumSimilarityValueB();
+
+}
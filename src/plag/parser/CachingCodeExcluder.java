@@ -0,0 +1,102 @@
+/* 
+ *  Copyright (C) 2006 Aleksi Ahtiainen, Mikko Rahikainen.
+ * 
+ *  This file is part of Plaggie.
+ *
+ *  Plaggie is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published
+ *  by the Free Software Foundation; either version 2 of the License,
+ *  or (at your option) any later version.
+ *
+ *  Plaggie is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Plaggie; if not, write to the Free Software
+ *  Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ *  02110-1301  USA
+ */
+package plag.parser;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A code excluder, which counts the marks of each token list once
+ * with another file code excluder and keeps them for the following
+ * comparisons of the same list. The marks are kept as long as the
+ * token list is in use, so they are reused when the token lists are
+ * cached.
+ */
+public class CachingCodeExcluder
+    implements FileCodeExcluder
+{
+    private FileCodeExcluder excluder;
+
+    /** The marks of the token lists, as BitSets */
+    private Map marks = new WeakHashMap();
+
+    public CachingCodeExcluder(FileCodeExcluder excluder) {
+	this.excluder = excluder;
+    }
+
+    /**
+     * Alters marksA and marksB in order not to exclude some tokens in
+     * the code from the check.
+     *
+     * @param tokensA The tokens in source code A
+     * @param tokensB The tokens in source code B
+     * @param marksA The marks of A.
+     * @param marksB The marks of B.
+     */
+    public void mark(TokenList tokensA,
+		     TokenList tokensB,
+		     boolean[] marksA,
+		     boolean[] marksB)
+    {
+	mark(tokensA, marksA);
+	mark(tokensB, marksB);
+    }
+
+    /**
+     * Sets the marks of the given token list to the given array,
+     * counting them if they are not known yet. May be called by
+     * several threads at the same time.
+     */
+    public void mark(TokenList tokens,
+		     boolean[] marks)
+    {
+	BitSet set;
+	synchronized (this.marks) {
+	    set = (BitSet)this.marks.get(tokens);
+	}
+	if (set == null) {
+	    set = createMarks(tokens);
+	    synchronized (this.marks) {
+		this.marks.put(tokens, set);
+	    }
+	}
+
+	for (int i = set.nextSetBit(0); i >= 0; i = set.nextSetBit(i + 1)) {
+	    marks[i] = true;
+	}
+    }
+
+    private BitSet createMarks(TokenList tokens) {
+	int size = tokens.size();
+	boolean[] marks = new boolean[size];
+	this.excluder.mark(tokens, marks);
+
+	BitSet set = new BitSet(size);
+	for (int i = 0; i < size; i++) {
+	    if (marks[i]) {
+		set.set(i);
+	    }
+	}
+	return set;
+    }
+
+}
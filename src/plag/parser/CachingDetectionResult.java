@@ -31,6 +31,9 @@ import java.util.Iterator;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 
 /**
  * A class for storing the results of similarity detection between two
@@ -48,50 +51,84 @@ public class CachingDetectionResult
     protected TokenList createTokenList(File file,
 					CodeTokenizer tokenizer) 
 	throws Exception 
-    
+    {
+	return getTokenList(file, tokenizer, this.tokenListCache);
+    }
+
+    /**
+     * Returns the token list of the given file from the given cache,
+     * or creates it and stores it in the cache. A parse failure is
+     * stored in the cache too, and rethrown every time the token list
+     * is asked for. The cache can be shared by concurrent comparisons:
+     * each file is tokenized only once, and different files are
+     * tokenized at the same time. While a file is being tokenized,
+     * its entry in the cache is the FutureTask tokenizing it.
+     */
+    public static TokenList getTokenList(final File file,
+					 final CodeTokenizer tokenizer,
+					 Map tokenListCache) 
+	throws Exception 
     {
 	Object retList;
-	if ( (retList = tokenListCache.get(file)) != null) {
-	    if (retList instanceof Exception) {
-		// Get the stored exception and rethrow it.
-		throw (Exception)retList;
+	FutureTask task = null;
+	synchronized (tokenListCache) {
+	    retList = tokenListCache.get(file);
+	    if (retList == null) {
+		task = new FutureTask(new Callable() {
+			public Object call() throws Exception {
+			    Debug.println("Creating token list of file: "+file.getPath());
+			    return tokenizer.tokenize(file);
+			}
+		    });
+		tokenListCache.put(file, task);
+		retList = task;
+	    }
+	}
+
+	if (task != null) {
+	    // Tokenize in this thread and replace the task with the result
+	    task.run();
+	    Object result;
+	    boolean failed = false;
+	    try {
+		result = task.get();
+	    }
+	    catch (ExecutionException e) {
+		result = e.getCause();
+		failed = true;
+	    }
+	    boolean recreated;
+	    synchronized (tokenListCache) {
+		recreated = (tokenListCache instanceof TokenListCache) &&
+		    ((TokenListCache)tokenListCache).isEvicted(file);
+		tokenListCache.put(file, result);
+	    }
+	    // A token list evicted from the cache is counted only once
+	    if (recreated) {
+		Stats.incCounter("token_lists_recreated");
+	    }
+	    else {
+		Stats.incCounter(failed ? "parse_failures" : "parsed_files");
+	    }
+	}
+
+	if (retList instanceof FutureTask) {
+	    try {
+		return (TokenList)((FutureTask)retList).get();
+	    }
+	    catch (ExecutionException e) {
+		retList = e.getCause();
 	    }
-	    //	    System.out.println("Getting token list from cache");
-	    return (TokenList)retList;
 	}
-	TokenList tokens = null;
-	try {
-	    Debug.println(this, "Creating token list of file: "+file.getPath());
-	    
-//  	    PlagSym.init(file.getPath());
-	    
-//  	    Reader fr = new BufferedReader(new FileReader(file));
-//  	    Lexer l = new Lexer(fr, 4);
-//  	    java_cup.runtime.lr_parser g = new Grm14(l);
-//  	    g.parse();
-	    
-//  	    tokens = PlagSym.getTokenList();
-	    
-	    tokens = tokenizer.tokenize(file);
-
-	    //	    fr.close();
+	if (retList instanceof Exception) {
+	    // Get the stored exception and rethrow it.
+	    throw (Exception)retList;
 	}
-	catch (Exception e) {
-	    // Store the exception and rethrow it
-	    tokenListCache.put(file, e);
-	    Stats.incCounter("parse_failures");
-	    throw e;
+	if (retList instanceof Error) {
+	    throw (Error)retList;
 	}
-//  	catch (Error e2) {
-//  	    //	    System.out.println("Error reading file:"+ file.getPath());
-//  	    Exception e = new Exception("Error reading file:"+ file.getPath());
-//  	    tokenListCache.put(file, e);
-//  	    Stats.incCounter("parse_failures");
-//  	    throw e;
-//  	}
-	tokenListCache.put(file, tokens);
-	Stats.incCounter("parsed_files");
-	return tokens;
+	//	    System.out.println("Getting token list from cache");
+	return (TokenList)retList;
     }
 
     public CachingDetectionResult(File fileA,
@@ -108,6 +145,34 @@ public class CachingDetectionResult
 	this.createData(checker, tokenizer);
     }
 
+    /**
+     * Creates a result, which reuses the similarity counted earlier
+     * between files identical to the given files, if the identical
+     * files have stored one. Otherwise the similarity is counted and
+     * stored for the files identical to these.
+     */
+    public CachingDetectionResult(File fileA,
+				  File fileB,
+				  TokenSimilarityChecker checker,
+				  CodeTokenizer tokenizer,
+				  Map tokenListCache,
+				  IdenticalFiles identicalFiles) 
+	throws Exception
+    {
+	this.fileA = fileA;
+	this.fileB = fileB;
+	this.tokenListCache = tokenListCache;
+
+	DetectionResult.CountedData counted = identicalFiles.getResult(fileA, fileB);
+	if (counted != null) {
+	    this.createData(counted, tokenizer);
+	}
+	else {
+	    this.createData(checker, tokenizer);
+	    identicalFiles.putResult(fileA, fileB, this.getCountedData());
+	}
+    }
+
 }
 
 
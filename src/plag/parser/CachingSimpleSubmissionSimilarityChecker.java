@@ -29,6 +29,8 @@ public class CachingSimpleSubmissionSimilarityChecker
     
     protected Map tokenListCache;
 
+    protected IdenticalFiles identicalFiles = null;
+
     public CachingSimpleSubmissionSimilarityChecker(TokenSimilarityChecker checker,
 						    CodeTokenizer tokenizer,
 						    Map tokenListCache)
@@ -37,6 +39,19 @@ public class CachingSimpleSubmissionSimilarityChecker
 	this.tokenListCache = tokenListCache;
     }
 
+    /**
+     * Creates a checker, which counts the similarity of each pair of
+     * file contents only once for the given identical files.
+     */
+    public CachingSimpleSubmissionSimilarityChecker(TokenSimilarityChecker checker,
+						    CodeTokenizer tokenizer,
+						    Map tokenListCache,
+						    IdenticalFiles identicalFiles)
+    {
+	this(checker, tokenizer, tokenListCache);
+	this.identicalFiles = identicalFiles;
+    }
+
     /**
      * Counts the similarity between 2 submissions. Caches the token lists generated from files.
      */
@@ -65,12 +80,26 @@ public class CachingSimpleSubmissionSimilarityChecker
 		Debug.println(this,"Adding detection result between "+fileA.getPath()+" and "+fileB.getPath());
 		
 		try {
-		    DetectionResult detResult = new CachingDetectionResult(fileA,
-									   fileB,
-									   this.checker,
-									   this.tokenizer,
-									   this.tokenListCache);
+		    DetectionResult detResult;
+		    if (this.identicalFiles != null) {
+			detResult = new CachingDetectionResult(fileA,
+							       fileB,
+							       this.checker,
+							       this.tokenizer,
+							       this.tokenListCache,
+							       this.identicalFiles);
+		    }
+		    else {
+			detResult = new CachingDetectionResult(fileA,
+							       fileB,
+							       this.checker,
+							       this.tokenizer,
+							       this.tokenListCache);
+		    }
 		    ss.add(detResult);
+		    if (detResult.isBelowThreshold()) {
+			Stats.incCounter("file_comparisons_below_threshold");
+		    }
 		}
 		catch (Exception e) {
 		    Stats.incCounter("failed_file_comparisons");
@@ -81,6 +110,7 @@ public class CachingSimpleSubmissionSimilarityChecker
 
 	    }
 	}
+	completeResults();
     }
 
 
@@ -0,0 +1,49 @@
+/* 
+ *  Copyright (C) 2006 Aleksi Ahtiainen, Mikko Rahikainen.
+ * 
+ *  This file is part of Plaggie.
+ *
+ *  Plaggie is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published
+ *  by the Free Software Foundation; either version 2 of the License,
+ *  or (at your option) any later version.
+ *
+ *  Plaggie is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Plaggie; if not, write to the Free Software
+ *  Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ *  02110-1301  USA
+ */
+package plag.parser;
+
+import java.util.Iterator;
+
+/**
+ * An index of submissions, which finds the submission pairs likely to
+ * be similar, so that only they need to be compared.
+ */
+public interface CandidateIndex 
+{
+    /**
+     * Adds the given token lists (the files of one submission) as a
+     * new submission to the index. Returns the number of the
+     * submission, the submissions are numbered in the order they are
+     * added.
+     */
+    public int addSubmission(Iterator tokenLists);
+
+    /**
+     * Returns the submissions added before the given one, which are
+     * candidates for comparison with it. Element j of the returned
+     * array tells whether submission j is a candidate, the length of
+     * the array is the number of the given submission. All the
+     * submissions have to be added before asking for the candidates,
+     * after that the candidates can be asked for concurrently.
+     */
+    public boolean[] getCandidates(int submission);
+
+}
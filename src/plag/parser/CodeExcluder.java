@@ -25,7 +25,8 @@ public interface CodeExcluder
 
     /**
      * Alters marksA and marksB in order not to exclude some tokens in
-     * the code from the check.
+     * the code from the check. The mark arrays may be longer than the
+     * token lists, only the first size() marks are used.
      *
      * @param tokensA The tokens in source code A
      * @param tokensB The tokens in source code B
@@ -28,6 +28,11 @@ import java.io.File;
 public interface CodeTokenizer
 {
 
+    /**
+     * Returns the tokens of the given file. May be called for
+     * different files at the same time. The token values have to be
+     * within 0..255.
+     */
     public TokenList tokenize(File file)
 	throws Exception;
 
@@ -29,6 +29,8 @@ import java.io.FileNotFoundException;
 
 import java.util.Iterator;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 
 /**
  * A class for storing the results of similarity detection between two
@@ -46,6 +48,13 @@ public class DetectionResult
 
     private MatchedTileSet matches = null;
 
+    /** Whether the similarity count was stopped below the threshold */
+    private boolean belowThreshold = false;
+
+    /** The upper bounds of the similarity values of a stopped count */
+    private double maximumSimilarityA = -1.0;
+    private double maximumSimilarityB = -1.0;
+
     protected File fileA = null;
     protected File fileB = null;
 
@@ -85,6 +94,132 @@ public class DetectionResult
 	Debug.println(this, "Getting file similarity value A:"+this.similarityA);
 	this.similarityB = checker.getSimilarityValueB();
 	this.matches = checker.getSimilarityTiles();
+	this.setThresholdData(checker);
+    }
+
+    /**
+     * Stores whether the count of the given checker was stopped below
+     * its threshold, and the upper bounds of the similarity values if
+     * it was.
+     */
+    private void setThresholdData(TokenSimilarityChecker checker) {
+	this.belowThreshold = false;
+	if (checker instanceof BoundedTokenSimilarityChecker) {
+	    BoundedTokenSimilarityChecker boundedChecker =
+		(BoundedTokenSimilarityChecker)checker;
+	    this.belowThreshold = boundedChecker.isBelowThreshold();
+	    if (this.belowThreshold) {
+		this.maximumSimilarityA = boundedChecker.getMaximumSimilarityValueA();
+		this.maximumSimilarityB = boundedChecker.getMaximumSimilarityValueB();
+	    }
+	}
+    }
+
+    /**
+     * The counted similarity values and tiles of a result without its
+     * token lists, see getCountedData.
+     */
+    protected static class CountedData
+    {
+	double similarityA;
+	double similarityB;
+	boolean belowThreshold;
+	double maximumSimilarityA;
+	double maximumSimilarityB;
+
+	/** The start in A, start in B, length and id of each tile */
+	int[] tiles;
+    }
+
+    /**
+     * Creates the token lists and copies the similarity values and
+     * tiles of the given data, which has been counted from files with
+     * the same contents. The tiles are created again on the token
+     * lists of this result.
+     */
+    protected void createData(CountedData counted,
+			      CodeTokenizer tokenizer) 
+	throws Exception 
+    {
+	this.tokensA = createTokenList(fileA, tokenizer);
+	this.tokensB = createTokenList(fileB, tokenizer);
+
+	this.similarityA = counted.similarityA;
+	this.similarityB = counted.similarityB;
+	this.belowThreshold = counted.belowThreshold;
+	this.maximumSimilarityA = counted.maximumSimilarityA;
+	this.maximumSimilarityB = counted.maximumSimilarityB;
+	this.matches = new MatchedTileSet();
+	int[] tiles = counted.tiles;
+	for (int i = 0; i < tiles.length; i += 4) {
+	    Tile tileA = new Tile(tokensA, tiles[i], tiles[i]+tiles[i+2]-1);
+	    Tile tileB = new Tile(tokensB, tiles[i+1], tiles[i+1]+tiles[i+2]-1);
+	    this.matches.addMatchedTile(new MatchedTile(tileA, tileB, tiles[i+3]));
+	}
+    }
+
+    /**
+     * Returns the similarity values and tiles of this result without
+     * the token lists, so that storing them keeps no token lists in
+     * memory. The tiles are stored in the order of their ids, which
+     * is the order the checkers add them in, so that the tiles
+     * created again are ordered like the original ones.
+     */
+    protected CountedData getCountedData() {
+	CountedData data = new CountedData();
+	data.similarityA = similarityA;
+	data.similarityB = similarityB;
+	data.belowThreshold = belowThreshold;
+	data.maximumSimilarityA = maximumSimilarityA;
+	data.maximumSimilarityB = maximumSimilarityB;
+	ArrayList tiles = new ArrayList(matches.size());
+	Iterator i = matches.iterator();
+	while (i.hasNext()) {
+	    tiles.add(i.next());
+	}
+	Collections.sort(tiles, new Comparator() {
+		public int compare(Object o1, Object o2) {
+		    int id1 = ((MatchedTile)o1).getId();
+		    int id2 = ((MatchedTile)o2).getId();
+		    return (id1 < id2) ? -1 : ((id1 == id2) ? 0 : 1);
+		}
+	    });
+	data.tiles = new int[4*tiles.size()];
+	for (int t = 0; t < data.tiles.length; t += 4) {
+	    MatchedTile mt = (MatchedTile)tiles.get(t/4);
+	    data.tiles[t] = mt.getTileA().getStartTokenIndex();
+	    data.tiles[t+1] = mt.getTileB().getStartTokenIndex();
+	    data.tiles[t+2] = mt.getLength();
+	    data.tiles[t+3] = mt.getId();
+	}
+	return data;
+    }
+
+    /**
+     * Counts the matches again using the given checker, which has to
+     * count the same similarity values as the checker used for
+     * creating this result. Used for creating the tiles of the
+     * results that are reported, when the similarity values were
+     * counted without them.
+     */
+    public void recountMatches(TokenSimilarityChecker checker) {
+	checker.countSimilarities(tokensA,
+				  tokensB);
+	this.matches = checker.getSimilarityTiles();
+    }
+
+    /**
+     * Counts the similarity values and matches again using the given
+     * checker. Used for completing a result, whose similarity count
+     * was stopped below the threshold.
+     */
+    public void recount(TokenSimilarityChecker checker) {
+	checker.countSimilarities(tokensA,
+				  tokensB);
+	this.similarityA = checker.getSimilarityValueA();
+	this.similarityB = checker.getSimilarityValueB();
+	this.matches = checker.getSimilarityTiles();
+	this.setThresholdData(checker);
     }
 
     protected DetectionResult() {
@@ -155,6 +290,33 @@ public class DetectionResult
 	return this.matches;
     }
 
+    /**
+     * Returns true, if the similarity count was stopped, because the
+     * similarity values could not reach the threshold of the
+     * checker. The similarity values and matches of such a result are
+     * incomplete.
+     */
+    public boolean isBelowThreshold() {
+	return this.belowThreshold;
+    }
+
+    /**
+     * Returns an upper bound of the similarity value A. If the
+     * similarity count was stopped below the threshold, the real
+     * value is at most this, otherwise this is the similarity value.
+     */
+    public double getMaximumSimilarityA() {
+	return this.belowThreshold ? this.maximumSimilarityA : this.similarityA;
+    }
+
+    /**
+     * Returns an upper bound of the similarity value B, see
+     * getMaximumSimilarityA.
+     */
+    public double getMaximumSimilarityB() {
+	return this.belowThreshold ? this.maximumSimilarityB : this.similarityB;
+    }
+
     public File getFileA() {
 	return this.fileA;
     }
@@ -23,7 +23,7 @@ package plag.parser;
 import java.util.Iterator;
 
 public class ExistingCodeExcluder
-    implements CodeExcluder
+    implements FileCodeExcluder
 {
     private TokenList existingTokens = null;
     private int minimumMatchLength;
@@ -54,15 +54,25 @@ public class ExistingCodeExcluder
 		     TokenList tokensB,
 		     boolean[] marksA,
 		     boolean[] marksB) 
+    {
+	this.mark(tokensA, marksA);
+	this.mark(tokensB, marksB);
+    }
+
+    /**
+     * Marks the tokens of the given code, which are covered by the
+     * tiles found between the code and the existing code.
+     *
+     * @param tokens The tokens of the source code
+     * @param marks The marks of the tokens
+     */
+    public void mark(TokenList tokens,
+		     boolean[] marks)
     {
 	TokenSimilarityChecker checker = 
 	    new SimpleTokenSimilarityChecker(this.minimumMatchLength);
 
-	this.exclude(tokensA, checker,
-		     marksA);
-	
-	this.exclude(tokensB, checker,
-		     marksB);
+	this.exclude(tokens, checker, marks);
     }
 
     private void exclude(TokenList tokens, TokenSimilarityChecker checker,
@@ -0,0 +1,44 @@
+/* 
+ *  Copyright (C) 2006 Aleksi Ahtiainen, Mikko Rahikainen.
+ * 
+ *  This file is part of Plaggie.
+ *
+ *  Plaggie is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published
+ *  by the Free Software Foundation; either version 2 of the License,
+ *  or (at your option) any later version.
+ *
+ *  Plaggie is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Plaggie; if not, write to the Free Software
+ *  Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ *  02110-1301  USA
+ */
+package plag.parser;
+
+/**
+ * A code excluder, which marks the tokens of each file independently
+ * of the file it is compared with. The marks of a file can therefore
+ * be counted once and used in all its comparisons, see
+ * CachingCodeExcluder.
+ */
+public interface FileCodeExcluder
+    extends CodeExcluder
+{
+
+    /**
+     * Alters marks in order to exclude some tokens of the code from
+     * the check. The mark array may be longer than the token list,
+     * only the first size() marks are used.
+     *
+     * @param tokens The tokens of the source code
+     * @param marks The marks of the tokens
+     */
+    public void mark(TokenList tokens,
+		     boolean[] marks);
+
+}
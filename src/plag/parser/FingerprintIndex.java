@@ -0,0 +1,271 @@
+/* 
+ *  Copyright (C) 2006 Aleksi Ahtiainen, Mikko Rahikainen.
+ * 
+ *  This file is part of Plaggie.
+ *
+ *  Plaggie is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published
+ *  by the Free Software Foundation; either version 2 of the License,
+ *  or (at your option) any later version.
+ *
+ *  Plaggie is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Plaggie; if not, write to the Free Software
+ *  Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ *  02110-1301  USA
+ */
+package plag.parser;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * An index of the winnowed fingerprints of submissions, used for
+ * finding the submission pairs worth comparing. The fingerprints of a
+ * token list are selected from the hashes of its k-grams (k
+ * consecutive token values) by winnowing: the minimum hash of each
+ * window of w consecutive hashes is a fingerprint. Two token lists
+ * sharing a run of at least w+k-1 tokens therefore share at least one
+ * fingerprint.
+ * <p>
+ * The fingerprints of all the files of a submission are added
+ * together. The submissions sharing at least the given number of
+ * fingerprints are candidates for comparison.
+ */
+public class FingerprintIndex
+    implements CandidateIndex
+{
+
+    private static final int HASH_BASE = 0x01000193;
+
+    private int gramLength;
+
+    private int windowLength;
+
+    private int minimumShared;
+
+    /** The sorted distinct fingerprints of each submission */
+    private int[][] fingerprints = new int[16][];
+
+    private int submissionCount = 0;
+
+    /**
+     * The hash table from a fingerprint to the chain of submissions
+     * having it, built when the candidates are first asked for.
+     * tableKeys is set last, when the table is complete.
+     */
+    private int[] tableKeys = null;
+    private int[] tableHeads;
+    private int[] chainNext;
+    private int[] chainSubmissions;
+
+    /** Buffer for the fingerprints of the submission being added */
+    private int[] buffer = new int[256];
+    private int bufferCount;
+
+    /**
+     * Creates an index of fingerprints selected from the hashes of
+     * k-grams of length gramLength in windows of windowLength hashes.
+     * The submissions sharing at least minimumShared fingerprints are
+     * candidates.
+     */
+    public FingerprintIndex(int gramLength, int windowLength, int minimumShared) {
+	if ((gramLength < 1) || (windowLength < 1) || (minimumShared < 1)) {
+	    throw new IllegalArgumentException("Gram length, window length and minimum shared fingerprints must be positive");
+	}
+	this.gramLength = gramLength;
+	this.windowLength = windowLength;
+	this.minimumShared = minimumShared;
+    }
+
+    public int addSubmission(Iterator tokenLists) {
+	if (tableKeys != null) {
+	    throw new IllegalStateException("Submissions can not be added after the candidates have been asked for");
+	}
+	bufferCount = 0;
+	while (tokenLists.hasNext()) {
+	    addFingerprints(((TokenList)tokenLists.next()).getValueArray());
+	}
+
+	// Store the distinct fingerprints in order
+	Arrays.sort(buffer, 0, bufferCount);
+	int distinct = 0;
+	for (int i = 0; i < bufferCount; i++) {
+	    if ((distinct == 0) || (buffer[i] != buffer[distinct-1])) {
+		buffer[distinct++] = buffer[i];
+	    }
+	}
+	int[] subFingerprints = new int[distinct];
+	System.arraycopy(buffer, 0, subFingerprints, 0, distinct);
+
+	if (submissionCount == fingerprints.length) {
+	    int[][] newFingerprints = new int[2*submissionCount][];
+	    System.arraycopy(fingerprints, 0, newFingerprints, 0, submissionCount);
+	    fingerprints = newFingerprints;
+	}
+	fingerprints[submissionCount] = subFingerprints;
+	return submissionCount++;
+    }
+
+    /**
+     * Returns the number of distinct fingerprints of the given
+     * submission.
+     */
+    public int getFingerprintCount(int submission) {
+	return fingerprints[submission].length;
+    }
+
+    public boolean[] getCandidates(int submission) {
+	createTable();
+	boolean[] candidates = new boolean[submission];
+	int[] sharedCounts = new int[submission];
+	int[] subFingerprints = fingerprints[submission];
+	int mask = tableKeys.length - 1;
+	for (int f = 0; f < subFingerprints.length; f++) {
+	    int index = slot(tableKeys, subFingerprints[f], mask);
+	    // Chains are in ascending submission order
+	    for (int e = tableHeads[index]; e >= 0; e = chainNext[e]) {
+		int other = chainSubmissions[e];
+		if (other >= submission) {
+		    break;
+		}
+		sharedCounts[other]++;
+	    }
+	}
+	for (int j = 0; j < submission; j++) {
+	    candidates[j] = (sharedCounts[j] >= minimumShared);
+	}
+	return candidates;
+    }
+
+    /**
+     * Selects the fingerprints of the given token values to the
+     * buffer. If the same minimum hash is selected by consecutive
+     * windows, it is stored only once.
+     */
+    private void addFingerprints(byte[] values) {
+	int count = values.length - gramLength + 1;
+	if (count <= 0) {
+	    return;
+	}
+
+	int[] hashes = createGramHashes(values, gramLength);
+	int windows = Math.max(count - windowLength + 1, 1);
+	int selected = -1;
+	for (int s = 0; s < windows; s++) {
+	    // The rightmost minimum of the window
+	    int min = s;
+	    int end = Math.min(s + windowLength, count);
+	    for (int i = s + 1; i < end; i++) {
+		if (hashes[i] <= hashes[min]) {
+		    min = i;
+		}
+	    }
+	    if (min != selected) {
+		selected = min;
+		if (bufferCount == buffer.length) {
+		    int[] newBuffer = new int[2*bufferCount];
+		    System.arraycopy(buffer, 0, newBuffer, 0, bufferCount);
+		    buffer = newBuffer;
+		}
+		buffer[bufferCount++] = hashes[min];
+	    }
+	}
+    }
+
+    /**
+     * Returns the mixed hashes of all the k-grams of the given values,
+     * an empty array if there are less than gramLength values.
+     */
+    static int[] createGramHashes(byte[] values, int gramLength) {
+	int count = Math.max(values.length - gramLength + 1, 0);
+	int[] hashes = new int[count];
+	if (count == 0) {
+	    return hashes;
+	}
+	int highPower = 1;
+	for (int i = 1; i < gramLength; i++) {
+	    highPower *= HASH_BASE;
+	}
+	int h = 0;
+	for (int i = 0; i < gramLength; i++) {
+	    h = h*HASH_BASE + (values[i] & 0xff);
+	}
+	hashes[0] = mix(h);
+	for (int i = 1; i < count; i++) {
+	    h = (h - (values[i-1] & 0xff)*highPower)*HASH_BASE + (values[i+gramLength-1] & 0xff);
+	    hashes[i] = mix(h);
+	}
+	return hashes;
+    }
+
+    /**
+     * Creates the hash table of the fingerprints of all the
+     * submissions, if it has not been created yet.
+     */
+    private synchronized void createTable() {
+	if (tableKeys != null) {
+	    return;
+	}
+	int entries = 0;
+	for (int i = 0; i < submissionCount; i++) {
+	    entries += fingerprints[i].length;
+	}
+	int size = 16;
+	while (size < 2*entries) {
+	    size <<= 1;
+	}
+	int mask = size - 1;
+	tableHeads = new int[size];
+	Arrays.fill(tableHeads, -1);
+	chainNext = new int[entries];
+	chainSubmissions = new int[entries];
+	int[] keys = new int[size];
+
+	// Added from the last submission, so that the chains are in
+	// ascending order
+	int e = 0;
+	for (int i = submissionCount - 1; i >= 0; i--) {
+	    int[] subFingerprints = fingerprints[i];
+	    for (int f = 0; f < subFingerprints.length; f++) {
+		int index = slot(keys, subFingerprints[f], mask);
+		keys[index] = subFingerprints[f];
+		chainSubmissions[e] = i;
+		chainNext[e] = tableHeads[index];
+		tableHeads[index] = e;
+		e++;
+	    }
+	}
+	tableKeys = keys;
+    }
+
+    /**
+     * Returns the table slot of the given fingerprint: the slot
+     * containing it, or the empty slot where it belongs.
+     */
+    private int slot(int[] keys, int fingerprint, int mask) {
+	int index = fingerprint & mask;
+	while ((tableHeads[index] >= 0) && (keys[index] != fingerprint)) {
+	    index = (index + 1) & mask;
+	}
+	return index;
+    }
+
+    /**
+     * Mixes the bits of a k-gram hash, so that the minimum hashes
+     * are spread evenly.
+     */
+    static int mix(int hash) {
+	hash ^= (hash >>> 16);
+	hash *= 0x85ebca6b;
+	hash ^= (hash >>> 13);
+	hash *= 0xc2b2ae35;
+	hash ^= (hash >>> 16);
+	return hash;
+    }
+
+}
@@ -0,0 +1,193 @@
+/* 
+ *  Copyright (C) 2006 Aleksi Ahtiainen, Mikko Rahikainen.
+ * 
+ *  This file is part of Plaggie.
+ *
+ *  Plaggie is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published
+ *  by the Free Software Foundation; either version 2 of the License,
+ *  or (at your option) any later version.
+ *
+ *  Plaggie is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Plaggie; if not, write to the Free Software
+ *  Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ *  02110-1301  USA
+ */
+package plag.parser;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * A code excluder, which excludes the code common to a large part of
+ * the submissions, like getters and setters, main methods and the
+ * code required by a framework. The document frequency of each
+ * k-gram (k consecutive token values, k being the minimum match
+ * length) is counted: the number of submissions having it in some of
+ * their files. The tokens covered by a k-gram found in at least the
+ * given fraction of the submissions are excluded.
+ * <p>
+ * All the submissions are added before the first file is marked.
+ * The k-grams are identified by their hashes, so a k-gram sharing its
+ * hash with a frequent one is excluded too, which is rare with the
+ * 32 bit hashes.
+ */
+public class FrequentCodeExcluder
+    implements FileCodeExcluder
+{
+
+    private int gramLength;
+
+    private double frequency;
+
+    /** The distinct k-gram hashes of each submission, in one buffer */
+    private int[] buffer = new int[1024];
+    private int bufferCount = 0;
+
+    private int submissionCount = 0;
+
+    /** The sorted hashes of the frequent k-grams, null until counted */
+    private int[] frequentHashes = null;
+
+    {
+	try {
+	    Stats.newCounter("tokens_excluded_as_frequent_code");
+	}
+	catch (Exception e) {
+	}
+    }
+
+    /**
+     * Creates an excluder of the k-grams of length minimumMatchLength
+     * found in at least the given fraction of the submissions, and in
+     * at least two of them.
+     */
+    public FrequentCodeExcluder(int minimumMatchLength, double frequency) {
+	if (minimumMatchLength < 1) {
+	    throw new IllegalArgumentException("Minimum match length must be positive");
+	}
+	this.gramLength = minimumMatchLength;
+	this.frequency = frequency;
+    }
+
+    /**
+     * Adds the k-grams of the files of a submission to the counts.
+     *
+     * @param tokenLists The TokenLists of the files of the submission
+     */
+    public synchronized void addSubmission(Iterator tokenLists) {
+	if (frequentHashes != null) {
+	    throw new IllegalStateException("Submissions can not be added after files have been marked");
+	}
+	int start = bufferCount;
+	while (tokenLists.hasNext()) {
+	    int[] hashes =
+		FingerprintIndex.createGramHashes(((TokenList)tokenLists.next()).getValueArray(),
+						  gramLength);
+	    if (bufferCount + hashes.length > buffer.length) {
+		int[] newBuffer = new int[Math.max(2*buffer.length, bufferCount + hashes.length)];
+		System.arraycopy(buffer, 0, newBuffer, 0, bufferCount);
+		buffer = newBuffer;
+	    }
+	    System.arraycopy(hashes, 0, buffer, bufferCount, hashes.length);
+	    bufferCount += hashes.length;
+	}
+
+	// Keep each k-gram once per submission
+	Arrays.sort(buffer, start, bufferCount);
+	int distinct = start;
+	for (int i = start; i < bufferCount; i++) {
+	    if ((distinct == start) || (buffer[i] != buffer[distinct-1])) {
+		buffer[distinct++] = buffer[i];
+	    }
+	}
+	bufferCount = distinct;
+	submissionCount++;
+    }
+
+    /**
+     * Counts the frequent k-grams, if they have not been counted yet.
+     */
+    private synchronized int[] getFrequentHashes() {
+	if (frequentHashes != null) {
+	    return frequentHashes;
+	}
+	int minimumCount = Math.max(2, (int)Math.ceil(frequency*submissionCount));
+
+	Arrays.sort(buffer, 0, bufferCount);
+	int count = 0;
+	int runStart = 0;
+	for (int i = 1; i <= bufferCount; i++) {
+	    if ((i == bufferCount) || (buffer[i] != buffer[runStart])) {
+		if (i - runStart >= minimumCount) {
+		    buffer[count++] = buffer[runStart];
+		}
+		runStart = i;
+	    }
+	}
+	frequentHashes = new int[count];
+	System.arraycopy(buffer, 0, frequentHashes, 0, count);
+	buffer = null;
+	Debug.println(this, count+" frequent k-grams in at least "+minimumCount+" submissions");
+	return frequentHashes;
+    }
+
+    /**
+     * Alters marksA and marksB in order not to exclude some tokens in
+     * the code from the check.
+     *
+     * @param tokensA The tokens in source code A
+     * @param tokensB The tokens in source code B
+     * @param marksA The marks of A.
+     * @param marksB The marks of B.
+     */
+    public void mark(TokenList tokensA,
+		     TokenList tokensB,
+		     boolean[] marksA,
+		     boolean[] marksB)
+    {
+	this.mark(tokensA, marksA);
+	this.mark(tokensB, marksB);
+    }
+
+    /**
+     * Marks the tokens of the given code covered by frequent k-grams.
+     *
+     * @param tokens The tokens of the source code
+     * @param marks The marks of the tokens
+     */
+    public void mark(TokenList tokens,
+		     boolean[] marks)
+    {
+	int[] frequent = getFrequentHashes();
+	if (frequent.length == 0) {
+	    return;
+	}
+	int[] hashes = FingerprintIndex.createGramHashes(tokens.getValueArray(), gramLength);
+	// The tokens before this are already marked
+	int markedEnd = 0;
+	int excluded = 0;
+	for (int s = 0; s < hashes.length; s++) {
+	    if (Arrays.binarySearch(frequent, hashes[s]) >= 0) {
+		for (int i = Math.max(s, markedEnd); i < s + gramLength; i++) {
+		    if (!marks[i]) {
+			marks[i] = true;
+			excluded++;
+		    }
+		}
+		markedEnd = s + gramLength;
+	    }
+	}
+	try {
+	    Stats.addToCounter("tokens_excluded_as_frequent_code", excluded);
+	}
+	catch (Exception e) {
+	}
+    }
+
+}
@@ -0,0 +1,171 @@
+/* 
+ *  Copyright (C) 2006 Aleksi Ahtiainen, Mikko Rahikainen.
+ * 
+ *  This file is part of Plaggie.
+ *
+ *  Plaggie is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published
+ *  by the Free Software Foundation; either version 2 of the License,
+ *  or (at your option) any later version.
+ *
+ *  Plaggie is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Plaggie; if not, write to the Free Software
+ *  Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ *  02110-1301  USA
+ */
+package plag.parser;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Finds the files of the submissions, which have identical contents,
+ * by the SHA-256 hashes of the contents. The first file added of each
+ * group of identical files is the representative of the group. With
+ * a TokenListCache using this, the identical files share one token
+ * list, and CachingDetectionResult counts the similarity of each pair
+ * of contents only once, so identical submissions are compared
+ * against the others only once. The counted results are kept without
+ * their token lists, for at most MAXIMUM_RESULTS pairs of contents.
+ */
+public class IdenticalFiles
+{
+
+    /** The representative files by the hashes of their contents */
+    private HashMap filesByHash = new HashMap();
+
+    /** The representatives of the files with identical contents */
+    private HashMap representatives = new HashMap();
+
+    /** The submissions by the sorted hashes of their files */
+    private HashMap submissionsByHashes = new HashMap();
+
+    /** The maximum number of counted results kept */
+    public static final int MAXIMUM_RESULTS = 65536;
+
+    /**
+     * The counted results of the pairs of representatives, the least
+     * recently used are dropped after MAXIMUM_RESULTS
+     */
+    private Map results = Collections.synchronizedMap(new LinkedHashMap(16, 0.75f, true) {
+	    protected boolean removeEldestEntry(Map.Entry eldest) {
+		return size() > MAXIMUM_RESULTS;
+	    }
+	});
+
+    /**
+     * Initializes the statistics collection.
+     */
+    {
+	try {
+	    Stats.newCounter("identical_files");
+	    Stats.newCounter("identical_submissions");
+	    Stats.newCounter("reused_file_comparisons");
+	}
+	catch (Exception e) {
+	}
+    }
+
+    /**
+     * Adds the files of the given submission. A file that cannot be
+     * read is left out, it is not identical to any other file.
+     */
+    public void addSubmission(Submission sub) {
+	ArrayList hashes = new ArrayList();
+	Iterator files = sub.getFiles();
+	while (files.hasNext()) {
+	    File file = (File)files.next();
+	    String hash;
+	    try {
+		hash = TokenStore.getHash(null, file);
+	    }
+	    catch (IOException e) {
+		Debug.println("File "+file.getPath()+" not hashed: "+e);
+		continue;
+	    }
+	    hashes.add(hash);
+	    File first = (File)filesByHash.get(hash);
+	    if (first == null) {
+		filesByHash.put(hash, file);
+	    }
+	    else {
+		representatives.put(first, first);
+		representatives.put(file, first);
+		incCounter("identical_files");
+	    }
+	}
+	Collections.sort(hashes);
+	if (!hashes.isEmpty() && (submissionsByHashes.put(hashes, sub) != null)) {
+	    incCounter("identical_submissions");
+	}
+    }
+
+    /**
+     * Returns true, if some other file added has the same contents
+     * as the given file.
+     */
+    public boolean isDuplicated(File file) {
+	return representatives.containsKey(file);
+    }
+
+    /**
+     * Returns the representative of the files identical to the given
+     * file, or the file itself if it is not duplicated.
+     */
+    public File getRepresentative(File file) {
+	File representative = (File)representatives.get(file);
+	return (representative != null) ? representative : file;
+    }
+
+    /**
+     * Returns the result stored for files identical to the given
+     * files, or null if there is none. Only the results of the
+     * duplicated files are stored.
+     */
+    public DetectionResult.CountedData getResult(File fileA, File fileB) {
+	DetectionResult.CountedData result =
+	    (DetectionResult.CountedData)results.get(getKey(fileA, fileB));
+	if (result != null) {
+	    incCounter("reused_file_comparisons");
+	}
+	return result;
+    }
+
+    /**
+     * Stores the given result of the given files for the files
+     * identical to them, if either of them is duplicated.
+     */
+    public void putResult(File fileA, File fileB,
+			  DetectionResult.CountedData result) {
+	if (isDuplicated(fileA) || isDuplicated(fileB)) {
+	    results.put(getKey(fileA, fileB), result);
+	}
+    }
+
+    private List getKey(File fileA, File fileB) {
+	return Arrays.asList(new File[] { getRepresentative(fileA),
+					  getRepresentative(fileB) });
+    }
+
+    private static void incCounter(String name) {
+	try {
+	    Stats.incCounter(name);
+	}
+	catch (Exception e) {
+	}
+    }
+
+}
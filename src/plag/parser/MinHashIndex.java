@@ -0,0 +1,217 @@
+/* 
+ *  Copyright (C) 2006 Aleksi Ahtiainen, Mikko Rahikainen.
+ * 
+ *  This file is part of Plaggie.
+ *
+ *  Plaggie is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published
+ *  by the Free Software Foundation; either version 2 of the License,
+ *  or (at your option) any later version.
+ *
+ *  Plaggie is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Plaggie; if not, write to the Free Software
+ *  Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ *  02110-1301  USA
+ */
+package plag.parser;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Random;
+
+/**
+ * A locality sensitive hashing index of MinHash signatures of
+ * submissions. The signature of a submission is computed from the set
+ * of k-grams (k consecutive token values) of all its files. The
+ * signature is divided into bands of rows values, and the submissions
+ * having an identical band are candidates for comparison.
+ * <p>
+ * Two submissions, whose k-gram sets have Jaccard similarity s, are
+ * candidates with probability 1-(1-s^rows)^bands. getBandCount
+ * returns the number of bands needed for a given probability.
+ */
+public class MinHashIndex
+    implements CandidateIndex
+{
+
+    /** Seed of the hash functions, fixed so that runs are repeatable */
+    private static final long SEED = 0x5deece66dL;
+
+    private int gramLength;
+
+    private int bands;
+
+    private int rows;
+
+    /** Multipliers and offsets of the signature hash functions */
+    private int[] multipliers;
+    private int[] offsets;
+
+    /**
+     * The band keys of each submission, null for submissions without
+     * any k-grams
+     */
+    private long[][] bandKeys = new long[16][];
+
+    private int submissionCount = 0;
+
+    /**
+     * Map from a band key to the submissions having it. The buckets
+     * are int arrays, element 0 is the number of submissions.
+     */
+    private HashMap buckets = null;
+
+    /**
+     * Creates an index of signatures of bands*rows values computed
+     * from the k-grams of length gramLength.
+     */
+    public MinHashIndex(int gramLength, int bands, int rows) {
+	if ((gramLength < 1) || (bands < 1) || (rows < 1)) {
+	    throw new IllegalArgumentException("Gram length, bands and rows must be positive");
+	}
+	this.gramLength = gramLength;
+	this.bands = bands;
+	this.rows = rows;
+
+	Random random = new Random(SEED);
+	multipliers = new int[bands*rows];
+	offsets = new int[bands*rows];
+	for (int i = 0; i < multipliers.length; i++) {
+	    multipliers[i] = random.nextInt() | 1;
+	    offsets[i] = random.nextInt();
+	}
+    }
+
+    /**
+     * Returns the number of bands needed, so that two submissions
+     * with the given Jaccard similarity of their k-gram sets are
+     * candidates with at least the given probability (recall), when
+     * each band has the given number of rows.
+     */
+    public static int getBandCount(double similarity, double recall, int rows) {
+	if ((similarity <= 0.0) || (similarity > 1.0) ||
+	    (recall <= 0.0) || (recall >= 1.0) || (rows < 1)) {
+	    throw new IllegalArgumentException("Similarity must be in (0,1], recall in (0,1) and rows positive");
+	}
+	double bandMatch = Math.pow(similarity, rows);
+	if (bandMatch >= 1.0) {
+	    return 1;
+	}
+	return Math.max(1, (int)Math.ceil(Math.log(1.0 - recall) / Math.log(1.0 - bandMatch)));
+    }
+
+    public int addSubmission(Iterator tokenLists) {
+	if (buckets != null) {
+	    throw new IllegalStateException("Submissions can not be added after the candidates have been asked for");
+	}
+
+	// The distinct k-gram hashes of all the files
+	int[] grams = new int[0];
+	while (tokenLists.hasNext()) {
+	    int[] hashes =
+		FingerprintIndex.createGramHashes(((TokenList)tokenLists.next()).getValueArray(),
+						  gramLength);
+	    int[] newGrams = new int[grams.length + hashes.length];
+	    System.arraycopy(grams, 0, newGrams, 0, grams.length);
+	    System.arraycopy(hashes, 0, newGrams, grams.length, hashes.length);
+	    grams = newGrams;
+	}
+	Arrays.sort(grams);
+
+	long[] keys = null;
+	if (grams.length > 0) {
+	    int[] signature = new int[bands*rows];
+	    Arrays.fill(signature, Integer.MAX_VALUE);
+	    for (int g = 0; g < grams.length; g++) {
+		if ((g > 0) && (grams[g] == grams[g-1])) {
+		    continue;
+		}
+		for (int i = 0; i < signature.length; i++) {
+		    int h = FingerprintIndex.mix(grams[g]*multipliers[i] + offsets[i]);
+		    if (h < signature[i]) {
+			signature[i] = h;
+		    }
+		}
+	    }
+
+	    keys = new long[bands];
+	    for (int b = 0; b < bands; b++) {
+		long key = b;
+		for (int r = 0; r < rows; r++) {
+		    key = key*0x100000001b3L + signature[b*rows + r];
+		}
+		keys[b] = key;
+	    }
+	}
+
+	if (submissionCount == bandKeys.length) {
+	    long[][] newBandKeys = new long[2*submissionCount][];
+	    System.arraycopy(bandKeys, 0, newBandKeys, 0, submissionCount);
+	    bandKeys = newBandKeys;
+	}
+	bandKeys[submissionCount] = keys;
+	return submissionCount++;
+    }
+
+    public boolean[] getCandidates(int submission) {
+	createBuckets();
+	boolean[] candidates = new boolean[submission];
+	long[] keys = bandKeys[submission];
+	if (keys == null) {
+	    return candidates;
+	}
+	for (int b = 0; b < bands; b++) {
+	    int[] bucket = (int[])buckets.get(Long.valueOf(keys[b]));
+	    // Buckets are in ascending submission order
+	    for (int i = 1; (i <= bucket[0]) && (bucket[i] < submission); i++) {
+		candidates[bucket[i]] = true;
+	    }
+	}
+	return candidates;
+    }
+
+    /**
+     * Creates the buckets of submissions having the same band keys,
+     * if they have not been created yet.
+     */
+    private synchronized void createBuckets() {
+	if (buckets != null) {
+	    return;
+	}
+	HashMap buckets = new HashMap();
+	for (int s = 0; s < submissionCount; s++) {
+	    long[] keys = bandKeys[s];
+	    if (keys == null) {
+		continue;
+	    }
+	    for (int b = 0; b < bands; b++) {
+		Long key = Long.valueOf(keys[b]);
+		int[] bucket = (int[])buckets.get(key);
+		if (bucket == null) {
+		    bucket = new int[4];
+		    buckets.put(key, bucket);
+		}
+		else if (bucket[bucket[0]] == s) {
+		    // Two bands of the submission have the same key
+		    continue;
+		}
+		if (bucket[0] + 1 == bucket.length) {
+		    int[] newBucket = new int[2*bucket.length];
+		    System.arraycopy(bucket, 0, newBucket, 0, bucket.length);
+		    bucket = newBucket;
+		    buckets.put(key, bucket);
+		}
+		bucket[0]++;
+		bucket[bucket[0]] = s;
+	    }
+	}
+	this.buckets = buckets;
+    }
+
+}
@@ -26,7 +26,7 @@ import java.util.Iterator;
 public class MultipleCodeExcluder
     implements CodeExcluder
 {
-    private ArrayList excluders;
+    protected ArrayList excluders;
 
     public MultipleCodeExcluder() {
 	excluders = new ArrayList();
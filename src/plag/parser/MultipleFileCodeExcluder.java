@@ -0,0 +1,83 @@
+/* 
+ *  Copyright (C) 2006 Aleksi Ahtiainen, Mikko Rahikainen.
+ * 
+ *  This file is part of Plaggie.
+ *
+ *  Plaggie is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published
+ *  by the Free Software Foundation; either version 2 of the License,
+ *  or (at your option) any later version.
+ *
+ *  Plaggie is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Plaggie; if not, write to the Free Software
+ *  Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ *  02110-1301  USA
+ */
+package plag.parser;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+
+/**
+ * A code excluder running several file code excluders one after
+ * another, marking the tokens of one file at a time. Only file code
+ * excluders can be added to it.
+ */
+public class MultipleFileCodeExcluder
+    extends MultipleCodeExcluder
+    implements FileCodeExcluder
+{
+
+    public MultipleFileCodeExcluder() {
+	super();
+    }
+
+    /**
+     * @throws IllegalArgumentException if some of the excluders is
+     * not a file code excluder
+     */
+    public MultipleFileCodeExcluder(ArrayList excluders) {
+	super(excluders);
+	Iterator i = excluders.iterator();
+	while (i.hasNext()) {
+	    checkCodeExcluder((CodeExcluder)i.next());
+	}
+    }
+
+    /**
+     * @throws IllegalArgumentException if the excluder is not a file
+     * code excluder
+     */
+    public void addCodeExcluder(CodeExcluder exc) {
+	checkCodeExcluder(exc);
+	super.addCodeExcluder(exc);
+    }
+
+    private static void checkCodeExcluder(CodeExcluder exc) {
+	if (!(exc instanceof FileCodeExcluder)) {
+	    throw new IllegalArgumentException("Not a file code excluder: "+exc);
+	}
+    }
+
+    /**
+     * Alters marks in order to exclude some tokens of the code from
+     * the check.
+     *
+     * @param tokens The tokens of the source code
+     * @param marks The marks of the tokens
+     */
+    public void mark(TokenList tokens,
+		     boolean[] marks)
+    {
+	Iterator i = excluders.iterator();
+	while (i.hasNext()) {
+	    FileCodeExcluder exc = (FileCodeExcluder)i.next();
+	    exc.mark(tokens, marks);
+	}
+    }
+}
@@ -0,0 +1,173 @@
+/* 
+ *  Copyright (C) 2006 Aleksi Ahtiainen, Mikko Rahikainen.
+ * 
+ *  This file is part of Plaggie.
+ *
+ *  Plaggie is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published
+ *  by the Free Software Foundation; either version 2 of the License,
+ *  or (at your option) any later version.
+ *
+ *  Plaggie is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Plaggie; if not, write to the Free Software
+ *  Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ *  02110-1301  USA
+ */
+package plag.parser;
+
+import java.util.Arrays;
+
+/**
+ * Greedy string tiling using Karp-Rabin hashing of the token values,
+ * in the spirit of the Running-Karp-Rabin Greedy String Tiling
+ * algorithm documented in [5].
+ * <p>
+ * The hashes of all the minimumMatchLength long token sequences in
+ * file B are stored in a hash table. A tile can only start at a
+ * position in file A, whose hash is found in the table, so the match
+ * extension is only done starting from the hash hits instead of all
+ * the (a,b) pairs. Otherwise the algorithm is the same as in
+ * SimpleTokenSimilarityChecker, and produces the same tiles.
+ */
+public class RabinKarpTokenSimilarityChecker
+    extends AbstractTokenSimilarityChecker
+{
+
+    /** The workspace buffer slots used */
+    private static final int HASHES_A = 0;
+    private static final int HASHES_B = 1;
+    private static final int HEADS = 2;
+    private static final int NEXT = 3;
+    private static final int CANDIDATES_A = 4;
+    private static final int CANDIDATES_B = 5;
+
+    public RabinKarpTokenSimilarityChecker(int minimumMatchLength) {
+	this(minimumMatchLength, createEmptyCodeExcluder());
+    }
+
+    public RabinKarpTokenSimilarityChecker(int minimumMatchLength,
+					   CodeExcluder codeExcluder) {
+	super(minimumMatchLength, codeExcluder);
+    }
+
+    protected void tile(byte[] A, byte[] B,
+			boolean[] marksA, boolean[] marksB,
+			TilingWorkspace ws) {
+	if ((A.length < minimumMatchLength) || (B.length < minimumMatchLength)) {
+	    // No tiles of minimumMatchLength possible
+	    return;
+	}
+	if (this.stopTiling(A, marksA, B, marksB, ws)) {
+	    return;
+	}
+	int hashCountA = A.length - minimumMatchLength + 1;
+	int hashCountB = B.length - minimumMatchLength + 1;
+	int[] hashesA = ws.getInts(HASHES_A, hashCountA);
+	int[] hashesB = ws.getInts(HASHES_B, hashCountB);
+	createHashes(A, hashesA);
+	createHashes(B, hashesB);
+
+	// Build the hash table of B, the chains are in ascending order
+	// of the start index, as required by the scanning order.
+	int tableSize = 1;
+	while (tableSize < 2*hashCountB) {
+	    tableSize <<= 1;
+	}
+	int mask = tableSize - 1;
+	int[] heads = ws.getInts(HEADS, tableSize);
+	Arrays.fill(heads, 0, tableSize, -1);
+	int[] next = ws.getInts(NEXT, hashCountB);
+	for (int b = hashCountB - 1; b >= 0; b--) {
+	    int bucket = bucket(hashesB[b], mask);
+	    next[b] = heads[bucket];
+	    heads[bucket] = b;
+	}
+
+	int[] candidatesA = ws.getInts(CANDIDATES_A, 16);
+	int[] candidatesB = ws.getInts(CANDIDATES_B, 16);
+
+	int maxMatch;
+	do {
+	    maxMatch = minimumMatchLength;
+	    int candidateCount = 0;
+
+	    for (int a = 0; a < hashCountA; a++) {
+		if (marksA[a]) {
+		    continue;
+		}
+		int hash = hashesA[a];
+		for (int b = heads[bucket(hash, mask)]; b != -1; b = next[b]) {
+		    if ((hashesB[b] != hash) || marksB[b]) {
+			continue;
+		    }
+		    if ((a > 0) && (b > 0) &&
+			(A[a-1] == B[b-1]) &&
+			(!marksA[a-1]) &&
+			(!marksB[b-1])) {
+			// The match continues from (a-1,b-1), so this
+			// one is shorter than that one and cannot be
+			// the longest match.
+			continue;
+		    }
+		    int j = 0;
+		    while (((a+j) < A.length) &&
+			   ((b+j) < B.length) &&
+			   (A[a+j] == B[b+j]) &&
+			   (!marksA[a+j]) &&
+			   (!marksB[b+j])) {
+			j++;
+		    }
+		    if (j < maxMatch) {
+			continue;
+		    }
+		    if (j > maxMatch) {
+			candidateCount = 0;
+			maxMatch = j;
+		    }
+		    if (candidateCount == candidatesA.length) {
+			candidatesA = ws.growInts(CANDIDATES_A, candidateCount);
+			candidatesB = ws.growInts(CANDIDATES_B, candidateCount);
+		    }
+		    candidatesA[candidateCount] = a;
+		    candidatesB[candidateCount] = b;
+		    candidateCount++;
+		}
+	    }
+
+	    // Take the non-overlapping matches in the order they were
+	    // found, marking the tokens of each taken tile at once. A
+	    // later match overlaps with a taken one exactly when it
+	    // contains marked tokens.
+	    int tileCount = 0;
+	    for (int i = 0; i < candidateCount; i++) {
+		int a = candidatesA[i];
+		int b = candidatesB[i];
+		boolean overlaps = false;
+		for (int j = 0; j < maxMatch; j++) {
+		    if (marksA[a+j] || marksB[b+j]) {
+			overlaps = true;
+			break;
+		    }
+		}
+		if (!overlaps) {
+		    for (int j = 0; j < maxMatch; j++) {
+			marksA[a+j] = true;
+			marksB[b+j] = true;
+		    }
+		    candidatesA[tileCount] = a;
+		    candidatesB[tileCount] = b;
+		    tileCount++;
+		}
+	    }
+	    this.addTiles(candidatesA, candidatesB, tileCount, maxMatch, ws);
+
+	} while ((maxMatch > minimumMatchLength) &&
+		 !this.stopTiling(A, marksA, B, marksB, ws));
+    }
+
+}
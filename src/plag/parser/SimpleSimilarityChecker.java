@@ -77,8 +77,8 @@ public class SimpleSimilarityChecker
 	MatchedTileSet matches = null;
 	int maxMatch;
 
-	int[] A = tokensA.getValueArray();
-	int[] B = tokensB.getValueArray();
+	byte[] A = tokensA.getValueArray();
+	byte[] B = tokensB.getValueArray();
 
 	boolean[] marksA = new boolean[A.length];
 	boolean[] marksB = new boolean[B.length];
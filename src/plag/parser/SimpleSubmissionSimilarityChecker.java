@@ -66,6 +66,9 @@ public class SimpleSubmissionSimilarityChecker
      */
     protected HashMap fileDetectionResults = null;
 
+    /** The similarity value, below which the submissions are not reported */
+    protected double submissionSimilarityThreshold = 0.0;
+
     public SimpleSubmissionSimilarityChecker(TokenSimilarityChecker checker,
 					     CodeTokenizer tokenizer)
     {
@@ -105,6 +108,9 @@ public class SimpleSubmissionSimilarityChecker
 								    this.checker,
 								    this.tokenizer);
 		    ss.add(detResult);
+		    if (detResult.isBelowThreshold()) {
+			Stats.incCounter("file_comparisons_below_threshold");
+		    }
 		}
 		catch (Exception e) {
 		    Stats.incCounter("failed_file_comparisons");
@@ -114,6 +120,146 @@ public class SimpleSubmissionSimilarityChecker
 		Stats.incCounter("file_comparisons");
 	    }
 	}
+	completeResults();
+    }
+
+    /**
+     * Completes the file results stopped below the threshold of a
+     * bounded checker, where needed for the similarity values of the
+     * submissions to be the same as without the threshold. If even
+     * the upper bounds of the file results can not make either
+     * submission similarity value reach the submission similarity
+     * threshold, the submissions are not reported, and the stopped
+     * results are left as they are. Otherwise the stopped results of
+     * each file, whose upper bounds could beat the best result of the
+     * file, are counted again without the threshold.
+     */
+    protected void completeResults()
+	throws Exception
+    {
+	if (!(checker instanceof BoundedTokenSimilarityChecker)) {
+	    return;
+	}
+	if ((getMaximumSimilarityValue(true) < submissionSimilarityThreshold) &&
+	    (getMaximumSimilarityValue(false) < submissionSimilarityThreshold)) {
+	    return;
+	}
+
+	BoundedTokenSimilarityChecker boundedChecker =
+	    (BoundedTokenSimilarityChecker)checker;
+	double threshold = boundedChecker.getSimilarityThreshold();
+	boundedChecker.setSimilarityThreshold(0.0);
+	try {
+	    Iterator sets = fileDetectionResults.values().iterator();
+	    while (sets.hasNext()) {
+		completeResults((SortedSet)sets.next());
+	    }
+	}
+	finally {
+	    boundedChecker.setSimilarityThreshold(threshold);
+	}
+    }
+
+    /**
+     * Counts again the stopped results of a file, which could be
+     * better than its best result, starting from the one with the
+     * highest upper bound. The checker is used without the threshold.
+     */
+    private void completeResults(SortedSet ss)
+	throws Exception
+    {
+	double best = -1.0;
+	ArrayList stopped = new ArrayList();
+	Iterator i = ss.iterator();
+	while (i.hasNext()) {
+	    DetectionResult dr = (DetectionResult)i.next();
+	    if (dr.isBelowThreshold()) {
+		stopped.add(dr);
+	    }
+	    else {
+		best = Math.max(best, dr.getSimilarityA()+dr.getSimilarityB());
+	    }
+	}
+	if (stopped.isEmpty()) {
+	    return;
+	}
+	Collections.sort(stopped, new MaximumSimilarityComparator());
+
+	boolean recounted = false;
+	for (int r = 0; r < stopped.size(); r++) {
+	    DetectionResult dr = (DetectionResult)stopped.get(r);
+	    if (dr.getMaximumSimilarityA()+dr.getMaximumSimilarityB() < best) {
+		break;
+	    }
+	    dr.recount(checker);
+	    Stats.incCounter("file_comparisons_recounted");
+	    best = Math.max(best, dr.getSimilarityA()+dr.getSimilarityB());
+	    recounted = true;
+	}
+	if (recounted) {
+	    // The order of the recounted results has changed
+	    ArrayList results = new ArrayList(ss);
+	    ss.clear();
+	    ss.addAll(results);
+	}
+    }
+
+    /**
+     * Orders the detection results by the sums of the upper bounds of
+     * their similarity values, the highest first.
+     */
+    private static class MaximumSimilarityComparator
+	implements Comparator
+    {
+	public int compare(Object o1, Object o2) {
+	    DetectionResult dr1 = (DetectionResult)o1;
+	    DetectionResult dr2 = (DetectionResult)o2;
+	    double sum1 = dr1.getMaximumSimilarityA()+dr1.getMaximumSimilarityB();
+	    double sum2 = dr2.getMaximumSimilarityA()+dr2.getMaximumSimilarityB();
+	    return Double.compare(sum2, sum1);
+	}
+    }
+
+    /**
+     * Returns an upper bound of the similarity value A or B of the
+     * submissions: the average of the highest upper bounds of the
+     * results of each file.
+     */
+    private double getMaximumSimilarityValue(boolean a)
+	throws Exception
+    {
+	int counter = 0;
+	double val = 0.0;
+
+	Iterator sets = fileDetectionResults.values().iterator();
+	while (sets.hasNext()) {
+	    SortedSet ss = (SortedSet)sets.next();
+	    if (ss.size() > 0) {
+		double max = 0.0;
+		Iterator i = ss.iterator();
+		while (i.hasNext()) {
+		    DetectionResult dr = (DetectionResult)i.next();
+		    max = Math.max(max, a ? dr.getMaximumSimilarityA() : dr.getMaximumSimilarityB());
+		}
+		val += max;
+		counter++;
+	    }
+	}
+	if (counter > 0) 
+	    return val/counter;
+	else
+	    return 0;
+    }
+
+    /**
+     * Sets the submission similarity threshold, below which the
+     * submissions are not reported. The file results stopped below
+     * the threshold of a bounded checker are completed only for the
+     * submissions, which may reach it. With 0.0 (the default), they
+     * are completed for all the submissions.
+     */
+    public void setSubmissionSimilarityThreshold(double threshold) {
+	this.submissionSimilarityThreshold = threshold;
     }
 
     /**
@@ -25,6 +25,11 @@ import java.util.*;
 import plag.parser.report.HtmlPrintable;
 import java.text.NumberFormat;
 
+/**
+ * Collects the counters and distributions of a run. The methods are
+ * synchronized, so that the statistics can be updated by concurrent
+ * comparisons.
+ */
 public class Stats
     implements Serializable
 {
@@ -53,15 +58,15 @@ public class Stats
     }
 
 
-    public static Stats getInstance() {
+    public static synchronized Stats getInstance() {
 	return instance;
     }
 
-    public static void setInstance(Stats newInstance) {
+    public static synchronized void setInstance(Stats newInstance) {
 	instance = newInstance;
     }
 
-    public static void newCounter(String name) 
+    public static synchronized void newCounter(String name) 
 	throws StatsException 
     {
 	if (instance.counters.get(name) != null) {
@@ -72,7 +77,7 @@ public class Stats
 	    instance.longestCounterName = name.length();
     }
 
-    public static void setCounterLimit(String name, int limit)
+    public static synchronized void setCounterLimit(String name, int limit)
 	throws StatsException
     {
 	if (instance.counters.get(name) == null) {
@@ -83,7 +88,7 @@ public class Stats
 	}
     }
 
-    public static int getCounterLimit(String name) 
+    public static synchronized int getCounterLimit(String name) 
 	throws StatsException 
     {
 	if (instance.counterLimits.get(name) == null) {
@@ -94,7 +99,7 @@ public class Stats
 	}
     }
 
-    public static void incCounter(String name) 
+    public static synchronized void incCounter(String name) 
 	throws StatsException
     {
 	if (instance.counters.get(name) == null) {
@@ -104,7 +109,17 @@ public class Stats
 	    instance.counters.put(name, new Integer(((Integer)instance.counters.get(name)).intValue()+1));
     }
 
-    public static int getCounter(String name)
+    public static synchronized void addToCounter(String name, int amount) 
+	throws StatsException
+    {
+	if (instance.counters.get(name) == null) {
+	    throw new StatsException("Stat "+name+" does not exist.");
+	}
+	else
+	    instance.counters.put(name, Integer.valueOf(((Integer)instance.counters.get(name)).intValue()+amount));
+    }
+
+    public static synchronized int getCounter(String name)
 	throws StatsException
     {
 	if (instance.counters.get(name) == null) {
@@ -114,7 +129,7 @@ public class Stats
 	    return ((Integer)instance.counters.get(name)).intValue();
     }
 
-    public static void newDistribution(String name)
+    public static synchronized void newDistribution(String name)
 	throws StatsException
     {
 	if (instance.distributions.get(name) != null) {
@@ -123,7 +138,7 @@ public class Stats
 	instance.distributions.put(name, new ArrayList());
     }
 
-    public static List getDistribution(String name)
+    public static synchronized List getDistribution(String name)
 	throws StatsException
     {
 	if (instance.distributions.get(name) == null) {
@@ -133,7 +148,7 @@ public class Stats
 	    return ((List)instance.distributions.get(name));
     }
 
-    public static double getDistributionMax(String name)
+    public static synchronized double getDistributionMax(String name)
 	throws StatsException 
     {
 	if (instance.distributions.get(name) == null) {
@@ -153,7 +168,7 @@ public class Stats
 	}
     }
 	    
-    public static double getDistributionMin(String name)
+    public static synchronized double getDistributionMin(String name)
 	throws StatsException 
     {
 	if (instance.distributions.get(name) == null) {
@@ -173,7 +188,7 @@ public class Stats
 	}
     }
 
-    public static void addToDistribution(String name, double value)
+    public static synchronized void addToDistribution(String name, double value)
 	throws StatsException
     {
 	if (instance.distributions.get(name) == null) {
@@ -185,7 +200,7 @@ public class Stats
 	}
     }
 
-    public static double getDistributionAverage(String name)
+    public static synchronized double getDistributionAverage(String name)
 	throws StatsException
     {
 	if (instance.distributions.get(name) == null) {
@@ -206,7 +221,7 @@ public class Stats
 	}
     }
 
-    public static void printHtmlDistribution(PrintStream out, String name, double lowVal, double highVal, double step, boolean usePercentage,
+    public static synchronized void printHtmlDistribution(PrintStream out, String name, double lowVal, double highVal, double step, boolean usePercentage,
 					 char displayChar, int maxChars)
 	throws StatsException 
     {
@@ -253,7 +268,7 @@ public class Stats
 	}
     }
 
-    public static void printDistribution(PrintStream out, String name, double lowVal, double highVal, double step,
+    public static synchronized void printDistribution(PrintStream out, String name, double lowVal, double highVal, double step,
 					 char displayChar, int maxChars)
 	throws StatsException
     {
@@ -290,7 +305,7 @@ public class Stats
 	}
     }
 
-    public static void printHtml(PrintStream out) {
+    public static synchronized void printHtml(PrintStream out) {
 	Iterator statKeys = instance.counters.keySet().iterator();
 
 	out.println("<TABLE BORDER=\"1\">");
@@ -307,7 +322,7 @@ public class Stats
 	out.println("</TABLE>");
     }
 
-    public static void print(PrintStream out) {
+    public static synchronized void print(PrintStream out) {
 	Iterator statKeys = instance.counters.keySet().iterator();
 
   	while (statKeys.hasNext()) {
@@ -333,7 +348,7 @@ public class Stats
 	return b.toString();
     }
     
-	public static void clearCounters()
+	public static synchronized void clearCounters()
 	{
 		instance.counters.clear();
 		instance.distributions.clear();
@@ -0,0 +1,417 @@
+/* 
+ *  Copyright (C) 2006 Aleksi Ahtiainen, Mikko Rahikainen.
+ * 
+ *  This file is part of Plaggie.
+ *
+ *  Plaggie is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published
+ *  by the Free Software Foundation; either version 2 of the License,
+ *  or (at your option) any later version.
+ *
+ *  Plaggie is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Plaggie; if not, write to the Free Software
+ *  Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ *  02110-1301  USA
+ */
+package plag.parser;
+
+import java.util.Arrays;
+
+
+/**
+ * Greedy string tiling using a suffix array and an LCP array over the
+ * concatenation of the token values of the two files.
+ * <p>
+ * The suffix array is built once per comparison. On each tiling
+ * iteration, the length of the longest unmarked match is found with a
+ * single bottom-up pass over the LCP intervals: the longest unmarked
+ * match within an interval is the minimum of the interval depth and
+ * the longest unmarked runs starting at an A suffix and at a B suffix
+ * of the interval. The matches of that length are then read from the
+ * intervals deep enough, without going through all the (a,b)
+ * pairs. Produces the same tiles as SimpleTokenSimilarityChecker.
+ * <p>
+ * Best suited for large files with lots of repeated code, where the
+ * number of hash hits of RabinKarpTokenSimilarityChecker grows large.
+ */
+public class SuffixArrayTokenSimilarityChecker
+    extends AbstractTokenSimilarityChecker
+{
+
+    /** The workspace buffer slots used */
+    private static final int SYMBOLS = 0;
+    private static final int TEXT = 1;
+    private static final int SUFFIXES = 2;
+    private static final int RANKS = 3;
+    private static final int TEMP = 4;
+    private static final int NEW_RANKS = 5;
+    private static final int COUNTS = 6;
+    private static final int LCP = 7;
+    private static final int RUNS = 8;
+    private static final int STACK_DEPTH = 9;
+    private static final int STACK_A = 10;
+    private static final int STACK_B = 11;
+    private static final int STARTS_A = 12;
+    private static final int STARTS_B = 13;
+    private static final int MATCHES = 0;
+
+    public SuffixArrayTokenSimilarityChecker(int minimumMatchLength) {
+	this(minimumMatchLength, createEmptyCodeExcluder());
+    }
+
+    public SuffixArrayTokenSimilarityChecker(int minimumMatchLength,
+					     CodeExcluder codeExcluder) {
+	super(minimumMatchLength, codeExcluder);
+    }
+
+    /**
+     * Creates the text A $ B # over compressed symbols. The token
+     * values are mapped to 2..k+1, $ is 1 and the terminating # is 0,
+     * so the separators are unique and no common prefix can cross
+     * them.
+     *
+     * @return the text, of length A.length + B.length + 2
+     */
+    private static int[] createText(byte[] A, byte[] B, TilingWorkspace ws) {
+	// The symbol of each of the 256 values, 0 while not present
+	int[] symbols = ws.getInts(SYMBOLS, 256);
+	Arrays.fill(symbols, 0, 256, 0);
+	for (int i = 0; i < A.length; i++) {
+	    symbols[A[i] & 0xff] = 1;
+	}
+	for (int i = 0; i < B.length; i++) {
+	    symbols[B[i] & 0xff] = 1;
+	}
+	int symbol = 2;
+	for (int v = 0; v < 256; v++) {
+	    if (symbols[v] != 0) {
+		symbols[v] = symbol++;
+	    }
+	}
+
+	int n = A.length + B.length + 2;
+	int[] text = ws.getInts(TEXT, n);
+	for (int i = 0; i < A.length; i++) {
+	    text[i] = symbols[A[i] & 0xff];
+	}
+	text[A.length] = 1;
+	for (int i = 0; i < B.length; i++) {
+	    text[A.length+1+i] = symbols[B[i] & 0xff];
+	}
+	text[n-1] = 0;
+	return text;
+    }
+
+    /**
+     * Builds the suffix array of the given text of length n by prefix
+     * doubling with counting sorts. The text has to end with a unique
+     * 0.
+     */
+    private static int[] createSuffixArray(int[] text, int n, TilingWorkspace ws) {
+	int[] sa = ws.getInts(SUFFIXES, n);
+	int[] rank = ws.getInts(RANKS, n);
+	int[] tmp = ws.getInts(TEMP, n);
+	int[] newRank = ws.getInts(NEW_RANKS, n);
+	int alphabet = 0;
+	for (int i = 0; i < n; i++) {
+	    if (text[i] > alphabet) {
+		alphabet = text[i];
+	    }
+	}
+	int[] count = ws.getInts(COUNTS, Math.max(alphabet+1, n));
+
+	Arrays.fill(count, 0, alphabet+1, 0);
+	for (int i = 0; i < n; i++) {
+	    count[text[i]]++;
+	}
+	for (int i = 1; i <= alphabet; i++) {
+	    count[i] += count[i-1];
+	}
+	for (int i = n-1; i >= 0; i--) {
+	    sa[--count[text[i]]] = i;
+	}
+	rank[sa[0]] = 0;
+	int classes = 1;
+	for (int i = 1; i < n; i++) {
+	    if (text[sa[i]] != text[sa[i-1]]) {
+		classes++;
+	    }
+	    rank[sa[i]] = classes - 1;
+	}
+
+	for (int h = 1; (h < n) && (classes < n); h <<= 1) {
+	    // Sort by the second half, i.e. shift the current order
+	    for (int i = 0; i < n; i++) {
+		tmp[i] = sa[i] - h;
+		if (tmp[i] < 0) {
+		    tmp[i] += n;
+		}
+	    }
+	    // Stable counting sort by the first half
+	    Arrays.fill(count, 0, classes, 0);
+	    for (int i = 0; i < n; i++) {
+		count[rank[tmp[i]]]++;
+	    }
+	    for (int i = 1; i < classes; i++) {
+		count[i] += count[i-1];
+	    }
+	    for (int i = n-1; i >= 0; i--) {
+		sa[--count[rank[tmp[i]]]] = tmp[i];
+	    }
+	    newRank[sa[0]] = 0;
+	    classes = 1;
+	    for (int i = 1; i < n; i++) {
+		int cur = sa[i];
+		int prev = sa[i-1];
+		if ((rank[cur] != rank[prev]) ||
+		    (rank[(cur+h) % n] != rank[(prev+h) % n])) {
+		    classes++;
+		}
+		newRank[cur] = classes - 1;
+	    }
+	    int[] swap = rank;
+	    rank = newRank;
+	    newRank = swap;
+	}
+	return sa;
+    }
+
+    /**
+     * Creates the LCP array with the algorithm of Kasai et al. lcp[i]
+     * is the length of the common prefix of suffixes sa[i-1] and
+     * sa[i], lcp[0] is 0.
+     */
+    private static int[] createLcpArray(int[] text, int[] sa, int n,
+					TilingWorkspace ws) {
+	int[] rank = ws.getInts(RANKS, n);
+	for (int i = 0; i < n; i++) {
+	    rank[sa[i]] = i;
+	}
+	int[] lcp = ws.getInts(LCP, n);
+	lcp[0] = 0;
+	int h = 0;
+	for (int i = 0; i < n; i++) {
+	    if (rank[i] > 0) {
+		int j = sa[rank[i]-1];
+		while ((i+h < n) && (j+h < n) && (text[i+h] == text[j+h])) {
+		    h++;
+		}
+		lcp[rank[i]] = h;
+		if (h > 0) {
+		    h--;
+		}
+	    }
+	    else {
+		h = 0;
+	    }
+	}
+	return lcp;
+    }
+
+    /**
+     * Counts, for each position of the text, the number of unmarked
+     * tokens starting from it, i.e. the longest possible match
+     * starting from it.
+     */
+    private static void countRuns(boolean[] marksA, int lengthA,
+				  boolean[] marksB, int lengthB,
+				  int[] runs) {
+	int offsetB = lengthA + 1;
+	runs[offsetB + lengthB] = 0;
+	for (int i = lengthB - 1; i >= 0; i--) {
+	    runs[offsetB + i] = marksB[i] ? 0 : runs[offsetB + i + 1] + 1;
+	}
+	runs[lengthA] = 0;
+	for (int i = lengthA - 1; i >= 0; i--) {
+	    runs[i] = marksA[i] ? 0 : runs[i+1] + 1;
+	}
+    }
+
+    /**
+     * Returns the length of the longest unmarked match between A and
+     * B. Goes through the LCP intervals bottom-up, keeping the longest
+     * runs of A and B suffixes within each interval.
+     */
+    private static int findLongestMatch(int[] sa, int[] lcp, int[] runs,
+					int n, int lengthA,
+					int[] stackDepth, int[] stackA, int[] stackB) {
+	int best = 0;
+	int top = 0;
+	stackDepth[0] = 0;
+	stackA[0] = -1;
+	stackB[0] = -1;
+
+	for (int i = 0; i <= n; i++) {
+	    if (i > 0) {
+		int h = (i < n) ? lcp[i] : 0;
+		int poppedA = -1;
+		int poppedB = -1;
+		boolean popped = false;
+		while (h < stackDepth[top]) {
+		    int candidate = Math.min(stackDepth[top],
+					     Math.min(stackA[top], stackB[top]));
+		    if (candidate > best) {
+			best = candidate;
+		    }
+		    poppedA = stackA[top];
+		    poppedB = stackB[top];
+		    popped = true;
+		    top--;
+		    // The parent contains the popped interval
+		    if (poppedA > stackA[top]) {
+			stackA[top] = poppedA;
+		    }
+		    if (poppedB > stackB[top]) {
+			stackB[top] = poppedB;
+		    }
+		}
+		if (h > stackDepth[top]) {
+		    top++;
+		    stackDepth[top] = h;
+		    if (popped) {
+			stackA[top] = poppedA;
+			stackB[top] = poppedB;
+		    }
+		    else {
+			// The new interval contains the previous suffix
+			int prev = sa[i-1];
+			stackA[top] = (prev < lengthA) ? runs[prev] : -1;
+			stackB[top] = (prev > lengthA) ? runs[prev] : -1;
+		    }
+		}
+	    }
+	    if (i < n) {
+		int pos = sa[i];
+		if (pos < lengthA) {
+		    if (runs[pos] > stackA[top]) {
+			stackA[top] = runs[pos];
+		    }
+		}
+		else if (pos > lengthA) {
+		    if (runs[pos] > stackB[top]) {
+			stackB[top] = runs[pos];
+		    }
+		}
+	    }
+	}
+	return best;
+    }
+
+    /**
+     * Collects all the unmarked matches of the given length into the
+     * MATCHES buffer, sorted in the order SimpleTokenSimilarityChecker
+     * would find them, A index in the high bits. Since there are no
+     * longer matches, all the A and B suffixes with long enough runs
+     * within an interval of depth of at least length are matches of
+     * exactly that length.
+     *
+     * @return the number of matches
+     */
+    private static int collectMatches(int[] sa, int[] lcp, int[] runs,
+				      int n, int lengthA, int length,
+				      TilingWorkspace ws) {
+	long[] matches = ws.getLongs(MATCHES, 16);
+	int[] groupB = ws.getInts(STARTS_B, n);
+	int count = 0;
+	int groupStart = 0;
+	for (int i = 1; i <= n; i++) {
+	    if ((i < n) && (lcp[i] >= length)) {
+		continue;
+	    }
+	    // sa[groupStart..i-1] share a prefix of at least length
+	    if (i - groupStart > 1) {
+		int groupBCount = 0;
+		for (int p = groupStart; p < i; p++) {
+		    int b = sa[p];
+		    if ((b > lengthA) && (runs[b] >= length)) {
+			groupB[groupBCount++] = b - lengthA - 1;
+		    }
+		}
+		for (int p = groupStart; (p < i) && (groupBCount > 0); p++) {
+		    int a = sa[p];
+		    if ((a < lengthA) && (runs[a] >= length)) {
+			for (int q = 0; q < groupBCount; q++) {
+			    if (count == matches.length) {
+				matches = ws.growLongs(MATCHES, count);
+			    }
+			    matches[count++] = (((long)a) << 32) | groupB[q];
+			}
+		    }
+		}
+	    }
+	    groupStart = i;
+	}
+	Arrays.sort(matches, 0, count);
+	return count;
+    }
+
+    protected void tile(byte[] A, byte[] B,
+			boolean[] marksA, boolean[] marksB,
+			TilingWorkspace ws) {
+	if ((A.length < minimumMatchLength) || (B.length < minimumMatchLength)) {
+	    // No tiles of minimumMatchLength possible
+	    return;
+	}
+	if (this.stopTiling(A, marksA, B, marksB, ws)) {
+	    return;
+	}
+
+	int n = A.length + B.length + 2;
+	int[] text = createText(A, B, ws);
+	int[] sa = createSuffixArray(text, n, ws);
+	int[] lcp = createLcpArray(text, sa, n, ws);
+	int[] runs = ws.getInts(RUNS, n);
+	int[] stackDepth = ws.getInts(STACK_DEPTH, n + 1);
+	int[] stackA = ws.getInts(STACK_A, n + 1);
+	int[] stackB = ws.getInts(STACK_B, n + 1);
+	int[] startsA = ws.getInts(STARTS_A, B.length);
+	int[] startsB = ws.getInts(STARTS_B, n);
+
+	int maxMatch;
+	do {
+	    countRuns(marksA, A.length, marksB, B.length, runs);
+	    maxMatch = findLongestMatch(sa, lcp, runs, n, A.length,
+					stackDepth, stackA, stackB);
+	    if (maxMatch < minimumMatchLength) {
+		return;
+	    }
+
+	    int matchCount = collectMatches(sa, lcp, runs, n, A.length,
+					    maxMatch, ws);
+	    long[] matches = ws.getLongs(MATCHES, matchCount);
+
+	    // Take the non-overlapping matches in order, see
+	    // RabinKarpTokenSimilarityChecker
+	    int tileCount = 0;
+	    for (int i = 0; i < matchCount; i++) {
+		int a = (int)(matches[i] >>> 32);
+		int b = (int)matches[i];
+		boolean overlaps = false;
+		for (int j = 0; j < maxMatch; j++) {
+		    if (marksA[a+j] || marksB[b+j]) {
+			overlaps = true;
+			break;
+		    }
+		}
+		if (!overlaps) {
+		    for (int j = 0; j < maxMatch; j++) {
+			marksA[a+j] = true;
+			marksB[b+j] = true;
+		    }
+		    startsA[tileCount] = a;
+		    startsB[tileCount] = b;
+		    tileCount++;
+		}
+	    }
+	    this.addTiles(startsA, startsB, tileCount, maxMatch, ws);
+
+	} while ((maxMatch > minimumMatchLength) &&
+		 !this.stopTiling(A, marksA, B, marksB, ws));
+    }
+
+}
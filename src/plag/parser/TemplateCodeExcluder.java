@@ -0,0 +1,204 @@
+/* 
+ *  Copyright (C) 2006 Aleksi Ahtiainen, Mikko Rahikainen.
+ * 
+ *  This file is part of Plaggie.
+ *
+ *  Plaggie is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published
+ *  by the Free Software Foundation; either version 2 of the License,
+ *  or (at your option) any later version.
+ *
+ *  Plaggie is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Plaggie; if not, write to the Free Software
+ *  Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ *  02110-1301  USA
+ */
+package plag.parser;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * A code excluder, which excludes the code given in templates (e.g.
+ * code given within the programming assignment description). All
+ * the k-grams (k consecutive token values, k being the minimum match
+ * length) of all the templates are kept in one hash table, and a
+ * token is excluded if it is covered by a k-gram occurring in some
+ * template. A file is marked in one pass over its k-grams, whatever
+ * the number of templates.
+ * <p>
+ * Unlike ExistingCodeExcluder, which tiles the file with each
+ * template, every occurrence of template code in the file is
+ * excluded, also when the file repeats it.
+ */
+public class TemplateCodeExcluder
+    implements FileCodeExcluder
+{
+
+    private int gramLength;
+
+    /** The token values of the templates */
+    private byte[][] templates;
+
+    /**
+     * The hash table from a k-gram hash to the chain of the distinct
+     * k-grams having it, given by template and start index.
+     */
+    private int[] tableKeys;
+    private int[] tableHeads;
+    private int[] chainNext;
+    private int[] chainTemplates;
+    private int[] chainStarts;
+
+    {
+	try {
+	    Stats.newCounter("tokens_excluded_by_existing_code_filter");
+	}
+	catch (Exception e) {
+	}
+    }
+
+    /**
+     * Creates an excluder for the given template token lists.
+     *
+     * @param templates The TokenLists of the templates
+     * @param minimumMatchLength The length of the k-grams
+     */
+    public TemplateCodeExcluder(List templates, int minimumMatchLength) {
+	if (minimumMatchLength < 1) {
+	    throw new IllegalArgumentException("Minimum match length must be positive");
+	}
+	this.gramLength = minimumMatchLength;
+	this.templates = new byte[templates.size()][];
+	int grams = 0;
+	Iterator i = templates.iterator();
+	for (int t = 0; i.hasNext(); t++) {
+	    this.templates[t] = ((TokenList)i.next()).getValueArray();
+	    grams += Math.max(this.templates[t].length - gramLength + 1, 0);
+	}
+	createTable(grams);
+    }
+
+    private void createTable(int grams) {
+	int size = 16;
+	while (size < 2*grams) {
+	    size <<= 1;
+	}
+	int mask = size - 1;
+	tableKeys = new int[size];
+	tableHeads = new int[size];
+	Arrays.fill(tableHeads, -1);
+	chainNext = new int[grams];
+	chainTemplates = new int[grams];
+	chainStarts = new int[grams];
+
+	int e = 0;
+	for (int t = 0; t < templates.length; t++) {
+	    int[] hashes = FingerprintIndex.createGramHashes(templates[t], gramLength);
+	    for (int s = 0; s < hashes.length; s++) {
+		int index = slot(hashes[s], mask);
+		if (find(index, templates[t], s) >= 0) {
+		    continue;
+		}
+		tableKeys[index] = hashes[s];
+		chainTemplates[e] = t;
+		chainStarts[e] = s;
+		chainNext[e] = tableHeads[index];
+		tableHeads[index] = e;
+		e++;
+	    }
+	}
+    }
+
+    /**
+     * Returns the table slot of the given hash: the slot containing
+     * it, or the empty slot where it belongs.
+     */
+    private int slot(int hash, int mask) {
+	int index = hash & mask;
+	while ((tableHeads[index] >= 0) && (tableKeys[index] != hash)) {
+	    index = (index + 1) & mask;
+	}
+	return index;
+    }
+
+    /**
+     * Returns the chain entry in the given slot, whose k-gram has the
+     * same values as the k-gram of the given values starting from the
+     * given index, or -1 if there is none.
+     */
+    private int find(int index, byte[] values, int start) {
+	for (int e = tableHeads[index]; e >= 0; e = chainNext[e]) {
+	    byte[] template = templates[chainTemplates[e]];
+	    int templateStart = chainStarts[e];
+	    int j = 0;
+	    while ((j < gramLength) && (template[templateStart+j] == values[start+j])) {
+		j++;
+	    }
+	    if (j == gramLength) {
+		return e;
+	    }
+	}
+	return -1;
+    }
+
+    /**
+     * Alters marksA and marksB in order not to exclude some tokens in
+     * the code from the check.
+     *
+     * @param tokensA The tokens in source code A
+     * @param tokensB The tokens in source code B
+     * @param marksA The marks of A.
+     * @param marksB The marks of B.
+     */
+    public void mark(TokenList tokensA,
+		     TokenList tokensB,
+		     boolean[] marksA,
+		     boolean[] marksB)
+    {
+	this.mark(tokensA, marksA);
+	this.mark(tokensB, marksB);
+    }
+
+    /**
+     * Marks the tokens of the given code covered by k-grams occurring
+     * in the templates.
+     *
+     * @param tokens The tokens of the source code
+     * @param marks The marks of the tokens
+     */
+    public void mark(TokenList tokens,
+		     boolean[] marks)
+    {
+	byte[] values = tokens.getValueArray();
+	int[] hashes = FingerprintIndex.createGramHashes(values, gramLength);
+	int mask = tableKeys.length - 1;
+	// The tokens before this are already marked
+	int markedEnd = 0;
+	int excluded = 0;
+	for (int s = 0; s < hashes.length; s++) {
+	    int index = slot(hashes[s], mask);
+	    if ((tableHeads[index] >= 0) && (find(index, values, s) >= 0)) {
+		for (int i = Math.max(s, markedEnd); i < s + gramLength; i++) {
+		    if (!marks[i]) {
+			marks[i] = true;
+			excluded++;
+		    }
+		}
+		markedEnd = s + gramLength;
+	    }
+	}
+	try {
+	    Stats.addToCounter("tokens_excluded_by_existing_code_filter", excluded);
+	}
+	catch (Exception e) {
+	}
+    }
+
+}
@@ -93,6 +93,20 @@ public class Tile
 	return tokenList.getToken(endTokenIndex);
     }
 
+    /**
+     * Returns the line from which the start token starts.
+     */
+    public int getStartLine() {
+	return tokenList.startLineAt(startTokenIndex);
+    }
+
+    /**
+     * Returns the line at which the end token ends.
+     */
+    public int getEndLine() {
+	return tokenList.endLineAt(endTokenIndex);
+    }
+
     /**
      * Checks, whether this tile overlaps with another one. Tiles
      * overlap, if their token indices overlap even with one
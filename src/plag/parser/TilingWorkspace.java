@@ -0,0 +1,210 @@
+/* 
+ *  Copyright (C) 2006 Aleksi Ahtiainen, Mikko Rahikainen.
+ * 
+ *  This file is part of Plaggie.
+ *
+ *  Plaggie is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published
+ *  by the Free Software Foundation; either version 2 of the License,
+ *  or (at your option) any later version.
+ *
+ *  Plaggie is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Plaggie; if not, write to the Free Software
+ *  Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ *  02110-1301  USA
+ */
+package plag.parser;
+
+import java.util.Arrays;
+
+
+/**
+ * Reusable working memory of the greedy string tiling
+ * implementations. Each thread has its own workspace, so the tiling
+ * does not need to allocate new arrays for every compared pair of
+ * files. The workspace contains the token marks, numbered buffers of
+ * primitives for the implementations and an arena for the tiles found
+ * during the tiling. The tiles are only turned into MatchedTile
+ * objects, when the tiling is complete.
+ * <p>
+ * A workspace is taken into use with acquire and has to be given back
+ * with release. If the workspace of the current thread is already in
+ * use (e.g. a code excluder runs another tiling while the marks are
+ * being created), acquire returns a new temporary workspace.
+ * <p>
+ * The buffer slots 14 and 15 are used by AbstractTokenSimilarityChecker,
+ * the lower ones are free for the implementations.
+ */
+public class TilingWorkspace
+{
+
+    /** The number of buffer slots of each type */
+    private static final int SLOTS = 16;
+
+    private static final ThreadLocal workspaces = new ThreadLocal();
+
+    private boolean inUse = false;
+
+    private boolean[] marksA = new boolean[0];
+    private boolean[] marksB = new boolean[0];
+
+    private int[][] intBuffers = new int[SLOTS][];
+    private long[][] longBuffers = new long[SLOTS][];
+
+    /** The tile arena, start indices and lengths of the found tiles */
+    private int[] tileStartsA = new int[64];
+    private int[] tileStartsB = new int[64];
+    private int[] tileLengths = new int[64];
+    private int tileCount = 0;
+
+    private TilingWorkspace() {
+	for (int i = 0; i < SLOTS; i++) {
+	    intBuffers[i] = new int[0];
+	    longBuffers[i] = new long[0];
+	}
+    }
+
+    /**
+     * Returns the workspace of the current thread, or a new one, if
+     * the workspace of the current thread is already in use. The
+     * returned workspace has to be released after use.
+     */
+    public static TilingWorkspace acquire() {
+	TilingWorkspace ws = (TilingWorkspace)workspaces.get();
+	if (ws == null) {
+	    ws = new TilingWorkspace();
+	    workspaces.set(ws);
+	}
+	else if (ws.inUse) {
+	    ws = new TilingWorkspace();
+	}
+	ws.inUse = true;
+	ws.tileCount = 0;
+	return ws;
+    }
+
+    /**
+     * Gives this workspace back for reuse.
+     */
+    public void release() {
+	this.inUse = false;
+    }
+
+    /**
+     * Returns the cleared marks of token list A. The returned array
+     * may be longer than the requested length.
+     */
+    public boolean[] getMarksA(int length) {
+	if (marksA.length < length) {
+	    marksA = new boolean[length];
+	}
+	else {
+	    Arrays.fill(marksA, 0, length, false);
+	}
+	return marksA;
+    }
+
+    /**
+     * Returns the cleared marks of token list B. The returned array
+     * may be longer than the requested length.
+     */
+    public boolean[] getMarksB(int length) {
+	if (marksB.length < length) {
+	    marksB = new boolean[length];
+	}
+	else {
+	    Arrays.fill(marksB, 0, length, false);
+	}
+	return marksB;
+    }
+
+    /**
+     * Returns the int buffer in the given slot with at least the
+     * given length. The contents of the buffer are undefined.
+     */
+    public int[] getInts(int slot, int length) {
+	if (intBuffers[slot].length < length) {
+	    intBuffers[slot] = new int[Math.max(length, 2*intBuffers[slot].length)];
+	}
+	return intBuffers[slot];
+    }
+
+    /**
+     * Doubles the size of the int buffer in the given slot, keeping
+     * the given number of values from its start.
+     */
+    public int[] growInts(int slot, int used) {
+	int[] newBuffer = new int[Math.max(16, 2*intBuffers[slot].length)];
+	System.arraycopy(intBuffers[slot], 0, newBuffer, 0, used);
+	intBuffers[slot] = newBuffer;
+	return newBuffer;
+    }
+
+    /**
+     * Returns the long buffer in the given slot with at least the
+     * given length. The contents of the buffer are undefined.
+     */
+    public long[] getLongs(int slot, int length) {
+	if (longBuffers[slot].length < length) {
+	    longBuffers[slot] = new long[Math.max(length, 2*longBuffers[slot].length)];
+	}
+	return longBuffers[slot];
+    }
+
+    /**
+     * Doubles the size of the long buffer in the given slot, keeping
+     * the given number of values from its start.
+     */
+    public long[] growLongs(int slot, int used) {
+	long[] newBuffer = new long[Math.max(16, 2*longBuffers[slot].length)];
+	System.arraycopy(longBuffers[slot], 0, newBuffer, 0, used);
+	longBuffers[slot] = newBuffer;
+	return newBuffer;
+    }
+
+    /**
+     * Adds a tile into the tile arena.
+     */
+    public void addTile(int startA, int startB, int length) {
+	if (tileCount == tileLengths.length) {
+	    int[] newStartsA = new int[2*tileCount];
+	    int[] newStartsB = new int[2*tileCount];
+	    int[] newLengths = new int[2*tileCount];
+	    System.arraycopy(tileStartsA, 0, newStartsA, 0, tileCount);
+	    System.arraycopy(tileStartsB, 0, newStartsB, 0, tileCount);
+	    System.arraycopy(tileLengths, 0, newLengths, 0, tileCount);
+	    tileStartsA = newStartsA;
+	    tileStartsB = newStartsB;
+	    tileLengths = newLengths;
+	}
+	tileStartsA[tileCount] = startA;
+	tileStartsB[tileCount] = startB;
+	tileLengths[tileCount] = length;
+	tileCount++;
+    }
+
+    /**
+     * Returns the number of tiles in the tile arena.
+     */
+    public int getTileCount() {
+	return tileCount;
+    }
+
+    public int getTileStartA(int index) {
+	return tileStartsA[index];
+    }
+
+    public int getTileStartB(int index) {
+	return tileStartsB[index];
+    }
+
+    public int getTileLength(int index) {
+	return tileLengths[index];
+    }
+
+}
@@ -20,145 +20,580 @@
  */
 package plag.parser;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.io.Serializable;
-import java.util.TreeSet;
 import java.util.Iterator;
-import java.util.Collection;
+import java.util.NoSuchElementException;
 
 /**
  * Represents an ordered list of tokens. The tokens are ordered
  * according to the comparator class Token.OrderComparator.
+ * <p>
+ * The tokens are appended to parallel arrays, one for each field of
+ * a token. Tokens appended in order are kept as such, otherwise the
+ * list is sorted once when it is next read. As in a set, a token
+ * equal to another one in the list is kept only once.
+ * <p>
+ * When the list is read, it is packed: the token values are kept in
+ * a byte array, so they have to be within 0..255, and the positions
+ * of the tokens are kept as differences to the previous token,
+ * written as variable length integers. The positions are decoded as
+ * they are read, from the start of a block of BLOCK_SIZE tokens or
+ * from the previously read token. Adding tokens to a packed list
+ * unpacks it. The tokens can be read by index without creating Token
+ * objects.
  */
 public class TokenList 
     implements Serializable
 {
 
+    private static final int INITIAL_CAPACITY = 64;
+
+    private static final int BLOCK_SHIFT = 5;
+
+    /** The number of tokens whose positions are decoded from one start */
+    private static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+
+    private int size = 0;
+
+    // The tokens, while they are being added
+    private int[] values = new int[INITIAL_CAPACITY];
+    private int[] startLines = new int[INITIAL_CAPACITY];
+    private int[] endLines = new int[INITIAL_CAPACITY];
+    private int[] startChars = new int[INITIAL_CAPACITY];
+    private int[] endChars = new int[INITIAL_CAPACITY];
+
+    /**
+     * True, if the tokens in the arrays are in order and there are
+     * no equal tokens.
+     */
+    private boolean ordered = true;
+
+    // The tokens, when the list is packed
+    private byte[] valueBytes = null;
+    private byte[] positions = null;
+    private int[] blockOffsets = null;
+    private int[] blockStartChars = null;
+    private int[] blockStartLines = null;
+
+    // The last token whose position has been decoded, and the offset
+    // of the next position in the positions
+    private int cursorIndex = -1;
+    private int cursorOffset;
+    private int cursorStartLine;
+    private int cursorEndLine;
+    private int cursorStartChar;
+    private int cursorEndChar;
+
+    private String name;
+
+    public TokenList(String name) {
+	this.name = name;
+    }
+    
     /**
-     * The sorted set, which stores the tokens temporarily
+     * Adds a new token to this token list.
+     */
+    public void addToken(Token t) {
+	addToken(t.getStartLine(), t.getEndLine(), 
+		 t.getStartChar(), t.getEndChar(), 
+		 t.getValue());
+    }
+
+    /**
+     * Adds a new token with the given fields to this token list.
+     *
+     * @throws IllegalArgumentException if the value is not within
+     * 0..255
      */
-    private TreeSet tokens = new TreeSet(new Token.OrderComparator());
+    public synchronized void addToken(int startLine, int endLine,
+				      int startChar, int endChar,
+				      int value)
+    {
+	if ((value & ~0xff) != 0) {
+	    throw new IllegalArgumentException("Token value "+value+" not within 0..255");
+	}
+	if (valueBytes != null) {
+	    unpack();
+	}
+	if (size == values.length) {
+	    resize(Math.max(INITIAL_CAPACITY, 2*size));
+	}
+	values[size] = value;
+	startLines[size] = startLine;
+	endLines[size] = endLine;
+	startChars[size] = startChar;
+	endChars[size] = endChar;
+	if ((size > 0) && (compare(size - 1, size) >= 0)) {
+	    ordered = false;
+	}
+	size++;
+    }
 
-    private int[] values = null;
-    private int[] startLines = null;
-    private int[] endLines = null;
-    private int[] startChars = null;
-    private int[] endChars = null;
+    /**
+     * Run in order to save memory when no new tokens are to be
+     * added. Packs the list.
+     */
+    public synchronized void finalize() {
+	pack();
+    }
 
-    private void generateArrays() {
-	Collection col = tokens;
+    private void resize(int capacity) {
+	values = copyOf(values, capacity);
+	startLines = copyOf(startLines, capacity);
+	endLines = copyOf(endLines, capacity);
+	startChars = copyOf(startChars, capacity);
+	endChars = copyOf(endChars, capacity);
+    }
 
-	this.values = new int[col.size()];
-	this.startLines = new int[col.size()];
-	this.endLines = new int[col.size()];
-	this.startChars = new int[col.size()];
-	this.endChars = new int[col.size()];
+    private int[] copyOf(int[] array, int length) {
+	int[] copy = new int[length];
+	System.arraycopy(array, 0, copy, 0, size);
+	return copy;
+    }
 
-	Iterator i = col.iterator();
+    /**
+     * Compares the tokens at the given indices in the arrays like
+     * Token.OrderComparator.
+     */
+    private int compare(int i, int j) {
+	if (startChars[i] != startChars[j]) {
+	    return (startChars[i] < startChars[j]) ? -1 : 1;
+	}
+	if (endChars[i] != endChars[j]) {
+	    return (endChars[i] < endChars[j]) ? -1 : 1;
+	}
+	if (values[i] != values[j]) {
+	    return (values[i] < values[j]) ? -1 : 1;
+	}
+	return 0;
+    }
+
+    /**
+     * Sorts the tokens, if they have not been added in order, and
+     * removes the duplicates.
+     */
+    private void order() {
+	if (ordered) {
+	    return;
+	}
+	int[] index = new int[size];
+	for (int i = 0; i < size; i++) {
+	    index[i] = i;
+	}
+	mergeSort(index, new int[size], 0, size);
+
+	int[] newValues = new int[size];
+	int[] newStartLines = new int[size];
+	int[] newEndLines = new int[size];
+	int[] newStartChars = new int[size];
+	int[] newEndChars = new int[size];
 	int c = 0;
-	while (i.hasNext()) {
-	    Token t = (Token)i.next();
-	    this.values[c] = t.getValue();
-	    this.startLines[c] = t.getStartLine();
-	    this.endLines[c] = t.getEndLine();
-	    this.startChars[c] = t.getStartChar();
-	    this.endChars[c] = t.getEndChar();
+	for (int i = 0; i < size; i++) {
+	    int t = index[i];
+	    if ((i > 0) && (compare(index[i - 1], t) == 0)) {
+		continue;
+	    }
+	    newValues[c] = values[t];
+	    newStartLines[c] = startLines[t];
+	    newEndLines[c] = endLines[t];
+	    newStartChars[c] = startChars[t];
+	    newEndChars[c] = endChars[t];
 	    c++;
 	}
-	this.tokens = null;
+	values = newValues;
+	startLines = newStartLines;
+	endLines = newEndLines;
+	startChars = newStartChars;
+	endChars = newEndChars;
+	size = c;
+	ordered = true;
     }
 
-    private void generateSet() {
-	tokens = new TreeSet(new Token.OrderComparator());
-	if (values != null) {
-	    for (int i = 0; i < values.length; i++) {
-		tokens.add(new Token(this.startLines[i],
-				     this.endLines[i],
-				     this.startChars[i],
-				     this.endChars[i],
-				     this.values[i]));
+    /**
+     * Sorts the token indices from index from (inclusive) to index to
+     * (exclusive) in the given array by the order of the tokens.
+     */
+    private void mergeSort(int[] index, int[] temp, int from, int to) {
+	if (to - from < 2) {
+	    return;
+	}
+	int mid = (from + to) >>> 1;
+	mergeSort(index, temp, from, mid);
+	mergeSort(index, temp, mid, to);
+	if (compare(index[mid - 1], index[mid]) <= 0) {
+	    return;
+	}
+	System.arraycopy(index, from, temp, from, to - from);
+	int i = from;
+	int j = mid;
+	for (int k = from; k < to; k++) {
+	    if ((j >= to) || 
+		((i < mid) && (compare(temp[i], temp[j]) <= 0))) {
+		index[k] = temp[i++];
+	    }
+	    else {
+		index[k] = temp[j++];
 	    }
 	}
-	this.values = null;
-	this.startLines = null;
-	this.endLines = null;
-	this.startChars = null;
-	this.endChars = null;
     }
 
-    private String name;
+    /**
+     * Orders the tokens and packs them, unless the list is already
+     * packed. The first token of each block is written relative to
+     * itself, the others relative to the previous token.
+     */
+    private void pack() {
+	if (valueBytes != null) {
+	    return;
+	}
+	order();
 
-    public TokenList(String name) {
-	this.name = name;
+	int blocks = (size + BLOCK_SIZE - 1) >> BLOCK_SHIFT;
+	byte[] newValueBytes = new byte[size];
+	byte[] bytes = new byte[4*size + 20];
+	blockOffsets = new int[blocks];
+	blockStartChars = new int[blocks];
+	blockStartLines = new int[blocks];
+	int offset = 0;
+	int previousStartChar = 0;
+	int previousStartLine = 0;
+	for (int i = 0; i < size; i++) {
+	    newValueBytes[i] = (byte)values[i];
+	    if ((i & (BLOCK_SIZE - 1)) == 0) {
+		int block = i >> BLOCK_SHIFT;
+		blockOffsets[block] = offset;
+		blockStartChars[block] = startChars[i];
+		blockStartLines[block] = startLines[i];
+		previousStartChar = startChars[i];
+		previousStartLine = startLines[i];
+	    }
+	    if (offset + 20 > bytes.length) {
+		byte[] newBytes = new byte[2*bytes.length];
+		System.arraycopy(bytes, 0, newBytes, 0, offset);
+		bytes = newBytes;
+	    }
+	    offset = writeDelta(bytes, offset, startChars[i] - previousStartChar);
+	    offset = writeDelta(bytes, offset, endChars[i] - startChars[i]);
+	    offset = writeDelta(bytes, offset, startLines[i] - previousStartLine);
+	    offset = writeDelta(bytes, offset, endLines[i] - startLines[i]);
+	    previousStartChar = startChars[i];
+	    previousStartLine = startLines[i];
+	}
+	positions = new byte[offset];
+	System.arraycopy(bytes, 0, positions, 0, offset);
+	valueBytes = newValueBytes;
+	cursorIndex = -1;
+
+	values = null;
+	startLines = null;
+	endLines = null;
+	startChars = null;
+	endChars = null;
     }
-    
+
     /**
-     * Adds a new token to this token list.
+     * Decodes the packed tokens back to the arrays, for adding tokens.
      */
-    public void addToken(Token t) {
-	if (this.tokens != null) {
-	    this.tokens.add(t);
+    private void unpack() {
+	int capacity = Math.max(INITIAL_CAPACITY, size);
+	int[] newValues = new int[capacity];
+	int[] newStartLines = new int[capacity];
+	int[] newEndLines = new int[capacity];
+	int[] newStartChars = new int[capacity];
+	int[] newEndChars = new int[capacity];
+	for (int i = 0; i < size; i++) {
+	    seek(i);
+	    newValues[i] = valueBytes[i] & 0xff;
+	    newStartLines[i] = cursorStartLine;
+	    newEndLines[i] = cursorEndLine;
+	    newStartChars[i] = cursorStartChar;
+	    newEndChars[i] = cursorEndChar;
 	}
-	else if (this.values != null) {
-	    this.generateSet();
-	    this.tokens.add(t);
+	values = newValues;
+	startLines = newStartLines;
+	endLines = newEndLines;
+	startChars = newStartChars;
+	endChars = newEndChars;
+	ordered = true;
+
+	valueBytes = null;
+	positions = null;
+	blockOffsets = null;
+	blockStartChars = null;
+	blockStartLines = null;
+	cursorIndex = -1;
+    }
+
+    /**
+     * Writes the given difference zigzag encoded as a variable length
+     * integer, 7 bits per byte with the high bit set in all but the
+     * last byte.
+     *
+     * @return the offset after the written bytes
+     */
+    private static int writeDelta(byte[] bytes, int offset, int delta) {
+	int u = (delta << 1) ^ (delta >> 31);
+	while ((u & ~0x7f) != 0) {
+	    bytes[offset++] = (byte)((u & 0x7f) | 0x80);
+	    u >>>= 7;
 	}
+	bytes[offset++] = (byte)u;
+	return offset;
     }
 
     /**
-     * Run in order to save memory when no new tokens are to be added.
+     * Reads a difference written by writeDelta at the cursor offset.
      */
-    public void finalize() {
-	this.generateArrays();
+    private int readDelta() {
+	int u = 0;
+	int shift = 0;
+	int b;
+	do {
+	    b = positions[cursorOffset++];
+	    u |= (b & 0x7f) << shift;
+	    shift += 7;
+	} while (b < 0);
+	return (u >>> 1) ^ -(u & 1);
     }
 
     /**
-     * Finalizes the token list. I.e. after this no new tokens are
-     * accepted to the list. This can be done for saving memory.
+     * Decodes the position of the token indicated by the given index
+     * to the cursor. Continues from the cursor, if it is before the
+     * token in the same block.
      */
+    private void seek(int index) {
+	if (index == cursorIndex) {
+	    return;
+	}
+	int block = index >> BLOCK_SHIFT;
+	if ((cursorIndex < 0) || (cursorIndex > index) ||
+	    ((cursorIndex >> BLOCK_SHIFT) != block)) {
+	    cursorIndex = (block << BLOCK_SHIFT) - 1;
+	    cursorOffset = blockOffsets[block];
+	    cursorStartChar = blockStartChars[block];
+	    cursorStartLine = blockStartLines[block];
+	}
+	while (cursorIndex < index) {
+	    cursorStartChar += readDelta();
+	    cursorEndChar = cursorStartChar + readDelta();
+	    cursorStartLine += readDelta();
+	    cursorEndLine = cursorStartLine + readDelta();
+	    cursorIndex++;
+	}
+    }
+
+    private void checkIndex(int index) {
+	if ((index < 0) || (index >= size)) {
+	    throw new IndexOutOfBoundsException("Token index "+index+", size "+size);
+	}
+    }
 
     /**
      * Returns the token indicated by the given index.
      */
-    public Token getToken(int index) {
-	if (this.values == null) {
-	    this.generateArrays();
-	}
-	return new Token(this.startLines[index],
-			 this.endLines[index],
-			 this.startChars[index],
-			 this.endChars[index],
-			 this.values[index]);
+    public synchronized Token getToken(int index) {
+	pack();
+	checkIndex(index);
+	seek(index);
+	return new Token(cursorStartLine,
+			 cursorEndLine,
+			 cursorStartChar,
+			 cursorEndChar,
+			 valueBytes[index] & 0xff);
+    }
+
+    /**
+     * Returns the value of the token indicated by the given index.
+     */
+    public synchronized int valueAt(int index) {
+	pack();
+	return valueBytes[index] & 0xff;
+    }
+
+    /**
+     * Returns the start line of the token indicated by the given
+     * index.
+     */
+    public synchronized int startLineAt(int index) {
+	pack();
+	checkIndex(index);
+	seek(index);
+	return cursorStartLine;
+    }
+
+    /**
+     * Returns the end line of the token indicated by the given index.
+     */
+    public synchronized int endLineAt(int index) {
+	pack();
+	checkIndex(index);
+	seek(index);
+	return cursorEndLine;
+    }
+
+    /**
+     * Returns the start character of the token indicated by the
+     * given index.
+     */
+    public synchronized int startCharAt(int index) {
+	pack();
+	checkIndex(index);
+	seek(index);
+	return cursorStartChar;
+    }
+
+    /**
+     * Returns the end character of the token indicated by the given
+     * index.
+     */
+    public synchronized int endCharAt(int index) {
+	pack();
+	checkIndex(index);
+	seek(index);
+	return cursorEndChar;
     }
 
     /**
      * Returns an iterator over all the Token objects stored in this
-     * list.
+     * list. The Token objects are created as the iterator is
+     * advanced.
      */
-    public Iterator iterator() {
-	if (this.tokens == null) {
-	    this.generateSet();
-	}
-	return tokens.iterator();
+    public synchronized Iterator iterator() {
+	pack();
+	return new Iterator() {
+		private int next = 0;
+
+		public boolean hasNext() {
+		    return next < size();
+		}
+
+		public Object next() {
+		    if (!hasNext()) {
+			throw new NoSuchElementException();
+		    }
+		    return getToken(next++);
+		}
+
+		public void remove() {
+		    throw new UnsupportedOperationException();
+		}
+	    };
     }
 
     /**
      * Returns the number of tokens stored in this list.
      */
-    public int size() {
-	if (this.values == null) 
-	    return tokens.size();
-	else
-	    return this.values.length;
+    public synchronized int size() {
+	if (valueBytes == null) {
+	    order();
+	}
+	return this.size;
+    }
+
+    /**
+     * Returns the values of the tokens in this list in an array, one
+     * unsigned byte for each token. The array is not to be changed.
+     */
+    public synchronized byte[] getValueArray() {
+	pack();
+	return this.valueBytes;
     }
 
     /**
-     * Returns the values of the tokens in this list in an array.
+     * Returns an estimate of the heap memory used by this list in
+     * bytes.
      */
-    public int[] getValueArray() {
-	if (this.values == null) {
-	    generateArrays();
+    public synchronized long getEstimatedSize() {
+	// The object, the name and the array headers
+	long estimate = 120 + 2*name.length() + 5*16;
+	if (valueBytes != null) {
+	    estimate += valueBytes.length + positions.length + 12*blockOffsets.length;
+	}
+	else {
+	    estimate += 20L*values.length;
+	}
+	return estimate;
+    }
+
+    /**
+     * Writes the tokens of this list to the given output in the
+     * packed form, to be read back by readTokens().
+     */
+    public synchronized void writeTokens(DataOutput out)
+	throws IOException
+    {
+	pack();
+	out.writeInt(this.size);
+	out.write(this.valueBytes);
+	out.writeInt(this.positions.length);
+	out.write(this.positions);
+	for (int i = 0; i < this.blockOffsets.length; i++) {
+	    out.writeInt(this.blockOffsets[i]);
+	    out.writeInt(this.blockStartChars[i]);
+	    out.writeInt(this.blockStartLines[i]);
+	}
+    }
+
+    /**
+     * Reads a token list written by writeTokens() from the given
+     * input. The list gets the given name. The positions are decoded
+     * once to check them.
+     */
+    public static TokenList readTokens(String name, DataInput in)
+	throws IOException
+    {
+	TokenList list = new TokenList(name);
+	list.values = null;
+	list.startLines = null;
+	list.endLines = null;
+	list.startChars = null;
+	list.endChars = null;
+
+	list.size = in.readInt();
+	if (list.size < 0) {
+	    throw new IOException("Invalid token count "+list.size);
+	}
+	list.valueBytes = new byte[list.size];
+	in.readFully(list.valueBytes);
+	int length = in.readInt();
+	if (length < 0) {
+	    throw new IOException("Invalid position length "+length);
+	}
+	list.positions = new byte[length];
+	in.readFully(list.positions);
+	int blocks = (list.size + BLOCK_SIZE - 1) >> BLOCK_SHIFT;
+	list.blockOffsets = new int[blocks];
+	list.blockStartChars = new int[blocks];
+	list.blockStartLines = new int[blocks];
+	for (int i = 0; i < blocks; i++) {
+	    list.blockOffsets[i] = in.readInt();
+	    list.blockStartChars[i] = in.readInt();
+	    list.blockStartLines[i] = in.readInt();
+	}
+
+	if ((blocks > 0) && (list.blockOffsets[0] != 0)) {
+	    throw new IOException("Invalid block offset at token 0");
+	}
+	try {
+	    for (int i = 0; i < list.size; i++) {
+		if (((i & (BLOCK_SIZE - 1)) == 0) && (i > 0) &&
+		    (list.cursorOffset != list.blockOffsets[i >> BLOCK_SHIFT])) {
+		    throw new IOException("Invalid block offset at token "+i);
+		}
+		list.seek(i);
+	    }
+	}
+	catch (ArrayIndexOutOfBoundsException e) {
+	    throw new IOException("Invalid positions");
+	}
+	if ((list.size > 0) && (list.cursorOffset != length)) {
+	    throw new IOException("Invalid position length "+length);
 	}
-	return this.values;
+	list.cursorIndex = -1;
+	return list;
     }
 
     public String toString() {
@@ -0,0 +1,206 @@
+/* 
+ *  Copyright (C) 2006 Aleksi Ahtiainen, Mikko Rahikainen.
+ * 
+ *  This file is part of Plaggie.
+ *
+ *  Plaggie is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published
+ *  by the Free Software Foundation; either version 2 of the License,
+ *  or (at your option) any later version.
+ *
+ *  Plaggie is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Plaggie; if not, write to the Free Software
+ *  Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ *  02110-1301  USA
+ */
+package plag.parser;
+
+import java.io.File;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.FutureTask;
+
+/**
+ * A token list cache for CachingDetectionResult, bounded by the
+ * estimated memory used by the token lists. The least recently used
+ * entries are evicted when the bound is exceeded, and the evicted
+ * token lists are created again by the tokenizer when needed. With a
+ * TokenStore as the tokenizer, they are read back from the store
+ * instead of parsing the files again.
+ * <p>
+ * The values are the same as with a plain map: token lists, the
+ * FutureTasks creating them and the exceptions of parse failures.
+ * The token lists are finalized when they are put to the cache, so
+ * that their size does not change afterwards. Only the token lists
+ * are evicted: the tasks are not, and neither are the parse failures,
+ * so that each failure is reported once. Like a plain map, the cache
+ * has to be synchronized by the caller; also get() changes the order
+ * of the entries.
+ * <p>
+ * If identical files are given, the files are stored under their
+ * representatives, so that the identical files share one entry.
+ */
+public class TokenListCache
+    extends LinkedHashMap
+{
+
+    /** The estimated size of a stored parse failure */
+    private static final long FAILURE_SIZE = 1024;
+
+    /** The maximum total size, 0 for no maximum */
+    private long maximumSize;
+
+    /** The estimated total size of the entries */
+    private long size = 0;
+
+    /** The keys of the evicted entries */
+    private HashSet evicted = new HashSet();
+
+    /** The identical files, or null if not known */
+    private IdenticalFiles identicalFiles = null;
+
+    /**
+     * Initializes the statistics collection.
+     */
+    {
+	try {
+	    Stats.newCounter("token_list_cache_hits");
+	    Stats.newCounter("token_list_cache_misses");
+	    Stats.newCounter("token_list_cache_evictions");
+	    Stats.newCounter("token_lists_recreated");
+	}
+	catch (Exception e) {
+	}
+    }
+
+    /**
+     * Creates a cache, whose entries are estimated to use at most the
+     * given number of bytes. With 0, no entries are evicted.
+     */
+    public TokenListCache(long maximumSize) {
+	super(16, 0.75f, true);
+	this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Sets the identical files, whose entries are shared. Has to be
+     * set before any entries are added.
+     */
+    public void setIdenticalFiles(IdenticalFiles identicalFiles) {
+	this.identicalFiles = identicalFiles;
+    }
+
+    /**
+     * Returns the estimated total size of the entries in bytes.
+     */
+    public long getEstimatedSize() {
+	return size;
+    }
+
+    private static long sizeOf(Object value) {
+	if (value instanceof TokenList) {
+	    return ((TokenList)value).getEstimatedSize();
+	}
+	if ((value == null) || (value instanceof FutureTask)) {
+	    return 0;
+	}
+	return FAILURE_SIZE;
+    }
+
+    /**
+     * Returns the key, under which the entry of the given key is
+     * stored.
+     */
+    private Object getEntryKey(Object key) {
+	if ((identicalFiles != null) && (key instanceof File)) {
+	    return identicalFiles.getRepresentative((File)key);
+	}
+	return key;
+    }
+
+    private static void incCounter(String name) {
+	try {
+	    Stats.incCounter(name);
+	}
+	catch (Exception e) {
+	}
+    }
+
+    public Object get(Object key) {
+	Object value = super.get(getEntryKey(key));
+	incCounter((value != null) ? "token_list_cache_hits" : "token_list_cache_misses");
+	return value;
+    }
+
+    public boolean containsKey(Object key) {
+	return super.containsKey(getEntryKey(key));
+    }
+
+    public Object put(Object key, Object value) {
+	if (value instanceof TokenList) {
+	    ((TokenList)value).finalize();
+	}
+	Object old = super.put(getEntryKey(key), value);
+	size += sizeOf(value) - sizeOf(old);
+	evict();
+	return old;
+    }
+
+    public void putAll(Map map) {
+	Iterator i = map.entrySet().iterator();
+	while (i.hasNext()) {
+	    Map.Entry entry = (Map.Entry)i.next();
+	    put(entry.getKey(), entry.getValue());
+	}
+    }
+
+    public Object remove(Object key) {
+	Object old = super.remove(getEntryKey(key));
+	size -= sizeOf(old);
+	return old;
+    }
+
+    public void clear() {
+	super.clear();
+	size = 0;
+	evicted.clear();
+    }
+
+    /**
+     * Returns true, if the token list of the given key has been
+     * evicted, so that a token list put to it now is created again.
+     */
+    public boolean isEvicted(Object key) {
+	return evicted.contains(getEntryKey(key));
+    }
+
+    /**
+     * Evicts the least recently used token lists until the entries fit
+     * within the maximum size.
+     */
+    private void evict() {
+	if (maximumSize <= 0) {
+	    return;
+	}
+	Iterator i = entrySet().iterator();
+	while ((size > maximumSize) && i.hasNext()) {
+	    Map.Entry entry = (Map.Entry)i.next();
+	    Object value = entry.getValue();
+	    if (!(value instanceof TokenList)) {
+		continue;
+	    }
+	    size -= sizeOf(value);
+	    evicted.add(entry.getKey());
+	    i.remove();
+	    incCounter("token_list_cache_evictions");
+	}
+    }
+
+}
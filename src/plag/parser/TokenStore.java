@@ -0,0 +1,206 @@
+/* 
+ *  Copyright (C) 2006 Aleksi Ahtiainen, Mikko Rahikainen.
+ * 
+ *  This file is part of Plaggie.
+ *
+ *  Plaggie is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published
+ *  by the Free Software Foundation; either version 2 of the License,
+ *  or (at your option) any later version.
+ *
+ *  Plaggie is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Plaggie; if not, write to the Free Software
+ *  Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ *  02110-1301  USA
+ */
+package plag.parser;
+
+import java.io.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * A code tokenizer keeping the token lists of another tokenizer in a
+ * directory across runs. The token list of a file is stored under a
+ * hash of the contents of the file and the name of the tokenizer, so
+ * a file is tokenized only once as long as it does not change, even
+ * if it is moved or renamed. Parse failures are not stored, such a
+ * file is tokenized again on every run.
+ *
+ * The stored token lists are not checked against the tokenizer
+ * itself: the directory has to be emptied when the tokenizer is
+ * changed to give different tokens.
+ */
+public class TokenStore
+    implements CodeTokenizer
+{
+
+    /** The first int of a stored token list, "TOK2" */
+    private static final int MAGIC = 0x544f4b32;
+
+    private File directory;
+    private String tokenizerName;
+    private CodeTokenizer tokenizer;
+
+    /**
+     * Initializes the statistics collection.
+     */
+    {
+	try {
+	    Stats.newCounter("token_lists_read_from_store");
+	}
+	catch (Exception e) {
+	}
+    }
+
+    /**
+     * Creates a store in the given directory for the token lists of
+     * the given tokenizer. The name of the tokenizer is a part of the
+     * keys of the token lists, so tokenizers with different names can
+     * share the directory.
+     */
+    public TokenStore(File directory, String tokenizerName, CodeTokenizer tokenizer)
+    {
+	this.directory = directory;
+	this.tokenizerName = tokenizerName;
+	this.tokenizer = tokenizer;
+	directory.mkdirs();
+    }
+
+    /**
+     * Returns the stored token list of the given file, or tokenizes
+     * the file and stores its token list. May be called for different
+     * files at the same time, also by different processes sharing the
+     * directory.
+     */
+    public TokenList tokenize(File file)
+	throws Exception
+    {
+	File stored = new File(directory, getHash(tokenizerName, file));
+	if (stored.exists()) {
+	    TokenList tokens = read(stored, file.getPath());
+	    if (tokens != null) {
+		try {
+		    Stats.incCounter("token_lists_read_from_store");
+		}
+		catch (Exception e) {
+		}
+		return tokens;
+	    }
+	}
+
+	TokenList tokens = tokenizer.tokenize(file);
+	write(stored, tokens);
+	return tokens;
+    }
+
+    /**
+     * Returns the hex SHA-256 hash of the given prefix and the
+     * contents of the given file. The key of the token list of a file
+     * is the hash with the name of the tokenizer as the prefix. With
+     * a null prefix, only the contents are hashed.
+     */
+    static String getHash(String prefix, File file)
+	throws IOException
+    {
+	MessageDigest digest;
+	try {
+	    digest = MessageDigest.getInstance("SHA-256");
+	}
+	catch (NoSuchAlgorithmException e) {
+	    throw new IOException("SHA-256 not available: "+e);
+	}
+	if (prefix != null) {
+	    digest.update(prefix.getBytes("UTF-8"));
+	    digest.update((byte)0);
+	}
+
+	InputStream in = new FileInputStream(file);
+	try {
+	    byte[] buffer = new byte[8192];
+	    int n;
+	    while ((n = in.read(buffer)) >= 0) {
+		digest.update(buffer, 0, n);
+	    }
+	}
+	finally {
+	    in.close();
+	}
+
+	byte[] hash = digest.digest();
+	StringBuffer key = new StringBuffer(2*hash.length);
+	for (int i = 0; i < hash.length; i++) {
+	    key.append(Character.forDigit((hash[i] >> 4) & 0xf, 16));
+	    key.append(Character.forDigit(hash[i] & 0xf, 16));
+	}
+	return key.toString();
+    }
+
+    /**
+     * Returns the token list stored in the given file, or null if it
+     * cannot be read.
+     */
+    private TokenList read(File stored, String name) {
+	try {
+	    DataInputStream in =
+		new DataInputStream(new BufferedInputStream(new FileInputStream(stored)));
+	    try {
+		if (in.readInt() != MAGIC) {
+		    return null;
+		}
+		return TokenList.readTokens(name, in);
+	    }
+	    finally {
+		in.close();
+	    }
+	}
+	catch (IOException e) {
+	    Debug.println("Could not read stored token list "+stored.getPath()+": "+e);
+	    return null;
+	}
+    }
+
+    /**
+     * Stores the token list in the given file. The list is written to
+     * a temporary file first and then renamed, so that a partly
+     * written list is never read. A failure only leaves the list
+     * unstored.
+     */
+    private void write(File stored, TokenList tokens) {
+	File temp = null;
+	try {
+	    temp = File.createTempFile(stored.getName(), ".tmp", directory);
+	    DataOutputStream out =
+		new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)));
+	    try {
+		out.writeInt(MAGIC);
+		tokens.writeTokens(out);
+	    }
+	    finally {
+		out.close();
+	    }
+	    if (temp.renameTo(stored)) {
+		temp = null;
+	    }
+	}
+	catch (IOException e) {
+	    Debug.println("Could not store token list "+stored.getPath()+": "+e);
+	}
+	finally {
+	    if (temp != null) {
+		temp.delete();
+	    }
+	}
+    }
+
+    public String getValueString(int value)
+    {
+	return tokenizer.getValueString(value);
+    }
+
+}
@@ -0,0 +1,251 @@
+/* 
+ *  Copyright (C) 2006 Aleksi Ahtiainen, Mikko Rahikainen.
+ * 
+ *  This file is part of Plaggie.
+ *
+ *  Plaggie is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published
+ *  by the Free Software Foundation; either version 2 of the License,
+ *  or (at your option) any later version.
+ *
+ *  Plaggie is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Plaggie; if not, write to the Free Software
+ *  Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ *  02110-1301  USA
+ */
+package plag.parser;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * A submission similarity checker, which tiles all the files of one
+ * submission with all the files of the other at once, instead of
+ * tiling each pair of files. The token values of the files of a
+ * submission are concatenated with a marked token after each file,
+ * so that no tile crosses a file boundary, and the tiles are then
+ * divided to the detection results of the file pairs. The
+ * similarity values of the submissions are counted from the file
+ * results as in SimpleSubmissionSimilarityChecker.
+ * <p>
+ * Unlike in the comparison of each pair of files, a token sequence
+ * is matched only once in the other submission: a file copied to two
+ * files of the other submission is similar to only one of them.
+ * Similarity thresholds are not used, and the tiles are always
+ * counted.
+ */
+public class WholeSubmissionSimilarityChecker
+    extends SimpleSubmissionSimilarityChecker
+{
+
+    protected Map tokenListCache;
+
+    private AbstractTokenSimilarityChecker tiler;
+
+    private FileCodeExcluder codeExcluder;
+
+    /**
+     * Creates a checker tiling with the given checker, whose code
+     * excluder has to mark each file alone. If the token list cache
+     * is given, the token lists are cached in it.
+     */
+    public WholeSubmissionSimilarityChecker(AbstractTokenSimilarityChecker checker,
+					    CodeTokenizer tokenizer,
+					    Map tokenListCache)
+    {
+	super(checker, tokenizer);
+	if (!(checker.getCodeExcluder() instanceof FileCodeExcluder)) {
+	    throw new IllegalArgumentException("Code excluder does not mark each file alone: "+
+					       checker.getCodeExcluder());
+	}
+	this.tiler = checker;
+	this.codeExcluder = (FileCodeExcluder)checker.getCodeExcluder();
+	this.tokenListCache = tokenListCache;
+    }
+
+    /**
+     * Counts the similarity between 2 submissions with one tiling.
+     */
+    public void countSimilarities(Submission submissionA,
+				  Submission submissionB)
+	throws Exception
+    {
+	this.fileDetectionResults = new HashMap();
+
+	ArrayList filesA = new ArrayList();
+	TokenList[] tokensA = getTokenLists(submissionA, filesA);
+	ArrayList filesB = new ArrayList();
+	TokenList[] tokensB = getTokenLists(submissionB, filesB);
+
+	int[] offsetsA = getOffsets(tokensA);
+	int[] offsetsB = getOffsets(tokensB);
+	byte[] A = new byte[offsetsA[tokensA.length]];
+	byte[] B = new byte[offsetsB[tokensB.length]];
+	boolean[] marksA = new boolean[A.length];
+	boolean[] marksB = new boolean[B.length];
+	concatenate(tokensA, offsetsA, A, marksA);
+	concatenate(tokensB, offsetsB, B, marksB);
+
+	int[] tiles = tiler.tileValues(A, B, marksA, marksB);
+
+	// Divide the tiles to the file pairs, numbering the tiles of
+	// each pair in the order of the ids of the tiling
+	int pairs = tokensA.length*tokensB.length;
+	MatchedTileSet[] matches = new MatchedTileSet[pairs];
+	int[] matchedTokens = new int[pairs];
+	for (int pair = 0; pair < pairs; pair++) {
+	    matches[pair] = new MatchedTileSet();
+	}
+	for (int t = 0; t < tiles.length; t += 3) {
+	    int i = findFile(offsetsA, tiles[t]);
+	    int j = findFile(offsetsB, tiles[t+1]);
+	    int startA = tiles[t] - offsetsA[i];
+	    int startB = tiles[t+1] - offsetsB[j];
+	    int length = tiles[t+2];
+	    int pair = i*tokensB.length + j;
+	    Tile tileA = new Tile(tokensA[i], startA, startA+length-1);
+	    Tile tileB = new Tile(tokensB[j], startB, startB+length-1);
+	    matches[pair].addMatchedTile(new MatchedTile(tileA, tileB, matches[pair].size()));
+	    matchedTokens[pair] += length;
+	}
+
+	Comparator detectionResultComp = new
+	    SimpleSubmissionSimilarityChecker.
+	    DetectionResultComparator();
+
+	for (int i = 0; i < tokensA.length; i++) {
+	    File fileA = (File)filesA.get(i);
+	    SortedSet ss = new TreeSet(detectionResultComp);
+	    fileDetectionResults.put(fileA, ss);
+	    for (int j = 0; j < tokensB.length; j++) {
+		File fileB = (File)filesB.get(j);
+		if ((tokensA[i] == null) || (tokensB[j] == null)) {
+		    Stats.incCounter("failed_file_comparisons");
+		}
+		else {
+		    int pair = i*tokensB.length + j;
+		    ss.add(new DetectionResult(tokensA[i],
+					       tokensB[j],
+					       getSimilarityValue(matchedTokens[pair], tokensA[i].size()),
+					       getSimilarityValue(matchedTokens[pair], tokensB[j].size()),
+					       matches[pair],
+					       fileA,
+					       fileB));
+		}
+		Stats.incCounter("file_comparisons");
+	    }
+	}
+    }
+
+    /**
+     * Returns the token lists of the files of the given submission
+     * and adds the files to the given list in the same order. The
+     * token list of a file failing to parse is null.
+     */
+    private TokenList[] getTokenLists(Submission submission,
+				      ArrayList files)
+    {
+	Iterator i = submission.getFiles();
+	while (i.hasNext()) {
+	    files.add(i.next());
+	}
+
+	TokenList[] tokens = new TokenList[files.size()];
+	for (int f = 0; f < tokens.length; f++) {
+	    File file = (File)files.get(f);
+	    try {
+		if (tokenListCache != null) {
+		    tokens[f] = CachingDetectionResult.getTokenList(file,
+								    this.tokenizer,
+								    this.tokenListCache);
+		}
+		else {
+		    tokens[f] = this.tokenizer.tokenize(file);
+		    tokens[f].finalize();
+		}
+	    }
+	    catch (Exception e) {
+		Debug.println(this, "File "+file.getPath()+" not compared: "+e);
+	    }
+	}
+	return tokens;
+    }
+
+    /**
+     * Returns the start indices of the given token lists in their
+     * concatenation, followed by its length. Each token list is
+     * followed by one separating token, the missing lists take no
+     * space.
+     */
+    private static int[] getOffsets(TokenList[] tokens) {
+	int[] offsets = new int[tokens.length + 1];
+	for (int i = 0; i < tokens.length; i++) {
+	    offsets[i+1] = offsets[i];
+	    if (tokens[i] != null) {
+		offsets[i+1] += tokens[i].size() + 1;
+	    }
+	}
+	return offsets;
+    }
+
+    /**
+     * Concatenates the values and marks of the given token lists to
+     * the given arrays. The separating tokens are marked.
+     */
+    private void concatenate(TokenList[] tokens, int[] offsets,
+			     byte[] values, boolean[] marks) {
+	for (int i = 0; i < tokens.length; i++) {
+	    if (tokens[i] == null) {
+		continue;
+	    }
+	    int size = tokens[i].size();
+	    System.arraycopy(tokens[i].getValueArray(), 0, values, offsets[i], size);
+	    boolean[] fileMarks = new boolean[size];
+	    codeExcluder.mark(tokens[i], fileMarks);
+	    System.arraycopy(fileMarks, 0, marks, offsets[i], size);
+	    marks[offsets[i] + size] = true;
+	}
+    }
+
+    /**
+     * Returns the index of the token list containing the given index
+     * of the concatenation.
+     */
+    private static int findFile(int[] offsets, int index) {
+	int low = 0;
+	int high = offsets.length - 1;
+	while (high - low > 1) {
+	    int mid = (low + high) >>> 1;
+	    if (offsets[mid] <= index) {
+		low = mid;
+	    }
+	    else {
+		high = mid;
+	    }
+	}
+	return low;
+    }
+
+    /**
+     * Returns the similarity value of a file with the given number of
+     * tokens, when the given number of them are matched.
+     */
+    private static double getSimilarityValue(int cMatchedTokens, int cAllTokens) {
+	if (cAllTokens == 0) {
+	    return 0.0;
+	}
+	return (double)cMatchedTokens / (double)cAllTokens;
+    }
+
+}
@@ -0,0 +1,9882 @@
+
+//----------------------------------------------------
+// The following code was generated by CUP v0.10j
+// Thu Aug 31 06:36:53 EEST 2006
+//----------------------------------------------------
+
+package plag.parser.java;
+
+/** The parse tables of Grm15 as the strings generated by CUP. Used
+  * only when the tables are not read from the binary resource, and
+  * by ParseTables to write the resource.
+  */
+class Grm15Tables {
+
+  /** Decodes the production table from its strings. */
+  static short[][] unpackProductionTable() {
+    return Grm15.unpack(new String[] {
+    "\000\u025b\000\002\002\004\000\002\003\003\000\002\004" +
+    "\003\000\002\004\003\000\002\004\003\000\002\004\003" +
+    "\000\002\004\003\000\002\004\003\000\002\005\003\000" +
+    "\002\005\003\000\002\006\003\000\002\006\003\000\002" +
+    "\007\003\000\002\007\003\000\002\010\003\000\002\010" +
+    "\003\000\002\010\003\000\002\010\003\000\002\010\003" +
+    "\000\002\011\003\000\002\011\003\000\002\012\003\000" +
+    "\002\012\003\000\002\265\003\000\002\264\003\000\002" +
+    "\264\007\000\002\013\003\000\002\013\005\000\002\014" +
+    "\003\000\002\015\003\000\002\016\004\000\002\016\004" +
+    "\000\002\016\010\000\002\016\006\000\002\267\003\000" +
+    "\002\267\002\000\002\266\004\000\002\315\003\000\002" +
+    "\315\005\000\002\315\005\000\002\316\004\000\002\316" +
+    "\005\000\002\316\005\000\002\317\004\000\002\317\005" +
+    "\000\002\317\005\000\002\320\004\000\002\320\005\000" +
+    "\002\320\005\000\002\272\004\000\002\272\005\000\002" +
+    "\274\004\000\002\274\005\000\002\276\004\000\002\270" +
+    "\003\000\002\270\005\000\002\271\003\000\002\271\005" +
+    "\000\002\273\003\000\002\273\005\000\002\275\003\000" +
+    "\002\275\005\000\002\321\003\000\002\321\003\000\002" +
+    "\322\003\000\002\322\003\000\002\323\003\000\002\323" +
+    "\003\000\002\324\003\000\002\324\003\000\002\017\003" +
+    "\000\002\017\003\000\002\020\003\000\002\021\005\000" +
+    "\002\022\003\000\002\022\003\000\002\022\003\000\002" +
+    "\022\002\000\002\023\003\000\002\024\004\000\002\025" +
+    "\005\000\002\027\003\000\002\027\002\000\002\031\003" +
+    "\000\002\031\002\000\002\030\003\000\002\030\004\000" +
+    "\002\032\003\000\002\032\004\000\002\026\006\000\002" +
+    "\033\003\000\002\033\003\000\002\033\003\000\002\033" +
+    "\003\000\002\034\005\000\002\036\006\000\002\035\007" +
+    "\000\002\037\010\000\002\040\003\000\002\040\003\000" +
+    "\002\040\003\000\002\040\003\000\002\041\002\000\002" +
+    "\041\003\000\002\043\003\000\002\043\003\000\002\042" +
+    "\003\000\002\042\003\000\002\046\004\000\002\045\003" +
+    "\000\002\045\004\000\002\045\004\000\002\045\004\000" +
+    "\002\044\003\000\002\044\003\000\002\044\003\000\002" +
+    "\044\003\000\002\044\003\000\002\044\003\000\002\044" +
+    "\003\000\002\044\003\000\002\044\003\000\002\044\003" +
+    "\000\002\044\003\000\002\347\002\000\002\347\003\000" +
+    "\002\350\004\000\002\350\004\000\002\351\004\000\002" +
+    "\352\004\000\002\353\003\000\002\353\003\000\002\353" +
+    "\003\000\002\354\006\000\002\355\003\000\002\356\006" +
+    "\000\002\365\002\000\002\365\003\000\002\366\003\000" +
+    "\002\366\005\000\002\367\005\000\002\372\003\000\002" +
+    "\372\003\000\002\372\003\000\002\373\005\000\002\370" +
+    "\002\000\002\370\003\000\002\371\003\000\002\371\005" +
+    "\000\002\047\011\000\002\050\004\000\002\051\002\000" +
+    "\002\051\003\000\002\052\004\000\002\053\002\000\002" +
+    "\053\003\000\002\054\003\000\002\054\005\000\002\055" +
+    "\005\000\002\056\002\000\002\056\003\000\002\060\002" +
+    "\000\002\060\003\000\002\057\003\000\002\057\004\000" +
+    "\002\061\003\000\002\061\003\000\002\061\003\000\002" +
+    "\061\003\000\002\062\003\000\002\062\003\000\002\062" +
+    "\011\000\002\062\007\000\002\062\010\000\002\062\003" +
+    "\000\002\062\003\000\002\063\007\000\002\064\006\000" +
+    "\002\065\002\000\002\065\003\000\002\066\003\000\002" +
+    "\066\005\000\002\067\005\000\002\067\006\000\002\070" +
+    "\002\000\002\070\005\000\002\071\002\000\002\071\004" +
+    "\000\002\072\006\000\002\073\003\000\002\073\005\000" +
+    "\002\074\003\000\002\074\005\000\002\075\003\000\002" +
+    "\075\005\000\002\076\003\000\002\076\003\000\002\077" +
+    "\007\000\002\077\011\000\002\077\007\000\002\077\011" +
+    "\000\002\100\006\000\002\100\010\000\002\100\006\000" +
+    "\002\100\010\000\002\101\006\000\002\101\005\000\002" +
+    "\102\002\000\002\102\003\000\002\103\003\000\002\103" +
+    "\005\000\002\104\005\000\002\104\006\000\002\105\002" +
+    "\000\002\105\003\000\002\106\003\000\002\106\004\000" +
+    "\002\107\003\000\002\107\003\000\002\110\002\000\002" +
+    "\110\003\000\002\111\004\000\002\112\003\000\002\112" +
+    "\005\000\002\113\003\000\002\113\003\000\002\114\004" +
+    "\000\002\115\006\000\002\115\010\000\002\116\006\000" +
+    "\002\117\006\000\002\117\005\000\002\117\005\000\002" +
+    "\117\004\000\002\120\007\000\002\120\010\000\002\120" +
+    "\007\000\002\120\010\000\002\120\011\000\002\120\012" +
+    "\000\002\120\011\000\002\120\012\000\002\121\003\000" +
+    "\002\121\003\000\002\122\010\000\002\123\006\000\002" +
+    "\123\006\000\002\357\005\000\002\361\002\000\002\361" +
+    "\003\000\002\360\003\000\002\360\004\000\002\362\003" +
+    "\000\002\362\011\000\002\362\003\000\002\362\003\000" +
+    "\002\362\003\000\002\362\003\000\002\363\002\000\002" +
+    "\363\003\000\002\364\004\000\002\124\002\000\002\124" +
+    "\003\000\002\125\004\000\002\125\005\000\002\126\005" +
+    "\000\002\127\002\000\002\127\003\000\002\130\003\000" +
+    "\002\130\004\000\002\131\003\000\002\131\003\000\002" +
+    "\131\003\000\002\131\003\000\002\131\003\000\002\131" +
+    "\003\000\002\132\003\000\002\133\004\000\002\134\006" +
+    "\000\002\134\005\000\002\134\005\000\002\134\004\000" +
+    "\002\135\003\000\002\135\005\000\002\136\005\000\002" +
+    "\137\002\000\002\137\003\000\002\140\003\000\002\140" +
+    "\004\000\002\141\003\000\002\141\003\000\002\141\003" +
+    "\000\002\141\003\000\002\141\003\000\002\142\004\000" +
+    "\002\143\004\000\002\143\005\000\002\144\003\000\002" +
+    "\144\003\000\002\144\003\000\002\144\003\000\002\144" +
+    "\003\000\002\144\003\000\002\144\003\000\002\145\003" +
+    "\000\002\145\003\000\002\145\003\000\002\145\003\000" +
+    "\002\145\003\000\002\145\003\000\002\146\003\000\002" +
+    "\146\003\000\002\146\003\000\002\146\003\000\002\146" +
+    "\003\000\002\146\003\000\002\146\003\000\002\146\003" +
+    "\000\002\146\003\000\002\146\003\000\002\146\003\000" +
+    "\002\146\003\000\002\147\003\000\002\150\005\000\002" +
+    "\151\005\000\002\152\004\000\002\153\003\000\002\153" +
+    "\003\000\002\153\003\000\002\153\003\000\002\153\003" +
+    "\000\002\153\003\000\002\153\003\000\002\154\007\000" +
+    "\002\155\011\000\002\156\011\000\002\157\007\000\002" +
+    "\160\006\000\002\160\005\000\002\160\005\000\002\160" +
+    "\004\000\002\161\003\000\002\161\004\000\002\162\004" +
+    "\000\002\163\003\000\002\163\004\000\002\164\005\000" +
+    "\002\164\004\000\002\165\007\000\002\166\007\000\002" +
+    "\167\011\000\002\170\012\000\002\170\013\000\002\171" +
+    "\012\000\002\171\013\000\002\172\013\000\002\173\013" +
+    "\000\002\174\002\000\002\174\003\000\002\175\003\000" +
+    "\002\175\003\000\002\176\002\000\002\176\003\000\002" +
+    "\177\003\000\002\200\003\000\002\200\005\000\002\201" +
+    "\002\000\002\201\003\000\002\202\005\000\002\203\005" +
+    "\000\002\204\005\000\002\205\005\000\002\206\007\000" +
+    "\002\207\005\000\002\207\006\000\002\210\002\000\002" +
+    "\210\003\000\002\211\003\000\002\211\004\000\002\212" +
+    "\007\000\002\213\004\000\002\214\005\000\002\214\007" +
+    "\000\002\215\003\000\002\215\003\000\002\215\003\000" +
+    "\002\216\003\000\002\216\003\000\002\216\005\000\002" +
+    "\216\005\000\002\216\003\000\002\216\003\000\002\216" +
+    "\003\000\002\216\003\000\002\216\005\000\002\216\005" +
+    "\000\002\216\005\000\002\216\006\000\002\216\005\000" +
+    "\002\216\006\000\002\217\007\000\002\217\010\000\002" +
+    "\217\010\000\002\217\011\000\002\217\013\000\002\217" +
+    "\014\000\002\217\013\000\002\217\014\000\002\220\002" +
+    "\000\002\220\003\000\002\221\003\000\002\221\005\000" +
+    "\002\223\006\000\002\223\006\000\002\222\006\000\002" +
+    "\222\006\000\002\224\003\000\002\224\004\000\002\225" +
+    "\005\000\002\226\002\000\002\226\003\000\002\227\004" +
+    "\000\002\227\005\000\002\230\005\000\002\230\005\000" +
+    "\002\230\007\000\002\231\006\000\002\231\010\000\002" +
+    "\231\011\000\002\231\011\000\002\231\010\000\002\231" +
+    "\011\000\002\231\012\000\002\231\013\000\002\232\006" +
+    "\000\002\232\006\000\002\232\006\000\002\233\003\000" +
+    "\002\233\003\000\002\233\003\000\002\233\003\000\002" +
+    "\234\004\000\002\235\004\000\002\236\003\000\002\236" +
+    "\003\000\002\236\004\000\002\236\004\000\002\236\003" +
+    "\000\002\240\004\000\002\241\004\000\002\237\003\000" +
+    "\002\237\004\000\002\237\004\000\002\237\003\000\002" +
+    "\242\007\000\002\242\006\000\002\242\007\000\002\242" +
+    "\011\000\002\242\013\000\002\243\003\000\002\243\005" +
+    "\000\002\243\005\000\002\243\005\000\002\244\003\000" +
+    "\002\244\005\000\002\244\005\000\002\245\003\000\002" +
+    "\245\005\000\002\245\005\000\002\245\005\000\002\246" +
+    "\003\000\002\246\005\000\002\246\005\000\002\246\005" +
+    "\000\002\246\005\000\002\325\003\000\002\325\005\000" +
+    "\002\247\003\000\002\247\005\000\002\247\005\000\002" +
+    "\250\003\000\002\250\005\000\002\251\003\000\002\251" +
+    "\005\000\002\252\003\000\002\252\005\000\002\253\003" +
+    "\000\002\253\005\000\002\254\003\000\002\254\005\000" +
+    "\002\255\003\000\002\255\007\000\002\256\003\000\002" +
+    "\256\003\000\002\257\005\000\002\260\003\000\002\260" +
+    "\003\000\002\260\003\000\002\260\003\000\002\260\003" +
+    "\000\002\260\003\000\002\260\003\000\002\260\003\000" +
+    "\002\260\003\000\002\260\003\000\002\260\003\000\002" +
+    "\260\003\000\002\261\002\000\002\261\003\000\002\262" +
+    "\003\000\002\263\003\000\002\300\003\000\002\300\002" +
+    "\000\002\277\004\000\002\302\005\000\002\302\003\000" +
+    "\002\304\003\000\002\304\005\000\002\301\004\000\002" +
+    "\303\004\000\002\303\004\000\002\306\003\000\002\306" +
+    "\002\000\002\305\005\000\002\307\004\000\002\307\005" +
+    "\000\002\311\003\000\002\311\002\000\002\310\004\000" +
+    "\002\310\003\000\002\312\004\000\002\312\003\000\002" +
+    "\313\004\000\002\314\004\000\002\326\003\000\002\326" +
+    "\003\000\002\326\003\000\002\327\003\000\002\327\003" +
+    "\000\002\327\004\000\002\327\004\000\002\327\003\000" +
+    "\002\330\003\000\002\330\004\000\002\330\004\000\002" +
+    "\330\003\000\002\331\003\000\002\331\005\000\002\331" +
+    "\005\000\002\331\005\000\002\331\005\000\002\331\005" +
+    "\000\002\331\005\000\002\332\003\000\002\332\005\000" +
+    "\002\332\005\000\002\332\005\000\002\332\005\000\002" +
+    "\333\003\000\002\333\005\000\002\333\005\000\002\333" +
+    "\005\000\002\333\005\000\002\333\005\000\002\333\005" +
+    "\000\002\334\003\000\002\334\005\000\002\334\005\000" +
+    "\002\334\005\000\002\334\005\000\002\334\005\000\002" +
+    "\334\005\000\002\334\005\000\002\334\005\000\002\335" +
+    "\003\000\002\335\005\000\002\335\005\000\002\336\003" +
+    "\000\002\336\005\000\002\336\005\000\002\336\005\000" +
+    "\002\336\005\000\002\337\003\000\002\337\005\000\002" +
+    "\337\005\000\002\340\003\000\002\340\005\000\002\340" +
+    "\005\000\002\341\003\000\002\341\005\000\002\341\005" +
+    "\000\002\342\003\000\002\342\005\000\002\342\005\000" +
+    "\002\343\003\000\002\343\005\000\002\343\005\000\002" +
+    "\344\003\000\002\344\007\000\002\344\007\000\002\345" +
+    "\003\000\002\345\003\000\002\346\003" });
+  }
+
+  /** Decodes the parse-action table from its strings. */
+  static short[][] unpackActionTable() {
+    return Grm15.unpack(new String[] {
+    "\000\u0446\000\050\002\uffb4\020\023\031\uff85\032\037\033" +
+    "\045\034\042\035\015\036\021\037\030\040\044\041\041" +
+    "\042\052\043\032\044\050\045\uff9b\054\uff9b\140\053\151" +
+    "\012\154\uff9b\001\002\000\044\002\uffaa\020\uffaa\033\uffaa" +
+    "\034\uffaa\035\uffaa\036\uffaa\037\uffaa\040\uffaa\041\uffaa\042" +
+    "\uffaa\043\uffaa\044\uffaa\045\uffaa\054\uffaa\140\uffaa\151\uffaa" +
+    "\154\uffaa\001\002\000\160\002\uff0e\004\uff0e\005\uff0e\006" +
+    "\uff0e\007\uff0e\010\uff0e\011\uff0e\012\uff0e\013\uff0e\016\uff0e" +
+    "\020\uff0e\023\uff0e\024\uff0e\026\uff0e\033\uff0e\034\uff0e\035" +
+    "\uff0e\036\uff0e\037\uff0e\040\uff0e\041\uff0e\042\uff0e\043\uff0e" +
+    "\044\uff0e\045\uff0e\050\uff0e\052\uff0e\053\uff0e\054\uff0e\055" +
+    "\uff0e\057\uff0e\060\uff0e\061\uff0e\062\uff0e\063\uff0e\064\uff0e" +
+    "\065\uff0e\066\uff0e\067\uff0e\070\uff0e\071\uff0e\074\uff0e\075" +
+    "\uff0e\076\uff0e\110\uff0e\140\uff0e\141\uff0e\142\uff0e\143\uff0e" +
+    "\144\uff0e\145\uff0e\146\uff0e\151\uff0e\152\uff0e\154\uff0e\001" +
+    "\002\000\044\002\uff9d\020\uff9d\033\uff9d\034\uff9d\035\uff9d" +
+    "\036\uff9d\037\uff9d\040\uff9d\041\uff9d\042\uff9d\043\uff9d\044" +
+    "\uff9d\045\uff9d\054\uff9d\140\uff9d\151\uff9d\154\uff9d\001\002" +
+    "\000\046\002\uffad\020\023\032\037\033\045\034\042\035" +
+    "\015\036\021\037\030\040\044\041\041\042\052\043\032" +
+    "\044\050\045\uff9b\054\uff9b\140\053\151\012\154\uff9b\001" +
+    "\002\000\004\002\uffb7\001\002\000\044\002\uff9e\020\uff9e" +
+    "\033\uff9e\034\uff9e\035\uff9e\036\uff9e\037\uff9e\040\uff9e\041" +
+    "\uff9e\042\uff9e\043\uff9e\044\uff9e\045\uff9e\054\uff9e\140\uff9e" +
+    "\151\uff9e\154\uff9e\001\002\000\066\004\uff86\005\uff86\006" +
+    "\uff86\007\uff86\010\uff86\011\uff86\012\uff86\013\uff86\016\uff86" +
+    "\033\uff86\034\uff86\035\uff86\036\uff86\037\uff86\040\uff86\041" +
+    "\uff86\042\uff86\043\uff86\044\uff86\045\uff86\050\uff86\054\uff86" +
+    "\110\uff86\140\uff86\151\uff86\154\uff86\001\002\000\046\002" +
+    "\uffa5\020\uffa5\032\uffa5\033\uffa5\034\uffa5\035\uffa5\036\uffa5" +
+    "\037\uffa5\040\uffa5\041\uffa5\042\uffa5\043\uffa5\044\uffa5\045" +
+    "\uffa5\054\uffa5\140\uffa5\151\uffa5\154\uffa5\001\002\000\046" +
+    "\002\uffa4\020\uffa4\032\uffa4\033\uffa4\034\uffa4\035\uffa4\036" +
+    "\uffa4\037\uffa4\040\uffa4\041\uffa4\042\uffa4\043\uffa4\044\uffa4" +
+    "\045\uffa4\054\uffa4\140\uffa4\151\uffa4\154\uffa4\001\002\000" +
+    "\066\004\uff8e\005\uff8e\006\uff8e\007\uff8e\010\uff8e\011\uff8e" +
+    "\012\uff8e\013\uff8e\016\uff8e\033\uff8e\034\uff8e\035\uff8e\036" +
+    "\uff8e\037\uff8e\040\uff8e\041\uff8e\042\uff8e\043\uff8e\044\uff8e" +
+    "\045\uff8e\050\uff8e\054\uff8e\110\uff8e\140\uff8e\151\uff8e\154" +
+    "\uff8e\001\002\000\004\054\u0445\001\002\000\004\002\uffb5" +
+    "\001\002\000\004\002\uffb6\001\002\000\066\004\uff8d\005" +
+    "\uff8d\006\uff8d\007\uff8d\010\uff8d\011\uff8d\012\uff8d\013\uff8d" +
+    "\016\uff8d\033\uff8d\034\uff8d\035\uff8d\036\uff8d\037\uff8d\040" +
+    "\uff8d\041\uff8d\042\uff8d\043\uff8d\044\uff8d\045\uff8d\050\uff8d" +
+    "\054\uff8d\110\uff8d\140\uff8d\151\uff8d\154\uff8d\001\002\000" +
+    "\046\002\uffaf\020\uffaf\032\037\033\uffaf\034\uffaf\035\uffaf" +
+    "\036\uffaf\037\uffaf\040\uffaf\041\uffaf\042\uffaf\043\uffaf\044" +
+    "\uffaf\045\uffaf\054\uffaf\140\uffaf\151\uffaf\154\uffaf\001\002" +
+    "\000\044\002\uff9c\020\uff9c\033\uff9c\034\uff9c\035\uff9c\036" +
+    "\uff9c\037\uff9c\040\uff9c\041\uff9c\042\uff9c\043\uff9c\044\uff9c" +
+    "\045\uff9c\054\uff9c\140\uff9c\151\uff9c\154\uff9c\001\002\000" +
+    "\006\016\062\054\uff99\001\002\000\010\045\u0183\054\u0186" +
+    "\154\u0185\001\002\000\044\002\uffb3\020\023\033\045\034" +
+    "\042\035\015\036\021\037\030\040\044\041\041\042\052" +
+    "\043\032\044\050\045\uff9b\054\uff9b\140\053\151\012\154" +
+    "\uff9b\001\002\000\004\002\000\001\002\000\066\004\uff8c" +
+    "\005\uff8c\006\uff8c\007\uff8c\010\uff8c\011\uff8c\012\uff8c\013" +
+    "\uff8c\016\uff8c\033\uff8c\034\uff8c\035\uff8c\036\uff8c\037\uff8c" +
+    "\040\uff8c\041\uff8c\042\uff8c\043\uff8c\044\uff8c\045\uff8c\050" +
+    "\uff8c\054\uff8c\110\uff8c\140\uff8c\151\uff8c\154\uff8c\001\002" +
+    "\000\042\031\uff84\033\045\034\042\035\015\036\021\037" +
+    "\030\040\044\041\041\042\052\043\032\044\050\045\uff96" +
+    "\054\uff96\140\u01a5\151\012\154\uff96\001\002\000\066\004" +
+    "\uff88\005\uff88\006\uff88\007\uff88\010\uff88\011\uff88\012\uff88" +
+    "\013\uff88\016\uff88\033\uff88\034\uff88\035\uff88\036\uff88\037" +
+    "\uff88\040\uff88\041\uff88\042\uff88\043\uff88\044\uff88\045\uff88" +
+    "\050\uff88\054\uff88\110\uff88\140\uff88\151\uff88\154\uff88\001" +
+    "\002\000\066\004\uff94\005\uff94\006\uff94\007\uff94\010\uff94" +
+    "\011\uff94\012\uff94\013\uff94\016\uff94\033\uff94\034\uff94\035" +
+    "\uff94\036\uff94\037\uff94\040\uff94\041\uff94\042\uff94\043\uff94" +
+    "\044\uff94\045\uff94\050\uff94\054\uff94\110\uff94\140\uff94\151" +
+    "\uff94\154\uff94\001\002\000\046\002\uffa7\020\uffa7\032\uffa7" +
+    "\033\uffa7\034\uffa7\035\uffa7\036\uffa7\037\uffa7\040\uffa7\041" +
+    "\uffa7\042\uffa7\043\uffa7\044\uffa7\045\uffa7\054\uffa7\140\uffa7" +
+    "\151\uffa7\154\uffa7\001\002\000\004\002\u043e\001\002\000" +
+    "\036\004\uff9a\005\uff9a\006\uff9a\007\uff9a\010\uff9a\011\uff9a" +
+    "\012\uff9a\013\uff9a\016\uff9a\045\uff9a\050\uff9a\054\uff9a\110" +
+    "\uff9a\154\uff9a\001\002\000\006\016\175\036\u0434\001\002" +
+    "\000\044\002\uff9f\020\uff9f\033\uff9f\034\uff9f\035\uff9f\036" +
+    "\uff9f\037\uff9f\040\uff9f\041\uff9f\042\uff9f\043\uff9f\044\uff9f" +
+    "\045\uff9f\054\uff9f\140\uff9f\151\uff9f\154\uff9f\001\002\000" +
+    "\066\004\uff8a\005\uff8a\006\uff8a\007\uff8a\010\uff8a\011\uff8a" +
+    "\012\uff8a\013\uff8a\016\uff8a\033\uff8a\034\uff8a\035\uff8a\036" +
+    "\uff8a\037\uff8a\040\uff8a\041\uff8a\042\uff8a\043\uff8a\044\uff8a" +
+    "\045\uff8a\050\uff8a\054\uff8a\110\uff8a\140\uff8a\151\uff8a\154" +
+    "\uff8a\001\002\000\066\004\uff8f\005\uff8f\006\uff8f\007\uff8f" +
+    "\010\uff8f\011\uff8f\012\uff8f\013\uff8f\016\uff8f\033\uff8f\034" +
+    "\uff8f\035\uff8f\036\uff8f\037\uff8f\040\uff8f\041\uff8f\042\uff8f" +
+    "\043\uff8f\044\uff8f\045\uff8f\050\uff8f\054\uff8f\110\uff8f\140" +
+    "\uff8f\151\uff8f\154\uff8f\001\002\000\160\002\uff0f\004\uff0f" +
+    "\005\uff0f\006\uff0f\007\uff0f\010\uff0f\011\uff0f\012\uff0f\013" +
+    "\uff0f\016\uff0f\020\uff0f\023\uff0f\024\uff0f\026\uff0f\033\uff0f" +
+    "\034\uff0f\035\uff0f\036\uff0f\037\uff0f\040\uff0f\041\uff0f\042" +
+    "\uff0f\043\uff0f\044\uff0f\045\uff0f\050\uff0f\052\uff0f\053\uff0f" +
+    "\054\uff0f\055\uff0f\057\uff0f\060\uff0f\061\uff0f\062\uff0f\063" +
+    "\uff0f\064\uff0f\065\uff0f\066\uff0f\067\uff0f\070\uff0f\071\uff0f" +
+    "\074\uff0f\075\uff0f\076\uff0f\110\uff0f\140\uff0f\141\uff0f\142" +
+    "\uff0f\143\uff0f\144\uff0f\145\uff0f\146\uff0f\151\uff0f\152\uff0f" +
+    "\154\uff0f\001\002\000\066\004\uff8b\005\uff8b\006\uff8b\007" +
+    "\uff8b\010\uff8b\011\uff8b\012\uff8b\013\uff8b\016\uff8b\033\uff8b" +
+    "\034\uff8b\035\uff8b\036\uff8b\037\uff8b\040\uff8b\041\uff8b\042" +
+    "\uff8b\043\uff8b\044\uff8b\045\uff8b\050\uff8b\054\uff8b\110\uff8b" +
+    "\140\uff8b\151\uff8b\154\uff8b\001\002\000\066\004\uff90\005" +
+    "\uff90\006\uff90\007\uff90\010\uff90\011\uff90\012\uff90\013\uff90" +
+    "\016\uff90\033\uff90\034\uff90\035\uff90\036\uff90\037\uff90\040" +
+    "\uff90\041\uff90\042\uff90\043\uff90\044\uff90\045\uff90\050\uff90" +
+    "\054\uff90\110\uff90\140\uff90\151\uff90\154\uff90\001\002\000" +
+    "\066\004\uff97\005\uff97\006\uff97\007\uff97\010\uff97\011\uff97" +
+    "\012\uff97\013\uff97\016\uff97\033\045\034\042\035\015\036" +
+    "\021\037\030\040\044\041\041\042\052\043\032\044\050" +
+    "\045\uff97\050\uff97\054\uff97\110\uff97\140\u0432\151\012\154" +
+    "\uff97\001\002\000\004\031\u042e\001\002\000\066\004\uff87" +
+    "\005\uff87\006\uff87\007\uff87\010\uff87\011\uff87\012\uff87\013" +
+    "\uff87\016\uff87\033\uff87\034\uff87\035\uff87\036\uff87\037\uff87" +
+    "\040\uff87\041\uff87\042\uff87\043\uff87\044\uff87\045\uff87\050" +
+    "\uff87\054\uff87\110\uff87\140\uff87\151\uff87\154\uff87\001\002" +
+    "\000\006\016\062\054\uff98\001\002\000\066\004\uff89\005" +
+    "\uff89\006\uff89\007\uff89\010\uff89\011\uff89\012\uff89\013\uff89" +
+    "\016\uff89\033\uff89\034\uff89\035\uff89\036\uff89\037\uff89\040" +
+    "\uff89\041\uff89\042\uff89\043\uff89\044\uff89\045\uff89\050\uff89" +
+    "\054\uff89\110\uff89\140\uff89\151\uff89\154\uff89\001\002\000" +
+    "\006\016\062\054\056\001\002\000\046\002\uffa6\020\uffa6" +
+    "\032\uffa6\033\uffa6\034\uffa6\035\uffa6\036\uffa6\037\uffa6\040" +
+    "\uffa6\041\uffa6\042\uffa6\043\uffa6\044\uffa6\045\uffa6\054\uffa6" +
+    "\140\uffa6\151\uffa6\154\uffa6\001\002\000\046\002\uffac\020" +
+    "\uffac\032\uffac\033\uffac\034\uffac\035\uffac\036\uffac\037\uffac" +
+    "\040\uffac\041\uffac\042\uffac\043\uffac\044\uffac\045\uffac\054" +
+    "\uffac\140\uffac\151\uffac\154\uffac\001\002\000\004\016\u0417" +
+    "\001\002\000\100\004\uff7e\005\uff7e\006\uff7e\007\uff7e\010" +
+    "\uff7e\011\uff7e\012\uff7e\013\uff7e\016\uff7e\020\uff7e\022\uff7e" +
+    "\024\uff7e\027\uff7e\031\uff7e\033\uff7e\034\uff7e\035\uff7e\036" +
+    "\uff7e\037\uff7e\040\uff7e\041\uff7e\042\uff7e\043\uff7e\044\uff7e" +
+    "\045\uff7e\050\uff7e\054\uff7e\110\uff7e\140\uff7e\151\uff7e\154" +
+    "\uff7e\001\002\000\070\004\uff83\005\uff83\006\uff83\007\uff83" +
+    "\010\uff83\011\uff83\012\uff83\013\uff83\016\uff83\031\uff83\033" +
+    "\uff83\034\uff83\035\uff83\036\uff83\037\uff83\040\uff83\041\uff83" +
+    "\042\uff83\043\uff83\044\uff83\045\uff83\050\uff83\054\uff83\110" +
+    "\uff83\140\uff83\151\uff83\154\uff83\001\002\000\100\004\uff7f" +
+    "\005\uff7f\006\uff7f\007\uff7f\010\uff7f\011\uff7f\012\uff7f\013" +
+    "\uff7f\016\uff7f\020\uff7f\022\uff7f\024\uff7f\027\uff7f\031\uff7f" +
+    "\033\uff7f\034\uff7f\035\uff7f\036\uff7f\037\uff7f\040\uff7f\041" +
+    "\uff7f\042\uff7f\043\uff7f\044\uff7f\045\uff7f\050\uff7f\054\uff7f" +
+    "\110\uff7f\140\uff7f\151\uff7f\154\uff7f\001\002\000\102\004" +
+    "\uff7b\005\uff7b\006\uff7b\007\uff7b\010\uff7b\011\uff7b\012\uff7b" +
+    "\013\uff7b\016\uff7b\020\uff7b\022\uff7b\024\uff7b\026\064\027" +
+    "\uff7b\031\uff7b\033\uff7b\034\uff7b\035\uff7b\036\uff7b\037\uff7b" +
+    "\040\uff7b\041\uff7b\042\uff7b\043\uff7b\044\uff7b\045\uff7b\050" +
+    "\uff7b\054\uff7b\110\uff7b\140\uff7b\151\uff7b\154\uff7b\001\002" +
+    "\000\100\004\uff7d\005\uff7d\006\uff7d\007\uff7d\010\uff7d\011" +
+    "\uff7d\012\uff7d\013\uff7d\016\uff7d\020\uff7d\022\uff7d\024\uff7d" +
+    "\027\uff7d\031\uff7d\033\uff7d\034\uff7d\035\uff7d\036\uff7d\037" +
+    "\uff7d\040\uff7d\041\uff7d\042\uff7d\043\uff7d\044\uff7d\045\uff7d" +
+    "\050\uff7d\054\uff7d\110\uff7d\140\uff7d\151\uff7d\154\uff7d\001" +
+    "\002\000\074\004\130\005\143\006\067\007\103\010\162" +
+    "\011\071\012\155\013\075\016\172\023\150\026\100\027" +
+    "\uff79\050\140\052\125\053\134\074\135\075\066\076\132" +
+    "\077\123\100\104\101\120\102\112\140\164\141\171\142" +
+    "\151\143\107\144\111\145\070\146\124\001\002\000\130" +
+    "\014\ufe7a\015\ufe7a\017\ufe7a\020\ufe7a\021\ufe7a\022\ufe7a\024" +
+    "\ufe7a\025\ufe7a\027\ufe7a\030\ufe7a\075\ufe7a\076\ufe7a\077\ufe7a" +
+    "\100\ufe7a\103\ufe7a\104\ufe7a\105\ufe7a\106\ufe7a\107\ufe7a\110" +
+    "\ufe7a\111\ufe7a\112\ufe7a\113\ufe7a\114\ufe7a\115\ufe7a\116\ufe7a" +
+    "\117\ufe7a\120\ufe7a\121\ufe7a\122\ufe7a\123\ufe7a\124\ufe7a\125" +
+    "\ufe7a\126\ufe7a\127\ufe7a\130\ufe7a\131\ufe7a\132\ufe7a\133\ufe7a" +
+    "\134\ufe7a\135\ufe7a\136\ufe7a\137\ufe7a\001\002\000\066\004" +
+    "\130\005\143\006\067\007\103\010\162\011\071\012\155" +
+    "\013\075\016\175\026\100\050\140\052\125\053\134\074" +
+    "\135\075\066\076\132\077\123\100\104\101\120\102\112" +
+    "\141\171\142\151\143\107\144\111\145\070\146\124\001" +
+    "\002\000\014\014\ufff2\016\ufff2\017\ufff2\027\ufff2\153\ufff2" +
+    "\001\002\000\130\014\ufffb\015\ufffb\017\ufffb\020\ufffb\021" +
+    "\ufffb\022\ufffb\024\ufffb\025\ufffb\027\ufffb\030\ufffb\075\ufffb" +
+    "\076\ufffb\077\ufffb\100\ufffb\103\ufffb\104\ufffb\105\ufffb\106" +
+    "\ufffb\107\ufffb\110\ufffb\111\ufffb\112\ufffb\113\ufffb\114\ufffb" +
+    "\115\ufffb\116\ufffb\117\ufffb\120\ufffb\121\ufffb\122\ufffb\123" +
+    "\ufffb\124\ufffb\125\ufffb\126\ufffb\127\ufffb\130\ufffb\131\ufffb" +
+    "\132\ufffb\133\ufffb\134\ufffb\135\ufffb\136\ufffb\137\ufffb\001" +
+    "\002\000\014\014\uffef\016\uffef\017\uffef\027\uffef\153\uffef" +
+    "\001\002\000\062\015\ufe2f\020\ufe2f\022\ufe2f\024\ufe2f\027" +
+    "\ufe2f\030\ufe2f\077\207\100\210\105\ufe2f\106\ufe2f\107\ufe2f" +
+    "\110\ufe2f\111\ufe2f\112\ufe2f\113\ufe2f\114\ufe2f\115\ufe2f\116" +
+    "\ufe2f\117\ufe2f\120\ufe2f\121\ufe2f\122\ufe2f\123\ufe2f\124\ufe2f" +
+    "\001\002\000\024\015\ufe19\020\ufe19\022\ufe19\024\ufe19\027" +
+    "\ufe19\030\ufe19\122\u0115\123\ufe19\124\ufe19\001\002\000\124" +
+    "\015\ufe4a\020\ufe4a\021\ufe4a\022\ufe4a\024\ufe4a\025\ufe4a\027" +
+    "\ufe4a\030\ufe4a\075\ufe4a\076\ufe4a\077\ufe4a\100\ufe4a\103\ufe4a" +
+    "\104\ufe4a\105\ufe4a\106\ufe4a\107\ufe4a\110\ufe4a\111\ufe4a\112" +
+    "\ufe4a\113\ufe4a\114\ufe4a\115\ufe4a\116\ufe4a\117\ufe4a\120\ufe4a" +
+    "\121\ufe4a\122\ufe4a\123\ufe4a\124\ufe4a\125\ufe4a\126\ufe4a\127" +
+    "\ufe4a\130\ufe4a\131\ufe4a\132\ufe4a\133\ufe4a\134\ufe4a\135\ufe4a" +
+    "\136\ufe4a\137\ufe4a\001\002\000\014\014\uffed\016\uffed\017" +
+    "\uffed\027\uffed\153\uffed\001\002\000\126\015\ufe80\017\ufe80" +
+    "\020\ufe80\021\ufe80\022\ufe80\024\ufe80\025\ufe80\027\ufe80\030" +
+    "\ufe80\075\ufe80\076\ufe80\077\ufe80\100\ufe80\103\ufe80\104\ufe80" +
+    "\105\ufe80\106\ufe80\107\ufe80\110\ufe80\111\ufe80\112\ufe80\113" +
+    "\ufe80\114\ufe80\115\ufe80\116\ufe80\117\ufe80\120\ufe80\121\ufe80" +
+    "\122\ufe80\123\ufe80\124\ufe80\125\ufe80\126\ufe80\127\ufe80\130" +
+    "\ufe80\131\ufe80\132\ufe80\133\ufe80\134\ufe80\135\ufe80\136\ufe80" +
+    "\137\ufe80\001\002\000\006\022\u0413\027\uff78\001\002\000" +
+    "\066\004\130\005\143\006\067\007\103\010\162\011\071" +
+    "\012\155\013\075\016\175\026\100\050\140\052\125\053" +
+    "\134\074\135\075\066\076\132\077\u0346\100\u033c\101\u0344" +
+    "\102\u0340\141\171\142\151\143\107\144\111\145\070\146" +
+    "\124\001\002\000\130\014\ufe7f\015\ufe7f\017\ufe7f\020\ufe7f" +
+    "\021\ufe7f\022\ufe7f\024\ufe7f\025\ufe7f\027\ufe7f\030\ufe7f\075" +
+    "\ufe7f\076\ufe7f\077\ufe7f\100\ufe7f\103\ufe7f\104\ufe7f\105\ufe7f" +
+    "\106\ufe7f\107\ufe7f\110\ufe7f\111\ufe7f\112\ufe7f\113\ufe7f\114" +
+    "\ufe7f\115\ufe7f\116\ufe7f\117\ufe7f\120\ufe7f\121\ufe7f\122\ufe7f" +
+    "\123\ufe7f\124\ufe7f\125\ufe7f\126\ufe7f\127\ufe7f\130\ufe7f\131" +
+    "\ufe7f\132\ufe7f\133\ufe7f\134\ufe7f\135\ufe7f\136\ufe7f\137\ufe7f" +
+    "\001\002\000\070\015\ufe45\020\ufe45\021\ufe45\022\ufe45\024" +
+    "\ufe45\027\ufe45\030\ufe45\077\ufe45\100\ufe45\103\ufe45\104\ufe45" +
+    "\105\ufe45\106\ufe45\107\ufe45\110\ufe45\111\ufe45\112\ufe45\113" +
+    "\ufe45\114\ufe45\115\ufe45\116\ufe45\117\ufe45\120\ufe45\121\ufe45" +
+    "\122\ufe45\123\ufe45\124\ufe45\001\002\000\014\014\ufff1\016" +
+    "\ufff1\017\ufff1\027\ufff1\153\ufff1\001\002\000\066\004\130" +
+    "\005\143\006\067\007\103\010\162\011\071\012\155\013" +
+    "\075\016\175\026\100\050\140\052\125\053\134\074\135" +
+    "\075\066\076\132\077\123\100\104\101\120\102\112\141" +
+    "\171\142\151\143\107\144\111\145\070\146\124\001\002" +
+    "\000\004\027\u03fb\001\002\000\014\014\ufff5\016\ufff5\017" +
+    "\ufff5\027\ufff5\153\ufff5\001\002\000\130\014\ufffd\015\ufffd" +
+    "\017\ufffd\020\ufffd\021\ufffd\022\ufffd\024\ufffd\025\ufffd\027" +
+    "\ufffd\030\ufffd\075\ufffd\076\ufffd\077\ufffd\100\ufffd\103\ufffd" +
+    "\104\ufffd\105\ufffd\106\ufffd\107\ufffd\110\ufffd\111\ufffd\112" +
+    "\ufffd\113\ufffd\114\ufffd\115\ufffd\116\ufffd\117\ufffd\120\ufffd" +
+    "\121\ufffd\122\ufffd\123\ufffd\124\ufffd\125\ufffd\126\ufffd\127" +
+    "\ufffd\130\ufffd\131\ufffd\132\ufffd\133\ufffd\134\ufffd\135\ufffd" +
+    "\136\ufffd\137\ufffd\001\002\000\132\014\u0269\015\ufe4b\017" +
+    "\u026c\020\ufe4b\021\ufe4b\022\ufe4b\024\ufe4b\025\ufe4b\026\u026a" +
+    "\027\ufe4b\030\ufe4b\075\ufe4b\076\ufe4b\077\ufe4b\100\ufe4b\103" +
+    "\ufe4b\104\ufe4b\105\ufe4b\106\ufe4b\107\ufe4b\110\ufe4b\111\ufe4b" +
+    "\112\ufe4b\113\ufe4b\114\ufe4b\115\ufe4b\116\ufe4b\117\ufe4b\120" +
+    "\ufe4b\121\ufe4b\122\ufe4b\123\ufe4b\124\ufe4b\125\ufe4b\126\ufe4b" +
+    "\127\ufe4b\130\ufe4b\131\ufe4b\132\ufe4b\133\ufe4b\134\ufe4b\135" +
+    "\ufe4b\136\ufe4b\137\ufe4b\001\002\000\130\014\ufffc\015\ufffc" +
+    "\017\ufffc\020\ufffc\021\ufffc\022\ufffc\024\ufffc\025\ufffc\027" +
+    "\ufffc\030\ufffc\075\ufffc\076\ufffc\077\ufffc\100\ufffc\103\ufffc" +
+    "\104\ufffc\105\ufffc\106\ufffc\107\ufffc\110\ufffc\111\ufffc\112" +
+    "\ufffc\113\ufffc\114\ufffc\115\ufffc\116\ufffc\117\ufffc\120\ufffc" +
+    "\121\ufffc\122\ufffc\123\ufffc\124\ufffc\125\ufffc\126\ufffc\127" +
+    "\ufffc\130\ufffc\131\ufffc\132\ufffc\133\ufffc\134\ufffc\135\ufffc" +
+    "\136\ufffc\137\ufffc\001\002\000\066\004\130\005\143\006" +
+    "\067\007\103\010\162\011\071\012\155\013\075\016\175" +
+    "\026\100\050\140\052\125\053\134\074\135\075\066\076" +
+    "\132\077\123\100\104\101\120\102\112\141\171\142\151" +
+    "\143\107\144\111\145\070\146\124\001\002\000\012\020" +
+    "\uff74\022\uff74\024\uff74\027\uff74\001\002\000\014\014\ufff7" +
+    "\016\ufff7\017\ufff7\027\ufff7\153\ufff7\001\002\000\036\015" +
+    "\ufe21\020\ufe21\022\ufe21\024\ufe21\027\ufe21\030\ufe21\115\u0103" +
+    "\116\u0102\117\ufe21\120\ufe21\121\ufe21\122\ufe21\123\ufe21\124" +
+    "\ufe21\001\002\000\030\015\ufe1d\020\ufe1d\022\ufe1d\024\ufe1d" +
+    "\027\ufe1d\030\ufe1d\120\376\121\ufe1d\122\ufe1d\123\ufe1d\124" +
+    "\ufe1d\001\002\000\070\015\ufe3c\020\ufe3c\021\ufe3c\022\ufe3c" +
+    "\024\ufe3c\027\ufe3c\030\ufe3c\077\ufe3c\100\ufe3c\103\ufe3c\104" +
+    "\ufe3c\105\ufe3c\106\ufe3c\107\ufe3c\110\ufe3c\111\ufe3c\112\ufe3c" +
+    "\113\ufe3c\114\ufe3c\115\ufe3c\116\ufe3c\117\ufe3c\120\ufe3c\121" +
+    "\ufe3c\122\ufe3c\123\ufe3c\124\ufe3c\001\002\000\066\004\130" +
+    "\005\143\006\067\007\103\010\162\011\071\012\155\013" +
+    "\075\016\175\026\100\050\140\052\125\053\134\074\135" +
+    "\075\066\076\132\077\123\100\104\101\120\102\112\141" +
+    "\171\142\151\143\107\144\111\145\070\146\124\001\002" +
+    "\000\014\014\ufff4\016\ufff4\017\ufff4\027\ufff4\153\ufff4\001" +
+    "\002\000\126\015\ufe4c\017\u0371\020\ufe4c\021\ufe4c\022\ufe4c" +
+    "\024\ufe4c\025\ufe4c\027\ufe4c\030\ufe4c\075\ufe4c\076\ufe4c\077" +
+    "\ufe4c\100\ufe4c\103\ufe4c\104\ufe4c\105\ufe4c\106\ufe4c\107\ufe4c" +
+    "\110\ufe4c\111\ufe4c\112\ufe4c\113\ufe4c\114\ufe4c\115\ufe4c\116" +
+    "\ufe4c\117\ufe4c\120\ufe4c\121\ufe4c\122\ufe4c\123\ufe4c\124\ufe4c" +
+    "\125\ufe4c\126\ufe4c\127\ufe4c\130\ufe4c\131\ufe4c\132\ufe4c\133" +
+    "\ufe4c\134\ufe4c\135\ufe4c\136\ufe4c\137\ufe4c\001\002\000\066" +
+    "\004\130\005\143\006\067\007\103\010\162\011\071\012" +
+    "\155\013\075\016\175\026\100\050\140\052\125\053\134" +
+    "\074\135\075\066\076\132\077\123\100\104\101\120\102" +
+    "\112\141\171\142\151\143\107\144\111\145\070\146\124" +
+    "\001\002\000\130\014\ufffa\015\ufffa\017\ufffa\020\ufffa\021" +
+    "\ufffa\022\ufffa\024\ufffa\025\ufffa\027\ufffa\030\ufffa\075\ufffa" +
+    "\076\ufffa\077\ufffa\100\ufffa\103\ufffa\104\ufffa\105\ufffa\106" +
+    "\ufffa\107\ufffa\110\ufffa\111\ufffa\112\ufffa\113\ufffa\114\ufffa" +
+    "\115\ufffa\116\ufffa\117\ufffa\120\ufffa\121\ufffa\122\ufffa\123" +
+    "\ufffa\124\ufffa\125\ufffa\126\ufffa\127\ufffa\130\ufffa\131\ufffa" +
+    "\132\ufffa\133\ufffa\134\ufffa\135\ufffa\136\ufffa\137\ufffa\001" +
+    "\002\000\130\014\ufe7e\015\ufe7e\017\ufe7e\020\ufe7e\021\ufe7e" +
+    "\022\ufe7e\024\ufe7e\025\ufe7e\027\ufe7e\030\ufe7e\075\ufe7e\076" +
+    "\ufe7e\077\ufe7e\100\ufe7e\103\ufe7e\104\ufe7e\105\ufe7e\106\ufe7e" +
+    "\107\ufe7e\110\ufe7e\111\ufe7e\112\ufe7e\113\ufe7e\114\ufe7e\115" +
+    "\ufe7e\116\ufe7e\117\ufe7e\120\ufe7e\121\ufe7e\122\ufe7e\123\ufe7e" +
+    "\124\ufe7e\125\ufe7e\126\ufe7e\127\ufe7e\130\ufe7e\131\ufe7e\132" +
+    "\ufe7e\133\ufe7e\134\ufe7e\135\ufe7e\136\ufe7e\137\ufe7e\001\002" +
+    "\000\004\027\u03f7\001\002\000\142\014\uffba\015\uffba\016" +
+    "\uffba\017\uffba\020\uffba\021\uffba\022\uffba\023\uffba\024\uffba" +
+    "\025\uffba\026\uffba\027\uffba\030\uffba\047\uffba\075\uffba\076" +
+    "\uffba\077\uffba\100\uffba\103\uffba\104\uffba\105\uffba\106\uffba" +
+    "\107\uffba\110\uffba\111\uffba\112\uffba\113\uffba\114\uffba\115" +
+    "\uffba\116\uffba\117\uffba\120\uffba\121\uffba\122\uffba\123\uffba" +
+    "\124\uffba\125\uffba\126\uffba\127\uffba\130\uffba\131\uffba\132" +
+    "\uffba\133\uffba\134\uffba\135\uffba\136\uffba\137\uffba\153\uffba" +
+    "\001\002\000\014\014\ufff6\016\ufff6\017\ufff6\027\ufff6\153" +
+    "\ufff6\001\002\000\070\015\ufe36\020\ufe36\021\ufe36\022\ufe36" +
+    "\024\ufe36\027\ufe36\030\ufe36\077\ufe36\100\ufe36\103\ufe36\104" +
+    "\ufe36\105\ufe36\106\ufe36\107\ufe36\110\ufe36\111\ufe36\112\ufe36" +
+    "\113\ufe36\114\ufe36\115\ufe36\116\ufe36\117\ufe36\120\ufe36\121" +
+    "\ufe36\122\ufe36\123\ufe36\124\ufe36\001\002\000\066\004\130" +
+    "\005\143\006\067\007\103\010\162\011\071\012\155\013" +
+    "\075\016\175\026\100\050\140\052\125\053\134\074\135" +
+    "\075\066\076\132\077\123\100\104\101\120\102\112\141" +
+    "\171\142\151\143\107\144\111\145\070\146\124\001\002" +
+    "\000\124\015\ufe49\020\ufe49\021\ufe49\022\ufe49\024\ufe49\025" +
+    "\ufe49\027\ufe49\030\ufe49\075\ufe49\076\ufe49\077\ufe49\100\ufe49" +
+    "\103\ufe49\104\ufe49\105\ufe49\106\ufe49\107\ufe49\110\ufe49\111" +
+    "\ufe49\112\ufe49\113\ufe49\114\ufe49\115\ufe49\116\ufe49\117\ufe49" +
+    "\120\ufe49\121\ufe49\122\ufe49\123\ufe49\124\ufe49\125\ufe49\126" +
+    "\ufe49\127\ufe49\130\ufe49\131\ufe49\132\ufe49\133\ufe49\134\ufe49" +
+    "\135\ufe49\136\ufe49\137\ufe49\001\002\000\004\017\u0326\001" +
+    "\002\000\026\004\130\005\143\006\067\007\103\010\162" +
+    "\011\071\012\155\013\075\016\175\110\u011e\001\002\000" +
+    "\012\020\uff72\022\uff72\024\uff72\027\uff72\001\002\000\074" +
+    "\015\ufe3f\020\ufe3f\021\ufe3f\022\ufe3f\024\ufe3f\027\ufe3f\030" +
+    "\ufe3f\075\235\076\251\077\ufe3f\100\ufe3f\103\ufe3f\104\ufe3f" +
+    "\105\ufe3f\106\ufe3f\107\ufe3f\110\ufe3f\111\ufe3f\112\ufe3f\113" +
+    "\ufe3f\114\ufe3f\115\ufe3f\116\ufe3f\117\ufe3f\120\ufe3f\121\ufe3f" +
+    "\122\ufe3f\123\ufe3f\124\ufe3f\001\002\000\004\017\u011c\001" +
+    "\002\000\006\014\265\017\u0118\001\002\000\070\015\ufe42" +
+    "\020\ufe42\021\ufe42\022\ufe42\024\ufe42\027\ufe42\030\ufe42\077" +
+    "\ufe42\100\ufe42\103\ufe42\104\ufe42\105\ufe42\106\ufe42\107\ufe42" +
+    "\110\ufe42\111\ufe42\112\ufe42\113\ufe42\114\ufe42\115\ufe42\116" +
+    "\ufe42\117\ufe42\120\ufe42\121\ufe42\122\ufe42\123\ufe42\124\ufe42" +
+    "\001\002\000\014\014\ufff3\016\ufff3\017\ufff3\027\ufff3\153" +
+    "\ufff3\001\002\000\056\015\ufe2b\020\ufe2b\022\ufe2b\024\ufe2b" +
+    "\027\ufe2b\030\ufe2b\105\203\106\205\107\204\110\ufe2b\111" +
+    "\ufe2b\112\ufe2b\113\ufe2b\114\ufe2b\115\ufe2b\116\ufe2b\117\ufe2b" +
+    "\120\ufe2b\121\ufe2b\122\ufe2b\123\ufe2b\124\ufe2b\001\002\000" +
+    "\130\014\ufe7b\015\ufe7b\017\ufe7b\020\ufe7b\021\ufe7b\022\ufe7b" +
+    "\024\ufe7b\025\ufe7b\027\ufe7b\030\ufe7b\075\ufe7b\076\ufe7b\077" +
+    "\ufe7b\100\ufe7b\103\ufe7b\104\ufe7b\105\ufe7b\106\ufe7b\107\ufe7b" +
+    "\110\ufe7b\111\ufe7b\112\ufe7b\113\ufe7b\114\ufe7b\115\ufe7b\116" +
+    "\ufe7b\117\ufe7b\120\ufe7b\121\ufe7b\122\ufe7b\123\ufe7b\124\ufe7b" +
+    "\125\ufe7b\126\ufe7b\127\ufe7b\130\ufe7b\131\ufe7b\132\ufe7b\133" +
+    "\ufe7b\134\ufe7b\135\ufe7b\136\ufe7b\137\ufe7b\001\002\000\022" +
+    "\015\ufe17\020\ufe17\022\ufe17\024\ufe17\027\ufe17\030\ufe17\123" +
+    "\u010f\124\u0110\001\002\000\032\015\ufe1f\020\ufe1f\022\ufe1f" +
+    "\024\ufe1f\027\ufe1f\030\ufe1f\117\u0100\120\ufe1f\121\ufe1f\122" +
+    "\ufe1f\123\ufe1f\124\ufe1f\001\002\000\074\004\130\005\143" +
+    "\006\067\007\103\010\162\011\071\012\155\013\075\016" +
+    "\175\023\150\024\uff70\026\100\050\140\052\125\053\134" +
+    "\074\135\075\066\076\132\077\123\100\104\101\120\102" +
+    "\112\140\164\141\171\142\151\143\107\144\111\145\070" +
+    "\146\124\001\002\000\130\014\ufffe\015\ufffe\017\ufffe\020" +
+    "\ufffe\021\ufffe\022\ufffe\024\ufffe\025\ufffe\027\ufffe\030\ufffe" +
+    "\075\ufffe\076\ufffe\077\ufffe\100\ufffe\103\ufffe\104\ufffe\105" +
+    "\ufffe\106\ufffe\107\ufffe\110\ufffe\111\ufffe\112\ufffe\113\ufffe" +
+    "\114\ufffe\115\ufffe\116\ufffe\117\ufffe\120\ufffe\121\ufffe\122" +
+    "\ufffe\123\ufffe\124\ufffe\125\ufffe\126\ufffe\127\ufffe\130\ufffe" +
+    "\131\ufffe\132\ufffe\133\ufffe\134\ufffe\135\ufffe\136\ufffe\137" +
+    "\ufffe\001\002\000\130\014\u0106\015\ufe82\017\ufe82\020\ufe82" +
+    "\021\ufe82\022\ufe82\024\ufe82\025\ufe82\027\ufe82\030\ufe82\075" +
+    "\ufe82\076\ufe82\077\ufe82\100\ufe82\103\ufe82\104\ufe82\105\ufe82" +
+    "\106\ufe82\107\ufe82\110\ufe82\111\ufe82\112\ufe82\113\ufe82\114" +
+    "\ufe82\115\ufe82\116\ufe82\117\ufe82\120\ufe82\121\ufe82\122\ufe82" +
+    "\123\ufe82\124\ufe82\125\ufe82\126\ufe82\127\ufe82\130\ufe82\131" +
+    "\ufe82\132\ufe82\133\ufe82\134\ufe82\135\ufe82\136\ufe82\137\ufe82" +
+    "\001\002\000\026\015\ufe1b\020\ufe1b\022\ufe1b\024\ufe1b\027" +
+    "\ufe1b\030\ufe1b\121\374\122\ufe1b\123\ufe1b\124\ufe1b\001\002" +
+    "\000\130\014\ufe79\015\ufe79\017\ufe79\020\ufe79\021\ufe79\022" +
+    "\ufe79\024\ufe79\025\ufe79\027\ufe79\030\ufe79\075\ufe79\076\ufe79" +
+    "\077\ufe79\100\ufe79\103\ufe79\104\ufe79\105\ufe79\106\ufe79\107" +
+    "\ufe79\110\ufe79\111\ufe79\112\ufe79\113\ufe79\114\ufe79\115\ufe79" +
+    "\116\ufe79\117\ufe79\120\ufe79\121\ufe79\122\ufe79\123\ufe79\124" +
+    "\ufe79\125\ufe79\126\ufe79\127\ufe79\130\ufe79\131\ufe79\132\ufe79" +
+    "\133\ufe79\134\ufe79\135\ufe79\136\ufe79\137\ufe79\001\002\000" +
+    "\014\014\uffee\016\uffee\017\uffee\027\uffee\153\uffee\001\002" +
+    "\000\070\015\ufe32\020\ufe32\021\213\022\ufe32\024\ufe32\027" +
+    "\ufe32\030\ufe32\077\ufe32\100\ufe32\103\214\104\212\105\ufe32" +
+    "\106\ufe32\107\ufe32\110\ufe32\111\ufe32\112\ufe32\113\ufe32\114" +
+    "\ufe32\115\ufe32\116\ufe32\117\ufe32\120\ufe32\121\ufe32\122\ufe32" +
+    "\123\ufe32\124\ufe32\001\002\000\070\015\ufe46\020\ufe46\021" +
+    "\ufe46\022\ufe46\024\ufe46\027\ufe46\030\ufe46\077\ufe46\100\ufe46" +
+    "\103\ufe46\104\ufe46\105\ufe46\106\ufe46\107\ufe46\110\ufe46\111" +
+    "\ufe46\112\ufe46\113\ufe46\114\ufe46\115\ufe46\116\ufe46\117\ufe46" +
+    "\120\ufe46\121\ufe46\122\ufe46\123\ufe46\124\ufe46\001\002\000" +
+    "\040\015\ufe24\020\ufe24\022\ufe24\024\ufe24\027\ufe24\030\ufe24" +
+    "\114\256\115\ufe24\116\ufe24\117\ufe24\120\ufe24\121\ufe24\122" +
+    "\ufe24\123\ufe24\124\ufe24\001\002\000\006\022\uff77\027\uff77" +
+    "\001\002\000\014\014\ufff0\016\ufff0\017\ufff0\027\ufff0\153" +
+    "\ufff0\001\002\000\012\020\uff73\022\uff73\024\uff73\027\uff73" +
+    "\001\002\000\004\016\062\001\002\000\130\014\226\015" +
+    "\ufe81\017\ufe81\020\ufe81\021\ufe81\022\ufe81\024\ufe81\025\ufe81" +
+    "\027\ufe81\030\ufe81\075\ufe81\076\ufe81\077\ufe81\100\ufe81\103" +
+    "\ufe81\104\ufe81\105\ufe81\106\ufe81\107\ufe81\110\ufe81\111\ufe81" +
+    "\112\ufe81\113\ufe81\114\ufe81\115\ufe81\116\ufe81\117\ufe81\120" +
+    "\ufe81\121\ufe81\122\ufe81\123\ufe81\124\ufe81\125\ufe81\126\ufe81" +
+    "\127\ufe81\130\ufe81\131\ufe81\132\ufe81\133\ufe81\134\ufe81\135" +
+    "\ufe81\136\ufe81\137\ufe81\001\002\000\050\015\ufe26\020\ufe26" +
+    "\022\ufe26\024\ufe26\027\ufe26\030\ufe26\110\176\111\200\112" +
+    "\201\113\177\114\ufe26\115\ufe26\116\ufe26\117\ufe26\120\ufe26" +
+    "\121\ufe26\122\ufe26\123\ufe26\124\ufe26\001\002\000\142\014" +
+    "\uffbb\015\uffbb\016\uffbb\017\uffbb\020\uffbb\021\uffbb\022\uffbb" +
+    "\023\uffbb\024\uffbb\025\uffbb\026\uffbb\027\uffbb\030\uffbb\047" +
+    "\uffbb\075\uffbb\076\uffbb\077\uffbb\100\uffbb\103\uffbb\104\uffbb" +
+    "\105\uffbb\106\uffbb\107\uffbb\110\uffbb\111\uffbb\112\uffbb\113" +
+    "\uffbb\114\uffbb\115\uffbb\116\uffbb\117\uffbb\120\uffbb\121\uffbb" +
+    "\122\uffbb\123\uffbb\124\uffbb\125\uffbb\126\uffbb\127\uffbb\130" +
+    "\uffbb\131\uffbb\132\uffbb\133\uffbb\134\uffbb\135\uffbb\136\uffbb" +
+    "\137\uffbb\153\uffbb\001\002\000\130\014\ufe78\015\ufe78\017" +
+    "\ufe78\020\ufe78\021\ufe78\022\ufe78\024\ufe78\025\ufe78\027\ufe78" +
+    "\030\ufe78\075\ufe78\076\ufe78\077\ufe78\100\ufe78\103\ufe78\104" +
+    "\ufe78\105\ufe78\106\ufe78\107\ufe78\110\ufe78\111\ufe78\112\ufe78" +
+    "\113\ufe78\114\ufe78\115\ufe78\116\ufe78\117\ufe78\120\ufe78\121" +
+    "\ufe78\122\ufe78\123\ufe78\124\ufe78\125\ufe78\126\ufe78\127\ufe78" +
+    "\130\ufe78\131\ufe78\132\ufe78\133\ufe78\134\ufe78\135\ufe78\136" +
+    "\ufe78\137\ufe78\001\002\000\130\014\uffff\015\uffff\017\uffff" +
+    "\020\uffff\021\uffff\022\uffff\024\uffff\025\uffff\027\uffff\030" +
+    "\uffff\075\uffff\076\uffff\077\uffff\100\uffff\103\uffff\104\uffff" +
+    "\105\uffff\106\uffff\107\uffff\110\uffff\111\uffff\112\uffff\113" +
+    "\uffff\114\uffff\115\uffff\116\uffff\117\uffff\120\uffff\121\uffff" +
+    "\122\uffff\123\uffff\124\uffff\125\uffff\126\uffff\127\uffff\130" +
+    "\uffff\131\uffff\132\uffff\133\uffff\134\uffff\135\uffff\136\uffff" +
+    "\137\uffff\001\002\000\072\014\uffb9\017\uffb9\021\uffb9\025" +
+    "\173\026\uffb9\027\uffb9\075\uffb9\076\uffb9\077\uffb9\100\uffb9" +
+    "\103\uffb9\104\uffb9\105\uffb9\106\uffb9\107\uffb9\110\uffb9\111" +
+    "\uffb9\112\uffb9\113\uffb9\114\uffb9\115\uffb9\116\uffb9\117\uffb9" +
+    "\120\uffb9\121\uffb9\122\uffb9\123\uffb9\124\uffb9\001\002\000" +
+    "\072\004\130\005\143\006\067\007\103\010\162\011\071" +
+    "\012\155\013\075\016\175\023\150\026\100\050\140\052" +
+    "\125\053\134\074\135\075\066\076\132\077\123\100\104" +
+    "\101\120\102\112\140\164\141\171\142\151\143\107\144" +
+    "\111\145\070\146\124\001\002\000\006\022\uff75\027\uff75" +
+    "\001\002\000\142\014\uffb9\015\uffb9\016\uffb9\017\uffb9\020" +
+    "\uffb9\021\uffb9\022\uffb9\023\uffb9\024\uffb9\025\uffb9\026\uffb9" +
+    "\027\uffb9\030\uffb9\047\uffb9\075\uffb9\076\uffb9\077\uffb9\100" +
+    "\uffb9\103\uffb9\104\uffb9\105\uffb9\106\uffb9\107\uffb9\110\uffb9" +
+    "\111\uffb9\112\uffb9\113\uffb9\114\uffb9\115\uffb9\116\uffb9\117" +
+    "\uffb9\120\uffb9\121\uffb9\122\uffb9\123\uffb9\124\uffb9\125\uffb9" +
+    "\126\uffb9\127\uffb9\130\uffb9\131\uffb9\132\uffb9\133\uffb9\134" +
+    "\uffb9\135\uffb9\136\uffb9\137\uffb9\153\uffb9\001\002\000\066" +
+    "\004\130\005\143\006\067\007\103\010\162\011\071\012" +
+    "\155\013\075\016\175\026\100\050\140\052\125\053\134" +
+    "\074\135\075\066\076\132\077\123\100\104\101\120\102" +
+    "\112\141\171\142\151\143\107\144\111\145\070\146\124" +
+    "\001\002\000\066\004\130\005\143\006\067\007\103\010" +
+    "\162\011\071\012\155\013\075\016\175\026\100\050\140" +
+    "\052\125\053\134\074\135\075\066\076\132\077\123\100" +
+    "\104\101\120\102\112\141\171\142\151\143\107\144\111" +
+    "\145\070\146\124\001\002\000\066\004\130\005\143\006" +
+    "\067\007\103\010\162\011\071\012\155\013\075\016\175" +
+    "\026\100\050\140\052\125\053\134\074\135\075\066\076" +
+    "\132\077\123\100\104\101\120\102\112\141\171\142\151" +
+    "\143\107\144\111\145\070\146\124\001\002\000\066\004" +
+    "\130\005\143\006\067\007\103\010\162\011\071\012\155" +
+    "\013\075\016\175\026\100\050\140\052\125\053\134\074" +
+    "\135\075\066\076\132\077\123\100\104\101\120\102\112" +
+    "\141\171\142\151\143\107\144\111\145\070\146\124\001" +
+    "\002\000\056\015\ufe28\020\ufe28\022\ufe28\024\ufe28\027\ufe28" +
+    "\030\ufe28\105\203\106\205\107\204\110\ufe28\111\ufe28\112" +
+    "\ufe28\113\ufe28\114\ufe28\115\ufe28\116\ufe28\117\ufe28\120\ufe28" +
+    "\121\ufe28\122\ufe28\123\ufe28\124\ufe28\001\002\000\066\004" +
+    "\130\005\143\006\067\007\103\010\162\011\071\012\155" +
+    "\013\075\016\175\026\100\050\140\052\125\053\134\074" +
+    "\135\075\066\076\132\077\123\100\104\101\120\102\112" +
+    "\141\171\142\151\143\107\144\111\145\070\146\124\001" +
+    "\002\000\066\004\130\005\143\006\067\007\103\010\162" +
+    "\011\071\012\155\013\075\016\175\026\100\050\140\052" +
+    "\125\053\134\074\135\075\066\076\132\077\123\100\104" +
+    "\101\120\102\112\141\171\142\151\143\107\144\111\145" +
+    "\070\146\124\001\002\000\066\004\130\005\143\006\067" +
+    "\007\103\010\162\011\071\012\155\013\075\016\175\026" +
+    "\100\050\140\052\125\053\134\074\135\075\066\076\132" +
+    "\077\123\100\104\101\120\102\112\141\171\142\151\143" +
+    "\107\144\111\145\070\146\124\001\002\000\062\015\ufe2d" +
+    "\020\ufe2d\022\ufe2d\024\ufe2d\027\ufe2d\030\ufe2d\077\207\100" +
+    "\210\105\ufe2d\106\ufe2d\107\ufe2d\110\ufe2d\111\ufe2d\112\ufe2d" +
+    "\113\ufe2d\114\ufe2d\115\ufe2d\116\ufe2d\117\ufe2d\120\ufe2d\121" +
+    "\ufe2d\122\ufe2d\123\ufe2d\124\ufe2d\001\002\000\066\004\130" +
+    "\005\143\006\067\007\103\010\162\011\071\012\155\013" +
+    "\075\016\175\026\100\050\140\052\125\053\134\074\135" +
+    "\075\066\076\132\077\123\100\104\101\120\102\112\141" +
+    "\171\142\151\143\107\144\111\145\070\146\124\001\002" +
+    "\000\066\004\130\005\143\006\067\007\103\010\162\011" +
+    "\071\012\155\013\075\016\175\026\100\050\140\052\125" +
+    "\053\134\074\135\075\066\076\132\077\123\100\104\101" +
+    "\120\102\112\141\171\142\151\143\107\144\111\145\070" +
+    "\146\124\001\002\000\070\015\ufe30\020\ufe30\021\213\022" +
+    "\ufe30\024\ufe30\027\ufe30\030\ufe30\077\ufe30\100\ufe30\103\214" +
+    "\104\212\105\ufe30\106\ufe30\107\ufe30\110\ufe30\111\ufe30\112" +
+    "\ufe30\113\ufe30\114\ufe30\115\ufe30\116\ufe30\117\ufe30\120\ufe30" +
+    "\121\ufe30\122\ufe30\123\ufe30\124\ufe30\001\002\000\066\004" +
+    "\130\005\143\006\067\007\103\010\162\011\071\012\155" +
+    "\013\075\016\175\026\100\050\140\052\125\053\134\074" +
+    "\135\075\066\076\132\077\123\100\104\101\120\102\112" +
+    "\141\171\142\151\143\107\144\111\145\070\146\124\001" +
+    "\002\000\066\004\130\005\143\006\067\007\103\010\162" +
+    "\011\071\012\155\013\075\016\175\026\100\050\140\052" +
+    "\125\053\134\074\135\075\066\076\132\077\123\100\104" +
+    "\101\120\102\112\141\171\142\151\143\107\144\111\145" +
+    "\070\146\124\001\002\000\066\004\130\005\143\006\067" +
+    "\007\103\010\162\011\071\012\155\013\075\016\175\026" +
+    "\100\050\140\052\125\053\134\074\135\075\066\076\132" +
+    "\077\123\100\104\101\120\102\112\141\171\142\151\143" +
+    "\107\144\111\145\070\146\124\001\002\000\070\015\ufe34" +
+    "\020\ufe34\021\ufe34\022\ufe34\024\ufe34\027\ufe34\030\ufe34\077" +
+    "\ufe34\100\ufe34\103\ufe34\104\ufe34\105\ufe34\106\ufe34\107\ufe34" +
+    "\110\ufe34\111\ufe34\112\ufe34\113\ufe34\114\ufe34\115\ufe34\116" +
+    "\ufe34\117\ufe34\120\ufe34\121\ufe34\122\ufe34\123\ufe34\124\ufe34" +
+    "\001\002\000\070\015\ufe35\020\ufe35\021\ufe35\022\ufe35\024" +
+    "\ufe35\027\ufe35\030\ufe35\077\ufe35\100\ufe35\103\ufe35\104\ufe35" +
+    "\105\ufe35\106\ufe35\107\ufe35\110\ufe35\111\ufe35\112\ufe35\113" +
+    "\ufe35\114\ufe35\115\ufe35\116\ufe35\117\ufe35\120\ufe35\121\ufe35" +
+    "\122\ufe35\123\ufe35\124\ufe35\001\002\000\070\015\ufe33\020" +
+    "\ufe33\021\ufe33\022\ufe33\024\ufe33\027\ufe33\030\ufe33\077\ufe33" +
+    "\100\ufe33\103\ufe33\104\ufe33\105\ufe33\106\ufe33\107\ufe33\110" +
+    "\ufe33\111\ufe33\112\ufe33\113\ufe33\114\ufe33\115\ufe33\116\ufe33" +
+    "\117\ufe33\120\ufe33\121\ufe33\122\ufe33\123\ufe33\124\ufe33\001" +
+    "\002\000\070\015\ufe31\020\ufe31\021\213\022\ufe31\024\ufe31" +
+    "\027\ufe31\030\ufe31\077\ufe31\100\ufe31\103\214\104\212\105" +
+    "\ufe31\106\ufe31\107\ufe31\110\ufe31\111\ufe31\112\ufe31\113\ufe31" +
+    "\114\ufe31\115\ufe31\116\ufe31\117\ufe31\120\ufe31\121\ufe31\122" +
+    "\ufe31\123\ufe31\124\ufe31\001\002\000\062\015\ufe2c\020\ufe2c" +
+    "\022\ufe2c\024\ufe2c\027\ufe2c\030\ufe2c\077\207\100\210\105" +
+    "\ufe2c\106\ufe2c\107\ufe2c\110\ufe2c\111\ufe2c\112\ufe2c\113\ufe2c" +
+    "\114\ufe2c\115\ufe2c\116\ufe2c\117\ufe2c\120\ufe2c\121\ufe2c\122" +
+    "\ufe2c\123\ufe2c\124\ufe2c\001\002\000\062\015\ufe2e\020\ufe2e" +
+    "\022\ufe2e\024\ufe2e\027\ufe2e\030\ufe2e\077\207\100\210\105" +
+    "\ufe2e\106\ufe2e\107\ufe2e\110\ufe2e\111\ufe2e\112\ufe2e\113\ufe2e" +
+    "\114\ufe2e\115\ufe2e\116\ufe2e\117\ufe2e\120\ufe2e\121\ufe2e\122" +
+    "\ufe2e\123\ufe2e\124\ufe2e\001\002\000\056\015\ufe29\020\ufe29" +
+    "\022\ufe29\024\ufe29\027\ufe29\030\ufe29\105\203\106\205\107" +
+    "\204\110\ufe29\111\ufe29\112\ufe29\113\ufe29\114\ufe29\115\ufe29" +
+    "\116\ufe29\117\ufe29\120\ufe29\121\ufe29\122\ufe29\123\ufe29\124" +
+    "\ufe29\001\002\000\056\015\ufe27\020\ufe27\022\ufe27\024\ufe27" +
+    "\027\ufe27\030\ufe27\105\203\106\205\107\204\110\ufe27\111" +
+    "\ufe27\112\ufe27\113\ufe27\114\ufe27\115\ufe27\116\ufe27\117\ufe27" +
+    "\120\ufe27\121\ufe27\122\ufe27\123\ufe27\124\ufe27\001\002\000" +
+    "\056\015\ufe2a\020\ufe2a\022\ufe2a\024\ufe2a\027\ufe2a\030\ufe2a" +
+    "\105\203\106\205\107\204\110\ufe2a\111\ufe2a\112\ufe2a\113" +
+    "\ufe2a\114\ufe2a\115\ufe2a\116\ufe2a\117\ufe2a\120\ufe2a\121\ufe2a" +
+    "\122\ufe2a\123\ufe2a\124\ufe2a\001\002\000\066\004\130\005" +
+    "\143\006\067\007\103\010\162\011\071\012\155\013\075" +
+    "\016\175\026\100\050\140\052\125\053\134\074\135\075" +
+    "\066\076\132\077\123\100\104\101\120\102\112\141\171" +
+    "\142\151\143\107\144\111\145\070\146\124\001\002\000" +
+    "\016\015\ufe14\020\ufe14\022\ufe14\024\ufe14\027\ufe14\030\ufe14" +
+    "\001\002\000\004\015\254\001\002\000\016\015\ufe15\020" +
+    "\ufe15\022\ufe15\024\ufe15\027\ufe15\030\ufe15\001\002\000\124" +
+    "\015\ufe3f\020\ufe3f\021\ufe3f\022\ufe3f\024\ufe3f\025\245\027" +
+    "\ufe3f\030\ufe3f\075\235\076\251\077\ufe3f\100\ufe3f\103\ufe3f" +
+    "\104\ufe3f\105\ufe3f\106\ufe3f\107\ufe3f\110\ufe3f\111\ufe3f\112" +
+    "\ufe3f\113\ufe3f\114\ufe3f\115\ufe3f\116\ufe3f\117\ufe3f\120\ufe3f" +
+    "\121\ufe3f\122\ufe3f\123\ufe3f\124\ufe3f\125\236\126\237\127" +
+    "\252\130\242\131\246\132\244\133\243\134\241\135\240" +
+    "\136\234\137\250\001\002\000\016\015\ufe04\020\ufe04\022" +
+    "\ufe04\024\ufe04\027\ufe04\030\ufe04\001\002\000\066\004\ufe08" +
+    "\005\ufe08\006\ufe08\007\ufe08\010\ufe08\011\ufe08\012\ufe08\013" +
+    "\ufe08\016\ufe08\026\ufe08\050\ufe08\052\ufe08\053\ufe08\074\ufe08" +
+    "\075\ufe08\076\ufe08\077\ufe08\100\ufe08\101\ufe08\102\ufe08\141" +
+    "\ufe08\142\ufe08\143\ufe08\144\ufe08\145\ufe08\146\ufe08\001\002" +
+    "\000\124\015\ufe48\020\ufe48\021\ufe48\022\ufe48\024\ufe48\025" +
+    "\ufe48\027\ufe48\030\ufe48\075\ufe48\076\ufe48\077\ufe48\100\ufe48" +
+    "\103\ufe48\104\ufe48\105\ufe48\106\ufe48\107\ufe48\110\ufe48\111" +
+    "\ufe48\112\ufe48\113\ufe48\114\ufe48\115\ufe48\116\ufe48\117\ufe48" +
+    "\120\ufe48\121\ufe48\122\ufe48\123\ufe48\124\ufe48\125\ufe48\126" +
+    "\ufe48\127\ufe48\130\ufe48\131\ufe48\132\ufe48\133\ufe48\134\ufe48" +
+    "\135\ufe48\136\ufe48\137\ufe48\001\002\000\066\004\ufe11\005" +
+    "\ufe11\006\ufe11\007\ufe11\010\ufe11\011\ufe11\012\ufe11\013\ufe11" +
+    "\016\ufe11\026\ufe11\050\ufe11\052\ufe11\053\ufe11\074\ufe11\075" +
+    "\ufe11\076\ufe11\077\ufe11\100\ufe11\101\ufe11\102\ufe11\141\ufe11" +
+    "\142\ufe11\143\ufe11\144\ufe11\145\ufe11\146\ufe11\001\002\000" +
+    "\066\004\ufe10\005\ufe10\006\ufe10\007\ufe10\010\ufe10\011\ufe10" +
+    "\012\ufe10\013\ufe10\016\ufe10\026\ufe10\050\ufe10\052\ufe10\053" +
+    "\ufe10\074\ufe10\075\ufe10\076\ufe10\077\ufe10\100\ufe10\101\ufe10" +
+    "\102\ufe10\141\ufe10\142\ufe10\143\ufe10\144\ufe10\145\ufe10\146" +
+    "\ufe10\001\002\000\066\004\ufe09\005\ufe09\006\ufe09\007\ufe09" +
+    "\010\ufe09\011\ufe09\012\ufe09\013\ufe09\016\ufe09\026\ufe09\050" +
+    "\ufe09\052\ufe09\053\ufe09\074\ufe09\075\ufe09\076\ufe09\077\ufe09" +
+    "\100\ufe09\101\ufe09\102\ufe09\141\ufe09\142\ufe09\143\ufe09\144" +
+    "\ufe09\145\ufe09\146\ufe09\001\002\000\066\004\ufe0a\005\ufe0a" +
+    "\006\ufe0a\007\ufe0a\010\ufe0a\011\ufe0a\012\ufe0a\013\ufe0a\016" +
+    "\ufe0a\026\ufe0a\050\ufe0a\052\ufe0a\053\ufe0a\074\ufe0a\075\ufe0a" +
+    "\076\ufe0a\077\ufe0a\100\ufe0a\101\ufe0a\102\ufe0a\141\ufe0a\142" +
+    "\ufe0a\143\ufe0a\144\ufe0a\145\ufe0a\146\ufe0a\001\002\000\066" +
+    "\004\ufe0e\005\ufe0e\006\ufe0e\007\ufe0e\010\ufe0e\011\ufe0e\012" +
+    "\ufe0e\013\ufe0e\016\ufe0e\026\ufe0e\050\ufe0e\052\ufe0e\053\ufe0e" +
+    "\074\ufe0e\075\ufe0e\076\ufe0e\077\ufe0e\100\ufe0e\101\ufe0e\102" +
+    "\ufe0e\141\ufe0e\142\ufe0e\143\ufe0e\144\ufe0e\145\ufe0e\146\ufe0e" +
+    "\001\002\000\066\004\ufe0b\005\ufe0b\006\ufe0b\007\ufe0b\010" +
+    "\ufe0b\011\ufe0b\012\ufe0b\013\ufe0b\016\ufe0b\026\ufe0b\050\ufe0b" +
+    "\052\ufe0b\053\ufe0b\074\ufe0b\075\ufe0b\076\ufe0b\077\ufe0b\100" +
+    "\ufe0b\101\ufe0b\102\ufe0b\141\ufe0b\142\ufe0b\143\ufe0b\144\ufe0b" +
+    "\145\ufe0b\146\ufe0b\001\002\000\066\004\ufe0c\005\ufe0c\006" +
+    "\ufe0c\007\ufe0c\010\ufe0c\011\ufe0c\012\ufe0c\013\ufe0c\016\ufe0c" +
+    "\026\ufe0c\050\ufe0c\052\ufe0c\053\ufe0c\074\ufe0c\075\ufe0c\076" +
+    "\ufe0c\077\ufe0c\100\ufe0c\101\ufe0c\102\ufe0c\141\ufe0c\142\ufe0c" +
+    "\143\ufe0c\144\ufe0c\145\ufe0c\146\ufe0c\001\002\000\066\004" +
+    "\ufe12\005\ufe12\006\ufe12\007\ufe12\010\ufe12\011\ufe12\012\ufe12" +
+    "\013\ufe12\016\ufe12\026\ufe12\050\ufe12\052\ufe12\053\ufe12\074" +
+    "\ufe12\075\ufe12\076\ufe12\077\ufe12\100\ufe12\101\ufe12\102\ufe12" +
+    "\141\ufe12\142\ufe12\143\ufe12\144\ufe12\145\ufe12\146\ufe12\001" +
+    "\002\000\066\004\ufe0d\005\ufe0d\006\ufe0d\007\ufe0d\010\ufe0d" +
+    "\011\ufe0d\012\ufe0d\013\ufe0d\016\ufe0d\026\ufe0d\050\ufe0d\052" +
+    "\ufe0d\053\ufe0d\074\ufe0d\075\ufe0d\076\ufe0d\077\ufe0d\100\ufe0d" +
+    "\101\ufe0d\102\ufe0d\141\ufe0d\142\ufe0d\143\ufe0d\144\ufe0d\145" +
+    "\ufe0d\146\ufe0d\001\002\000\066\004\130\005\143\006\067" +
+    "\007\103\010\162\011\071\012\155\013\075\016\175\026" +
+    "\100\050\140\052\125\053\134\074\135\075\066\076\132" +
+    "\077\123\100\104\101\120\102\112\141\171\142\151\143" +
+    "\107\144\111\145\070\146\124\001\002\000\066\004\ufe07" +
+    "\005\ufe07\006\ufe07\007\ufe07\010\ufe07\011\ufe07\012\ufe07\013" +
+    "\ufe07\016\ufe07\026\ufe07\050\ufe07\052\ufe07\053\ufe07\074\ufe07" +
+    "\075\ufe07\076\ufe07\077\ufe07\100\ufe07\101\ufe07\102\ufe07\141" +
+    "\ufe07\142\ufe07\143\ufe07\144\ufe07\145\ufe07\146\ufe07\001\002" +
+    "\000\124\015\ufe47\020\ufe47\021\ufe47\022\ufe47\024\ufe47\025" +
+    "\ufe47\027\ufe47\030\ufe47\075\ufe47\076\ufe47\077\ufe47\100\ufe47" +
+    "\103\ufe47\104\ufe47\105\ufe47\106\ufe47\107\ufe47\110\ufe47\111" +
+    "\ufe47\112\ufe47\113\ufe47\114\ufe47\115\ufe47\116\ufe47\117\ufe47" +
+    "\120\ufe47\121\ufe47\122\ufe47\123\ufe47\124\ufe47\125\ufe47\126" +
+    "\ufe47\127\ufe47\130\ufe47\131\ufe47\132\ufe47\133\ufe47\134\ufe47" +
+    "\135\ufe47\136\ufe47\137\ufe47\001\002\000\066\004\ufe0f\005" +
+    "\ufe0f\006\ufe0f\007\ufe0f\010\ufe0f\011\ufe0f\012\ufe0f\013\ufe0f" +
+    "\016\ufe0f\026\ufe0f\050\ufe0f\052\ufe0f\053\ufe0f\074\ufe0f\075" +
+    "\ufe0f\076\ufe0f\077\ufe0f\100\ufe0f\101\ufe0f\102\ufe0f\141\ufe0f" +
+    "\142\ufe0f\143\ufe0f\144\ufe0f\145\ufe0f\146\ufe0f\001\002\000" +
+    "\016\015\ufe13\020\ufe13\022\ufe13\024\ufe13\027\ufe13\030\ufe13" +
+    "\001\002\000\130\014\ufe4d\015\ufe4d\017\ufe4d\020\ufe4d\021" +
+    "\ufe4d\022\ufe4d\024\ufe4d\025\ufe4d\027\ufe4d\030\ufe4d\075\ufe4d" +
+    "\076\ufe4d\077\ufe4d\100\ufe4d\103\ufe4d\104\ufe4d\105\ufe4d\106" +
+    "\ufe4d\107\ufe4d\110\ufe4d\111\ufe4d\112\ufe4d\113\ufe4d\114\ufe4d" +
+    "\115\ufe4d\116\ufe4d\117\ufe4d\120\ufe4d\121\ufe4d\122\ufe4d\123" +
+    "\ufe4d\124\ufe4d\125\ufe4d\126\ufe4d\127\ufe4d\130\ufe4d\131\ufe4d" +
+    "\132\ufe4d\133\ufe4d\134\ufe4d\135\ufe4d\136\ufe4d\137\ufe4d\001" +
+    "\002\000\040\004\uff80\005\uff80\006\uff80\007\uff80\010\uff80" +
+    "\011\uff80\012\uff80\013\uff80\016\uff80\020\uff80\022\uff80\024" +
+    "\uff80\027\uff80\040\uff80\140\uff80\001\002\000\024\004\130" +
+    "\005\143\006\067\007\103\010\162\011\071\012\155\013" +
+    "\075\016\175\001\002\000\046\015\uffe7\016\uffe7\020\uffe7" +
+    "\022\uffe7\024\uffe7\027\uffe7\030\uffe7\110\275\114\uffe7\115" +
+    "\uffe7\116\uffe7\117\uffe7\120\uffe7\121\uffe7\122\uffe7\123\uffe7" +
+    "\124\uffe7\153\uffe7\001\002\000\052\015\uffec\016\uffec\020" +
+    "\uffec\022\uffec\024\uffec\027\uffec\030\uffec\106\uffec\107\uffec" +
+    "\111\uffec\114\uffec\115\uffec\116\uffec\117\uffec\120\uffec\121" +
+    "\uffec\122\uffec\123\uffec\124\uffec\153\uffec\001\002\000\040" +
+    "\015\ufe25\020\ufe25\022\ufe25\024\ufe25\027\ufe25\030\ufe25\114" +
+    "\ufe25\115\ufe25\116\ufe25\117\ufe25\120\ufe25\121\ufe25\122\ufe25" +
+    "\123\ufe25\124\ufe25\001\002\000\004\014\265\001\002\000" +
+    "\052\015\uffeb\016\uffeb\020\uffeb\022\uffeb\024\uffeb\027\uffeb" +
+    "\030\uffeb\106\uffeb\107\uffeb\111\uffeb\114\uffeb\115\uffeb\116" +
+    "\uffeb\117\uffeb\120\uffeb\121\uffeb\122\uffeb\123\uffeb\124\uffeb" +
+    "\153\uffeb\001\002\000\060\014\265\015\uffe9\016\uffe9\017" +
+    "\267\020\uffe9\022\uffe9\024\uffe9\027\uffe9\030\uffe9\106\uffe9" +
+    "\107\uffe9\110\uffe9\111\uffe9\114\uffe9\115\uffe9\116\uffe9\117" +
+    "\uffe9\120\uffe9\121\uffe9\122\uffe9\123\uffe9\124\uffe9\153\uffe9" +
+    "\001\002\000\004\015\273\001\002\000\054\014\271\015" +
+    "\uffe2\016\uffe2\020\uffe2\022\uffe2\024\uffe2\027\uffe2\030\uffe2" +
+    "\106\uffe2\107\uffe2\111\uffe2\114\uffe2\115\uffe2\116\uffe2\117" +
+    "\uffe2\120\uffe2\121\uffe2\122\uffe2\123\uffe2\124\uffe2\153\uffe2" +
+    "\001\002\000\004\016\270\001\002\000\142\014\uffb8\015" +
+    "\uffb8\016\uffb8\017\uffb8\020\uffb8\021\uffb8\022\uffb8\023\uffb8" +
+    "\024\uffb8\025\uffb8\026\uffb8\027\uffb8\030\uffb8\047\uffb8\075" +
+    "\uffb8\076\uffb8\077\uffb8\100\uffb8\103\uffb8\104\uffb8\105\uffb8" +
+    "\106\uffb8\107\uffb8\110\uffb8\111\uffb8\112\uffb8\113\uffb8\114" +
+    "\uffb8\115\uffb8\116\uffb8\117\uffb8\120\uffb8\121\uffb8\122\uffb8" +
+    "\123\uffb8\124\uffb8\125\uffb8\126\uffb8\127\uffb8\130\uffb8\131" +
+    "\uffb8\132\uffb8\133\uffb8\134\uffb8\135\uffb8\136\uffb8\137\uffb8" +
+    "\153\uffb8\001\002\000\004\015\272\001\002\000\136\014" +
+    "\ufe5b\015\ufe5b\016\ufe5b\017\ufe5b\020\ufe5b\021\ufe5b\022\ufe5b" +
+    "\023\ufe5b\024\ufe5b\025\ufe5b\027\ufe5b\030\ufe5b\075\ufe5b\076" +
+    "\ufe5b\077\ufe5b\100\ufe5b\103\ufe5b\104\ufe5b\105\ufe5b\106\ufe5b" +
+    "\107\ufe5b\110\ufe5b\111\ufe5b\112\ufe5b\113\ufe5b\114\ufe5b\115" +
+    "\ufe5b\116\ufe5b\117\ufe5b\120\ufe5b\121\ufe5b\122\ufe5b\123\ufe5b" +
+    "\124\ufe5b\125\ufe5b\126\ufe5b\127\ufe5b\130\ufe5b\131\ufe5b\132" +
+    "\ufe5b\133\ufe5b\134\ufe5b\135\ufe5b\136\ufe5b\137\ufe5b\153\ufe5b" +
+    "\001\002\000\136\014\ufe5c\015\ufe5c\016\ufe5c\017\ufe5c\020" +
+    "\ufe5c\021\ufe5c\022\ufe5c\023\ufe5c\024\ufe5c\025\ufe5c\027\ufe5c" +
+    "\030\ufe5c\075\ufe5c\076\ufe5c\077\ufe5c\100\ufe5c\103\ufe5c\104" +
+    "\ufe5c\105\ufe5c\106\ufe5c\107\ufe5c\110\ufe5c\111\ufe5c\112\ufe5c" +
+    "\113\ufe5c\114\ufe5c\115\ufe5c\116\ufe5c\117\ufe5c\120\ufe5c\121" +
+    "\ufe5c\122\ufe5c\123\ufe5c\124\ufe5c\125\ufe5c\126\ufe5c\127\ufe5c" +
+    "\130\ufe5c\131\ufe5c\132\ufe5c\133\ufe5c\134\ufe5c\135\ufe5c\136" +
+    "\ufe5c\137\ufe5c\153\ufe5c\001\002\000\054\014\271\015\uffe3" +
+    "\016\uffe3\020\uffe3\022\uffe3\024\uffe3\027\uffe3\030\uffe3\106" +
+    "\uffe3\107\uffe3\111\uffe3\114\uffe3\115\uffe3\116\uffe3\117\uffe3" +
+    "\120\uffe3\121\uffe3\122\uffe3\123\uffe3\124\uffe3\153\uffe3\001" +
+    "\002\000\026\004\130\005\143\006\067\007\103\010\162" +
+    "\011\071\012\155\013\075\016\175\124\277\001\002\000" +
+    "\070\014\uffc9\015\uffc9\016\uffc9\017\uffc9\020\uffc9\022\uffc9" +
+    "\023\uffc9\024\uffc9\026\uffc9\027\uffc9\030\uffc9\047\uffc9\052" +
+    "\uffc9\053\uffc9\106\uffc9\107\uffc9\111\uffc9\114\uffc9\115\uffc9" +
+    "\116\uffc9\117\uffc9\120\uffc9\121\uffc9\122\uffc9\123\uffc9\124" +
+    "\uffc9\153\uffc9\001\002\000\012\022\uffdc\046\371\053\370" +
+    "\111\346\001\002\000\004\022\uffc2\001\002\000\012\022" +
+    "\uffe7\110\320\111\uffe7\117\uffe7\001\002\000\004\022\uffcb" +
+    "\001\002\000\004\022\315\001\002\000\006\022\uffc3\111" +
+    "\314\001\002\000\070\014\uffc1\015\uffc1\016\uffc1\017\uffc1" +
+    "\020\uffc1\022\uffc1\023\uffc1\024\uffc1\026\uffc1\027\uffc1\030" +
+    "\uffc1\047\uffc1\052\uffc1\053\uffc1\106\uffc1\107\uffc1\111\uffc1" +
+    "\114\uffc1\115\uffc1\116\uffc1\117\uffc1\120\uffc1\121\uffc1\122" +
+    "\uffc1\123\uffc1\124\uffc1\153\uffc1\001\002\000\070\014\uffc0" +
+    "\015\uffc0\016\uffc0\017\uffc0\020\uffc0\022\uffc0\023\uffc0\024" +
+    "\uffc0\026\uffc0\027\uffc0\030\uffc0\047\uffc0\052\uffc0\053\uffc0" +
+    "\106\uffc0\107\uffc0\111\uffc0\114\uffc0\115\uffc0\116\uffc0\117" +
+    "\uffc0\120\uffc0\121\uffc0\122\uffc0\123\uffc0\124\uffc0\153\uffc0" +
+    "\001\002\000\056\014\265\015\uffe6\016\uffe6\017\311\020" +
+    "\uffe6\022\uffe6\024\uffe6\027\uffe6\030\uffe6\106\uffe6\107\uffe6" +
+    "\111\uffe6\114\uffe6\115\uffe6\116\uffe6\117\uffe6\120\uffe6\121" +
+    "\uffe6\122\uffe6\123\uffe6\124\uffe6\153\uffe6\001\002\000\054" +
+    "\014\271\015\uffe0\016\uffe0\020\uffe0\022\uffe0\024\uffe0\027" +
+    "\uffe0\030\uffe0\106\uffe0\107\uffe0\111\uffe0\114\uffe0\115\uffe0" +
+    "\116\uffe0\117\uffe0\120\uffe0\121\uffe0\122\uffe0\123\uffe0\124" +
+    "\uffe0\153\uffe0\001\002\000\004\016\175\001\002\000\060" +
+    "\014\265\015\uffe8\016\uffe8\017\267\020\uffe8\022\uffe8\024" +
+    "\uffe8\027\uffe8\030\uffe8\106\uffe8\107\uffe8\110\uffe8\111\uffe8" +
+    "\114\uffe8\115\uffe8\116\uffe8\117\uffe8\120\uffe8\121\uffe8\122" +
+    "\uffe8\123\uffe8\124\uffe8\153\uffe8\001\002\000\054\014\271" +
+    "\015\uffe1\016\uffe1\020\uffe1\022\uffe1\024\uffe1\027\uffe1\030" +
+    "\uffe1\106\uffe1\107\uffe1\111\uffe1\114\uffe1\115\uffe1\116\uffe1" +
+    "\117\uffe1\120\uffe1\121\uffe1\122\uffe1\123\uffe1\124\uffe1\153" +
+    "\uffe1\001\002\000\114\004\uffd0\005\uffd0\006\uffd0\007\uffd0" +
+    "\010\uffd0\011\uffd0\012\uffd0\013\uffd0\014\uffd0\015\uffd0\016" +
+    "\uffd0\017\uffd0\020\uffd0\022\uffd0\023\uffd0\024\uffd0\026\uffd0" +
+    "\027\uffd0\030\uffd0\046\uffd0\047\uffd0\050\uffd0\052\uffd0\053" +
+    "\uffd0\106\uffd0\107\uffd0\111\uffd0\114\uffd0\115\uffd0\116\uffd0" +
+    "\117\uffd0\120\uffd0\121\uffd0\122\uffd0\123\uffd0\124\uffd0\153" +
+    "\uffd0\001\002\000\026\004\130\005\143\006\067\007\103" +
+    "\010\162\011\071\012\155\013\075\016\175\124\277\001" +
+    "\002\000\070\014\uffc8\015\uffc8\016\uffc8\017\uffc8\020\uffc8" +
+    "\022\uffc8\023\uffc8\024\uffc8\026\uffc8\027\uffc8\030\uffc8\047" +
+    "\uffc8\052\uffc8\053\uffc8\106\uffc8\107\uffc8\111\uffc8\114\uffc8" +
+    "\115\uffc8\116\uffc8\117\uffc8\120\uffc8\121\uffc8\122\uffc8\123" +
+    "\uffc8\124\uffc8\153\uffc8\001\002\000\004\022\uffca\001\002" +
+    "\000\026\004\130\005\143\006\067\007\103\010\162\011" +
+    "\071\012\155\013\075\016\175\124\322\001\002\000\114" +
+    "\004\uffc7\005\uffc7\006\uffc7\007\uffc7\010\uffc7\011\uffc7\012" +
+    "\uffc7\013\uffc7\014\uffc7\015\uffc7\016\uffc7\017\uffc7\020\uffc7" +
+    "\022\uffc7\023\uffc7\024\uffc7\026\uffc7\027\uffc7\030\uffc7\046" +
+    "\uffc7\047\uffc7\050\uffc7\052\uffc7\053\uffc7\106\uffc7\107\uffc7" +
+    "\111\uffc7\114\uffc7\115\uffc7\116\uffc7\117\uffc7\120\uffc7\121" +
+    "\uffc7\122\uffc7\123\uffc7\124\uffc7\153\uffc7\001\002\000\014" +
+    "\022\uffdc\046\365\053\364\106\350\111\346\001\002\000" +
+    "\014\022\uffe7\106\uffe7\107\uffe7\110\334\111\uffe7\001\002" +
+    "\000\004\022\332\001\002\000\010\022\uffc3\106\331\111" +
+    "\314\001\002\000\114\004\uffbf\005\uffbf\006\uffbf\007\uffbf" +
+    "\010\uffbf\011\uffbf\012\uffbf\013\uffbf\014\uffbf\015\uffbf\016" +
+    "\uffbf\017\uffbf\020\uffbf\022\uffbf\023\uffbf\024\uffbf\026\uffbf" +
+    "\027\uffbf\030\uffbf\046\uffbf\047\uffbf\050\uffbf\052\uffbf\053" +
+    "\uffbf\106\uffbf\107\uffbf\111\uffbf\114\uffbf\115\uffbf\116\uffbf" +
+    "\117\uffbf\120\uffbf\121\uffbf\122\uffbf\123\uffbf\124\uffbf\153" +
+    "\uffbf\001\002\000\114\004\uffbe\005\uffbe\006\uffbe\007\uffbe" +
+    "\010\uffbe\011\uffbe\012\uffbe\013\uffbe\014\uffbe\015\uffbe\016" +
+    "\uffbe\017\uffbe\020\uffbe\022\uffbe\023\uffbe\024\uffbe\026\uffbe" +
+    "\027\uffbe\030\uffbe\046\uffbe\047\uffbe\050\uffbe\052\uffbe\053" +
+    "\uffbe\106\uffbe\107\uffbe\111\uffbe\114\uffbe\115\uffbe\116\uffbe" +
+    "\117\uffbe\120\uffbe\121\uffbe\122\uffbe\123\uffbe\124\uffbe\153" +
+    "\uffbe\001\002\000\114\004\uffcf\005\uffcf\006\uffcf\007\uffcf" +
+    "\010\uffcf\011\uffcf\012\uffcf\013\uffcf\014\uffcf\015\uffcf\016" +
+    "\uffcf\017\uffcf\020\uffcf\022\uffcf\023\uffcf\024\uffcf\026\uffcf" +
+    "\027\uffcf\030\uffcf\046\uffcf\047\uffcf\050\uffcf\052\uffcf\053" +
+    "\uffcf\106\uffcf\107\uffcf\111\uffcf\114\uffcf\115\uffcf\116\uffcf" +
+    "\117\uffcf\120\uffcf\121\uffcf\122\uffcf\123\uffcf\124\uffcf\153" +
+    "\uffcf\001\002\000\114\004\uffce\005\uffce\006\uffce\007\uffce" +
+    "\010\uffce\011\uffce\012\uffce\013\uffce\014\uffce\015\uffce\016" +
+    "\uffce\017\uffce\020\uffce\022\uffce\023\uffce\024\uffce\026\uffce" +
+    "\027\uffce\030\uffce\046\uffce\047\uffce\050\uffce\052\uffce\053" +
+    "\uffce\106\uffce\107\uffce\111\uffce\114\uffce\115\uffce\116\uffce" +
+    "\117\uffce\120\uffce\121\uffce\122\uffce\123\uffce\124\uffce\153" +
+    "\uffce\001\002\000\026\004\130\005\143\006\067\007\103" +
+    "\010\162\011\071\012\155\013\075\016\175\124\322\001" +
+    "\002\000\114\004\uffc6\005\uffc6\006\uffc6\007\uffc6\010\uffc6" +
+    "\011\uffc6\012\uffc6\013\uffc6\014\uffc6\015\uffc6\016\uffc6\017" +
+    "\uffc6\020\uffc6\022\uffc6\023\uffc6\024\uffc6\026\uffc6\027\uffc6" +
+    "\030\uffc6\046\uffc6\047\uffc6\050\uffc6\052\uffc6\053\uffc6\106" +
+    "\uffc6\107\uffc6\111\uffc6\114\uffc6\115\uffc6\116\uffc6\117\uffc6" +
+    "\120\uffc6\121\uffc6\122\uffc6\123\uffc6\124\uffc6\153\uffc6\001" +
+    "\002\000\026\004\130\005\143\006\067\007\103\010\162" +
+    "\011\071\012\155\013\075\016\175\124\343\001\002\000" +
+    "\114\004\uffbc\005\uffbc\006\uffbc\007\uffbc\010\uffbc\011\uffbc" +
+    "\012\uffbc\013\uffbc\014\uffbc\015\uffbc\016\uffbc\017\uffbc\020" +
+    "\uffbc\022\uffbc\023\uffbc\024\uffbc\026\uffbc\027\uffbc\030\uffbc" +
+    "\046\uffbc\047\uffbc\050\uffbc\052\uffbc\053\uffbc\106\uffbc\107" +
+    "\uffbc\111\uffbc\114\uffbc\115\uffbc\116\uffbc\117\uffbc\120\uffbc" +
+    "\121\uffbc\122\uffbc\123\uffbc\124\uffbc\153\uffbc\001\002\000" +
+    "\114\004\uffc5\005\uffc5\006\uffc5\007\uffc5\010\uffc5\011\uffc5" +
+    "\012\uffc5\013\uffc5\014\uffc5\015\uffc5\016\uffc5\017\uffc5\020" +
+    "\uffc5\022\uffc5\023\uffc5\024\uffc5\026\uffc5\027\uffc5\030\uffc5" +
+    "\046\uffc5\047\uffc5\050\uffc5\052\uffc5\053\uffc5\106\uffc5\107" +
+    "\uffc5\111\uffc5\114\uffc5\115\uffc5\116\uffc5\117\uffc5\120\uffc5" +
+    "\121\uffc5\122\uffc5\123\uffc5\124\uffc5\153\uffc5\001\002\000" +
+    "\004\022\362\001\002\000\114\004\uffcd\005\uffcd\006\uffcd" +
+    "\007\uffcd\010\uffcd\011\uffcd\012\uffcd\013\uffcd\014\uffcd\015" +
+    "\uffcd\016\uffcd\017\uffcd\020\uffcd\022\uffcd\023\uffcd\024\uffcd" +
+    "\026\uffcd\027\uffcd\030\uffcd\046\uffcd\047\uffcd\050\uffcd\052" +
+    "\uffcd\053\uffcd\106\uffcd\107\uffcd\111\uffcd\114\uffcd\115\uffcd" +
+    "\116\uffcd\117\uffcd\120\uffcd\121\uffcd\122\uffcd\123\uffcd\124" +
+    "\uffcd\153\uffcd\001\002\000\114\004\uffbd\005\uffbd\006\uffbd" +
+    "\007\uffbd\010\uffbd\011\uffbd\012\uffbd\013\uffbd\014\uffbd\015" +
+    "\uffbd\016\uffbd\017\uffbd\020\uffbd\022\uffbd\023\uffbd\024\uffbd" +
+    "\026\uffbd\027\uffbd\030\uffbd\046\uffbd\047\uffbd\050\uffbd\052" +
+    "\uffbd\053\uffbd\106\uffbd\107\uffbd\111\uffbd\114\uffbd\115\uffbd" +
+    "\116\uffbd\117\uffbd\120\uffbd\121\uffbd\122\uffbd\123\uffbd\124" +
+    "\uffbd\153\uffbd\001\002\000\012\022\uffc3\106\331\107\355" +
+    "\111\314\001\002\000\016\022\uffdc\046\345\053\344\106" +
+    "\350\107\347\111\346\001\002\000\024\004\130\005\143" +
+    "\006\067\007\103\010\162\011\071\012\155\013\075\016" +
+    "\175\001\002\000\024\004\130\005\143\006\067\007\103" +
+    "\010\162\011\071\012\155\013\075\016\175\001\002\000" +
+    "\070\014\uffd9\015\uffd9\016\uffd9\017\uffd9\020\uffd9\022\uffd9" +
+    "\023\uffd9\024\uffd9\026\uffd9\027\uffd9\030\uffd9\047\uffd9\052" +
+    "\uffd9\053\uffd9\106\uffd9\107\uffd9\111\uffd9\114\uffd9\115\uffd9" +
+    "\116\uffd9\117\uffd9\120\uffd9\121\uffd9\122\uffd9\123\uffd9\124" +
+    "\uffd9\153\uffd9\001\002\000\114\004\uffd3\005\uffd3\006\uffd3" +
+    "\007\uffd3\010\uffd3\011\uffd3\012\uffd3\013\uffd3\014\uffd3\015" +
+    "\uffd3\016\uffd3\017\uffd3\020\uffd3\022\uffd3\023\uffd3\024\uffd3" +
+    "\026\uffd3\027\uffd3\030\uffd3\046\uffd3\047\uffd3\050\uffd3\052" +
+    "\uffd3\053\uffd3\106\uffd3\107\uffd3\111\uffd3\114\uffd3\115\uffd3" +
+    "\116\uffd3\117\uffd3\120\uffd3\121\uffd3\122\uffd3\123\uffd3\124" +
+    "\uffd3\153\uffd3\001\002\000\114\004\uffd6\005\uffd6\006\uffd6" +
+    "\007\uffd6\010\uffd6\011\uffd6\012\uffd6\013\uffd6\014\uffd6\015" +
+    "\uffd6\016\uffd6\017\uffd6\020\uffd6\022\uffd6\023\uffd6\024\uffd6" +
+    "\026\uffd6\027\uffd6\030\uffd6\046\uffd6\047\uffd6\050\uffd6\052" +
+    "\uffd6\053\uffd6\106\uffd6\107\uffd6\111\uffd6\114\uffd6\115\uffd6" +
+    "\116\uffd6\117\uffd6\120\uffd6\121\uffd6\122\uffd6\123\uffd6\124" +
+    "\uffd6\153\uffd6\001\002\000\012\022\uffdb\106\331\107\355" +
+    "\111\314\001\002\000\114\004\uffd2\005\uffd2\006\uffd2\007" +
+    "\uffd2\010\uffd2\011\uffd2\012\uffd2\013\uffd2\014\uffd2\015\uffd2" +
+    "\016\uffd2\017\uffd2\020\uffd2\022\uffd2\023\uffd2\024\uffd2\026" +
+    "\uffd2\027\uffd2\030\uffd2\046\uffd2\047\uffd2\050\uffd2\052\uffd2" +
+    "\053\uffd2\106\uffd2\107\uffd2\111\uffd2\114\uffd2\115\uffd2\116" +
+    "\uffd2\117\uffd2\120\uffd2\121\uffd2\122\uffd2\123\uffd2\124\uffd2" +
+    "\153\uffd2\001\002\000\114\004\uffd5\005\uffd5\006\uffd5\007" +
+    "\uffd5\010\uffd5\011\uffd5\012\uffd5\013\uffd5\014\uffd5\015\uffd5" +
+    "\016\uffd5\017\uffd5\020\uffd5\022\uffd5\023\uffd5\024\uffd5\026" +
+    "\uffd5\027\uffd5\030\uffd5\046\uffd5\047\uffd5\050\uffd5\052\uffd5" +
+    "\053\uffd5\106\uffd5\107\uffd5\111\uffd5\114\uffd5\115\uffd5\116" +
+    "\uffd5\117\uffd5\120\uffd5\121\uffd5\122\uffd5\123\uffd5\124\uffd5" +
+    "\153\uffd5\001\002\000\070\014\uffd8\015\uffd8\016\uffd8\017" +
+    "\uffd8\020\uffd8\022\uffd8\023\uffd8\024\uffd8\026\uffd8\027\uffd8" +
+    "\030\uffd8\047\uffd8\052\uffd8\053\uffd8\106\uffd8\107\uffd8\111" +
+    "\uffd8\114\uffd8\115\uffd8\116\uffd8\117\uffd8\120\uffd8\121\uffd8" +
+    "\122\uffd8\123\uffd8\124\uffd8\153\uffd8\001\002\000\114\004" +
+    "\uffcc\005\uffcc\006\uffcc\007\uffcc\010\uffcc\011\uffcc\012\uffcc" +
+    "\013\uffcc\014\uffcc\015\uffcc\016\uffcc\017\uffcc\020\uffcc\022" +
+    "\uffcc\023\uffcc\024\uffcc\026\uffcc\027\uffcc\030\uffcc\046\uffcc" +
+    "\047\uffcc\050\uffcc\052\uffcc\053\uffcc\106\uffcc\107\uffcc\111" +
+    "\uffcc\114\uffcc\115\uffcc\116\uffcc\117\uffcc\120\uffcc\121\uffcc" +
+    "\122\uffcc\123\uffcc\124\uffcc\153\uffcc\001\002\000\012\022" +
+    "\uffda\106\331\107\355\111\314\001\002\000\114\004\uffd1" +
+    "\005\uffd1\006\uffd1\007\uffd1\010\uffd1\011\uffd1\012\uffd1\013" +
+    "\uffd1\014\uffd1\015\uffd1\016\uffd1\017\uffd1\020\uffd1\022\uffd1" +
+    "\023\uffd1\024\uffd1\026\uffd1\027\uffd1\030\uffd1\046\uffd1\047" +
+    "\uffd1\050\uffd1\052\uffd1\053\uffd1\106\uffd1\107\uffd1\111\uffd1" +
+    "\114\uffd1\115\uffd1\116\uffd1\117\uffd1\120\uffd1\121\uffd1\122" +
+    "\uffd1\123\uffd1\124\uffd1\153\uffd1\001\002\000\114\004\uffd4" +
+    "\005\uffd4\006\uffd4\007\uffd4\010\uffd4\011\uffd4\012\uffd4\013" +
+    "\uffd4\014\uffd4\015\uffd4\016\uffd4\017\uffd4\020\uffd4\022\uffd4" +
+    "\023\uffd4\024\uffd4\026\uffd4\027\uffd4\030\uffd4\046\uffd4\047" +
+    "\uffd4\050\uffd4\052\uffd4\053\uffd4\106\uffd4\107\uffd4\111\uffd4" +
+    "\114\uffd4\115\uffd4\116\uffd4\117\uffd4\120\uffd4\121\uffd4\122" +
+    "\uffd4\123\uffd4\124\uffd4\153\uffd4\001\002\000\070\014\uffd7" +
+    "\015\uffd7\016\uffd7\017\uffd7\020\uffd7\022\uffd7\023\uffd7\024" +
+    "\uffd7\026\uffd7\027\uffd7\030\uffd7\047\uffd7\052\uffd7\053\uffd7" +
+    "\106\uffd7\107\uffd7\111\uffd7\114\uffd7\115\uffd7\116\uffd7\117" +
+    "\uffd7\120\uffd7\121\uffd7\122\uffd7\123\uffd7\124\uffd7\153\uffd7" +
+    "\001\002\000\026\004\130\005\143\006\067\007\103\010" +
+    "\162\011\071\012\155\013\075\016\175\124\343\001\002" +
+    "\000\114\004\uffc4\005\uffc4\006\uffc4\007\uffc4\010\uffc4\011" +
+    "\uffc4\012\uffc4\013\uffc4\014\uffc4\015\uffc4\016\uffc4\017\uffc4" +
+    "\020\uffc4\022\uffc4\023\uffc4\024\uffc4\026\uffc4\027\uffc4\030" +
+    "\uffc4\046\uffc4\047\uffc4\050\uffc4\052\uffc4\053\uffc4\106\uffc4" +
+    "\107\uffc4\111\uffc4\114\uffc4\115\uffc4\116\uffc4\117\uffc4\120" +
+    "\uffc4\121\uffc4\122\uffc4\123\uffc4\124\uffc4\153\uffc4\001\002" +
+    "\000\024\004\130\005\143\006\067\007\103\010\162\011" +
+    "\071\012\155\013\075\016\175\001\002\000\024\004\130" +
+    "\005\143\006\067\007\103\010\162\011\071\012\155\013" +
+    "\075\016\175\001\002\000\010\022\uffdb\106\331\111\314" +
+    "\001\002\000\010\022\uffda\106\331\111\314\001\002\000" +
+    "\024\004\130\005\143\006\067\007\103\010\162\011\071" +
+    "\012\155\013\075\016\175\001\002\000\024\004\130\005" +
+    "\143\006\067\007\103\010\162\011\071\012\155\013\075" +
+    "\016\175\001\002\000\006\022\uffdb\111\314\001\002\000" +
+    "\006\022\uffda\111\314\001\002\000\066\004\130\005\143" +
+    "\006\067\007\103\010\162\011\071\012\155\013\075\016" +
+    "\175\026\100\050\140\052\125\053\134\074\135\075\066" +
+    "\076\132\077\123\100\104\101\120\102\112\141\171\142" +
+    "\151\143\107\144\111\145\070\146\124\001\002\000\030" +
+    "\015\ufe1c\020\ufe1c\022\ufe1c\024\ufe1c\027\ufe1c\030\ufe1c\120" +
+    "\376\121\ufe1c\122\ufe1c\123\ufe1c\124\ufe1c\001\002\000\066" +
+    "\004\130\005\143\006\067\007\103\010\162\011\071\012" +
+    "\155\013\075\016\175\026\100\050\140\052\125\053\134" +
+    "\074\135\075\066\076\132\077\123\100\104\101\120\102" +
+    "\112\141\171\142\151\143\107\144\111\145\070\146\124" +
+    "\001\002\000\032\015\ufe1e\020\ufe1e\022\ufe1e\024\ufe1e\027" +
+    "\ufe1e\030\ufe1e\117\u0100\120\ufe1e\121\ufe1e\122\ufe1e\123\ufe1e" +
+    "\124\ufe1e\001\002\000\066\004\130\005\143\006\067\007" +
+    "\103\010\162\011\071\012\155\013\075\016\175\026\100" +
+    "\050\140\052\125\053\134\074\135\075\066\076\132\077" +
+    "\123\100\104\101\120\102\112\141\171\142\151\143\107" +
+    "\144\111\145\070\146\124\001\002\000\036\015\ufe20\020" +
+    "\ufe20\022\ufe20\024\ufe20\027\ufe20\030\ufe20\115\u0103\116\u0102" +
+    "\117\ufe20\120\ufe20\121\ufe20\122\ufe20\123\ufe20\124\ufe20\001" +
+    "\002\000\066\004\130\005\143\006\067\007\103\010\162" +
+    "\011\071\012\155\013\075\016\175\026\100\050\140\052" +
+    "\125\053\134\074\135\075\066\076\132\077\123\100\104" +
+    "\101\120\102\112\141\171\142\151\143\107\144\111\145" +
+    "\070\146\124\001\002\000\066\004\130\005\143\006\067" +
+    "\007\103\010\162\011\071\012\155\013\075\016\175\026" +
+    "\100\050\140\052\125\053\134\074\135\075\066\076\132" +
+    "\077\123\100\104\101\120\102\112\141\171\142\151\143" +
+    "\107\144\111\145\070\146\124\001\002\000\040\015\ufe23" +
+    "\020\ufe23\022\ufe23\024\ufe23\027\ufe23\030\ufe23\114\256\115" +
+    "\ufe23\116\ufe23\117\ufe23\120\ufe23\121\ufe23\122\ufe23\123\ufe23" +
+    "\124\ufe23\001\002\000\040\015\ufe22\020\ufe22\022\ufe22\024" +
+    "\ufe22\027\ufe22\030\ufe22\114\256\115\ufe22\116\ufe22\117\ufe22" +
+    "\120\ufe22\121\ufe22\122\ufe22\123\ufe22\124\ufe22\001\002\000" +
+    "\066\004\130\005\143\006\067\007\103\010\162\011\071" +
+    "\012\155\013\075\016\175\026\100\050\140\052\125\053" +
+    "\134\074\135\075\066\076\132\077\123\100\104\101\120" +
+    "\102\112\141\171\142\151\143\107\144\111\145\070\146" +
+    "\124\001\002\000\004\015\u0108\001\002\000\130\014\ufe4e" +
+    "\015\ufe4e\017\ufe4e\020\ufe4e\021\ufe4e\022\ufe4e\024\ufe4e\025" +
+    "\ufe4e\027\ufe4e\030\ufe4e\075\ufe4e\076\ufe4e\077\ufe4e\100\ufe4e" +
+    "\103\ufe4e\104\ufe4e\105\ufe4e\106\ufe4e\107\ufe4e\110\ufe4e\111" +
+    "\ufe4e\112\ufe4e\113\ufe4e\114\ufe4e\115\ufe4e\116\ufe4e\117\ufe4e" +
+    "\120\ufe4e\121\ufe4e\122\ufe4e\123\ufe4e\124\ufe4e\125\ufe4e\126" +
+    "\ufe4e\127\ufe4e\130\ufe4e\131\ufe4e\132\ufe4e\133\ufe4e\134\ufe4e" +
+    "\135\ufe4e\136\ufe4e\137\ufe4e\001\002\000\006\022\uff6e\024" +
+    "\uff6e\001\002\000\004\024\u010e\001\002\000\006\022\u010c" +
+    "\024\uff6f\001\002\000\072\004\130\005\143\006\067\007" +
+    "\103\010\162\011\071\012\155\013\075\016\175\023\150" +
+    "\026\100\050\140\052\125\053\134\074\135\075\066\076" +
+    "\132\077\123\100\104\101\120\102\112\140\164\141\171" +
+    "\142\151\143\107\144\111\145\070\146\124\001\002\000" +
+    "\006\022\uff6d\024\uff6d\001\002\000\012\020\uff71\022\uff71" +
+    "\024\uff71\027\uff71\001\002\000\066\004\130\005\143\006" +
+    "\067\007\103\010\162\011\071\012\155\013\075\016\175" +
+    "\026\100\050\140\052\125\053\134\074\135\075\066\076" +
+    "\132\077\123\100\104\101\120\102\112\141\171\142\151" +
+    "\143\107\144\111\145\070\146\124\001\002\000\066\004" +
+    "\130\005\143\006\067\007\103\010\162\011\071\012\155" +
+    "\013\075\016\175\026\100\050\140\052\125\053\134\074" +
+    "\135\075\066\076\132\077\123\100\104\101\120\102\112" +
+    "\141\171\142\151\143\107\144\111\145\070\146\124\001" +
+    "\002\000\004\030\u0112\001\002\000\066\004\130\005\143" +
+    "\006\067\007\103\010\162\011\071\012\155\013\075\016" +
+    "\175\026\100\050\140\052\125\053\134\074\135\075\066" +
+    "\076\132\077\123\100\104\101\120\102\112\141\171\142" +
+    "\151\143\107\144\111\145\070\146\124\001\002\000\016" +
+    "\015\ufe16\020\ufe16\022\ufe16\024\ufe16\027\ufe16\030\ufe16\001" +
+    "\002\000\024\015\ufe18\020\ufe18\022\ufe18\024\ufe18\027\ufe18" +
+    "\030\ufe18\122\u0115\123\ufe18\124\ufe18\001\002\000\066\004" +
+    "\130\005\143\006\067\007\103\010\162\011\071\012\155" +
+    "\013\075\016\175\026\100\050\140\052\125\053\134\074" +
+    "\135\075\066\076\132\077\123\100\104\101\120\102\112" +
+    "\141\171\142\151\143\107\144\111\145\070\146\124\001" +
+    "\002\000\026\015\ufe1a\020\ufe1a\022\ufe1a\024\ufe1a\027\ufe1a" +
+    "\030\ufe1a\121\374\122\ufe1a\123\ufe1a\124\ufe1a\001\002\000" +
+    "\006\014\271\017\u011a\001\002\000\004\045\u0119\001\002" +
+    "\000\130\014\ufe75\015\ufe75\017\ufe75\020\ufe75\021\ufe75\022" +
+    "\ufe75\024\ufe75\025\ufe75\027\ufe75\030\ufe75\075\ufe75\076\ufe75" +
+    "\077\ufe75\100\ufe75\103\ufe75\104\ufe75\105\ufe75\106\ufe75\107" +
+    "\ufe75\110\ufe75\111\ufe75\112\ufe75\113\ufe75\114\ufe75\115\ufe75" +
+    "\116\ufe75\117\ufe75\120\ufe75\121\ufe75\122\ufe75\123\ufe75\124" +
+    "\ufe75\125\ufe75\126\ufe75\127\ufe75\130\ufe75\131\ufe75\132\ufe75" +
+    "\133\ufe75\134\ufe75\135\ufe75\136\ufe75\137\ufe75\001\002\000" +
+    "\004\045\u011b\001\002\000\130\014\ufe74\015\ufe74\017\ufe74" +
+    "\020\ufe74\021\ufe74\022\ufe74\024\ufe74\025\ufe74\027\ufe74\030" +
+    "\ufe74\075\ufe74\076\ufe74\077\ufe74\100\ufe74\103\ufe74\104\ufe74" +
+    "\105\ufe74\106\ufe74\107\ufe74\110\ufe74\111\ufe74\112\ufe74\113" +
+    "\ufe74\114\ufe74\115\ufe74\116\ufe74\117\ufe74\120\ufe74\121\ufe74" +
+    "\122\ufe74\123\ufe74\124\ufe74\125\ufe74\126\ufe74\127\ufe74\130" +
+    "\ufe74\131\ufe74\132\ufe74\133\ufe74\134\ufe74\135\ufe74\136\ufe74" +
+    "\137\ufe74\001\002\000\004\045\u011d\001\002\000\130\014" +
+    "\ufe76\015\ufe76\017\ufe76\020\ufe76\021\ufe76\022\ufe76\024\ufe76" +
+    "\025\ufe76\027\ufe76\030\ufe76\075\ufe76\076\ufe76\077\ufe76\100" +
+    "\ufe76\103\ufe76\104\ufe76\105\ufe76\106\ufe76\107\ufe76\110\ufe76" +
+    "\111\ufe76\112\ufe76\113\ufe76\114\ufe76\115\ufe76\116\ufe76\117" +
+    "\ufe76\120\ufe76\121\ufe76\122\ufe76\123\ufe76\124\ufe76\125\ufe76" +
+    "\126\ufe76\127\ufe76\130\ufe76\131\ufe76\132\ufe76\133\ufe76\134" +
+    "\ufe76\135\ufe76\136\ufe76\137\ufe76\001\002\000\026\004\130" +
+    "\005\143\006\067\007\103\010\162\011\071\012\155\013" +
+    "\075\016\175\124\277\001\002\000\022\014\uffe7\020\uffe7" +
+    "\022\uffe7\023\uffe7\026\uffe7\027\uffe7\047\uffe7\110\u03f1\001" +
+    "\002\000\006\014\u03e0\026\u03ea\001\002\000\004\014\u03e0" +
+    "\001\002\000\004\016\175\001\002\000\024\014\uffe9\017" +
+    "\267\020\uffe9\022\uffe9\023\uffe9\026\uffe9\027\uffe9\047\uffe9" +
+    "\110\uffe9\001\002\000\004\026\u0125\001\002\000\070\004" +
+    "\130\005\143\006\067\007\103\010\162\011\071\012\155" +
+    "\013\075\016\175\026\100\027\ufe69\050\140\052\125\053" +
+    "\134\074\135\075\066\076\132\077\123\100\104\101\120" +
+    "\102\112\141\171\142\151\143\107\144\111\145\070\146" +
+    "\124\001\002\000\004\027\u012b\001\002\000\006\022\ufe67" +
+    "\027\ufe67\001\002\000\006\022\u0129\027\ufe68\001\002\000" +
+    "\066\004\130\005\143\006\067\007\103\010\162\011\071" +
+    "\012\155\013\075\016\175\026\100\050\140\052\125\053" +
+    "\134\074\135\075\066\076\132\077\123\100\104\101\120" +
+    "\102\112\141\171\142\151\143\107\144\111\145\070\146" +
+    "\124\001\002\000\006\022\ufe66\027\ufe66\001\002\000\132" +
+    "\014\ufe6f\015\ufe6f\017\ufe6f\020\ufe6f\021\ufe6f\022\ufe6f\023" +
+    "\u012c\024\ufe6f\025\ufe6f\027\ufe6f\030\ufe6f\075\ufe6f\076\ufe6f" +
+    "\077\ufe6f\100\ufe6f\103\ufe6f\104\ufe6f\105\ufe6f\106\ufe6f\107" +
+    "\ufe6f\110\ufe6f\111\ufe6f\112\ufe6f\113\ufe6f\114\ufe6f\115\ufe6f" +
+    "\116\ufe6f\117\ufe6f\120\ufe6f\121\ufe6f\122\ufe6f\123\ufe6f\124" +
+    "\ufe6f\125\ufe6f\126\ufe6f\127\ufe6f\130\ufe6f\131\ufe6f\132\ufe6f" +
+    "\133\ufe6f\134\ufe6f\135\ufe6f\136\ufe6f\137\ufe6f\001\002\000" +
+    "\074\004\uff9b\005\uff9b\006\uff9b\007\uff9b\010\uff9b\011\uff9b" +
+    "\012\uff9b\013\uff9b\016\uff9b\020\u0130\023\u0133\024\uff60\033" +
+    "\045\034\042\035\015\036\u0136\037\030\040\044\041\041" +
+    "\042\052\043\032\044\050\045\uff9b\050\uff9b\054\uff9b\110" +
+    "\uff9b\140\053\151\012\154\uff9b\001\002\000\130\014\ufe6e" +
+    "\015\ufe6e\017\ufe6e\020\ufe6e\021\ufe6e\022\ufe6e\024\ufe6e\025" +
+    "\ufe6e\027\ufe6e\030\ufe6e\075\ufe6e\076\ufe6e\077\ufe6e\100\ufe6e" +
+    "\103\ufe6e\104\ufe6e\105\ufe6e\106\ufe6e\107\ufe6e\110\ufe6e\111" +
+    "\ufe6e\112\ufe6e\113\ufe6e\114\ufe6e\115\ufe6e\116\ufe6e\117\ufe6e" +
+    "\120\ufe6e\121\ufe6e\122\ufe6e\123\ufe6e\124\ufe6e\125\ufe6e\126" +
+    "\ufe6e\127\ufe6e\130\ufe6e\131\ufe6e\132\ufe6e\133\ufe6e\134\ufe6e" +
+    "\135\ufe6e\136\ufe6e\137\ufe6e\001\002\000\074\004\uff5a\005" +
+    "\uff5a\006\uff5a\007\uff5a\010\uff5a\011\uff5a\012\uff5a\013\uff5a" +
+    "\016\uff5a\020\uff5a\023\uff5a\024\uff5a\033\uff5a\034\uff5a\035" +
+    "\uff5a\036\uff5a\037\uff5a\040\uff5a\041\uff5a\042\uff5a\043\uff5a" +
+    "\044\uff5a\045\uff5a\050\uff5a\054\uff5a\110\uff5a\140\uff5a\151" +
+    "\uff5a\154\uff5a\001\002\000\066\004\uff96\005\uff96\006\uff96" +
+    "\007\uff96\010\uff96\011\uff96\012\uff96\013\uff96\016\uff96\033" +
+    "\045\034\042\035\015\036\021\037\030\040\044\041\041" +
+    "\042\052\043\032\044\050\045\uff96\050\uff96\054\uff96\110" +
+    "\uff96\140\u01a5\151\012\154\uff96\001\002\000\074\004\uff52" +
+    "\005\uff52\006\uff52\007\uff52\010\uff52\011\uff52\012\uff52\013" +
+    "\uff52\016\uff52\020\uff52\023\uff52\024\uff52\033\uff52\034\uff52" +
+    "\035\uff52\036\uff52\037\uff52\040\uff52\041\uff52\042\uff52\043" +
+    "\uff52\044\uff52\045\uff52\050\uff52\054\uff52\110\uff52\140\uff52" +
+    "\151\uff52\154\uff52\001\002\000\074\004\uff57\005\uff57\006" +
+    "\uff57\007\uff57\010\uff57\011\uff57\012\uff57\013\uff57\016\uff57" +
+    "\020\uff57\023\uff57\024\uff57\033\uff57\034\uff57\035\uff57\036" +
+    "\uff57\037\uff57\040\uff57\041\uff57\042\uff57\043\uff57\044\uff57" +
+    "\045\uff57\050\uff57\054\uff57\110\uff57\140\uff57\151\uff57\154" +
+    "\uff57\001\002\000\074\004\uff53\005\uff53\006\uff53\007\uff53" +
+    "\010\uff53\011\uff53\012\uff53\013\uff53\016\uff53\020\uff53\023" +
+    "\uff53\024\uff53\033\uff53\034\uff53\035\uff53\036\uff53\037\uff53" +
+    "\040\uff53\041\uff53\042\uff53\043\uff53\044\uff53\045\uff53\050" +
+    "\uff53\054\uff53\110\uff53\140\uff53\151\uff53\154\uff53\001\002" +
+    "\000\150\004\130\005\143\006\067\007\103\010\162\011" +
+    "\071\012\155\013\075\016\u01ff\020\u0226\023\u0133\024\ufee4" +
+    "\026\u020c\033\045\034\042\035\015\036\021\037\030\040" +
+    "\044\041\041\042\u0230\043\032\044\050\045\uff9b\050\140" +
+    "\052\125\053\134\054\uff9b\055\u0232\057\u021d\062\u021e\063" +
+    "\u0219\064\u021f\065\u0223\066\u0231\067\u0220\070\u0206\071\u0221" +
+    "\074\135\075\066\076\132\140\053\141\171\142\151\143" +
+    "\107\144\111\145\070\146\124\151\012\152\u0235\154\uff9b" +
+    "\001\002\000\074\004\uff59\005\uff59\006\uff59\007\uff59\010" +
+    "\uff59\011\uff59\012\uff59\013\uff59\016\uff59\020\uff59\023\uff59" +
+    "\024\uff59\033\uff59\034\uff59\035\uff59\036\uff59\037\uff59\040" +
+    "\uff59\041\uff59\042\uff59\043\uff59\044\uff59\045\uff59\050\uff59" +
+    "\054\uff59\110\uff59\140\uff59\151\uff59\154\uff59\001\002\000" +
+    "\074\004\uff5b\005\uff5b\006\uff5b\007\uff5b\010\uff5b\011\uff5b" +
+    "\012\uff5b\013\uff5b\016\uff5b\020\uff5b\023\uff5b\024\uff5b\033" +
+    "\uff5b\034\uff5b\035\uff5b\036\uff5b\037\uff5b\040\uff5b\041\uff5b" +
+    "\042\uff5b\043\uff5b\044\uff5b\045\uff5b\050\uff5b\054\uff5b\110" +
+    "\uff5b\140\uff5b\151\uff5b\154\uff5b\001\002\000\070\004\uff8d" +
+    "\005\uff8d\006\uff8d\007\uff8d\010\uff8d\011\uff8d\012\uff8d\013" +
+    "\uff8d\016\uff8d\023\u0133\033\uff8d\034\uff8d\035\uff8d\036\uff8d" +
+    "\037\uff8d\040\uff8d\041\uff8d\042\uff8d\043\uff8d\044\uff8d\045" +
+    "\uff8d\050\uff8d\054\uff8d\110\uff8d\140\uff8d\151\uff8d\154\uff8d" +
+    "\001\002\000\004\024\u03d9\001\002\000\074\004\uff5e\005" +
+    "\uff5e\006\uff5e\007\uff5e\010\uff5e\011\uff5e\012\uff5e\013\uff5e" +
+    "\016\uff5e\020\uff5e\023\uff5e\024\uff5e\033\uff5e\034\uff5e\035" +
+    "\uff5e\036\uff5e\037\uff5e\040\uff5e\041\uff5e\042\uff5e\043\uff5e" +
+    "\044\uff5e\045\uff5e\050\uff5e\054\uff5e\110\uff5e\140\uff5e\151" +
+    "\uff5e\154\uff5e\001\002\000\074\004\uff9b\005\uff9b\006\uff9b" +
+    "\007\uff9b\010\uff9b\011\uff9b\012\uff9b\013\uff9b\016\uff9b\020" +
+    "\u0130\023\u0133\024\uff5f\033\045\034\042\035\015\036\u0136" +
+    "\037\030\040\044\041\041\042\052\043\032\044\050\045" +
+    "\uff9b\050\uff9b\054\uff9b\110\uff9b\140\053\151\012\154\uff9b" +
+    "\001\002\000\036\004\130\005\143\006\067\007\103\010" +
+    "\162\011\071\012\155\013\075\016\175\045\u013e\050\u0146" +
+    "\054\u0145\110\u013d\154\u0144\001\002\000\074\004\uff58\005" +
+    "\uff58\006\uff58\007\uff58\010\uff58\011\uff58\012\uff58\013\uff58" +
+    "\016\uff58\020\uff58\023\uff58\024\uff58\033\uff58\034\uff58\035" +
+    "\uff58\036\uff58\037\uff58\040\uff58\041\uff58\042\uff58\043\uff58" +
+    "\044\uff58\045\uff58\050\uff58\054\uff58\110\uff58\140\uff58\151" +
+    "\uff58\154\uff58\001\002\000\074\004\uff5c\005\uff5c\006\uff5c" +
+    "\007\uff5c\010\uff5c\011\uff5c\012\uff5c\013\uff5c\016\uff5c\020" +
+    "\uff5c\023\uff5c\024\uff5c\033\uff5c\034\uff5c\035\uff5c\036\uff5c" +
+    "\037\uff5c\040\uff5c\041\uff5c\042\uff5c\043\uff5c\044\uff5c\045" +
+    "\uff5c\050\uff5c\054\uff5c\110\uff5c\140\uff5c\151\uff5c\154\uff5c" +
+    "\001\002\000\004\016\u01cf\001\002\000\004\016\u03c7\001" +
+    "\002\000\004\016\u01b0\001\002\000\006\023\uff26\051\u0160" +
+    "\001\002\000\014\014\uffbb\016\uffbb\017\uffbb\026\u01f6\110" +
+    "\uffbb\001\002\000\006\016\ufff8\153\ufff8\001\002\000\010" +
+    "\014\265\016\ufff9\153\ufff9\001\002\000\004\016\u01f3\001" +
+    "\002\000\004\016\u016a\001\002\000\004\016\u0148\001\002" +
+    "\000\012\014\u015f\020\uff26\023\uff26\051\u0160\001\002\000" +
+    "\004\026\u0149\001\002\000\032\004\uff2c\005\uff2c\006\uff2c" +
+    "\007\uff2c\010\uff2c\011\uff2c\012\uff2c\013\uff2c\016\uff2c\027" +
+    "\uff32\040\u0151\140\164\001\002\000\004\027\u015c\001\002" +
+    "\000\030\004\uff2b\005\uff2b\006\uff2b\007\uff2b\010\uff2b\011" +
+    "\uff2b\012\uff2b\013\uff2b\016\uff2b\040\u0151\140\164\001\002" +
+    "\000\006\022\u0159\027\uff31\001\002\000\030\004\uff27\005" +
+    "\uff27\006\uff27\007\uff27\010\uff27\011\uff27\012\uff27\013\uff27" +
+    "\016\uff27\040\uff27\140\uff27\001\002\000\030\004\uff2a\005" +
+    "\uff2a\006\uff2a\007\uff2a\010\uff2a\011\uff2a\012\uff2a\013\uff2a" +
+    "\016\uff2a\040\uff2a\140\uff2a\001\002\000\006\022\uff30\027" +
+    "\uff30\001\002\000\024\004\130\005\143\006\067\007\103" +
+    "\010\162\011\071\012\155\013\075\016\175\001\002\000" +
+    "\030\004\uff28\005\uff28\006\uff28\007\uff28\010\uff28\011\uff28" +
+    "\012\uff28\013\uff28\016\uff28\040\uff28\140\uff28\001\002\000" +
+    "\006\016\u0154\153\u0155\001\002\000\010\014\u0157\022\uff2e" +
+    "\027\uff2e\001\002\000\020\014\uff40\016\uff40\020\uff40\022" +
+    "\uff40\025\uff40\027\uff40\030\uff40\001\002\000\004\016\u0156" +
+    "\001\002\000\006\022\uff2d\027\uff2d\001\002\000\004\015" +
+    "\u0158\001\002\000\020\014\uff3f\016\uff3f\020\uff3f\022\uff3f" +
+    "\025\uff3f\027\uff3f\030\uff3f\001\002\000\030\004\uff2c\005" +
+    "\uff2c\006\uff2c\007\uff2c\010\uff2c\011\uff2c\012\uff2c\013\uff2c" +
+    "\016\uff2c\040\u0151\140\164\001\002\000\006\022\uff2f\027" +
+    "\uff2f\001\002\000\030\004\uff29\005\uff29\006\uff29\007\uff29" +
+    "\010\uff29\011\uff29\012\uff29\013\uff29\016\uff29\040\uff29\140" +
+    "\uff29\001\002\000\012\014\uff34\020\uff34\023\uff34\051\uff34" +
+    "\001\002\000\006\020\uff25\023\uff25\001\002\000\006\020" +
+    "\u0168\023\u0133\001\002\000\004\015\u0166\001\002\000\004" +
+    "\016\175\001\002\000\010\020\uff24\022\u0164\023\uff24\001" +
+    "\002\000\012\020\uffe5\022\uffe5\023\uffe5\047\uffe5\001\002" +
+    "\000\010\020\uff23\022\uff23\023\uff23\001\002\000\004\016" +
+    "\175\001\002\000\010\020\uff22\022\uff22\023\uff22\001\002" +
+    "\000\012\014\uff33\020\uff33\023\uff33\051\uff33\001\002\000" +
+    "\074\004\uff3a\005\uff3a\006\uff3a\007\uff3a\010\uff3a\011\uff3a" +
+    "\012\uff3a\013\uff3a\016\uff3a\020\uff3a\023\uff3a\024\uff3a\033" +
+    "\uff3a\034\uff3a\035\uff3a\036\uff3a\037\uff3a\040\uff3a\041\uff3a" +
+    "\042\uff3a\043\uff3a\044\uff3a\045\uff3a\050\uff3a\054\uff3a\110" +
+    "\uff3a\140\uff3a\151\uff3a\154\uff3a\001\002\000\074\004\uff20" +
+    "\005\uff20\006\uff20\007\uff20\010\uff20\011\uff20\012\uff20\013" +
+    "\uff20\016\uff20\020\uff20\023\uff20\024\uff20\033\uff20\034\uff20" +
+    "\035\uff20\036\uff20\037\uff20\040\uff20\041\uff20\042\uff20\043" +
+    "\uff20\044\uff20\045\uff20\050\uff20\054\uff20\110\uff20\140\uff20" +
+    "\151\uff20\154\uff20\001\002\000\074\004\uff21\005\uff21\006" +
+    "\uff21\007\uff21\010\uff21\011\uff21\012\uff21\013\uff21\016\uff21" +
+    "\020\uff21\023\uff21\024\uff21\033\uff21\034\uff21\035\uff21\036" +
+    "\uff21\037\uff21\040\uff21\041\uff21\042\uff21\043\uff21\044\uff21" +
+    "\045\uff21\050\uff21\054\uff21\110\uff21\140\uff21\151\uff21\154" +
+    "\uff21\001\002\000\010\023\ufe01\046\ufe01\110\u016b\001\002" +
+    "\000\004\016\u01cf\001\002\000\006\023\ufefc\046\u016e\001" +
+    "\002\000\010\023\ufe02\046\ufe02\047\ufe02\001\002\000\004" +
+    "\016\175\001\002\000\004\023\u0174\001\002\000\006\022" +
+    "\u0171\023\ufefb\001\002\000\004\016\175\001\002\000\006" +
+    "\022\ufef9\023\ufef9\001\002\000\006\022\uffe4\023\uffe4\001" +
+    "\002\000\072\004\uff9b\005\uff9b\006\uff9b\007\uff9b\010\uff9b" +
+    "\011\uff9b\012\uff9b\013\uff9b\016\uff9b\020\u0177\024\ufef7\033" +
+    "\045\034\042\035\015\036\021\037\030\040\044\041\041" +
+    "\042\052\043\032\044\050\045\uff9b\050\uff9b\054\uff9b\110" +
+    "\uff9b\140\053\151\012\154\uff9b\001\002\000\074\004\uff54" +
+    "\005\uff54\006\uff54\007\uff54\010\uff54\011\uff54\012\uff54\013" +
+    "\uff54\016\uff54\020\uff54\023\uff54\024\uff54\033\uff54\034\uff54" +
+    "\035\uff54\036\uff54\037\uff54\040\uff54\041\uff54\042\uff54\043" +
+    "\uff54\044\uff54\045\uff54\050\uff54\054\uff54\110\uff54\140\uff54" +
+    "\151\uff54\154\uff54\001\002\000\072\004\ufef2\005\ufef2\006" +
+    "\ufef2\007\ufef2\010\ufef2\011\ufef2\012\ufef2\013\ufef2\016\ufef2" +
+    "\020\ufef2\024\ufef2\033\ufef2\034\ufef2\035\ufef2\036\ufef2\037" +
+    "\ufef2\040\ufef2\041\ufef2\042\ufef2\043\ufef2\044\ufef2\045\ufef2" +
+    "\050\ufef2\054\ufef2\110\ufef2\140\ufef2\151\ufef2\154\ufef2\001" +
+    "\002\000\072\004\ufeee\005\ufeee\006\ufeee\007\ufeee\010\ufeee" +
+    "\011\ufeee\012\ufeee\013\ufeee\016\ufeee\020\ufeee\024\ufeee\033" +
+    "\ufeee\034\ufeee\035\ufeee\036\ufeee\037\ufeee\040\ufeee\041\ufeee" +
+    "\042\ufeee\043\ufeee\044\ufeee\045\ufeee\050\ufeee\054\ufeee\110" +
+    "\ufeee\140\ufeee\151\ufeee\154\ufeee\001\002\000\072\004\ufef5" +
+    "\005\ufef5\006\ufef5\007\ufef5\010\ufef5\011\ufef5\012\ufef5\013" +
+    "\ufef5\016\ufef5\020\ufef5\024\ufef5\033\ufef5\034\ufef5\035\ufef5" +
+    "\036\ufef5\037\ufef5\040\ufef5\041\ufef5\042\ufef5\043\ufef5\044" +
+    "\ufef5\045\ufef5\050\ufef5\054\ufef5\110\ufef5\140\ufef5\151\ufef5" +
+    "\154\ufef5\001\002\000\072\004\ufef1\005\ufef1\006\ufef1\007" +
+    "\ufef1\010\ufef1\011\ufef1\012\ufef1\013\ufef1\016\ufef1\020\ufef1" +
+    "\024\ufef1\033\ufef1\034\ufef1\035\ufef1\036\ufef1\037\ufef1\040" +
+    "\ufef1\041\ufef1\042\ufef1\043\ufef1\044\ufef1\045\ufef1\050\ufef1" +
+    "\054\ufef1\110\ufef1\140\ufef1\151\ufef1\154\ufef1\001\002\000" +
+    "\004\020\u01f0\001\002\000\072\004\uff9b\005\uff9b\006\uff9b" +
+    "\007\uff9b\010\uff9b\011\uff9b\012\uff9b\013\uff9b\016\uff9b\020" +
+    "\u0177\024\ufef6\033\045\034\042\035\015\036\021\037\030" +
+    "\040\044\041\041\042\052\043\032\044\050\045\uff9b\050" +
+    "\uff9b\054\uff9b\110\uff9b\140\053\151\012\154\uff9b\001\002" +
+    "\000\004\024\u01ee\001\002\000\036\004\130\005\143\006" +
+    "\067\007\103\010\162\011\071\012\155\013\075\016\175" +
+    "\045\u0183\050\u0187\054\u0186\110\u0182\154\u0185\001\002\000" +
+    "\072\004\ufeed\005\ufeed\006\ufeed\007\ufeed\010\ufeed\011\ufeed" +
+    "\012\ufeed\013\ufeed\016\ufeed\020\ufeed\024\ufeed\033\ufeed\034" +
+    "\ufeed\035\ufeed\036\ufeed\037\ufeed\040\ufeed\041\ufeed\042\ufeed" +
+    "\043\ufeed\044\ufeed\045\ufeed\050\ufeed\054\ufeed\110\ufeed\140" +
+    "\ufeed\151\ufeed\154\ufeed\001\002\000\072\004\ufef0\005\ufef0" +
+    "\006\ufef0\007\ufef0\010\ufef0\011\ufef0\012\ufef0\013\ufef0\016" +
+    "\ufef0\020\ufef0\024\ufef0\033\ufef0\034\ufef0\035\ufef0\036\ufef0" +
+    "\037\ufef0\040\ufef0\041\ufef0\042\ufef0\043\ufef0\044\ufef0\045" +
+    "\ufef0\050\ufef0\054\ufef0\110\ufef0\140\ufef0\151\ufef0\154\ufef0" +
+    "\001\002\000\072\004\ufef3\005\ufef3\006\ufef3\007\ufef3\010" +
+    "\ufef3\011\ufef3\012\ufef3\013\ufef3\016\ufef3\020\ufef3\024\ufef3" +
+    "\033\ufef3\034\ufef3\035\ufef3\036\ufef3\037\ufef3\040\ufef3\041" +
+    "\ufef3\042\ufef3\043\ufef3\044\ufef3\045\ufef3\050\ufef3\054\ufef3" +
+    "\110\ufef3\140\ufef3\151\ufef3\154\ufef3\001\002\000\072\004" +
+    "\ufeef\005\ufeef\006\ufeef\007\ufeef\010\ufeef\011\ufeef\012\ufeef" +
+    "\013\ufeef\016\ufeef\020\ufeef\024\ufeef\033\ufeef\034\ufeef\035" +
+    "\ufeef\036\ufeef\037\ufeef\040\ufeef\041\ufeef\042\ufeef\043\ufeef" +
+    "\044\ufeef\045\ufeef\050\ufeef\054\ufeef\110\ufeef\140\ufeef\151" +
+    "\ufeef\154\ufeef\001\002\000\004\016\u01cf\001\002\000\004" +
+    "\016\u01c4\001\002\000\004\016\u01b0\001\002\000\004\016" +
+    "\u018e\001\002\000\004\016\u018a\001\002\000\004\016\u0148" +
+    "\001\002\000\010\014\u015f\020\uff26\051\u0160\001\002\000" +
+    "\004\020\uff36\001\002\000\010\023\ufe01\046\ufe01\110\u016b" +
+    "\001\002\000\006\023\ufefc\046\u016e\001\002\000\004\023" +
+    "\u0174\001\002\000\160\002\uff0d\004\uff0d\005\uff0d\006\uff0d" +
+    "\007\uff0d\010\uff0d\011\uff0d\012\uff0d\013\uff0d\016\uff0d\020" +
+    "\uff0d\023\uff0d\024\uff0d\026\uff0d\033\uff0d\034\uff0d\035\uff0d" +
+    "\036\uff0d\037\uff0d\040\uff0d\041\uff0d\042\uff0d\043\uff0d\044" +
+    "\uff0d\045\uff0d\050\uff0d\052\uff0d\053\uff0d\054\uff0d\055\uff0d" +
+    "\057\uff0d\060\uff0d\061\uff0d\062\uff0d\063\uff0d\064\uff0d\065" +
+    "\uff0d\066\uff0d\067\uff0d\070\uff0d\071\uff0d\074\uff0d\075\uff0d" +
+    "\076\uff0d\110\uff0d\140\uff0d\141\uff0d\142\uff0d\143\uff0d\144" +
+    "\uff0d\145\uff0d\146\uff0d\151\uff0d\152\uff0d\154\uff0d\001\002" +
+    "\000\006\023\uff67\047\u0190\001\002\000\004\023\u0196\001" +
+    "\002\000\004\016\175\001\002\000\004\023\uff66\001\002" +
+    "\000\006\022\u0194\023\uff68\001\002\000\006\022\uff65\023" +
+    "\uff65\001\002\000\004\016\175\001\002\000\006\022\uff64" +
+    "\023\uff64\001\002\000\012\016\uff85\020\uff4f\024\uff4f\140" +
+    "\u0199\001\002\000\160\002\uff51\004\uff51\005\uff51\006\uff51" +
+    "\007\uff51\010\uff51\011\uff51\012\uff51\013\uff51\016\uff51\020" +
+    "\uff51\023\uff51\024\uff51\026\uff51\033\uff51\034\uff51\035\uff51" +
+    "\036\uff51\037\uff51\040\uff51\041\uff51\042\uff51\043\uff51\044" +
+    "\uff51\045\uff51\050\uff51\052\uff51\053\uff51\054\uff51\055\uff51" +
+    "\057\uff51\060\uff51\061\uff51\062\uff51\063\uff51\064\uff51\065" +
+    "\uff51\066\uff51\067\uff51\070\uff51\071\uff51\074\uff51\075\uff51" +
+    "\076\uff51\110\uff51\140\uff51\141\uff51\142\uff51\143\uff51\144" +
+    "\uff51\145\uff51\146\uff51\151\uff51\152\uff51\154\uff51\001\002" +
+    "\000\010\020\uff4d\022\uff4d\024\uff4d\001\002\000\004\016" +
+    "\062\001\002\000\010\020\uff4e\022\u01ab\024\uff4e\001\002" +
+    "\000\006\020\u01a8\024\uff47\001\002\000\004\016\062\001" +
+    "\002\000\006\016\uff84\140\u01a5\001\002\000\004\016\u019f" +
+    "\001\002\000\014\020\uff49\022\uff49\023\uff49\024\uff49\026" +
+    "\u01a0\001\002\000\070\004\130\005\143\006\067\007\103" +
+    "\010\162\011\071\012\155\013\075\016\175\026\100\027" +
+    "\ufe69\050\140\052\125\053\134\074\135\075\066\076\132" +
+    "\077\123\100\104\101\120\102\112\141\171\142\151\143" +
+    "\107\144\111\145\070\146\124\001\002\000\012\020\uff4b" +
+    "\022\uff4b\023\u012c\024\uff4b\001\002\000\010\020\uff4a\022" +
+    "\uff4a\024\uff4a\001\002\000\004\027\u01a4\001\002\000\012" +
+    "\020\uff48\022\uff48\023\uff48\024\uff48\001\002\000\006\016" +
+    "\uff81\054\uff81\001\002\000\070\004\uff82\005\uff82\006\uff82" +
+    "\007\uff82\010\uff82\011\uff82\012\uff82\013\uff82\016\uff82\031" +
+    "\uff82\033\uff82\034\uff82\035\uff82\036\uff82\037\uff82\040\uff82" +
+    "\041\uff82\042\uff82\043\uff82\044\uff82\045\uff82\050\uff82\054" +
+    "\uff82\110\uff82\140\uff82\151\uff82\154\uff82\001\002\000\004" +
+    "\024\u01aa\001\002\000\074\004\uff9b\005\uff9b\006\uff9b\007" +
+    "\uff9b\010\uff9b\011\uff9b\012\uff9b\013\uff9b\016\uff9b\020\u0130" +
+    "\023\u0133\024\uff60\033\045\034\042\035\015\036\u0136\037" +
+    "\030\040\044\041\041\042\052\043\032\044\050\045\uff9b" +
+    "\050\uff9b\054\uff9b\110\uff9b\140\053\151\012\154\uff9b\001" +
+    "\002\000\004\024\uff46\001\002\000\160\002\uff50\004\uff50" +
+    "\005\uff50\006\uff50\007\uff50\010\uff50\011\uff50\012\uff50\013" +
+    "\uff50\016\uff50\020\uff50\023\uff50\024\uff50\026\uff50\033\uff50" +
+    "\034\uff50\035\uff50\036\uff50\037\uff50\040\uff50\041\uff50\042" +
+    "\uff50\043\uff50\044\uff50\045\uff50\050\uff50\052\uff50\053\uff50" +
+    "\054\uff50\055\uff50\057\uff50\060\uff50\061\uff50\062\uff50\063" +
+    "\uff50\064\uff50\065\uff50\066\uff50\067\uff50\070\uff50\071\uff50" +
+    "\074\uff50\075\uff50\076\uff50\110\uff50\140\uff50\141\uff50\142" +
+    "\uff50\143\uff50\144\uff50\145\uff50\146\uff50\151\uff50\152\uff50" +
+    "\154\uff50\001\002\000\006\016\uff85\140\u0199\001\002\000" +
+    "\010\020\uff4c\022\uff4c\024\uff4c\001\002\000\010\014\u015f" +
+    "\020\uff26\051\u0160\001\002\000\012\014\u0157\020\uff42\022" +
+    "\uff42\025\u01b5\001\002\000\006\020\uff44\022\uff44\001\002" +
+    "\000\014\014\uff40\020\uff40\022\uff40\025\uff40\026\u0149\001" +
+    "\002\000\006\020\u01b3\022\u01b2\001\002\000\004\016\u0154" +
+    "\001\002\000\074\004\uff45\005\uff45\006\uff45\007\uff45\010" +
+    "\uff45\011\uff45\012\uff45\013\uff45\016\uff45\020\uff45\023\uff45" +
+    "\024\uff45\033\uff45\034\uff45\035\uff45\036\uff45\037\uff45\040" +
+    "\uff45\041\uff45\042\uff45\043\uff45\044\uff45\045\uff45\050\uff45" +
+    "\054\uff45\110\uff45\140\uff45\151\uff45\154\uff45\001\002\000" +
+    "\006\020\uff43\022\uff43\001\002\000\070\004\130\005\143" +
+    "\006\067\007\103\010\162\011\071\012\155\013\075\016" +
+    "\175\023\u01b9\026\100\050\140\052\125\053\134\074\135" +
+    "\075\066\076\132\077\123\100\104\101\120\102\112\141" +
+    "\171\142\151\143\107\144\111\145\070\146\124\001\002" +
+    "\000\010\020\uff3e\022\uff3e\024\uff3e\001\002\000\006\020" +
+    "\uff41\022\uff41\001\002\000\010\020\uff3d\022\uff3d\024\uff3d" +
+    "\001\002\000\074\004\130\005\143\006\067\007\103\010" +
+    "\162\011\071\012\155\013\075\016\175\022\u01bb\023\u01b9" +
+    "\024\u01bd\026\100\050\140\052\125\053\134\074\135\075" +
+    "\066\076\132\077\123\100\104\101\120\102\112\141\171" +
+    "\142\151\143\107\144\111\145\070\146\124\001\002\000" +
+    "\006\022\u01bf\024\u01c0\001\002\000\004\024\u01be\001\002" +
+    "\000\006\022\ufee7\024\ufee7\001\002\000\130\014\ufee8\015" +
+    "\ufee8\017\ufee8\020\ufee8\021\ufee8\022\ufee8\024\ufee8\025\ufee8" +
+    "\027\ufee8\030\ufee8\075\ufee8\076\ufee8\077\ufee8\100\ufee8\103" +
+    "\ufee8\104\ufee8\105\ufee8\106\ufee8\107\ufee8\110\ufee8\111\ufee8" +
+    "\112\ufee8\113\ufee8\114\ufee8\115\ufee8\116\ufee8\117\ufee8\120" +
+    "\ufee8\121\ufee8\122\ufee8\123\ufee8\124\ufee8\125\ufee8\126\ufee8" +
+    "\127\ufee8\130\ufee8\131\ufee8\132\ufee8\133\ufee8\134\ufee8\135" +
+    "\ufee8\136\ufee8\137\ufee8\001\002\000\130\014\ufee9\015\ufee9" +
+    "\017\ufee9\020\ufee9\021\ufee9\022\ufee9\024\ufee9\025\ufee9\027" +
+    "\ufee9\030\ufee9\075\ufee9\076\ufee9\077\ufee9\100\ufee9\103\ufee9" +
+    "\104\ufee9\105\ufee9\106\ufee9\107\ufee9\110\ufee9\111\ufee9\112" +
+    "\ufee9\113\ufee9\114\ufee9\115\ufee9\116\ufee9\117\ufee9\120\ufee9" +
+    "\121\ufee9\122\ufee9\123\ufee9\124\ufee9\125\ufee9\126\ufee9\127" +
+    "\ufee9\130\ufee9\131\ufee9\132\ufee9\133\ufee9\134\ufee9\135\ufee9" +
+    "\136\ufee9\137\ufee9\001\002\000\072\004\130\005\143\006" +
+    "\067\007\103\010\162\011\071\012\155\013\075\016\175" +
+    "\023\u01b9\024\u01c2\026\100\050\140\052\125\053\134\074" +
+    "\135\075\066\076\132\077\123\100\104\101\120\102\112" +
+    "\141\171\142\151\143\107\144\111\145\070\146\124\001" +
+    "\002\000\130\014\ufeea\015\ufeea\017\ufeea\020\ufeea\021\ufeea" +
+    "\022\ufeea\024\ufeea\025\ufeea\027\ufeea\030\ufeea\075\ufeea\076" +
+    "\ufeea\077\ufeea\100\ufeea\103\ufeea\104\ufeea\105\ufeea\106\ufeea" +
+    "\107\ufeea\110\ufeea\111\ufeea\112\ufeea\113\ufeea\114\ufeea\115" +
+    "\ufeea\116\ufeea\117\ufeea\120\ufeea\121\ufeea\122\ufeea\123\ufeea" +
+    "\124\ufeea\125\ufeea\126\ufeea\127\ufeea\130\ufeea\131\ufeea\132" +
+    "\ufeea\133\ufeea\134\ufeea\135\ufeea\136\ufeea\137\ufeea\001\002" +
+    "\000\006\022\ufee6\024\ufee6\001\002\000\130\014\ufeeb\015" +
+    "\ufeeb\017\ufeeb\020\ufeeb\021\ufeeb\022\ufeeb\024\ufeeb\025\ufeeb" +
+    "\027\ufeeb\030\ufeeb\075\ufeeb\076\ufeeb\077\ufeeb\100\ufeeb\103" +
+    "\ufeeb\104\ufeeb\105\ufeeb\106\ufeeb\107\ufeeb\110\ufeeb\111\ufeeb" +
+    "\112\ufeeb\113\ufeeb\114\ufeeb\115\ufeeb\116\ufeeb\117\ufeeb\120" +
+    "\ufeeb\121\ufeeb\122\ufeeb\123\ufeeb\124\ufeeb\125\ufeeb\126\ufeeb" +
+    "\127\ufeeb\130\ufeeb\131\ufeeb\132\ufeeb\133\ufeeb\134\ufeeb\135" +
+    "\ufeeb\136\ufeeb\137\ufeeb\001\002\000\004\020\uff38\001\002" +
+    "\000\012\023\ufe01\046\ufe01\047\ufe01\110\u016b\001\002\000" +
+    "\010\023\uff6a\046\u01c7\047\uff6a\001\002\000\006\023\uff67" +
+    "\047\u0190\001\002\000\004\016\175\001\002\000\006\023" +
+    "\uff69\047\uff69\001\002\000\006\023\uff6b\047\uff6b\001\002" +
+    "\000\004\023\u012c\001\002\000\160\002\uff6c\004\uff6c\005" +
+    "\uff6c\006\uff6c\007\uff6c\010\uff6c\011\uff6c\012\uff6c\013\uff6c" +
+    "\016\uff6c\020\uff6c\023\uff6c\024\uff6c\026\uff6c\033\uff6c\034" +
+    "\uff6c\035\uff6c\036\uff6c\037\uff6c\040\uff6c\041\uff6c\042\uff6c" +
+    "\043\uff6c\044\uff6c\045\uff6c\050\uff6c\052\uff6c\053\uff6c\054" +
+    "\uff6c\055\uff6c\057\uff6c\060\uff6c\061\uff6c\062\uff6c\063\uff6c" +
+    "\064\uff6c\065\uff6c\066\uff6c\067\uff6c\070\uff6c\071\uff6c\074" +
+    "\uff6c\075\uff6c\076\uff6c\110\uff6c\140\uff6c\141\uff6c\142\uff6c" +
+    "\143\uff6c\144\uff6c\145\uff6c\146\uff6c\151\uff6c\152\uff6c\154" +
+    "\uff6c\001\002\000\034\004\ufdfd\005\ufdfd\006\ufdfd\007\ufdfd" +
+    "\010\ufdfd\011\ufdfd\012\ufdfd\013\ufdfd\016\ufdfd\023\ufdfd\046" +
+    "\ufdfd\047\ufdfd\050\ufdfd\001\002\000\004\022\u01eb\001\002" +
+    "\000\026\004\130\005\143\006\067\007\103\010\162\011" +
+    "\071\012\155\013\075\016\175\050\u01e6\001\002\000\010" +
+    "\022\uffea\046\uffea\111\uffea\001\002\000\004\022\ufdfe\001" +
+    "\002\000\010\022\ufdf7\046\u01d5\111\u01d4\001\002\000\004" +
+    "\022\ufdfb\001\002\000\004\022\ufdf8\001\002\000\034\004" +
+    "\ufdfa\005\ufdfa\006\ufdfa\007\ufdfa\010\ufdfa\011\ufdfa\012\ufdfa" +
+    "\013\ufdfa\016\ufdfa\023\ufdfa\046\ufdfa\047\ufdfa\050\ufdfa\001" +
+    "\002\000\024\004\130\005\143\006\067\007\103\010\162" +
+    "\011\071\012\155\013\075\016\175\001\002\000\034\004" +
+    "\ufdf9\005\ufdf9\006\ufdf9\007\ufdf9\010\ufdf9\011\ufdf9\012\ufdf9" +
+    "\013\ufdf9\016\ufdf9\023\ufdf9\046\ufdf9\047\ufdf9\050\ufdf9\001" +
+    "\002\000\010\022\ufdf2\111\314\117\u01db\001\002\000\034" +
+    "\004\ufdf5\005\ufdf5\006\ufdf5\007\ufdf5\010\ufdf5\011\ufdf5\012" +
+    "\ufdf5\013\ufdf5\016\ufdf5\023\ufdf5\046\ufdf5\047\ufdf5\050\ufdf5" +
+    "\001\002\000\004\022\ufdf3\001\002\000\004\022\ufdf6\001" +
+    "\002\000\024\004\130\005\143\006\067\007\103\010\162" +
+    "\011\071\012\155\013\075\016\175\001\002\000\006\022" +
+    "\ufdf0\117\u01db\001\002\000\034\004\ufdf4\005\ufdf4\006\ufdf4" +
+    "\007\ufdf4\010\ufdf4\011\ufdf4\012\ufdf4\013\ufdf4\016\ufdf4\023" +
+    "\ufdf4\046\ufdf4\047\ufdf4\050\ufdf4\001\002\000\034\004\ufdee" +
+    "\005\ufdee\006\ufdee\007\ufdee\010\ufdee\011\ufdee\012\ufdee\013" +
+    "\ufdee\016\ufdee\023\ufdee\046\ufdee\047\ufdee\050\ufdee\001\002" +
+    "\000\004\022\ufdf1\001\002\000\034\004\ufdef\005\ufdef\006" +
+    "\ufdef\007\ufdef\010\ufdef\011\ufdef\012\ufdef\013\ufdef\016\ufdef" +
+    "\023\ufdef\046\ufdef\047\ufdef\050\ufdef\001\002\000\010\022" +
+    "\uffe4\111\uffec\117\uffe4\001\002\000\004\111\314\001\002" +
+    "\000\034\004\ufdec\005\ufdec\006\ufdec\007\ufdec\010\ufdec\011" +
+    "\ufdec\012\ufdec\013\ufdec\016\ufdec\023\ufdec\046\ufdec\047\ufdec" +
+    "\050\ufdec\001\002\000\006\022\ufded\117\ufded\001\002\000" +
+    "\004\016\u0148\001\002\000\004\016\u0148\001\002\000\010" +
+    "\014\u015f\020\uff26\051\u0160\001\002\000\004\020\uff35\001" +
+    "\002\000\010\014\u015f\020\uff26\051\u0160\001\002\000\004" +
+    "\020\uff37\001\002\000\004\016\u01cf\001\002\000\034\004" +
+    "\ufdfc\005\ufdfc\006\ufdfc\007\ufdfc\010\ufdfc\011\ufdfc\012\ufdfc" +
+    "\013\ufdfc\016\ufdfc\023\ufdfc\046\ufdfc\047\ufdfc\050\ufdfc\001" +
+    "\002\000\004\022\ufdff\001\002\000\160\002\ufef8\004\ufef8" +
+    "\005\ufef8\006\ufef8\007\ufef8\010\ufef8\011\ufef8\012\ufef8\013" +
+    "\ufef8\016\ufef8\020\ufef8\023\ufef8\024\ufef8\026\ufef8\033\ufef8" +
+    "\034\ufef8\035\ufef8\036\ufef8\037\ufef8\040\ufef8\041\ufef8\042" +
+    "\ufef8\043\ufef8\044\ufef8\045\ufef8\050\ufef8\052\ufef8\053\ufef8" +
+    "\054\ufef8\055\ufef8\057\ufef8\060\ufef8\061\ufef8\062\ufef8\063" +
+    "\ufef8\064\ufef8\065\ufef8\066\ufef8\067\ufef8\070\ufef8\071\ufef8" +
+    "\074\ufef8\075\ufef8\076\ufef8\110\ufef8\140\ufef8\141\ufef8\142" +
+    "\ufef8\143\ufef8\144\ufef8\145\ufef8\146\ufef8\151\ufef8\152\ufef8" +
+    "\154\ufef8\001\002\000\072\004\ufef4\005\ufef4\006\ufef4\007" +
+    "\ufef4\010\ufef4\011\ufef4\012\ufef4\013\ufef4\016\ufef4\020\ufef4" +
+    "\024\ufef4\033\ufef4\034\ufef4\035\ufef4\036\ufef4\037\ufef4\040" +
+    "\ufef4\041\ufef4\042\ufef4\043\ufef4\044\ufef4\045\ufef4\050\ufef4" +
+    "\054\ufef4\110\ufef4\140\ufef4\151\ufef4\154\ufef4\001\002\000" +
+    "\072\004\ufeec\005\ufeec\006\ufeec\007\ufeec\010\ufeec\011\ufeec" +
+    "\012\ufeec\013\ufeec\016\ufeec\020\ufeec\024\ufeec\033\ufeec\034" +
+    "\ufeec\035\ufeec\036\ufeec\037\ufeec\040\ufeec\041\ufeec\042\ufeec" +
+    "\043\ufeec\044\ufeec\045\ufeec\050\ufeec\054\ufeec\110\ufeec\140" +
+    "\ufeec\151\ufeec\154\ufeec\001\002\000\006\022\ufefa\023\ufefa" +
+    "\001\002\000\010\023\ufe00\046\ufe00\047\ufe00\001\002\000" +
+    "\006\023\uff67\047\u0190\001\002\000\004\023\u0196\001\002" +
+    "\000\074\004\uff55\005\uff55\006\uff55\007\uff55\010\uff55\011" +
+    "\uff55\012\uff55\013\uff55\016\uff55\020\uff55\023\uff55\024\uff55" +
+    "\033\uff55\034\uff55\035\uff55\036\uff55\037\uff55\040\uff55\041" +
+    "\uff55\042\uff55\043\uff55\044\uff55\045\uff55\050\uff55\054\uff55" +
+    "\110\uff55\140\uff55\151\uff55\154\uff55\001\002\000\032\004" +
+    "\uff2c\005\uff2c\006\uff2c\007\uff2c\010\uff2c\011\uff2c\012\uff2c" +
+    "\013\uff2c\016\uff2c\027\uff32\040\u0151\140\164\001\002\000" +
+    "\004\027\u01f8\001\002\000\006\023\uff1c\051\uff1c\001\002" +
+    "\000\004\023\u01fa\001\002\000\152\004\130\005\143\006" +
+    "\067\007\103\010\162\011\071\012\155\013\075\016\u01ff" +
+    "\020\u0226\023\u0133\024\u0205\026\u020c\033\045\034\042\035" +
+    "\015\036\021\037\030\040\044\041\041\042\u0230\043\032" +
+    "\044\050\045\uff9b\050\140\052\u0227\053\u0217\054\uff9b\055" +
+    "\u0232\057\u021d\062\u021e\063\u0219\064\u021f\065\u0223\066\u0231" +
+    "\067\u0220\070\u0206\071\u0221\074\135\075\066\076\132\110" +
+    "\u011e\140\053\141\171\142\151\143\107\144\111\145\070" +
+    "\146\124\151\012\152\u0235\154\uff9b\001\002\000\074\004" +
+    "\uff1e\005\uff1e\006\uff1e\007\uff1e\010\uff1e\011\uff1e\012\uff1e" +
+    "\013\uff1e\016\uff1e\020\uff1e\023\uff1e\024\uff1e\033\uff1e\034" +
+    "\uff1e\035\uff1e\036\uff1e\037\uff1e\040\uff1e\041\uff1e\042\uff1e" +
+    "\043\uff1e\044\uff1e\045\uff1e\050\uff1e\054\uff1e\110\uff1e\140" +
+    "\uff1e\151\uff1e\154\uff1e\001\002\000\150\004\130\005\143" +
+    "\006\067\007\103\010\162\011\071\012\155\013\075\016" +
+    "\u01ff\020\u0226\023\u0133\024\u03c3\026\u020c\033\045\034\042" +
+    "\035\015\036\021\037\030\040\044\041\041\042\u0230\043" +
+    "\032\044\050\045\uff9b\050\140\052\125\053\134\054\uff9b" +
+    "\055\u0232\057\u021d\062\u021e\063\u0219\064\u021f\065\u0223\066" +
+    "\u0231\067\u0220\070\u0206\071\u0221\074\135\075\066\076\132" +
+    "\140\053\141\171\142\151\143\107\144\111\145\070\146" +
+    "\124\151\012\152\u0235\154\uff9b\001\002\000\154\004\ufed3" +
+    "\005\ufed3\006\ufed3\007\ufed3\010\ufed3\011\ufed3\012\ufed3\013" +
+    "\ufed3\016\ufed3\020\ufed3\023\ufed3\024\ufed3\026\ufed3\033\ufed3" +
+    "\034\ufed3\035\ufed3\036\ufed3\037\ufed3\040\ufed3\041\ufed3\042" +
+    "\ufed3\043\ufed3\044\ufed3\045\ufed3\050\ufed3\052\ufed3\053\ufed3" +
+    "\054\ufed3\055\ufed3\057\ufed3\060\ufed3\061\ufed3\062\ufed3\063" +
+    "\ufed3\064\ufed3\065\ufed3\066\ufed3\067\ufed3\070\ufed3\071\ufed3" +
+    "\074\ufed3\075\ufed3\076\ufed3\140\ufed3\141\ufed3\142\ufed3\143" +
+    "\ufed3\144\ufed3\145\ufed3\146\ufed3\151\ufed3\152\ufed3\154\ufed3" +
+    "\001\002\000\050\014\ufe79\017\ufe79\020\ufeb6\022\ufeb6\025" +
+    "\ufe79\027\ufeb6\075\ufe79\076\ufe79\125\ufe79\126\ufe79\127\ufe79" +
+    "\130\ufe79\131\ufe79\132\ufe79\133\ufe79\134\ufe79\135\ufe79\136" +
+    "\ufe79\137\ufe79\001\002\000\052\014\uffb9\016\uffb9\017\uffb9" +
+    "\025\uffb9\026\uffb9\030\u03c2\075\uffb9\076\uffb9\110\uffb9\125" +
+    "\uffb9\126\uffb9\127\uffb9\130\uffb9\131\uffb9\132\uffb9\133\uffb9" +
+    "\134\uffb9\135\uffb9\136\uffb9\137\uffb9\001\002\000\156\004" +
+    "\ufec3\005\ufec3\006\ufec3\007\ufec3\010\ufec3\011\ufec3\012\ufec3" +
+    "\013\ufec3\016\ufec3\020\ufec3\023\ufec3\024\ufec3\026\ufec3\033" +
+    "\ufec3\034\ufec3\035\ufec3\036\ufec3\037\ufec3\040\ufec3\041\ufec3" +
+    "\042\ufec3\043\ufec3\044\ufec3\045\ufec3\050\ufec3\052\ufec3\053" +
+    "\ufec3\054\ufec3\055\ufec3\056\ufec3\057\ufec3\060\ufec3\061\ufec3" +
+    "\062\ufec3\063\ufec3\064\ufec3\065\ufec3\066\ufec3\067\ufec3\070" +
+    "\ufec3\071\ufec3\074\ufec3\075\ufec3\076\ufec3\140\ufec3\141\ufec3" +
+    "\142\ufec3\143\ufec3\144\ufec3\145\ufec3\146\ufec3\151\ufec3\152" +
+    "\ufec3\154\ufec3\001\002\000\154\004\ufee2\005\ufee2\006\ufee2" +
+    "\007\ufee2\010\ufee2\011\ufee2\012\ufee2\013\ufee2\016\ufee2\020" +
+    "\ufee2\023\ufee2\024\ufee2\026\ufee2\033\ufee2\034\ufee2\035\ufee2" +
+    "\036\ufee2\037\ufee2\040\ufee2\041\ufee2\042\ufee2\043\ufee2\044" +
+    "\ufee2\045\ufee2\050\ufee2\052\ufee2\053\ufee2\054\ufee2\055\ufee2" +
+    "\057\ufee2\060\ufee2\061\ufee2\062\ufee2\063\ufee2\064\ufee2\065" +
+    "\ufee2\066\ufee2\067\ufee2\070\ufee2\071\ufee2\074\ufee2\075\ufee2" +
+    "\076\ufee2\140\ufee2\141\ufee2\142\ufee2\143\ufee2\144\ufee2\145" +
+    "\ufee2\146\ufee2\151\ufee2\152\ufee2\154\ufee2\001\002\000\156" +
+    "\004\ufec8\005\ufec8\006\ufec8\007\ufec8\010\ufec8\011\ufec8\012" +
+    "\ufec8\013\ufec8\016\ufec8\020\ufec8\023\ufec8\024\ufec8\026\ufec8" +
+    "\033\ufec8\034\ufec8\035\ufec8\036\ufec8\037\ufec8\040\ufec8\041" +
+    "\ufec8\042\ufec8\043\ufec8\044\ufec8\045\ufec8\050\ufec8\052\ufec8" +
+    "\053\ufec8\054\ufec8\055\ufec8\056\ufec8\057\ufec8\060\ufec8\061" +
+    "\ufec8\062\ufec8\063\ufec8\064\ufec8\065\ufec8\066\ufec8\067\ufec8" +
+    "\070\ufec8\071\ufec8\074\ufec8\075\ufec8\076\ufec8\140\ufec8\141" +
+    "\ufec8\142\ufec8\143\ufec8\144\ufec8\145\ufec8\146\ufec8\151\ufec8" +
+    "\152\ufec8\154\ufec8\001\002\000\154\004\ufede\005\ufede\006" +
+    "\ufede\007\ufede\010\ufede\011\ufede\012\ufede\013\ufede\016\ufede" +
+    "\020\ufede\023\ufede\024\ufede\026\ufede\033\ufede\034\ufede\035" +
+    "\ufede\036\ufede\037\ufede\040\ufede\041\ufede\042\ufede\043\ufede" +
+    "\044\ufede\045\ufede\050\ufede\052\ufede\053\ufede\054\ufede\055" +
+    "\ufede\057\ufede\060\ufede\061\ufede\062\ufede\063\ufede\064\ufede" +
+    "\065\ufede\066\ufede\067\ufede\070\ufede\071\ufede\074\ufede\075" +
+    "\ufede\076\ufede\140\ufede\141\ufede\142\ufede\143\ufede\144\ufede" +
+    "\145\ufede\146\ufede\151\ufede\152\ufede\154\ufede\001\002\000" +
+    "\006\052\u03b9\053\u03b8\001\002\000\074\004\uff18\005\uff18" +
+    "\006\uff18\007\uff18\010\uff18\011\uff18\012\uff18\013\uff18\016" +
+    "\uff18\020\uff18\023\uff18\024\uff18\033\uff18\034\uff18\035\uff18" +
+    "\036\uff18\037\uff18\040\uff18\041\uff18\042\uff18\043\uff18\044" +
+    "\uff18\045\uff18\050\uff18\054\uff18\110\uff18\140\uff18\151\uff18" +
+    "\154\uff18\001\002\000\066\004\130\005\143\006\067\007" +
+    "\103\010\162\011\071\012\155\013\075\016\175\026\100" +
+    "\050\140\052\125\053\134\074\135\075\066\076\132\077" +
+    "\123\100\104\101\120\102\112\141\171\142\151\143\107" +
+    "\144\111\145\070\146\124\001\002\000\004\020\u03b5\001" +
+    "\002\000\156\004\ufec1\005\ufec1\006\ufec1\007\ufec1\010\ufec1" +
+    "\011\ufec1\012\ufec1\013\ufec1\016\ufec1\020\ufec1\023\ufec1\024" +
+    "\ufec1\026\ufec1\033\ufec1\034\ufec1\035\ufec1\036\ufec1\037\ufec1" +
+    "\040\ufec1\041\ufec1\042\ufec1\043\ufec1\044\ufec1\045\ufec1\050" +
+    "\ufec1\052\ufec1\053\ufec1\054\ufec1\055\ufec1\056\ufec1\057\ufec1" +
+    "\060\ufec1\061\ufec1\062\ufec1\063\ufec1\064\ufec1\065\ufec1\066" +
+    "\ufec1\067\ufec1\070\ufec1\071\ufec1\074\ufec1\075\ufec1\076\ufec1" +
+    "\140\ufec1\141\ufec1\142\ufec1\143\ufec1\144\ufec1\145\ufec1\146" +
+    "\ufec1\151\ufec1\152\ufec1\154\ufec1\001\002\000\050\014\ufe7b" +
+    "\017\ufe7b\020\ufeb5\022\ufeb5\025\ufe7b\027\ufeb5\075\ufe7b\076" +
+    "\ufe7b\125\ufe7b\126\ufe7b\127\ufe7b\130\ufe7b\131\ufe7b\132\ufe7b" +
+    "\133\ufe7b\134\ufe7b\135\ufe7b\136\ufe7b\137\ufe7b\001\002\000" +
+    "\156\004\ufecb\005\ufecb\006\ufecb\007\ufecb\010\ufecb\011\ufecb" +
+    "\012\ufecb\013\ufecb\016\ufecb\020\ufecb\023\ufecb\024\ufecb\026" +
+    "\ufecb\033\ufecb\034\ufecb\035\ufecb\036\ufecb\037\ufecb\040\ufecb" +
+    "\041\ufecb\042\ufecb\043\ufecb\044\ufecb\045\ufecb\050\ufecb\052" +
+    "\ufecb\053\ufecb\054\ufecb\055\ufecb\056\ufecb\057\ufecb\060\ufecb" +
+    "\061\ufecb\062\ufecb\063\ufecb\064\ufecb\065\ufecb\066\ufecb\067" +
+    "\ufecb\070\ufecb\071\ufecb\074\ufecb\075\ufecb\076\ufecb\140\ufecb" +
+    "\141\ufecb\142\ufecb\143\ufecb\144\ufecb\145\ufecb\146\ufecb\151" +
+    "\ufecb\152\ufecb\154\ufecb\001\002\000\044\020\ufeb7\022\ufeb7" +
+    "\025\ufe49\027\ufeb7\075\ufe49\076\ufe49\125\ufe49\126\ufe49\127" +
+    "\ufe49\130\ufe49\131\ufe49\132\ufe49\133\ufe49\134\ufe49\135\ufe49" +
+    "\136\ufe49\137\ufe49\001\002\000\066\004\130\005\143\006" +
+    "\067\007\103\010\162\011\071\012\155\013\075\016\175" +
+    "\026\100\050\140\052\125\053\134\074\135\075\066\076" +
+    "\132\077\u0346\100\u033c\101\u0344\102\u0340\141\171\142\151" +
+    "\143\107\144\111\145\070\146\124\001\002\000\036\025" +
+    "\245\075\235\076\251\125\236\126\237\127\252\130\242" +
+    "\131\246\132\244\133\243\134\241\135\240\136\234\137" +
+    "\250\001\002\000\154\004\ufedc\005\ufedc\006\ufedc\007\ufedc" +
+    "\010\ufedc\011\ufedc\012\ufedc\013\ufedc\016\ufedc\020\ufedc\023" +
+    "\ufedc\024\ufedc\026\ufedc\033\ufedc\034\ufedc\035\ufedc\036\ufedc" +
+    "\037\ufedc\040\ufedc\041\ufedc\042\ufedc\043\ufedc\044\ufedc\045" +
+    "\ufedc\050\ufedc\052\ufedc\053\ufedc\054\ufedc\055\ufedc\057\ufedc" +
+    "\060\ufedc\061\ufedc\062\ufedc\063\ufedc\064\ufedc\065\ufedc\066" +
+    "\ufedc\067\ufedc\070\ufedc\071\ufedc\074\ufedc\075\ufedc\076\ufedc" +
+    "\140\ufedc\141\ufedc\142\ufedc\143\ufedc\144\ufedc\145\ufedc\146" +
+    "\ufedc\151\ufedc\152\ufedc\154\ufedc\001\002\000\154\004\ufee0" +
+    "\005\ufee0\006\ufee0\007\ufee0\010\ufee0\011\ufee0\012\ufee0\013" +
+    "\ufee0\016\ufee0\020\ufee0\023\ufee0\024\ufee0\026\ufee0\033\ufee0" +
+    "\034\ufee0\035\ufee0\036\ufee0\037\ufee0\040\ufee0\041\ufee0\042" +
+    "\ufee0\043\ufee0\044\ufee0\045\ufee0\050\ufee0\052\ufee0\053\ufee0" +
+    "\054\ufee0\055\ufee0\057\ufee0\060\ufee0\061\ufee0\062\ufee0\063" +
+    "\ufee0\064\ufee0\065\ufee0\066\ufee0\067\ufee0\070\ufee0\071\ufee0" +
+    "\074\ufee0\075\ufee0\076\ufee0\140\ufee0\141\ufee0\142\ufee0\143" +
+    "\ufee0\144\ufee0\145\ufee0\146\ufee0\151\ufee0\152\ufee0\154\ufee0" +
+    "\001\002\000\150\004\130\005\143\006\067\007\103\010" +
+    "\162\011\071\012\155\013\075\016\u01ff\020\u0226\023\u0133" +
+    "\024\u0335\026\u020c\033\045\034\042\035\015\036\021\037" +
+    "\030\040\044\041\041\042\u0230\043\032\044\050\045\uff9b" +
+    "\050\140\052\125\053\134\054\uff9b\055\u0232\057\u021d\062" +
+    "\u021e\063\u0219\064\u021f\065\u0223\066\u0231\067\u0220\070\u0206" +
+    "\071\u0221\074\135\075\066\076\132\140\053\141\171\142" +
+    "\151\143\107\144\111\145\070\146\124\151\012\152\u0235" +
+    "\154\uff9b\001\002\000\156\004\ufec6\005\ufec6\006\ufec6\007" +
+    "\ufec6\010\ufec6\011\ufec6\012\ufec6\013\ufec6\016\ufec6\020\ufec6" +
+    "\023\ufec6\024\ufec6\026\ufec6\033\ufec6\034\ufec6\035\ufec6\036" +
+    "\ufec6\037\ufec6\040\ufec6\041\ufec6\042\ufec6\043\ufec6\044\ufec6" +
+    "\045\ufec6\050\ufec6\052\ufec6\053\ufec6\054\ufec6\055\ufec6\056" +
+    "\ufec6\057\ufec6\060\ufec6\061\ufec6\062\ufec6\063\ufec6\064\ufec6" +
+    "\065\ufec6\066\ufec6\067\ufec6\070\ufec6\071\ufec6\074\ufec6\075" +
+    "\ufec6\076\ufec6\140\ufec6\141\ufec6\142\ufec6\143\ufec6\144\ufec6" +
+    "\145\ufec6\146\ufec6\151\ufec6\152\ufec6\154\ufec6\001\002\000" +
+    "\156\004\ufec0\005\ufec0\006\ufec0\007\ufec0\010\ufec0\011\ufec0" +
+    "\012\ufec0\013\ufec0\016\ufec0\020\ufec0\023\ufec0\024\ufec0\026" +
+    "\ufec0\033\ufec0\034\ufec0\035\ufec0\036\ufec0\037\ufec0\040\ufec0" +
+    "\041\ufec0\042\ufec0\043\ufec0\044\ufec0\045\ufec0\050\ufec0\052" +
+    "\ufec0\053\ufec0\054\ufec0\055\ufec0\056\ufec0\057\ufec0\060\ufec0" +
+    "\061\ufec0\062\ufec0\063\ufec0\064\ufec0\065\ufec0\066\ufec0\067" +
+    "\ufec0\070\ufec0\071\ufec0\074\ufec0\075\ufec0\076\ufec0\140\ufec0" +
+    "\141\ufec0\142\ufec0\143\ufec0\144\ufec0\145\ufec0\146\ufec0\151" +
+    "\ufec0\152\ufec0\154\ufec0\001\002\000\004\020\u0333\001\002" +
+    "\000\010\020\ufeba\022\ufeba\027\ufeba\001\002\000\156\004" +
+    "\ufeca\005\ufeca\006\ufeca\007\ufeca\010\ufeca\011\ufeca\012\ufeca" +
+    "\013\ufeca\016\ufeca\020\ufeca\023\ufeca\024\ufeca\026\ufeca\033" +
+    "\ufeca\034\ufeca\035\ufeca\036\ufeca\037\ufeca\040\ufeca\041\ufeca" +
+    "\042\ufeca\043\ufeca\044\ufeca\045\ufeca\050\ufeca\052\ufeca\053" +
+    "\ufeca\054\ufeca\055\ufeca\056\ufeca\057\ufeca\060\ufeca\061\ufeca" +
+    "\062\ufeca\063\ufeca\064\ufeca\065\ufeca\066\ufeca\067\ufeca\070" +
+    "\ufeca\071\ufeca\074\ufeca\075\ufeca\076\ufeca\140\ufeca\141\ufeca" +
+    "\142\ufeca\143\ufeca\144\ufeca\145\ufeca\146\ufeca\151\ufeca\152" +
+    "\ufeca\154\ufeca\001\002\000\156\004\ufec4\005\ufec4\006\ufec4" +
+    "\007\ufec4\010\ufec4\011\ufec4\012\ufec4\013\ufec4\016\ufec4\020" +
+    "\ufec4\023\ufec4\024\ufec4\026\ufec4\033\ufec4\034\ufec4\035\ufec4" +
+    "\036\ufec4\037\ufec4\040\ufec4\041\ufec4\042\ufec4\043\ufec4\044" +
+    "\ufec4\045\ufec4\050\ufec4\052\ufec4\053\ufec4\054\ufec4\055\ufec4" +
+    "\056\ufec4\057\ufec4\060\ufec4\061\ufec4\062\ufec4\063\ufec4\064" +
+    "\ufec4\065\ufec4\066\ufec4\067\ufec4\070\ufec4\071\ufec4\074\ufec4" +
+    "\075\ufec4\076\ufec4\140\ufec4\141\ufec4\142\ufec4\143\ufec4\144" +
+    "\ufec4\145\ufec4\146\ufec4\151\ufec4\152\ufec4\154\ufec4\001\002" +
+    "\000\006\017\u0326\026\u0325\001\002\000\154\004\ufed6\005" +
+    "\ufed6\006\ufed6\007\ufed6\010\ufed6\011\ufed6\012\ufed6\013\ufed6" +
+    "\016\ufed6\020\ufed6\023\ufed6\024\ufed6\026\ufed6\033\ufed6\034" +
+    "\ufed6\035\ufed6\036\ufed6\037\ufed6\040\ufed6\041\ufed6\042\ufed6" +
+    "\043\ufed6\044\ufed6\045\ufed6\050\ufed6\052\ufed6\053\ufed6\054" +
+    "\ufed6\055\ufed6\057\ufed6\060\ufed6\061\ufed6\062\ufed6\063\ufed6" +
+    "\064\ufed6\065\ufed6\066\ufed6\067\ufed6\070\ufed6\071\ufed6\074" +
+    "\ufed6\075\ufed6\076\ufed6\140\ufed6\141\ufed6\142\ufed6\143\ufed6" +
+    "\144\ufed6\145\ufed6\146\ufed6\151\ufed6\152\ufed6\154\ufed6\001" +
+    "\002\000\004\026\u0322\001\002\000\154\004\ufedd\005\ufedd" +
+    "\006\ufedd\007\ufedd\010\ufedd\011\ufedd\012\ufedd\013\ufedd\016" +
+    "\ufedd\020\ufedd\023\ufedd\024\ufedd\026\ufedd\033\ufedd\034\ufedd" +
+    "\035\ufedd\036\ufedd\037\ufedd\040\ufedd\041\ufedd\042\ufedd\043" +
+    "\ufedd\044\ufedd\045\ufedd\050\ufedd\052\ufedd\053\ufedd\054\ufedd" +
+    "\055\ufedd\057\ufedd\060\ufedd\061\ufedd\062\ufedd\063\ufedd\064" +
+    "\ufedd\065\ufedd\066\ufedd\067\ufedd\070\ufedd\071\ufedd\074\ufedd" +
+    "\075\ufedd\076\ufedd\140\ufedd\141\ufedd\142\ufedd\143\ufedd\144" +
+    "\ufedd\145\ufedd\146\ufedd\151\ufedd\152\ufedd\154\ufedd\001\002" +
+    "\000\004\016\u0154\001\002\000\154\004\ufed8\005\ufed8\006" +
+    "\ufed8\007\ufed8\010\ufed8\011\ufed8\012\ufed8\013\ufed8\016\ufed8" +
+    "\020\ufed8\023\ufed8\024\ufed8\026\ufed8\033\ufed8\034\ufed8\035" +
+    "\ufed8\036\ufed8\037\ufed8\040\ufed8\041\ufed8\042\ufed8\043\ufed8" +
+    "\044\ufed8\045\ufed8\050\ufed8\052\ufed8\053\ufed8\054\ufed8\055" +
+    "\ufed8\057\ufed8\060\ufed8\061\ufed8\062\ufed8\063\ufed8\064\ufed8" +
+    "\065\ufed8\066\ufed8\067\ufed8\070\ufed8\071\ufed8\074\ufed8\075" +
+    "\ufed8\076\ufed8\140\ufed8\141\ufed8\142\ufed8\143\ufed8\144\ufed8" +
+    "\145\ufed8\146\ufed8\151\ufed8\152\ufed8\154\ufed8\001\002\000" +
+    "\004\026\u030a\001\002\000\112\004\130\005\143\006\067" +
+    "\007\103\010\162\011\071\012\155\013\075\016\u01ff\020" +
+    "\u0226\023\u0133\026\u020c\042\u024b\050\140\052\125\053\134" +
+    "\055\u0232\057\u021d\062\u021e\063\u0219\064\u021f\065\u0223\066" +
+    "\u0231\067\u0220\070\u0206\071\u0221\074\135\075\066\076\132" +
+    "\141\171\142\151\143\107\144\111\145\070\146\124\152" +
+    "\u0235\001\002\000\006\016\u02f1\026\u02f2\001\002\000\070" +
+    "\004\130\005\143\006\067\007\103\010\162\011\071\012" +
+    "\155\013\075\016\175\020\ufe06\026\100\050\140\052\125" +
+    "\053\134\074\135\075\066\076\132\077\123\100\104\101" +
+    "\120\102\112\141\171\142\151\143\107\144\111\145\070" +
+    "\146\124\001\002\000\004\023\u0133\001\002\000\156\004" +
+    "\ufec9\005\ufec9\006\ufec9\007\ufec9\010\ufec9\011\ufec9\012\ufec9" +
+    "\013\ufec9\016\ufec9\020\ufec9\023\ufec9\024\ufec9\026\ufec9\033" +
+    "\ufec9\034\ufec9\035\ufec9\036\ufec9\037\ufec9\040\ufec9\041\ufec9" +
+    "\042\ufec9\043\ufec9\044\ufec9\045\ufec9\050\ufec9\052\ufec9\053" +
+    "\ufec9\054\ufec9\055\ufec9\056\ufec9\057\ufec9\060\ufec9\061\ufec9" +
+    "\062\ufec9\063\ufec9\064\ufec9\065\ufec9\066\ufec9\067\ufec9\070" +
+    "\ufec9\071\ufec9\074\ufec9\075\ufec9\076\ufec9\140\ufec9\141\ufec9" +
+    "\142\ufec9\143\ufec9\144\ufec9\145\ufec9\146\ufec9\151\ufec9\152" +
+    "\ufec9\154\ufec9\001\002\000\006\016\u02b1\020\ufe93\001\002" +
+    "\000\050\014\u0269\016\uffe9\017\u02d4\025\ufe4b\026\u026a\075" +
+    "\ufe4b\076\ufe4b\110\uffe9\125\ufe4b\126\ufe4b\127\ufe4b\130\ufe4b" +
+    "\131\ufe4b\132\ufe4b\133\ufe4b\134\ufe4b\135\ufe4b\136\ufe4b\137" +
+    "\ufe4b\001\002\000\032\004\130\005\143\006\067\007\103" +
+    "\010\162\011\071\012\155\013\075\016\175\045\uff9a\054" +
+    "\uff9a\154\uff9a\001\002\000\156\004\ufebf\005\ufebf\006\ufebf" +
+    "\007\ufebf\010\ufebf\011\ufebf\012\ufebf\013\ufebf\016\ufebf\020" +
+    "\ufebf\023\ufebf\024\ufebf\026\ufebf\033\ufebf\034\ufebf\035\ufebf" +
+    "\036\ufebf\037\ufebf\040\ufebf\041\ufebf\042\ufebf\043\ufebf\044" +
+    "\ufebf\045\ufebf\050\ufebf\052\ufebf\053\ufebf\054\ufebf\055\ufebf" +
+    "\056\ufebf\057\ufebf\060\ufebf\061\ufebf\062\ufebf\063\ufebf\064" +
+    "\ufebf\065\ufebf\066\ufebf\067\ufebf\070\ufebf\071\ufebf\074\ufebf" +
+    "\075\ufebf\076\ufebf\140\ufebf\141\ufebf\142\ufebf\143\ufebf\144" +
+    "\ufebf\145\ufebf\146\ufebf\151\ufebf\152\ufebf\154\ufebf\001\002" +
+    "\000\044\014\ufe7e\017\ufe7e\025\ufe7e\026\u02d0\075\ufe7e\076" +
+    "\ufe7e\125\ufe7e\126\ufe7e\127\ufe7e\130\ufe7e\131\ufe7e\132\ufe7e" +
+    "\133\ufe7e\134\ufe7e\135\ufe7e\136\ufe7e\137\ufe7e\001\002\000" +
+    "\010\014\265\016\ufff9\017\u0118\001\002\000\010\020\ufebb" +
+    "\022\ufebb\027\ufebb\001\002\000\154\004\ufed4\005\ufed4\006" +
+    "\ufed4\007\ufed4\010\ufed4\011\ufed4\012\ufed4\013\ufed4\016\ufed4" +
+    "\020\ufed4\023\ufed4\024\ufed4\026\ufed4\033\ufed4\034\ufed4\035" +
+    "\ufed4\036\ufed4\037\ufed4\040\ufed4\041\ufed4\042\ufed4\043\ufed4" +
+    "\044\ufed4\045\ufed4\050\ufed4\052\ufed4\053\ufed4\054\ufed4\055" +
+    "\ufed4\057\ufed4\060\ufed4\061\ufed4\062\ufed4\063\ufed4\064\ufed4" +
+    "\065\ufed4\066\ufed4\067\ufed4\070\ufed4\071\ufed4\074\ufed4\075" +
+    "\ufed4\076\ufed4\140\ufed4\141\ufed4\142\ufed4\143\ufed4\144\ufed4" +
+    "\145\ufed4\146\ufed4\151\ufed4\152\ufed4\154\ufed4\001\002\000" +
+    "\040\017\u02b3\025\ufe4c\075\ufe4c\076\ufe4c\125\ufe4c\126\ufe4c" +
+    "\127\ufe4c\130\ufe4c\131\ufe4c\132\ufe4c\133\ufe4c\134\ufe4c\135" +
+    "\ufe4c\136\ufe4c\137\ufe4c\001\002\000\156\004\ufec5\005\ufec5" +
+    "\006\ufec5\007\ufec5\010\ufec5\011\ufec5\012\ufec5\013\ufec5\016" +
+    "\ufec5\020\ufec5\023\ufec5\024\ufec5\026\ufec5\033\ufec5\034\ufec5" +
+    "\035\ufec5\036\ufec5\037\ufec5\040\ufec5\041\ufec5\042\ufec5\043" +
+    "\ufec5\044\ufec5\045\ufec5\050\ufec5\052\ufec5\053\ufec5\054\ufec5" +
+    "\055\ufec5\056\ufec5\057\ufec5\060\ufec5\061\ufec5\062\ufec5\063" +
+    "\ufec5\064\ufec5\065\ufec5\066\ufec5\067\ufec5\070\ufec5\071\ufec5" +
+    "\074\ufec5\075\ufec5\076\ufec5\140\ufec5\141\ufec5\142\ufec5\143" +
+    "\ufec5\144\ufec5\145\ufec5\146\ufec5\151\ufec5\152\ufec5\154\ufec5" +
+    "\001\002\000\010\020\ufeb9\022\ufeb9\027\ufeb9\001\002\000" +
+    "\154\004\ufed5\005\ufed5\006\ufed5\007\ufed5\010\ufed5\011\ufed5" +
+    "\012\ufed5\013\ufed5\016\ufed5\020\ufed5\023\ufed5\024\ufed5\026" +
+    "\ufed5\033\ufed5\034\ufed5\035\ufed5\036\ufed5\037\ufed5\040\ufed5" +
+    "\041\ufed5\042\ufed5\043\ufed5\044\ufed5\045\ufed5\050\ufed5\052" +
+    "\ufed5\053\ufed5\054\ufed5\055\ufed5\057\ufed5\060\ufed5\061\ufed5" +
+    "\062\ufed5\063\ufed5\064\ufed5\065\ufed5\066\ufed5\067\ufed5\070" +
+    "\ufed5\071\ufed5\074\ufed5\075\ufed5\076\ufed5\140\ufed5\141\ufed5" +
+    "\142\ufed5\143\ufed5\144\ufed5\145\ufed5\146\ufed5\151\ufed5\152" +
+    "\ufed5\154\ufed5\001\002\000\154\004\ufed7\005\ufed7\006\ufed7" +
+    "\007\ufed7\010\ufed7\011\ufed7\012\ufed7\013\ufed7\016\ufed7\020" +
+    "\ufed7\023\ufed7\024\ufed7\026\ufed7\033\ufed7\034\ufed7\035\ufed7" +
+    "\036\ufed7\037\ufed7\040\ufed7\041\ufed7\042\ufed7\043\ufed7\044" +
+    "\ufed7\045\ufed7\050\ufed7\052\ufed7\053\ufed7\054\ufed7\055\ufed7" +
+    "\057\ufed7\060\ufed7\061\ufed7\062\ufed7\063\ufed7\064\ufed7\065" +
+    "\ufed7\066\ufed7\067\ufed7\070\ufed7\071\ufed7\074\ufed7\075\ufed7" +
+    "\076\ufed7\140\ufed7\141\ufed7\142\ufed7\143\ufed7\144\ufed7\145" +
+    "\ufed7\146\ufed7\151\ufed7\152\ufed7\154\ufed7\001\002\000\064" +
+    "\004\uff89\005\uff89\006\uff89\007\uff89\010\uff89\011\uff89\012" +
+    "\uff89\013\uff89\016\uff89\026\u0255\033\uff89\034\uff89\035\uff89" +
+    "\036\uff89\037\uff89\040\uff89\041\uff89\042\uff89\043\uff89\044" +
+    "\uff89\045\uff89\054\uff89\140\uff89\151\uff89\154\uff89\001\002" +
+    "\000\006\016\u02b1\020\ufe93\001\002\000\004\026\u023e\001" +
+    "\002\000\156\004\ufec2\005\ufec2\006\ufec2\007\ufec2\010\ufec2" +
+    "\011\ufec2\012\ufec2\013\ufec2\016\ufec2\020\ufec2\023\ufec2\024" +
+    "\ufec2\026\ufec2\033\ufec2\034\ufec2\035\ufec2\036\ufec2\037\ufec2" +
+    "\040\ufec2\041\ufec2\042\ufec2\043\ufec2\044\ufec2\045\ufec2\050" +
+    "\ufec2\052\ufec2\053\ufec2\054\ufec2\055\ufec2\056\ufec2\057\ufec2" +
+    "\060\ufec2\061\ufec2\062\ufec2\063\ufec2\064\ufec2\065\ufec2\066" +
+    "\ufec2\067\ufec2\070\ufec2\071\ufec2\074\ufec2\075\ufec2\076\ufec2" +
+    "\140\ufec2\141\ufec2\142\ufec2\143\ufec2\144\ufec2\145\ufec2\146" +
+    "\ufec2\151\ufec2\152\ufec2\154\ufec2\001\002\000\044\020\ufeb8" +
+    "\022\ufeb8\025\ufe4a\027\ufeb8\075\ufe4a\076\ufe4a\125\ufe4a\126" +
+    "\ufe4a\127\ufe4a\130\ufe4a\131\ufe4a\132\ufe4a\133\ufe4a\134\ufe4a" +
+    "\135\ufe4a\136\ufe4a\137\ufe4a\001\002\000\066\004\130\005" +
+    "\143\006\067\007\103\010\162\011\071\012\155\013\075" +
+    "\016\175\026\100\050\140\052\125\053\134\074\135\075" +
+    "\066\076\132\077\123\100\104\101\120\102\112\141\171" +
+    "\142\151\143\107\144\111\145\070\146\124\001\002\000" +
+    "\154\004\ufedf\005\ufedf\006\ufedf\007\ufedf\010\ufedf\011\ufedf" +
+    "\012\ufedf\013\ufedf\016\ufedf\020\ufedf\023\ufedf\024\ufedf\026" +
+    "\ufedf\033\ufedf\034\ufedf\035\ufedf\036\ufedf\037\ufedf\040\ufedf" +
+    "\041\ufedf\042\ufedf\043\ufedf\044\ufedf\045\ufedf\050\ufedf\052" +
+    "\ufedf\053\ufedf\054\ufedf\055\ufedf\057\ufedf\060\ufedf\061\ufedf" +
+    "\062\ufedf\063\ufedf\064\ufedf\065\ufedf\066\ufedf\067\ufedf\070" +
+    "\ufedf\071\ufedf\074\ufedf\075\ufedf\076\ufedf\140\ufedf\141\ufedf" +
+    "\142\ufedf\143\ufedf\144\ufedf\145\ufedf\146\ufedf\151\ufedf\152" +
+    "\ufedf\154\ufedf\001\002\000\156\004\ufec7\005\ufec7\006\ufec7" +
+    "\007\ufec7\010\ufec7\011\ufec7\012\ufec7\013\ufec7\016\ufec7\020" +
+    "\ufec7\023\ufec7\024\ufec7\026\ufec7\033\ufec7\034\ufec7\035\ufec7" +
+    "\036\ufec7\037\ufec7\040\ufec7\041\ufec7\042\ufec7\043\ufec7\044" +
+    "\ufec7\045\ufec7\050\ufec7\052\ufec7\053\ufec7\054\ufec7\055\ufec7" +
+    "\056\ufec7\057\ufec7\060\ufec7\061\ufec7\062\ufec7\063\ufec7\064" +
+    "\ufec7\065\ufec7\066\ufec7\067\ufec7\070\ufec7\071\ufec7\074\ufec7" +
+    "\075\ufec7\076\ufec7\140\ufec7\141\ufec7\142\ufec7\143\ufec7\144" +
+    "\ufec7\145\ufec7\146\ufec7\151\ufec7\152\ufec7\154\ufec7\001\002" +
+    "\000\154\004\ufed2\005\ufed2\006\ufed2\007\ufed2\010\ufed2\011" +
+    "\ufed2\012\ufed2\013\ufed2\016\ufed2\020\ufed2\023\ufed2\024\ufed2" +
+    "\026\ufed2\033\ufed2\034\ufed2\035\ufed2\036\ufed2\037\ufed2\040" +
+    "\ufed2\041\ufed2\042\ufed2\043\ufed2\044\ufed2\045\ufed2\050\ufed2" +
+    "\052\ufed2\053\ufed2\054\ufed2\055\ufed2\057\ufed2\060\ufed2\061" +
+    "\ufed2\062\ufed2\063\ufed2\064\ufed2\065\ufed2\066\ufed2\067\ufed2" +
+    "\070\ufed2\071\ufed2\074\ufed2\075\ufed2\076\ufed2\140\ufed2\141" +
+    "\ufed2\142\ufed2\143\ufed2\144\ufed2\145\ufed2\146\ufed2\151\ufed2" +
+    "\152\ufed2\154\ufed2\001\002\000\006\020\u023a\030\u023b\001" +
+    "\002\000\156\004\ufe84\005\ufe84\006\ufe84\007\ufe84\010\ufe84" +
+    "\011\ufe84\012\ufe84\013\ufe84\016\ufe84\020\ufe84\023\ufe84\024" +
+    "\ufe84\026\ufe84\033\ufe84\034\ufe84\035\ufe84\036\ufe84\037\ufe84" +
+    "\040\ufe84\041\ufe84\042\ufe84\043\ufe84\044\ufe84\045\ufe84\050" +
+    "\ufe84\052\ufe84\053\ufe84\054\ufe84\055\ufe84\056\ufe84\057\ufe84" +
+    "\060\ufe84\061\ufe84\062\ufe84\063\ufe84\064\ufe84\065\ufe84\066" +
+    "\ufe84\067\ufe84\070\ufe84\071\ufe84\074\ufe84\075\ufe84\076\ufe84" +
+    "\140\ufe84\141\ufe84\142\ufe84\143\ufe84\144\ufe84\145\ufe84\146" +
+    "\ufe84\151\ufe84\152\ufe84\154\ufe84\001\002\000\066\004\130" +
+    "\005\143\006\067\007\103\010\162\011\071\012\155\013" +
+    "\075\016\175\026\100\050\140\052\125\053\134\074\135" +
+    "\075\066\076\132\077\123\100\104\101\120\102\112\141" +
+    "\171\142\151\143\107\144\111\145\070\146\124\001\002" +
+    "\000\004\020\u023d\001\002\000\156\004\ufe83\005\ufe83\006" +
+    "\ufe83\007\ufe83\010\ufe83\011\ufe83\012\ufe83\013\ufe83\016\ufe83" +
+    "\020\ufe83\023\ufe83\024\ufe83\026\ufe83\033\ufe83\034\ufe83\035" +
+    "\ufe83\036\ufe83\037\ufe83\040\ufe83\041\ufe83\042\ufe83\043\ufe83" +
+    "\044\ufe83\045\ufe83\050\ufe83\052\ufe83\053\ufe83\054\ufe83\055" +
+    "\ufe83\056\ufe83\057\ufe83\060\ufe83\061\ufe83\062\ufe83\063\ufe83" +
+    "\064\ufe83\065\ufe83\066\ufe83\067\ufe83\070\ufe83\071\ufe83\074" +
+    "\ufe83\075\ufe83\076\ufe83\140\ufe83\141\ufe83\142\ufe83\143\ufe83" +
+    "\144\ufe83\145\ufe83\146\ufe83\151\ufe83\152\ufe83\154\ufe83\001" +
+    "\002\000\066\004\130\005\143\006\067\007\103\010\162" +
+    "\011\071\012\155\013\075\016\175\026\100\050\140\052" +
+    "\125\053\134\074\135\075\066\076\132\077\123\100\104" +
+    "\101\120\102\112\141\171\142\151\143\107\144\111\145" +
+    "\070\146\124\001\002\000\004\027\u0240\001\002\000\112" +
+    "\004\130\005\143\006\067\007\103\010\162\011\071\012" +
+    "\155\013\075\016\u0241\020\u0226\023\u0133\026\u020c\042\u024b" +
+    "\050\140\052\125\053\134\055\u024c\057\u021d\062\u021e\063" +
+    "\u0245\064\u0247\065\u0223\066\u0231\067\u0220\070\u0206\071\u0221" +
+    "\074\135\075\066\076\132\141\171\142\151\143\107\144" +
+    "\111\145\070\146\124\152\u0235\001\002\000\046\014\uffb9" +
+    "\017\uffb9\025\uffb9\026\uffb9\030\u02ad\075\uffb9\076\uffb9\125" +
+    "\uffb9\126\uffb9\127\uffb9\130\uffb9\131\uffb9\132\uffb9\133\uffb9" +
+    "\134\uffb9\135\uffb9\136\uffb9\137\uffb9\001\002\000\004\056" +
+    "\ufecf\001\002\000\004\056\ufecd\001\002\000\004\056\ufed0" +
+    "\001\002\000\004\026\u02a8\001\002\000\156\004\ufed8\005" +
+    "\ufed8\006\ufed8\007\ufed8\010\ufed8\011\ufed8\012\ufed8\013\ufed8" +
+    "\016\ufed8\020\ufed8\023\ufed8\024\ufed8\026\ufed8\033\ufed8\034" +
+    "\ufed8\035\ufed8\036\ufed8\037\ufed8\040\ufed8\041\ufed8\042\ufed8" +
+    "\043\ufed8\044\ufed8\045\ufed8\050\ufed8\052\ufed8\053\ufed8\054" +
+    "\ufed8\055\ufed8\056\ufed1\057\ufed8\060\ufed8\061\ufed8\062\ufed8" +
+    "\063\ufed8\064\ufed8\065\ufed8\066\ufed8\067\ufed8\070\ufed8\071" +
+    "\ufed8\074\ufed8\075\ufed8\076\ufed8\140\ufed8\141\ufed8\142\ufed8" +
+    "\143\ufed8\144\ufed8\145\ufed8\146\ufed8\151\ufed8\152\ufed8\154" +
+    "\ufed8\001\002\000\006\016\u025a\026\u025b\001\002\000\004" +
+    "\056\ufece\001\002\000\004\056\u0259\001\002\000\004\056" +
+    "\ufecc\001\002\000\004\026\u0255\001\002\000\004\026\u024e" +
+    "\001\002\000\154\004\ufeb4\005\ufeb4\006\ufeb4\007\ufeb4\010" +
+    "\ufeb4\011\ufeb4\012\ufeb4\013\ufeb4\016\ufeb4\020\ufeb4\023\ufeb4" +
+    "\024\ufeb4\026\ufeb4\033\ufeb4\034\ufeb4\035\ufeb4\036\ufeb4\037" +
+    "\ufeb4\040\ufeb4\041\ufeb4\042\ufeb4\043\ufeb4\044\ufeb4\045\ufeb4" +
+    "\050\ufeb4\052\ufeb4\053\ufeb4\054\ufeb4\055\ufeb4\057\ufeb4\060" +
+    "\ufeb4\061\ufeb4\062\ufeb4\063\ufeb4\064\ufeb4\065\ufeb4\066\ufeb4" +
+    "\067\ufeb4\070\ufeb4\071\ufeb4\074\ufeb4\075\ufeb4\076\ufeb4\140" +
+    "\ufeb4\141\ufeb4\142\ufeb4\143\ufeb4\144\ufeb4\145\ufeb4\146\ufeb4" +
+    "\151\ufeb4\152\ufeb4\154\ufeb4\001\002\000\066\004\130\005" +
+    "\143\006\067\007\103\010\162\011\071\012\155\013\075" +
+    "\016\175\026\100\050\140\052\125\053\134\074\135\075" +
+    "\066\076\132\077\123\100\104\101\120\102\112\141\171" +
+    "\142\151\143\107\144\111\145\070\146\124\001\002\000" +
+    "\004\027\u0250\001\002\000\112\004\130\005\143\006\067" +
+    "\007\103\010\162\011\071\012\155\013\075\016\u0241\020" +
+    "\u0226\023\u0133\026\u020c\042\u024b\050\140\052\125\053\134" +
+    "\055\u024c\057\u021d\062\u021e\063\u0245\064\u0247\065\u0223\066" +
+    "\u0231\067\u0220\070\u0206\071\u0221\074\135\075\066\076\132" +
+    "\141\171\142\151\143\107\144\111\145\070\146\124\152" +
+    "\u0235\001\002\000\004\056\u0252\001\002\000\112\004\130" +
+    "\005\143\006\067\007\103\010\162\011\071\012\155\013" +
+    "\075\016\u0241\020\u0226\023\u0133\026\u020c\042\u024b\050\140" +
+    "\052\125\053\134\055\u024c\057\u021d\062\u021e\063\u0245\064" +
+    "\u0247\065\u0223\066\u0231\067\u0220\070\u0206\071\u0221\074\135" +
+    "\075\066\076\132\141\171\142\151\143\107\144\111\145" +
+    "\070\146\124\152\u0235\001\002\000\004\056\ufeb2\001\002" +
+    "\000\154\004\ufeb3\005\ufeb3\006\ufeb3\007\ufeb3\010\ufeb3\011" +
+    "\ufeb3\012\ufeb3\013\ufeb3\016\ufeb3\020\ufeb3\023\ufeb3\024\ufeb3" +
+    "\026\ufeb3\033\ufeb3\034\ufeb3\035\ufeb3\036\ufeb3\037\ufeb3\040" +
+    "\ufeb3\041\ufeb3\042\ufeb3\043\ufeb3\044\ufeb3\045\ufeb3\050\ufeb3" +
+    "\052\ufeb3\053\ufeb3\054\ufeb3\055\ufeb3\057\ufeb3\060\ufeb3\061" +
+    "\ufeb3\062\ufeb3\063\ufeb3\064\ufeb3\065\ufeb3\066\ufeb3\067\ufeb3" +
+    "\070\ufeb3\071\ufeb3\074\ufeb3\075\ufeb3\076\ufeb3\140\ufeb3\141" +
+    "\ufeb3\142\ufeb3\143\ufeb3\144\ufeb3\145\ufeb3\146\ufeb3\151\ufeb3" +
+    "\152\ufeb3\154\ufeb3\001\002\000\066\004\130\005\143\006" +
+    "\067\007\103\010\162\011\071\012\155\013\075\016\175" +
+    "\026\100\050\140\052\125\053\134\074\135\075\066\076" +
+    "\132\077\123\100\104\101\120\102\112\141\171\142\151" +
+    "\143\107\144\111\145\070\146\124\001\002\000\004\027" +
+    "\u0257\001\002\000\004\023\u0133\001\002\000\156\004\ufe8d" +
+    "\005\ufe8d\006\ufe8d\007\ufe8d\010\ufe8d\011\ufe8d\012\ufe8d\013" +
+    "\ufe8d\016\ufe8d\020\ufe8d\023\ufe8d\024\ufe8d\026\ufe8d\033\ufe8d" +
+    "\034\ufe8d\035\ufe8d\036\ufe8d\037\ufe8d\040\ufe8d\041\ufe8d\042" +
+    "\ufe8d\043\ufe8d\044\ufe8d\045\ufe8d\050\ufe8d\052\ufe8d\053\ufe8d" +
+    "\054\ufe8d\055\ufe8d\056\ufe8d\057\ufe8d\060\ufe8d\061\ufe8d\062" +
+    "\ufe8d\063\ufe8d\064\ufe8d\065\ufe8d\066\ufe8d\067\ufe8d\070\ufe8d" +
+    "\071\ufe8d\074\ufe8d\075\ufe8d\076\ufe8d\140\ufe8d\141\ufe8d\142" +
+    "\ufe8d\143\ufe8d\144\ufe8d\145\ufe8d\146\ufe8d\151\ufe8d\152\ufe8d" +
+    "\154\ufe8d\001\002\000\112\004\130\005\143\006\067\007" +
+    "\103\010\162\011\071\012\155\013\075\016\u01ff\020\u0226" +
+    "\023\u0133\026\u020c\042\u024b\050\140\052\125\053\134\055" +
+    "\u0232\057\u021d\062\u021e\063\u0219\064\u021f\065\u0223\066\u0231" +
+    "\067\u0220\070\u0206\071\u0221\074\135\075\066\076\132\141" +
+    "\171\142\151\143\107\144\111\145\070\146\124\152\u0235" +
+    "\001\002\000\004\026\u02a0\001\002\000\110\004\130\005" +
+    "\143\006\067\007\103\010\162\011\071\012\155\013\075" +
+    "\016\175\020\ufe9c\026\u020c\033\045\034\042\035\015\036" +
+    "\021\037\030\040\044\041\041\042\052\043\032\044\050" +
+    "\050\140\052\125\053\134\074\135\075\066\076\132\140" +
+    "\u0199\141\171\142\151\143\107\144\111\145\070\146\124" +
+    "\151\012\001\002\000\004\020\u0296\001\002\000\010\020" +
+    "\ufe95\022\ufe95\027\ufe95\001\002\000\004\016\062\001\002" +
+    "\000\004\020\ufe9b\001\002\000\004\020\ufe99\001\002\000" +
+    "\004\016\u0154\001\002\000\124\014\u0269\016\uffe9\017\u026c" +
+    "\021\ufe4b\022\uffe9\025\ufe4b\026\u026a\027\ufe4b\075\ufe4b\076" +
+    "\ufe4b\077\ufe4b\100\ufe4b\103\ufe4b\104\ufe4b\105\ufe4b\106\ufe4b" +
+    "\107\ufe4b\110\uffe9\111\uffe9\112\ufe4b\113\ufe4b\114\ufe4b\115" +
+    "\ufe4b\116\ufe4b\117\ufe4b\120\ufe4b\121\ufe4b\122\ufe4b\123\ufe4b" +
+    "\124\ufe4b\125\ufe4b\126\ufe4b\127\ufe4b\130\ufe4b\131\ufe4b\132" +
+    "\ufe4b\133\ufe4b\134\ufe4b\135\ufe4b\136\ufe4b\137\ufe4b\001\002" +
+    "\000\024\004\130\005\143\006\067\007\103\010\162\011" +
+    "\071\012\155\013\075\016\175\001\002\000\006\020\ufe9a" +
+    "\022\u0265\001\002\000\056\004\130\005\143\006\067\007" +
+    "\103\010\162\011\071\012\155\013\075\016\175\026\u020c" +
+    "\050\140\052\125\053\134\074\135\075\066\076\132\141" +
+    "\171\142\151\143\107\144\111\145\070\146\124\001\002" +
+    "\000\010\020\ufe94\022\ufe94\027\ufe94\001\002\000\004\016" +
+    "\u0154\001\002\000\006\020\ufed9\022\u01b2\001\002\000\070" +
+    "\004\130\005\143\006\067\007\103\010\162\011\071\012" +
+    "\155\013\075\015\273\016\175\026\100\050\140\052\125" +
+    "\053\134\074\135\075\066\076\132\077\123\100\104\101" +
+    "\120\102\112\141\171\142\151\143\107\144\111\145\070" +
+    "\146\124\001\002\000\070\004\130\005\143\006\067\007" +
+    "\103\010\162\011\071\012\155\013\075\016\175\026\100" +
+    "\027\ufe69\050\140\052\125\053\134\074\135\075\066\076" +
+    "\132\077\123\100\104\101\120\102\112\141\171\142\151" +
+    "\143\107\144\111\145\070\146\124\001\002\000\014\014" +
+    "\271\016\uffe2\017\u0288\022\uffe2\111\uffe2\001\002\000\016" +
+    "\016\270\045\u0271\052\u0270\053\u026d\074\u026f\110\u011e\001" +
+    "\002\000\004\017\u027e\001\002\000\004\016\u027a\001\002" +
+    "\000\006\016\uffde\110\u011e\001\002\000\130\014\ufe77\015" +
+    "\ufe77\017\ufe77\020\ufe77\021\ufe77\022\ufe77\024\ufe77\025\ufe77" +
+    "\027\ufe77\030\ufe77\075\ufe77\076\ufe77\077\ufe77\100\ufe77\103" +
+    "\ufe77\104\ufe77\105\ufe77\106\ufe77\107\ufe77\110\ufe77\111\ufe77" +
+    "\112\ufe77\113\ufe77\114\ufe77\115\ufe77\116\ufe77\117\ufe77\120" +
+    "\ufe77\121\ufe77\122\ufe77\123\ufe77\124\ufe77\125\ufe77\126\ufe77" +
+    "\127\ufe77\130\ufe77\131\ufe77\132\ufe77\133\ufe77\134\ufe77\135" +
+    "\ufe77\136\ufe77\137\ufe77\001\002\000\130\014\ufe73\015\ufe73" +
+    "\017\ufe73\020\ufe73\021\ufe73\022\ufe73\024\ufe73\025\ufe73\027" +
+    "\ufe73\030\ufe73\075\ufe73\076\ufe73\077\ufe73\100\ufe73\103\ufe73" +
+    "\104\ufe73\105\ufe73\106\ufe73\107\ufe73\110\ufe73\111\ufe73\112" +
+    "\ufe73\113\ufe73\114\ufe73\115\ufe73\116\ufe73\117\ufe73\120\ufe73" +
+    "\121\ufe73\122\ufe73\123\ufe73\124\ufe73\125\ufe73\126\ufe73\127" +
+    "\ufe73\130\ufe73\131\ufe73\132\ufe73\133\ufe73\134\ufe73\135\ufe73" +
+    "\136\ufe73\137\ufe73\001\002\000\006\016\uffdf\026\uffdf\001" +
+    "\002\000\004\016\u0274\001\002\000\006\026\uffde\110\u011e" +
+    "\001\002\000\004\026\u0276\001\002\000\070\004\130\005" +
+    "\143\006\067\007\103\010\162\011\071\012\155\013\075" +
+    "\016\175\026\100\027\ufe69\050\140\052\125\053\134\074" +
+    "\135\075\066\076\132\077\123\100\104\101\120\102\112" +
+    "\141\171\142\151\143\107\144\111\145\070\146\124\001" +
+    "\002\000\004\027\u0278\001\002\000\132\014\ufe6b\015\ufe6b" +
+    "\017\ufe6b\020\ufe6b\021\ufe6b\022\ufe6b\023\u012c\024\ufe6b\025" +
+    "\ufe6b\027\ufe6b\030\ufe6b\075\ufe6b\076\ufe6b\077\ufe6b\100\ufe6b" +
+    "\103\ufe6b\104\ufe6b\105\ufe6b\106\ufe6b\107\ufe6b\110\ufe6b\111" +
+    "\ufe6b\112\ufe6b\113\ufe6b\114\ufe6b\115\ufe6b\116\ufe6b\117\ufe6b" +
+    "\120\ufe6b\121\ufe6b\122\ufe6b\123\ufe6b\124\ufe6b\125\ufe6b\126" +
+    "\ufe6b\127\ufe6b\130\ufe6b\131\ufe6b\132\ufe6b\133\ufe6b\134\ufe6b" +
+    "\135\ufe6b\136\ufe6b\137\ufe6b\001\002\000\130\014\ufe6a\015" +
+    "\ufe6a\017\ufe6a\020\ufe6a\021\ufe6a\022\ufe6a\024\ufe6a\025\ufe6a" +
+    "\027\ufe6a\030\ufe6a\075\ufe6a\076\ufe6a\077\ufe6a\100\ufe6a\103" +
+    "\ufe6a\104\ufe6a\105\ufe6a\106\ufe6a\107\ufe6a\110\ufe6a\111\ufe6a" +
+    "\112\ufe6a\113\ufe6a\114\ufe6a\115\ufe6a\116\ufe6a\117\ufe6a\120" +
+    "\ufe6a\121\ufe6a\122\ufe6a\123\ufe6a\124\ufe6a\125\ufe6a\126\ufe6a" +
+    "\127\ufe6a\130\ufe6a\131\ufe6a\132\ufe6a\133\ufe6a\134\ufe6a\135" +
+    "\ufe6a\136\ufe6a\137\ufe6a\001\002\000\004\026\u027b\001\002" +
+    "\000\070\004\130\005\143\006\067\007\103\010\162\011" +
+    "\071\012\155\013\075\016\175\026\100\027\ufe69\050\140" +
+    "\052\125\053\134\074\135\075\066\076\132\077\123\100" +
+    "\104\101\120\102\112\141\171\142\151\143\107\144\111" +
+    "\145\070\146\124\001\002\000\004\027\u027d\001\002\000" +
+    "\130\014\ufe54\015\ufe54\017\ufe54\020\ufe54\021\ufe54\022\ufe54" +
+    "\024\ufe54\025\ufe54\027\ufe54\030\ufe54\075\ufe54\076\ufe54\077" +
+    "\ufe54\100\ufe54\103\ufe54\104\ufe54\105\ufe54\106\ufe54\107\ufe54" +
+    "\110\ufe54\111\ufe54\112\ufe54\113\ufe54\114\ufe54\115\ufe54\116" +
+    "\ufe54\117\ufe54\120\ufe54\121\ufe54\122\ufe54\123\ufe54\124\ufe54" +
+    "\125\ufe54\126\ufe54\127\ufe54\130\ufe54\131\ufe54\132\ufe54\133" +
+    "\ufe54\134\ufe54\135\ufe54\136\ufe54\137\ufe54\001\002\000\006" +
+    "\016\u0280\110\u011e\001\002\000\004\016\u0284\001\002\000" +
+    "\132\014\ufe58\015\ufe58\017\ufe58\020\ufe58\021\ufe58\022\ufe58" +
+    "\024\ufe58\025\ufe58\026\u0281\027\ufe58\030\ufe58\075\ufe58\076" +
+    "\ufe58\077\ufe58\100\ufe58\103\ufe58\104\ufe58\105\ufe58\106\ufe58" +
+    "\107\ufe58\110\ufe58\111\ufe58\112\ufe58\113\ufe58\114\ufe58\115" +
+    "\ufe58\116\ufe58\117\ufe58\120\ufe58\121\ufe58\122\ufe58\123\ufe58" +
+    "\124\ufe58\125\ufe58\126\ufe58\127\ufe58\130\ufe58\131\ufe58\132" +
+    "\ufe58\133\ufe58\134\ufe58\135\ufe58\136\ufe58\137\ufe58\001\002" +
+    "\000\070\004\130\005\143\006\067\007\103\010\162\011" +
+    "\071\012\155\013\075\016\175\026\100\027\ufe69\050\140" +
+    "\052\125\053\134\074\135\075\066\076\132\077\123\100" +
+    "\104\101\120\102\112\141\171\142\151\143\107\144\111" +
+    "\145\070\146\124\001\002\000\004\027\u0283\001\002\000" +
+    "\130\014\ufe51\015\ufe51\017\ufe51\020\ufe51\021\ufe51\022\ufe51" +
+    "\024\ufe51\025\ufe51\027\ufe51\030\ufe51\075\ufe51\076\ufe51\077" +
+    "\ufe51\100\ufe51\103\ufe51\104\ufe51\105\ufe51\106\ufe51\107\ufe51" +
+    "\110\ufe51\111\ufe51\112\ufe51\113\ufe51\114\ufe51\115\ufe51\116" +
+    "\ufe51\117\ufe51\120\ufe51\121\ufe51\122\ufe51\123\ufe51\124\ufe51" +
+    "\125\ufe51\126\ufe51\127\ufe51\130\ufe51\131\ufe51\132\ufe51\133" +
+    "\ufe51\134\ufe51\135\ufe51\136\ufe51\137\ufe51\001\002\000\004" +
+    "\026\u0285\001\002\000\070\004\130\005\143\006\067\007" +
+    "\103\010\162\011\071\012\155\013\075\016\175\026\100" +
+    "\027\ufe69\050\140\052\125\053\134\074\135\075\066\076" +
+    "\132\077\123\100\104\101\120\102\112\141\171\142\151" +
+    "\143\107\144\111\145\070\146\124\001\002\000\004\027" +
+    "\u0287\001\002\000\130\014\ufe50\015\ufe50\017\ufe50\020\ufe50" +
+    "\021\ufe50\022\ufe50\024\ufe50\025\ufe50\027\ufe50\030\ufe50\075" +
+    "\ufe50\076\ufe50\077\ufe50\100\ufe50\103\ufe50\104\ufe50\105\ufe50" +
+    "\106\ufe50\107\ufe50\110\ufe50\111\ufe50\112\ufe50\113\ufe50\114" +
+    "\ufe50\115\ufe50\116\ufe50\117\ufe50\120\ufe50\121\ufe50\122\ufe50" +
+    "\123\ufe50\124\ufe50\125\ufe50\126\ufe50\127\ufe50\130\ufe50\131" +
+    "\ufe50\132\ufe50\133\ufe50\134\ufe50\135\ufe50\136\ufe50\137\ufe50" +
+    "\001\002\000\004\045\u0289\001\002\000\130\014\ufe72\015" +
+    "\ufe72\017\ufe72\020\ufe72\021\ufe72\022\ufe72\024\ufe72\025\ufe72" +
+    "\027\ufe72\030\ufe72\075\ufe72\076\ufe72\077\ufe72\100\ufe72\103" +
+    "\ufe72\104\ufe72\105\ufe72\106\ufe72\107\ufe72\110\ufe72\111\ufe72" +
+    "\112\ufe72\113\ufe72\114\ufe72\115\ufe72\116\ufe72\117\ufe72\120" +
+    "\ufe72\121\ufe72\122\ufe72\123\ufe72\124\ufe72\125\ufe72\126\ufe72" +
+    "\127\ufe72\130\ufe72\131\ufe72\132\ufe72\133\ufe72\134\ufe72\135" +
+    "\ufe72\136\ufe72\137\ufe72\001\002\000\004\027\u028b\001\002" +
+    "\000\130\014\ufe57\015\ufe57\017\ufe57\020\ufe57\021\ufe57\022" +
+    "\ufe57\024\ufe57\025\ufe57\027\ufe57\030\ufe57\075\ufe57\076\ufe57" +
+    "\077\ufe57\100\ufe57\103\ufe57\104\ufe57\105\ufe57\106\ufe57\107" +
+    "\ufe57\110\ufe57\111\ufe57\112\ufe57\113\ufe57\114\ufe57\115\ufe57" +
+    "\116\ufe57\117\ufe57\120\ufe57\121\ufe57\122\ufe57\123\ufe57\124" +
+    "\ufe57\125\ufe57\126\ufe57\127\ufe57\130\ufe57\131\ufe57\132\ufe57" +
+    "\133\ufe57\134\ufe57\135\ufe57\136\ufe57\137\ufe57\001\002\000" +
+    "\004\015\u028d\001\002\000\130\014\ufe4f\015\ufe4f\017\ufe4f" +
+    "\020\ufe4f\021\ufe4f\022\ufe4f\024\ufe4f\025\ufe4f\027\ufe4f\030" +
+    "\ufe4f\075\ufe4f\076\ufe4f\077\ufe4f\100\ufe4f\103\ufe4f\104\ufe4f" +
+    "\105\ufe4f\106\ufe4f\107\ufe4f\110\ufe4f\111\ufe4f\112\ufe4f\113" +
+    "\ufe4f\114\ufe4f\115\ufe4f\116\ufe4f\117\ufe4f\120\ufe4f\121\ufe4f" +
+    "\122\ufe4f\123\ufe4f\124\ufe4f\125\ufe4f\126\ufe4f\127\ufe4f\130" +
+    "\ufe4f\131\ufe4f\132\ufe4f\133\ufe4f\134\ufe4f\135\ufe4f\136\ufe4f" +
+    "\137\ufe4f\001\002\000\014\014\u0157\020\uff42\022\uff42\025" +
+    "\u01b5\030\u0290\001\002\000\006\020\ufeda\022\u01b2\001\002" +
+    "\000\066\004\130\005\143\006\067\007\103\010\162\011" +
+    "\071\012\155\013\075\016\175\026\100\050\140\052\125" +
+    "\053\134\074\135\075\066\076\132\077\123\100\104\101" +
+    "\120\102\112\141\171\142\151\143\107\144\111\145\070" +
+    "\146\124\001\002\000\004\027\u0292\001\002\000\112\004" +
+    "\130\005\143\006\067\007\103\010\162\011\071\012\155" +
+    "\013\075\016\u0241\020\u0226\023\u0133\026\u020c\042\u024b\050" +
+    "\140\052\125\053\134\055\u024c\057\u021d\062\u021e\063\u0245" +
+    "\064\u0247\065\u0223\066\u0231\067\u0220\070\u0206\071\u0221\074" +
+    "\135\075\066\076\132\141\171\142\151\143\107\144\111" +
+    "\145\070\146\124\152\u0235\001\002\000\004\056\ufea0\001" +
+    "\002\000\154\004\ufea2\005\ufea2\006\ufea2\007\ufea2\010\ufea2" +
+    "\011\ufea2\012\ufea2\013\ufea2\016\ufea2\020\ufea2\023\ufea2\024" +
+    "\ufea2\026\ufea2\033\ufea2\034\ufea2\035\ufea2\036\ufea2\037\ufea2" +
+    "\040\ufea2\041\ufea2\042\ufea2\043\ufea2\044\ufea2\045\ufea2\050" +
+    "\ufea2\052\ufea2\053\ufea2\054\ufea2\055\ufea2\057\ufea2\060\ufea2" +
+    "\061\ufea2\062\ufea2\063\ufea2\064\ufea2\065\ufea2\066\ufea2\067" +
+    "\ufea2\070\ufea2\071\ufea2\074\ufea2\075\ufea2\076\ufea2\140\ufea2" +
+    "\141\ufea2\142\ufea2\143\ufea2\144\ufea2\145\ufea2\146\ufea2\151" +
+    "\ufea2\152\ufea2\154\ufea2\001\002\000\066\004\uff91\005\uff91" +
+    "\006\uff91\007\uff91\010\uff91\011\uff91\012\uff91\013\uff91\016" +
+    "\uff91\033\uff91\034\uff91\035\uff91\036\uff91\037\uff91\040\uff91" +
+    "\041\uff91\042\uff91\043\uff91\044\uff91\045\uff91\050\uff91\054" +
+    "\uff91\110\uff91\140\uff91\151\uff91\154\uff91\001\002\000\070" +
+    "\004\130\005\143\006\067\007\103\010\162\011\071\012" +
+    "\155\013\075\016\175\020\ufe06\026\100\050\140\052\125" +
+    "\053\134\074\135\075\066\076\132\077\123\100\104\101" +
+    "\120\102\112\141\171\142\151\143\107\144\111\145\070" +
+    "\146\124\001\002\000\004\020\ufe05\001\002\000\004\020" +
+    "\u0299\001\002\000\060\004\130\005\143\006\067\007\103" +
+    "\010\162\011\071\012\155\013\075\016\175\026\u020c\027" +
+    "\ufe98\050\140\052\125\053\134\074\135\075\066\076\132" +
+    "\141\171\142\151\143\107\144\111\145\070\146\124\001" +
+    "\002\000\004\027\ufe97\001\002\000\006\022\u0265\027\ufe96" +
+    "\001\002\000\004\027\u029d\001\002\000\112\004\130\005" +
+    "\143\006\067\007\103\010\162\011\071\012\155\013\075" +
+    "\016\u0241\020\u0226\023\u0133\026\u020c\042\u024b\050\140\052" +
+    "\125\053\134\055\u024c\057\u021d\062\u021e\063\u0245\064\u0247" +
+    "\065\u0223\066\u0231\067\u0220\070\u0206\071\u0221\074\135\075" +
+    "\066\076\132\141\171\142\151\143\107\144\111\145\070" +
+    "\146\124\152\u0235\001\002\000\004\056\ufe9d\001\002\000" +
+    "\154\004\ufe9e\005\ufe9e\006\ufe9e\007\ufe9e\010\ufe9e\011\ufe9e" +
+    "\012\ufe9e\013\ufe9e\016\ufe9e\020\ufe9e\023\ufe9e\024\ufe9e\026" +
+    "\ufe9e\033\ufe9e\034\ufe9e\035\ufe9e\036\ufe9e\037\ufe9e\040\ufe9e" +
+    "\041\ufe9e\042\ufe9e\043\ufe9e\044\ufe9e\045\ufe9e\050\ufe9e\052" +
+    "\ufe9e\053\ufe9e\054\ufe9e\055\ufe9e\057\ufe9e\060\ufe9e\061\ufe9e" +
+    "\062\ufe9e\063\ufe9e\064\ufe9e\065\ufe9e\066\ufe9e\067\ufe9e\070" +
+    "\ufe9e\071\ufe9e\074\ufe9e\075\ufe9e\076\ufe9e\140\ufe9e\141\ufe9e" +
+    "\142\ufe9e\143\ufe9e\144\ufe9e\145\ufe9e\146\ufe9e\151\ufe9e\152" +
+    "\ufe9e\154\ufe9e\001\002\000\024\004\130\005\143\006\067" +
+    "\007\103\010\162\011\071\012\155\013\075\016\175\001" +
+    "\002\000\004\016\u0154\001\002\000\006\014\u0157\016\u02a3" +
+    "\001\002\000\066\004\130\005\143\006\067\007\103\010" +
+    "\162\011\071\012\155\013\075\016\175\026\100\050\140" +
+    "\052\125\053\134\074\135\075\066\076\132\077\123\100" +
+    "\104\101\120\102\112\141\171\142\151\143\107\144\111" +
+    "\145\070\146\124\001\002\000\004\027\u02a5\001\002\000" +
+    "\112\004\130\005\143\006\067\007\103\010\162\011\071" +
+    "\012\155\013\075\016\u0241\020\u0226\023\u0133\026\u020c\042" +
+    "\u024b\050\140\052\125\053\134\055\u024c\057\u021d\062\u021e" +
+    "\063\u0245\064\u0247\065\u0223\066\u0231\067\u0220\070\u0206\071" +
+    "\u0221\074\135\075\066\076\132\141\171\142\151\143\107" +
+    "\144\111\145\070\146\124\152\u0235\001\002\000\004\056" +
+    "\ufe9f\001\002\000\154\004\ufea1\005\ufea1\006\ufea1\007\ufea1" +
+    "\010\ufea1\011\ufea1\012\ufea1\013\ufea1\016\ufea1\020\ufea1\023" +
+    "\ufea1\024\ufea1\026\ufea1\033\ufea1\034\ufea1\035\ufea1\036\ufea1" +
+    "\037\ufea1\040\ufea1\041\ufea1\042\ufea1\043\ufea1\044\ufea1\045" +
+    "\ufea1\050\ufea1\052\ufea1\053\ufea1\054\ufea1\055\ufea1\057\ufea1" +
+    "\060\ufea1\061\ufea1\062\ufea1\063\ufea1\064\ufea1\065\ufea1\066" +
+    "\ufea1\067\ufea1\070\ufea1\071\ufea1\074\ufea1\075\ufea1\076\ufea1" +
+    "\140\ufea1\141\ufea1\142\ufea1\143\ufea1\144\ufea1\145\ufea1\146" +
+    "\ufea1\151\ufea1\152\ufea1\154\ufea1\001\002\000\066\004\130" +
+    "\005\143\006\067\007\103\010\162\011\071\012\155\013" +
+    "\075\016\175\026\100\050\140\052\125\053\134\074\135" +
+    "\075\066\076\132\077\123\100\104\101\120\102\112\141" +
+    "\171\142\151\143\107\144\111\145\070\146\124\001\002" +
+    "\000\004\027\u02aa\001\002\000\112\004\130\005\143\006" +
+    "\067\007\103\010\162\011\071\012\155\013\075\016\u0241" +
+    "\020\u0226\023\u0133\026\u020c\042\u024b\050\140\052\125\053" +
+    "\134\055\u024c\057\u021d\062\u021e\063\u0245\064\u0247\065\u0223" +
+    "\066\u0231\067\u0220\070\u0206\071\u0221\074\135\075\066\076" +
+    "\132\141\171\142\151\143\107\144\111\145\070\146\124" +
+    "\152\u0235\001\002\000\004\056\ufea4\001\002\000\154\004" +
+    "\ufea5\005\ufea5\006\ufea5\007\ufea5\010\ufea5\011\ufea5\012\ufea5" +
+    "\013\ufea5\016\ufea5\020\ufea5\023\ufea5\024\ufea5\026\ufea5\033" +
+    "\ufea5\034\ufea5\035\ufea5\036\ufea5\037\ufea5\040\ufea5\041\ufea5" +
+    "\042\ufea5\043\ufea5\044\ufea5\045\ufea5\050\ufea5\052\ufea5\053" +
+    "\ufea5\054\ufea5\055\ufea5\057\ufea5\060\ufea5\061\ufea5\062\ufea5" +
+    "\063\ufea5\064\ufea5\065\ufea5\066\ufea5\067\ufea5\070\ufea5\071" +
+    "\ufea5\074\ufea5\075\ufea5\076\ufea5\140\ufea5\141\ufea5\142\ufea5" +
+    "\143\ufea5\144\ufea5\145\ufea5\146\ufea5\151\ufea5\152\ufea5\154" +
+    "\ufea5\001\002\000\112\004\130\005\143\006\067\007\103" +
+    "\010\162\011\071\012\155\013\075\016\u0241\020\u0226\023" +
+    "\u0133\026\u020c\042\u024b\050\140\052\125\053\134\055\u024c" +
+    "\057\u021d\062\u021e\063\u0245\064\u0247\065\u0223\066\u0231\067" +
+    "\u0220\070\u0206\071\u0221\074\135\075\066\076\132\141\171" +
+    "\142\151\143\107\144\111\145\070\146\124\152\u0235\001" +
+    "\002\000\004\056\ufebd\001\002\000\154\004\ufebe\005\ufebe" +
+    "\006\ufebe\007\ufebe\010\ufebe\011\ufebe\012\ufebe\013\ufebe\016" +
+    "\ufebe\020\ufebe\023\ufebe\024\ufebe\026\ufebe\033\ufebe\034\ufebe" +
+    "\035\ufebe\036\ufebe\037\ufebe\040\ufebe\041\ufebe\042\ufebe\043" +
+    "\ufebe\044\ufebe\045\ufebe\050\ufebe\052\ufebe\053\ufebe\054\ufebe" +
+    "\055\ufebe\057\ufebe\060\ufebe\061\ufebe\062\ufebe\063\ufebe\064" +
+    "\ufebe\065\ufebe\066\ufebe\067\ufebe\070\ufebe\071\ufebe\074\ufebe" +
+    "\075\ufebe\076\ufebe\140\ufebe\141\ufebe\142\ufebe\143\ufebe\144" +
+    "\ufebe\145\ufebe\146\ufebe\151\ufebe\152\ufebe\154\ufebe\001\002" +
+    "\000\004\020\u02b2\001\002\000\004\020\ufe92\001\002\000" +
+    "\156\004\ufe90\005\ufe90\006\ufe90\007\ufe90\010\ufe90\011\ufe90" +
+    "\012\ufe90\013\ufe90\016\ufe90\020\ufe90\023\ufe90\024\ufe90\026" +
+    "\ufe90\033\ufe90\034\ufe90\035\ufe90\036\ufe90\037\ufe90\040\ufe90" +
+    "\041\ufe90\042\ufe90\043\ufe90\044\ufe90\045\ufe90\050\ufe90\052" +
+    "\ufe90\053\ufe90\054\ufe90\055\ufe90\056\ufe90\057\ufe90\060\ufe90" +
+    "\061\ufe90\062\ufe90\063\ufe90\064\ufe90\065\ufe90\066\ufe90\067" +
+    "\ufe90\070\ufe90\071\ufe90\074\ufe90\075\ufe90\076\ufe90\140\ufe90" +
+    "\141\ufe90\142\ufe90\143\ufe90\144\ufe90\145\ufe90\146\ufe90\151" +
+    "\ufe90\152\ufe90\154\ufe90\001\002\000\012\016\u02b7\053\u02b4" +
+    "\074\u02b6\110\u011e\001\002\000\004\026\u02cb\001\002\000" +
+    "\006\016\u02c3\053\u02c2\001\002\000\006\016\uffde\110\u011e" +
+    "\001\002\000\132\014\ufe5a\015\ufe5a\017\ufe5a\020\ufe5a\021" +
+    "\ufe5a\022\ufe5a\024\ufe5a\025\ufe5a\026\u02b8\027\ufe5a\030\ufe5a" +
+    "\075\ufe5a\076\ufe5a\077\ufe5a\100\ufe5a\103\ufe5a\104\ufe5a\105" +
+    "\ufe5a\106\ufe5a\107\ufe5a\110\ufe5a\111\ufe5a\112\ufe5a\113\ufe5a" +
+    "\114\ufe5a\115\ufe5a\116\ufe5a\117\ufe5a\120\ufe5a\121\ufe5a\122" +
+    "\ufe5a\123\ufe5a\124\ufe5a\125\ufe5a\126\ufe5a\127\ufe5a\130\ufe5a" +
+    "\131\ufe5a\132\ufe5a\133\ufe5a\134\ufe5a\135\ufe5a\136\ufe5a\137" +
+    "\ufe5a\001\002\000\070\004\130\005\143\006\067\007\103" +
+    "\010\162\011\071\012\155\013\075\016\175\026\100\027" +
+    "\ufe69\050\140\052\125\053\134\074\135\075\066\076\132" +
+    "\077\123\100\104\101\120\102\112\141\171\142\151\143" +
+    "\107\144\111\145\070\146\124\001\002\000\004\027\u02ba" +
+    "\001\002\000\130\014\ufe56\015\ufe56\017\ufe56\020\ufe56\021" +
+    "\ufe56\022\ufe56\024\ufe56\025\ufe56\027\ufe56\030\ufe56\075\ufe56" +
+    "\076\ufe56\077\ufe56\100\ufe56\103\ufe56\104\ufe56\105\ufe56\106" +
+    "\ufe56\107\ufe56\110\ufe56\111\ufe56\112\ufe56\113\ufe56\114\ufe56" +
+    "\115\ufe56\116\ufe56\117\ufe56\120\ufe56\121\ufe56\122\ufe56\123" +
+    "\ufe56\124\ufe56\125\ufe56\126\ufe56\127\ufe56\130\ufe56\131\ufe56" +
+    "\132\ufe56\133\ufe56\134\ufe56\135\ufe56\136\ufe56\137\ufe56\001" +
+    "\002\000\004\016\u02bc\001\002\000\006\026\uffde\110\u011e" +
+    "\001\002\000\004\026\u02be\001\002\000\070\004\130\005" +
+    "\143\006\067\007\103\010\162\011\071\012\155\013\075" +
+    "\016\175\026\100\027\ufe69\050\140\052\125\053\134\074" +
+    "\135\075\066\076\132\077\123\100\104\101\120\102\112" +
+    "\141\171\142\151\143\107\144\111\145\070\146\124\001" +
+    "\002\000\004\027\u02c0\001\002\000\132\014\ufe6d\015\ufe6d" +
+    "\017\ufe6d\020\ufe6d\021\ufe6d\022\ufe6d\023\u012c\024\ufe6d\025" +
+    "\ufe6d\027\ufe6d\030\ufe6d\075\ufe6d\076\ufe6d\077\ufe6d\100\ufe6d" +
+    "\103\ufe6d\104\ufe6d\105\ufe6d\106\ufe6d\107\ufe6d\110\ufe6d\111" +
+    "\ufe6d\112\ufe6d\113\ufe6d\114\ufe6d\115\ufe6d\116\ufe6d\117\ufe6d" +
+    "\120\ufe6d\121\ufe6d\122\ufe6d\123\ufe6d\124\ufe6d\125\ufe6d\126" +
+    "\ufe6d\127\ufe6d\130\ufe6d\131\ufe6d\132\ufe6d\133\ufe6d\134\ufe6d" +
+    "\135\ufe6d\136\ufe6d\137\ufe6d\001\002\000\130\014\ufe6c\015" +
+    "\ufe6c\017\ufe6c\020\ufe6c\021\ufe6c\022\ufe6c\024\ufe6c\025\ufe6c" +
+    "\027\ufe6c\030\ufe6c\075\ufe6c\076\ufe6c\077\ufe6c\100\ufe6c\103" +
+    "\ufe6c\104\ufe6c\105\ufe6c\106\ufe6c\107\ufe6c\110\ufe6c\111\ufe6c" +
+    "\112\ufe6c\113\ufe6c\114\ufe6c\115\ufe6c\116\ufe6c\117\ufe6c\120" +
+    "\ufe6c\121\ufe6c\122\ufe6c\123\ufe6c\124\ufe6c\125\ufe6c\126\ufe6c" +
+    "\127\ufe6c\130\ufe6c\131\ufe6c\132\ufe6c\133\ufe6c\134\ufe6c\135" +
+    "\ufe6c\136\ufe6c\137\ufe6c\001\002\000\004\026\u02c7\001\002" +
+    "\000\004\026\u02c4\001\002\000\070\004\130\005\143\006" +
+    "\067\007\103\010\162\011\071\012\155\013\075\016\175" +
+    "\026\100\027\ufe69\050\140\052\125\053\134\074\135\075" +
+    "\066\076\132\077\123\100\104\101\120\102\112\141\171" +
+    "\142\151\143\107\144\111\145\070\146\124\001\002\000" +
+    "\004\027\u02c6\001\002\000\130\014\ufe55\015\ufe55\017\ufe55" +
+    "\020\ufe55\021\ufe55\022\ufe55\024\ufe55\025\ufe55\027\ufe55\030" +
+    "\ufe55\075\ufe55\076\ufe55\077\ufe55\100\ufe55\103\ufe55\104\ufe55" +
+    "\105\ufe55\106\ufe55\107\ufe55\110\ufe55\111\ufe55\112\ufe55\113" +
+    "\ufe55\114\ufe55\115\ufe55\116\ufe55\117\ufe55\120\ufe55\121\ufe55" +
+    "\122\ufe55\123\ufe55\124\ufe55\125\ufe55\126\ufe55\127\ufe55\130" +
+    "\ufe55\131\ufe55\132\ufe55\133\ufe55\134\ufe55\135\ufe55\136\ufe55" +
+    "\137\ufe55\001\002\000\070\004\130\005\143\006\067\007" +
+    "\103\010\162\011\071\012\155\013\075\016\175\026\100" +
+    "\027\ufe69\050\140\052\125\053\134\074\135\075\066\076" +
+    "\132\077\123\100\104\101\120\102\112\141\171\142\151" +
+    "\143\107\144\111\145\070\146\124\001\002\000\004\027" +
+    "\u02c9\001\002\000\004\020\u02ca\001\002\000\150\004\uff12" +
+    "\005\uff12\006\uff12\007\uff12\010\uff12\011\uff12\012\uff12\013" +
+    "\uff12\016\uff12\020\uff12\023\uff12\024\uff12\026\uff12\033\uff12" +
+    "\034\uff12\035\uff12\036\uff12\037\uff12\040\uff12\041\uff12\042" +
+    "\uff12\043\uff12\044\uff12\045\uff12\050\uff12\052\uff12\053\uff12" +
+    "\054\uff12\055\uff12\057\uff12\062\uff12\063\uff12\064\uff12\065" +
+    "\uff12\066\uff12\067\uff12\070\uff12\071\uff12\074\uff12\075\uff12" +
+    "\076\uff12\140\uff12\141\uff12\142\uff12\143\uff12\144\uff12\145" +
+    "\uff12\146\uff12\151\uff12\152\uff12\154\uff12\001\002\000\070" +
+    "\004\130\005\143\006\067\007\103\010\162\011\071\012" +
+    "\155\013\075\016\175\026\100\027\ufe69\050\140\052\125" +
+    "\053\134\074\135\075\066\076\132\077\123\100\104\101" +
+    "\120\102\112\141\171\142\151\143\107\144\111\145\070" +
+    "\146\124\001\002\000\004\027\u02cd\001\002\000\004\020" +
+    "\u02ce\001\002\000\150\004\uff13\005\uff13\006\uff13\007\uff13" +
+    "\010\uff13\011\uff13\012\uff13\013\uff13\016\uff13\020\uff13\023" +
+    "\uff13\024\uff13\026\uff13\033\uff13\034\uff13\035\uff13\036\uff13" +
+    "\037\uff13\040\uff13\041\uff13\042\uff13\043\uff13\044\uff13\045" +
+    "\uff13\050\uff13\052\uff13\053\uff13\054\uff13\055\uff13\057\uff13" +
+    "\062\uff13\063\uff13\064\uff13\065\uff13\066\uff13\067\uff13\070" +
+    "\uff13\071\uff13\074\uff13\075\uff13\076\uff13\140\uff13\141\uff13" +
+    "\142\uff13\143\uff13\144\uff13\145\uff13\146\uff13\151\uff13\152" +
+    "\uff13\154\uff13\001\002\000\014\014\271\016\uffe3\017\u011a" +
+    "\022\uffe3\111\uffe3\001\002\000\070\004\130\005\143\006" +
+    "\067\007\103\010\162\011\071\012\155\013\075\016\175" +
+    "\026\100\027\ufe69\050\140\052\125\053\134\074\135\075" +
+    "\066\076\132\077\123\100\104\101\120\102\112\141\171" +
+    "\142\151\143\107\144\111\145\070\146\124\001\002\000" +
+    "\004\027\u02d2\001\002\000\004\020\u02d3\001\002\000\150" +
+    "\004\uff17\005\uff17\006\uff17\007\uff17\010\uff17\011\uff17\012" +
+    "\uff17\013\uff17\016\uff17\020\uff17\023\uff17\024\uff17\026\uff17" +
+    "\033\uff17\034\uff17\035\uff17\036\uff17\037\uff17\040\uff17\041" +
+    "\uff17\042\uff17\043\uff17\044\uff17\045\uff17\050\uff17\052\uff17" +
+    "\053\uff17\054\uff17\055\uff17\057\uff17\062\uff17\063\uff17\064" +
+    "\uff17\065\uff17\066\uff17\067\uff17\070\uff17\071\uff17\074\uff17" +
+    "\075\uff17\076\uff17\140\uff17\141\uff17\142\uff17\143\uff17\144" +
+    "\uff17\145\uff17\146\uff17\151\uff17\152\uff17\154\uff17\001\002" +
+    "\000\016\016\270\045\u0271\052\u0270\053\u02d5\074\u026f\110" +
+    "\u011e\001\002\000\006\017\u027e\026\u02dc\001\002\000\006" +
+    "\016\u027a\053\u02d7\001\002\000\004\026\u02d8\001\002\000" +
+    "\070\004\130\005\143\006\067\007\103\010\162\011\071" +
+    "\012\155\013\075\016\175\026\100\027\ufe69\050\140\052" +
+    "\125\053\134\074\135\075\066\076\132\077\123\100\104" +
+    "\101\120\102\112\141\171\142\151\143\107\144\111\145" +
+    "\070\146\124\001\002\000\004\027\u02da\001\002\000\004" +
+    "\020\u02db\001\002\000\150\004\uff10\005\uff10\006\uff10\007" +
+    "\uff10\010\uff10\011\uff10\012\uff10\013\uff10\016\uff10\020\uff10" +
+    "\023\uff10\024\uff10\026\uff10\033\uff10\034\uff10\035\uff10\036" +
+    "\uff10\037\uff10\040\uff10\041\uff10\042\uff10\043\uff10\044\uff10" +
+    "\045\uff10\050\uff10\052\uff10\053\uff10\054\uff10\055\uff10\057" +
+    "\uff10\062\uff10\063\uff10\064\uff10\065\uff10\066\uff10\067\uff10" +
+    "\070\uff10\071\uff10\074\uff10\075\uff10\076\uff10\140\uff10\141" +
+    "\uff10\142\uff10\143\uff10\144\uff10\145\uff10\146\uff10\151\uff10" +
+    "\152\uff10\154\uff10\001\002\000\070\004\130\005\143\006" +
+    "\067\007\103\010\162\011\071\012\155\013\075\016\175" +
+    "\026\100\027\ufe69\050\140\052\125\053\134\074\135\075" +
+    "\066\076\132\077\123\100\104\101\120\102\112\141\171" +
+    "\142\151\143\107\144\111\145\070\146\124\001\002\000" +
+    "\004\027\u02de\001\002\000\004\020\u02df\001\002\000\150" +
+    "\004\uff11\005\uff11\006\uff11\007\uff11\010\uff11\011\uff11\012" +
+    "\uff11\013\uff11\016\uff11\020\uff11\023\uff11\024\uff11\026\uff11" +
+    "\033\uff11\034\uff11\035\uff11\036\uff11\037\uff11\040\uff11\041" +
+    "\uff11\042\uff11\043\uff11\044\uff11\045\uff11\050\uff11\052\uff11" +
+    "\053\uff11\054\uff11\055\uff11\057\uff11\062\uff11\063\uff11\064" +
+    "\uff11\065\uff11\066\uff11\067\uff11\070\uff11\071\uff11\074\uff11" +
+    "\075\uff11\076\uff11\140\uff11\141\uff11\142\uff11\143\uff11\144" +
+    "\uff11\145\uff11\146\uff11\151\uff11\152\uff11\154\uff11\001\002" +
+    "\000\004\020\u02e1\001\002\000\156\004\ufe91\005\ufe91\006" +
+    "\ufe91\007\ufe91\010\ufe91\011\ufe91\012\ufe91\013\ufe91\016\ufe91" +
+    "\020\ufe91\023\ufe91\024\ufe91\026\ufe91\033\ufe91\034\ufe91\035" +
+    "\ufe91\036\ufe91\037\ufe91\040\ufe91\041\ufe91\042\ufe91\043\ufe91" +
+    "\044\ufe91\045\ufe91\050\ufe91\052\ufe91\053\ufe91\054\ufe91\055" +
+    "\ufe91\056\ufe91\057\ufe91\060\ufe91\061\ufe91\062\ufe91\063\ufe91" +
+    "\064\ufe91\065\ufe91\066\ufe91\067\ufe91\070\ufe91\071\ufe91\074" +
+    "\ufe91\075\ufe91\076\ufe91\140\ufe91\141\ufe91\142\ufe91\143\ufe91" +
+    "\144\ufe91\145\ufe91\146\ufe91\151\ufe91\152\ufe91\154\ufe91\001" +
+    "\002\000\006\072\u02e6\073\ufe8a\001\002\000\162\004\ufe8c" +
+    "\005\ufe8c\006\ufe8c\007\ufe8c\010\ufe8c\011\ufe8c\012\ufe8c\013" +
+    "\ufe8c\016\ufe8c\020\ufe8c\023\ufe8c\024\ufe8c\026\ufe8c\033\ufe8c" +
+    "\034\ufe8c\035\ufe8c\036\ufe8c\037\ufe8c\040\ufe8c\041\ufe8c\042" +
+    "\ufe8c\043\ufe8c\044\ufe8c\045\ufe8c\050\ufe8c\052\ufe8c\053\ufe8c" +
+    "\054\ufe8c\055\ufe8c\056\ufe8c\057\ufe8c\060\ufe8c\061\ufe8c\062" +
+    "\ufe8c\063\ufe8c\064\ufe8c\065\ufe8c\066\ufe8c\067\ufe8c\070\ufe8c" +
+    "\071\ufe8c\072\u02e6\073\ufe89\074\ufe8c\075\ufe8c\076\ufe8c\140" +
+    "\ufe8c\141\ufe8c\142\ufe8c\143\ufe8c\144\ufe8c\145\ufe8c\146\ufe8c" +
+    "\151\ufe8c\152\ufe8c\154\ufe8c\001\002\000\162\004\ufe88\005" +
+    "\ufe88\006\ufe88\007\ufe88\010\ufe88\011\ufe88\012\ufe88\013\ufe88" +
+    "\016\ufe88\020\ufe88\023\ufe88\024\ufe88\026\ufe88\033\ufe88\034" +
+    "\ufe88\035\ufe88\036\ufe88\037\ufe88\040\ufe88\041\ufe88\042\ufe88" +
+    "\043\ufe88\044\ufe88\045\ufe88\050\ufe88\052\ufe88\053\ufe88\054" +
+    "\ufe88\055\ufe88\056\ufe88\057\ufe88\060\ufe88\061\ufe88\062\ufe88" +
+    "\063\ufe88\064\ufe88\065\ufe88\066\ufe88\067\ufe88\070\ufe88\071" +
+    "\ufe88\072\ufe88\073\ufe88\074\ufe88\075\ufe88\076\ufe88\140\ufe88" +
+    "\141\ufe88\142\ufe88\143\ufe88\144\ufe88\145\ufe88\146\ufe88\151" +
+    "\ufe88\152\ufe88\154\ufe88\001\002\000\004\073\u02eb\001\002" +
+    "\000\004\026\u02e7\001\002\000\030\004\uff2c\005\uff2c\006" +
+    "\uff2c\007\uff2c\010\uff2c\011\uff2c\012\uff2c\013\uff2c\016\uff2c" +
+    "\040\u0151\140\164\001\002\000\004\027\u02e9\001\002\000" +
+    "\004\023\u0133\001\002\000\162\004\ufe86\005\ufe86\006\ufe86" +
+    "\007\ufe86\010\ufe86\011\ufe86\012\ufe86\013\ufe86\016\ufe86\020" +
+    "\ufe86\023\ufe86\024\ufe86\026\ufe86\033\ufe86\034\ufe86\035\ufe86" +
+    "\036\ufe86\037\ufe86\040\ufe86\041\ufe86\042\ufe86\043\ufe86\044" +
+    "\ufe86\045\ufe86\050\ufe86\052\ufe86\053\ufe86\054\ufe86\055\ufe86" +
+    "\056\ufe86\057\ufe86\060\ufe86\061\ufe86\062\ufe86\063\ufe86\064" +
+    "\ufe86\065\ufe86\066\ufe86\067\ufe86\070\ufe86\071\ufe86\072\ufe86" +
+    "\073\ufe86\074\ufe86\075\ufe86\076\ufe86\140\ufe86\141\ufe86\142" +
+    "\ufe86\143\ufe86\144\ufe86\145\ufe86\146\ufe86\151\ufe86\152\ufe86" +
+    "\154\ufe86\001\002\000\004\023\u0133\001\002\000\156\004" +
+    "\ufe8b\005\ufe8b\006\ufe8b\007\ufe8b\010\ufe8b\011\ufe8b\012\ufe8b" +
+    "\013\ufe8b\016\ufe8b\020\ufe8b\023\ufe8b\024\ufe8b\026\ufe8b\033" +
+    "\ufe8b\034\ufe8b\035\ufe8b\036\ufe8b\037\ufe8b\040\ufe8b\041\ufe8b" +
+    "\042\ufe8b\043\ufe8b\044\ufe8b\045\ufe8b\050\ufe8b\052\ufe8b\053" +
+    "\ufe8b\054\ufe8b\055\ufe8b\056\ufe8b\057\ufe8b\060\ufe8b\061\ufe8b" +
+    "\062\ufe8b\063\ufe8b\064\ufe8b\065\ufe8b\066\ufe8b\067\ufe8b\070" +
+    "\ufe8b\071\ufe8b\074\ufe8b\075\ufe8b\076\ufe8b\140\ufe8b\141\ufe8b" +
+    "\142\ufe8b\143\ufe8b\144\ufe8b\145\ufe8b\146\ufe8b\151\ufe8b\152" +
+    "\ufe8b\154\ufe8b\001\002\000\156\004\ufe85\005\ufe85\006\ufe85" +
+    "\007\ufe85\010\ufe85\011\ufe85\012\ufe85\013\ufe85\016\ufe85\020" +
+    "\ufe85\023\ufe85\024\ufe85\026\ufe85\033\ufe85\034\ufe85\035\ufe85" +
+    "\036\ufe85\037\ufe85\040\ufe85\041\ufe85\042\ufe85\043\ufe85\044" +
+    "\ufe85\045\ufe85\050\ufe85\052\ufe85\053\ufe85\054\ufe85\055\ufe85" +
+    "\056\ufe85\057\ufe85\060\ufe85\061\ufe85\062\ufe85\063\ufe85\064" +
+    "\ufe85\065\ufe85\066\ufe85\067\ufe85\070\ufe85\071\ufe85\074\ufe85" +
+    "\075\ufe85\076\ufe85\140\ufe85\141\ufe85\142\ufe85\143\ufe85\144" +
+    "\ufe85\145\ufe85\146\ufe85\151\ufe85\152\ufe85\154\ufe85\001\002" +
+    "\000\162\004\ufe87\005\ufe87\006\ufe87\007\ufe87\010\ufe87\011" +
+    "\ufe87\012\ufe87\013\ufe87\016\ufe87\020\ufe87\023\ufe87\024\ufe87" +
+    "\026\ufe87\033\ufe87\034\ufe87\035\ufe87\036\ufe87\037\ufe87\040" +
+    "\ufe87\041\ufe87\042\ufe87\043\ufe87\044\ufe87\045\ufe87\050\ufe87" +
+    "\052\ufe87\053\ufe87\054\ufe87\055\ufe87\056\ufe87\057\ufe87\060" +
+    "\ufe87\061\ufe87\062\ufe87\063\ufe87\064\ufe87\065\ufe87\066\ufe87" +
+    "\067\ufe87\070\ufe87\071\ufe87\072\ufe87\073\ufe87\074\ufe87\075" +
+    "\ufe87\076\ufe87\140\ufe87\141\ufe87\142\ufe87\143\ufe87\144\ufe87" +
+    "\145\ufe87\146\ufe87\151\ufe87\152\ufe87\154\ufe87\001\002\000" +
+    "\004\020\u02f0\001\002\000\156\004\ufe8f\005\ufe8f\006\ufe8f" +
+    "\007\ufe8f\010\ufe8f\011\ufe8f\012\ufe8f\013\ufe8f\016\ufe8f\020" +
+    "\ufe8f\023\ufe8f\024\ufe8f\026\ufe8f\033\ufe8f\034\ufe8f\035\ufe8f" +
+    "\036\ufe8f\037\ufe8f\040\ufe8f\041\ufe8f\042\ufe8f\043\ufe8f\044" +
+    "\ufe8f\045\ufe8f\050\ufe8f\052\ufe8f\053\ufe8f\054\ufe8f\055\ufe8f" +
+    "\056\ufe8f\057\ufe8f\060\ufe8f\061\ufe8f\062\ufe8f\063\ufe8f\064" +
+    "\ufe8f\065\ufe8f\066\ufe8f\067\ufe8f\070\ufe8f\071\ufe8f\074\ufe8f" +
+    "\075\ufe8f\076\ufe8f\140\ufe8f\141\ufe8f\142\ufe8f\143\ufe8f\144" +
+    "\ufe8f\145\ufe8f\146\ufe8f\151\ufe8f\152\ufe8f\154\ufe8f\001\002" +
+    "\000\004\026\u02fe\001\002\000\110\004\130\005\143\006" +
+    "\067\007\103\010\162\011\071\012\155\013\075\016\175" +
+    "\020\ufe9c\026\u020c\033\045\034\042\035\015\036\021\037" +
+    "\030\040\044\041\041\042\052\043\032\044\050\050\140" +
+    "\052\125\053\134\074\135\075\066\076\132\140\u0199\141" +
+    "\171\142\151\143\107\144\111\145\070\146\124\151\012" +
+    "\001\002\000\004\020\u02f9\001\002\000\004\016\u0154\001" +
+    "\002\000\014\014\u0157\020\uff42\022\uff42\025\u01b5\030\u02f6" +
+    "\001\002\000\066\004\130\005\143\006\067\007\103\010" +
+    "\162\011\071\012\155\013\075\016\175\026\100\050\140" +
+    "\052\125\053\134\074\135\075\066\076\132\077\123\100" +
+    "\104\101\120\102\112\141\171\142\151\143\107\144\111" +
+    "\145\070\146\124\001\002\000\004\027\u02f8\001\002\000" +
+    "\112\004\130\005\143\006\067\007\103\010\162\011\071" +
+    "\012\155\013\075\016\u01ff\020\u0226\023\u0133\026\u020c\042" +
+    "\u024b\050\140\052\125\053\134\055\u0232\057\u021d\062\u021e" +
+    "\063\u0219\064\u021f\065\u0223\066\u0231\067\u0220\070\u0206\071" +
+    "\u0221\074\135\075\066\076\132\141\171\142\151\143\107" +
+    "\144\111\145\070\146\124\152\u0235\001\002\000\070\004" +
+    "\130\005\143\006\067\007\103\010\162\011\071\012\155" +
+    "\013\075\016\175\020\ufe06\026\100\050\140\052\125\053" +
+    "\134\074\135\075\066\076\132\077\123\100\104\101\120" +
+    "\102\112\141\171\142\151\143\107\144\111\145\070\146" +
+    "\124\001\002\000\004\020\u02fb\001\002\000\060\004\130" +
+    "\005\143\006\067\007\103\010\162\011\071\012\155\013" +
+    "\075\016\175\026\u020c\027\ufe98\050\140\052\125\053\134" +
+    "\074\135\075\066\076\132\141\171\142\151\143\107\144" +
+    "\111\145\070\146\124\001\002\000\004\027\u02fd\001\002" +
+    "\000\112\004\130\005\143\006\067\007\103\010\162\011" +
+    "\071\012\155\013\075\016\u01ff\020\u0226\023\u0133\026\u020c" +
+    "\042\u024b\050\140\052\125\053\134\055\u0232\057\u021d\062" +
+    "\u021e\063\u0219\064\u021f\065\u0223\066\u0231\067\u0220\070\u0206" +
+    "\071\u0221\074\135\075\066\076\132\141\171\142\151\143" +
+    "\107\144\111\145\070\146\124\152\u0235\001\002\000\024" +
+    "\004\130\005\143\006\067\007\103\010\162\011\071\012" +
+    "\155\013\075\016\175\001\002\000\004\016\u0154\001\002" +
+    "\000\006\014\u0157\016\u0301\001\002\000\066\004\130\005" +
+    "\143\006\067\007\103\010\162\011\071\012\155\013\075" +
+    "\016\175\026\100\050\140\052\125\053\134\074\135\075" +
+    "\066\076\132\077\123\100\104\101\120\102\112\141\171" +
+    "\142\151\143\107\144\111\145\070\146\124\001\002\000" +
+    "\004\027\u0303\001\002\000\112\004\130\005\143\006\067" +
+    "\007\103\010\162\011\071\012\155\013\075\016\u01ff\020" +
+    "\u0226\023\u0133\026\u020c\042\u024b\050\140\052\125\053\134" +
+    "\055\u0232\057\u021d\062\u021e\063\u0219\064\u021f\065\u0223\066" +
+    "\u0231\067\u0220\070\u0206\071\u0221\074\135\075\066\076\132" +
+    "\141\171\142\151\143\107\144\111\145\070\146\124\152" +
+    "\u0235\001\002\000\004\063\u0305\001\002\000\004\026\u0306" +
+    "\001\002\000\066\004\130\005\143\006\067\007\103\010" +
+    "\162\011\071\012\155\013\075\016\175\026\100\050\140" +
+    "\052\125\053\134\074\135\075\066\076\132\077\123\100" +
+    "\104\101\120\102\112\141\171\142\151\143\107\144\111" +
+    "\145\070\146\124\001\002\000\004\027\u0308\001\002\000" +
+    "\004\020\u0309\001\002\000\156\004\ufea3\005\ufea3\006\ufea3" +
+    "\007\ufea3\010\ufea3\011\ufea3\012\ufea3\013\ufea3\016\ufea3\020" +
+    "\ufea3\023\ufea3\024\ufea3\026\ufea3\033\ufea3\034\ufea3\035\ufea3" +
+    "\036\ufea3\037\ufea3\040\ufea3\041\ufea3\042\ufea3\043\ufea3\044" +
+    "\ufea3\045\ufea3\050\ufea3\052\ufea3\053\ufea3\054\ufea3\055\ufea3" +
+    "\056\ufea3\057\ufea3\060\ufea3\061\ufea3\062\ufea3\063\ufea3\064" +
+    "\ufea3\065\ufea3\066\ufea3\067\ufea3\070\ufea3\071\ufea3\074\ufea3" +
+    "\075\ufea3\076\ufea3\140\ufea3\141\ufea3\142\ufea3\143\ufea3\144" +
+    "\ufea3\145\ufea3\146\ufea3\151\ufea3\152\ufea3\154\ufea3\001\002" +
+    "\000\066\004\130\005\143\006\067\007\103\010\162\011" +
+    "\071\012\155\013\075\016\175\026\100\050\140\052\125" +
+    "\053\134\074\135\075\066\076\132\077\123\100\104\101" +
+    "\120\102\112\141\171\142\151\143\107\144\111\145\070" +
+    "\146\124\001\002\000\004\027\u030c\001\002\000\004\023" +
+    "\u030d\001\002\000\010\024\u0310\060\u0314\061\u030f\001\002" +
+    "\000\156\004\ufeb1\005\ufeb1\006\ufeb1\007\ufeb1\010\ufeb1\011" +
+    "\ufeb1\012\ufeb1\013\ufeb1\016\ufeb1\020\ufeb1\023\ufeb1\024\ufeb1" +
+    "\026\ufeb1\033\ufeb1\034\ufeb1\035\ufeb1\036\ufeb1\037\ufeb1\040" +
+    "\ufeb1\041\ufeb1\042\ufeb1\043\ufeb1\044\ufeb1\045\ufeb1\050\ufeb1" +
+    "\052\ufeb1\053\ufeb1\054\ufeb1\055\ufeb1\056\ufeb1\057\ufeb1\060" +
+    "\ufeb1\061\ufeb1\062\ufeb1\063\ufeb1\064\ufeb1\065\ufeb1\066\ufeb1" +
+    "\067\ufeb1\070\ufeb1\071\ufeb1\074\ufeb1\075\ufeb1\076\ufeb1\140" +
+    "\ufeb1\141\ufeb1\142\ufeb1\143\ufeb1\144\ufeb1\145\ufeb1\146\ufeb1" +
+    "\151\ufeb1\152\ufeb1\154\ufeb1\001\002\000\004\030\u0321\001" +
+    "\002\000\156\004\ufead\005\ufead\006\ufead\007\ufead\010\ufead" +
+    "\011\ufead\012\ufead\013\ufead\016\ufead\020\ufead\023\ufead\024" +
+    "\ufead\026\ufead\033\ufead\034\ufead\035\ufead\036\ufead\037\ufead" +
+    "\040\ufead\041\ufead\042\ufead\043\ufead\044\ufead\045\ufead\050" +
+    "\ufead\052\ufead\053\ufead\054\ufead\055\ufead\056\ufead\057\ufead" +
+    "\060\ufead\061\ufead\062\ufead\063\ufead\064\ufead\065\ufead\066" +
+    "\ufead\067\ufead\070\ufead\071\ufead\074\ufead\075\ufead\076\ufead" +
+    "\140\ufead\141\ufead\142\ufead\143\ufead\144\ufead\145\ufead\146" +
+    "\ufead\151\ufead\152\ufead\154\ufead\001\002\000\010\024\u031d" +
+    "\060\u0314\061\u030f\001\002\000\010\024\ufeac\060\ufeac\061" +
+    "\ufeac\001\002\000\154\004\ufea9\005\ufea9\006\ufea9\007\ufea9" +
+    "\010\ufea9\011\ufea9\012\ufea9\013\ufea9\016\ufea9\020\ufea9\023" +
+    "\ufea9\024\ufea9\026\ufea9\033\ufea9\034\ufea9\035\ufea9\036\ufea9" +
+    "\037\ufea9\040\ufea9\041\ufea9\042\ufea9\043\ufea9\044\ufea9\045" +
+    "\ufea9\050\ufea9\052\ufea9\053\ufea9\054\ufea9\055\ufea9\057\ufea9" +
+    "\060\ufea9\061\ufea9\062\ufea9\063\ufea9\064\ufea9\065\ufea9\066" +
+    "\ufea9\067\ufea9\070\ufea9\071\ufea9\074\ufea9\075\ufea9\076\ufea9" +
+    "\140\ufea9\141\ufea9\142\ufea9\143\ufea9\144\ufea9\145\ufea9\146" +
+    "\ufea9\151\ufea9\152\ufea9\154\ufea9\001\002\000\066\004\130" +
+    "\005\143\006\067\007\103\010\162\011\071\012\155\013" +
+    "\075\016\175\026\100\050\140\052\125\053\134\074\135" +
+    "\075\066\076\132\077\123\100\104\101\120\102\112\141" +
+    "\171\142\151\143\107\144\111\145\070\146\124\001\002" +
+    "\000\154\004\130\005\143\006\067\007\103\010\162\011" +
+    "\071\012\155\013\075\016\u01ff\020\u0226\023\u0133\024\u0318" +
+    "\026\u020c\033\045\034\042\035\015\036\021\037\030\040" +
+    "\044\041\041\042\u0230\043\032\044\050\045\uff9b\050\140" +
+    "\052\125\053\134\054\uff9b\055\u0232\057\u021d\060\u0314\061" +
+    "\u030f\062\u021e\063\u0219\064\u021f\065\u0223\066\u0231\067\u0220" +
+    "\070\u0206\071\u0221\074\135\075\066\076\132\140\053\141" +
+    "\171\142\151\143\107\144\111\145\070\146\124\151\012" +
+    "\152\u0235\154\uff9b\001\002\000\154\004\130\005\143\006" +
+    "\067\007\103\010\162\011\071\012\155\013\075\016\u01ff" +
+    "\020\u0226\023\u0133\024\ufeaa\026\u020c\033\045\034\042\035" +
+    "\015\036\021\037\030\040\044\041\041\042\u0230\043\032" +
+    "\044\050\045\uff9b\050\140\052\125\053\134\054\uff9b\055" +
+    "\u0232\057\u021d\060\ufeaa\061\ufeaa\062\u021e\063\u0219\064\u021f" +
+    "\065\u0223\066\u0231\067\u0220\070\u0206\071\u0221\074\135\075" +
+    "\066\076\132\140\053\141\171\142\151\143\107\144\111" +
+    "\145\070\146\124\151\012\152\u0235\154\uff9b\001\002\000" +
+    "\154\004\ufea8\005\ufea8\006\ufea8\007\ufea8\010\ufea8\011\ufea8" +
+    "\012\ufea8\013\ufea8\016\ufea8\020\ufea8\023\ufea8\024\ufea8\026" +
+    "\ufea8\033\ufea8\034\ufea8\035\ufea8\036\ufea8\037\ufea8\040\ufea8" +
+    "\041\ufea8\042\ufea8\043\ufea8\044\ufea8\045\ufea8\050\ufea8\052" +
+    "\ufea8\053\ufea8\054\ufea8\055\ufea8\057\ufea8\060\ufea8\061\ufea8" +
+    "\062\ufea8\063\ufea8\064\ufea8\065\ufea8\066\ufea8\067\ufea8\070" +
+    "\ufea8\071\ufea8\074\ufea8\075\ufea8\076\ufea8\140\ufea8\141\ufea8" +
+    "\142\ufea8\143\ufea8\144\ufea8\145\ufea8\146\ufea8\151\ufea8\152" +
+    "\ufea8\154\ufea8\001\002\000\156\004\ufeae\005\ufeae\006\ufeae" +
+    "\007\ufeae\010\ufeae\011\ufeae\012\ufeae\013\ufeae\016\ufeae\020" +
+    "\ufeae\023\ufeae\024\ufeae\026\ufeae\033\ufeae\034\ufeae\035\ufeae" +
+    "\036\ufeae\037\ufeae\040\ufeae\041\ufeae\042\ufeae\043\ufeae\044" +
+    "\ufeae\045\ufeae\050\ufeae\052\ufeae\053\ufeae\054\ufeae\055\ufeae" +
+    "\056\ufeae\057\ufeae\060\ufeae\061\ufeae\062\ufeae\063\ufeae\064" +
+    "\ufeae\065\ufeae\066\ufeae\067\ufeae\070\ufeae\071\ufeae\074\ufeae" +
+    "\075\ufeae\076\ufeae\140\ufeae\141\ufeae\142\ufeae\143\ufeae\144" +
+    "\ufeae\145\ufeae\146\ufeae\151\ufeae\152\ufeae\154\ufeae\001\002" +
+    "\000\154\004\ufee1\005\ufee1\006\ufee1\007\ufee1\010\ufee1\011" +
+    "\ufee1\012\ufee1\013\ufee1\016\ufee1\020\ufee1\023\ufee1\024\ufee1" +
+    "\026\ufee1\033\ufee1\034\ufee1\035\ufee1\036\ufee1\037\ufee1\040" +
+    "\ufee1\041\ufee1\042\ufee1\043\ufee1\044\ufee1\045\ufee1\050\ufee1" +
+    "\052\ufee1\053\ufee1\054\ufee1\055\ufee1\057\ufee1\060\ufee1\061" +
+    "\ufee1\062\ufee1\063\ufee1\064\ufee1\065\ufee1\066\ufee1\067\ufee1" +
+    "\070\ufee1\071\ufee1\074\ufee1\075\ufee1\076\ufee1\140\ufee1\141" +
+    "\ufee1\142\ufee1\143\ufee1\144\ufee1\145\ufee1\146\ufee1\151\ufee1" +
+    "\152\ufee1\154\ufee1\001\002\000\004\030\u031c\001\002\000" +
+    "\004\030\ufe03\001\002\000\154\004\ufea7\005\ufea7\006\ufea7" +
+    "\007\ufea7\010\ufea7\011\ufea7\012\ufea7\013\ufea7\016\ufea7\020" +
+    "\ufea7\023\ufea7\024\ufea7\026\ufea7\033\ufea7\034\ufea7\035\ufea7" +
+    "\036\ufea7\037\ufea7\040\ufea7\041\ufea7\042\ufea7\043\ufea7\044" +
+    "\ufea7\045\ufea7\050\ufea7\052\ufea7\053\ufea7\054\ufea7\055\ufea7" +
+    "\057\ufea7\060\ufea7\061\ufea7\062\ufea7\063\ufea7\064\ufea7\065" +
+    "\ufea7\066\ufea7\067\ufea7\070\ufea7\071\ufea7\074\ufea7\075\ufea7" +
+    "\076\ufea7\140\ufea7\141\ufea7\142\ufea7\143\ufea7\144\ufea7\145" +
+    "\ufea7\146\ufea7\151\ufea7\152\ufea7\154\ufea7\001\002\000\156" +
+    "\004\ufeaf\005\ufeaf\006\ufeaf\007\ufeaf\010\ufeaf\011\ufeaf\012" +
+    "\ufeaf\013\ufeaf\016\ufeaf\020\ufeaf\023\ufeaf\024\ufeaf\026\ufeaf" +
+    "\033\ufeaf\034\ufeaf\035\ufeaf\036\ufeaf\037\ufeaf\040\ufeaf\041" +
+    "\ufeaf\042\ufeaf\043\ufeaf\044\ufeaf\045\ufeaf\050\ufeaf\052\ufeaf" +
+    "\053\ufeaf\054\ufeaf\055\ufeaf\056\ufeaf\057\ufeaf\060\ufeaf\061" +
+    "\ufeaf\062\ufeaf\063\ufeaf\064\ufeaf\065\ufeaf\066\ufeaf\067\ufeaf" +
+    "\070\ufeaf\071\ufeaf\074\ufeaf\075\ufeaf\076\ufeaf\140\ufeaf\141" +
+    "\ufeaf\142\ufeaf\143\ufeaf\144\ufeaf\145\ufeaf\146\ufeaf\151\ufeaf" +
+    "\152\ufeaf\154\ufeaf\001\002\000\010\024\ufeab\060\ufeab\061" +
+    "\ufeab\001\002\000\154\004\130\005\143\006\067\007\103" +
+    "\010\162\011\071\012\155\013\075\016\u01ff\020\u0226\023" +
+    "\u0133\024\u0320\026\u020c\033\045\034\042\035\015\036\021" +
+    "\037\030\040\044\041\041\042\u0230\043\032\044\050\045" +
+    "\uff9b\050\140\052\125\053\134\054\uff9b\055\u0232\057\u021d" +
+    "\060\u0314\061\u030f\062\u021e\063\u0219\064\u021f\065\u0223\066" +
+    "\u0231\067\u0220\070\u0206\071\u0221\074\135\075\066\076\132" +
+    "\140\053\141\171\142\151\143\107\144\111\145\070\146" +
+    "\124\151\012\152\u0235\154\uff9b\001\002\000\156\004\ufeb0" +
+    "\005\ufeb0\006\ufeb0\007\ufeb0\010\ufeb0\011\ufeb0\012\ufeb0\013" +
+    "\ufeb0\016\ufeb0\020\ufeb0\023\ufeb0\024\ufeb0\026\ufeb0\033\ufeb0" +
+    "\034\ufeb0\035\ufeb0\036\ufeb0\037\ufeb0\040\ufeb0\041\ufeb0\042" +
+    "\ufeb0\043\ufeb0\044\ufeb0\045\ufeb0\050\ufeb0\052\ufeb0\053\ufeb0" +
+    "\054\ufeb0\055\ufeb0\056\ufeb0\057\ufeb0\060\ufeb0\061\ufeb0\062" +
+    "\ufeb0\063\ufeb0\064\ufeb0\065\ufeb0\066\ufeb0\067\ufeb0\070\ufeb0" +
+    "\071\ufeb0\074\ufeb0\075\ufeb0\076\ufeb0\140\ufeb0\141\ufeb0\142" +
+    "\ufeb0\143\ufeb0\144\ufeb0\145\ufeb0\146\ufeb0\151\ufeb0\152\ufeb0" +
+    "\154\ufeb0\001\002\000\154\004\ufea6\005\ufea6\006\ufea6\007" +
+    "\ufea6\010\ufea6\011\ufea6\012\ufea6\013\ufea6\016\ufea6\020\ufea6" +
+    "\023\ufea6\024\ufea6\026\ufea6\033\ufea6\034\ufea6\035\ufea6\036" +
+    "\ufea6\037\ufea6\040\ufea6\041\ufea6\042\ufea6\043\ufea6\044\ufea6" +
+    "\045\ufea6\050\ufea6\052\ufea6\053\ufea6\054\ufea6\055\ufea6\057" +
+    "\ufea6\060\ufea6\061\ufea6\062\ufea6\063\ufea6\064\ufea6\065\ufea6" +
+    "\066\ufea6\067\ufea6\070\ufea6\071\ufea6\074\ufea6\075\ufea6\076" +
+    "\ufea6\140\ufea6\141\ufea6\142\ufea6\143\ufea6\144\ufea6\145\ufea6" +
+    "\146\ufea6\151\ufea6\152\ufea6\154\ufea6\001\002\000\066\004" +
+    "\130\005\143\006\067\007\103\010\162\011\071\012\155" +
+    "\013\075\016\175\026\100\050\140\052\125\053\134\074" +
+    "\135\075\066\076\132\077\123\100\104\101\120\102\112" +
+    "\141\171\142\151\143\107\144\111\145\070\146\124\001" +
+    "\002\000\004\027\u0324\001\002\000\112\004\130\005\143" +
+    "\006\067\007\103\010\162\011\071\012\155\013\075\016" +
+    "\u01ff\020\u0226\023\u0133\026\u020c\042\u024b\050\140\052\125" +
+    "\053\134\055\u0232\057\u021d\062\u021e\063\u0219\064\u021f\065" +
+    "\u0223\066\u0231\067\u0220\070\u0206\071\u0221\074\135\075\066" +
+    "\076\132\141\171\142\151\143\107\144\111\145\070\146" +
+    "\124\152\u0235\001\002\000\070\004\130\005\143\006\067" +
+    "\007\103\010\162\011\071\012\155\013\075\016\175\026" +
+    "\100\027\ufe69\050\140\052\125\053\134\074\135\075\066" +
+    "\076\132\077\123\100\104\101\120\102\112\141\171\142" +
+    "\151\143\107\144\111\145\070\146\124\001\002\000\006" +
+    "\016\u0328\110\u011e\001\002\000\004\016\u032c\001\002\000" +
+    "\132\014\ufe59\015\ufe59\017\ufe59\020\ufe59\021\ufe59\022\ufe59" +
+    "\024\ufe59\025\ufe59\026\u0329\027\ufe59\030\ufe59\075\ufe59\076" +
+    "\ufe59\077\ufe59\100\ufe59\103\ufe59\104\ufe59\105\ufe59\106\ufe59" +
+    "\107\ufe59\110\ufe59\111\ufe59\112\ufe59\113\ufe59\114\ufe59\115" +
+    "\ufe59\116\ufe59\117\ufe59\120\ufe59\121\ufe59\122\ufe59\123\ufe59" +
+    "\124\ufe59\125\ufe59\126\ufe59\127\ufe59\130\ufe59\131\ufe59\132" +
+    "\ufe59\133\ufe59\134\ufe59\135\ufe59\136\ufe59\137\ufe59\001\002" +
+    "\000\070\004\130\005\143\006\067\007\103\010\162\011" +
+    "\071\012\155\013\075\016\175\026\100\027\ufe69\050\140" +
+    "\052\125\053\134\074\135\075\066\076\132\077\123\100" +
+    "\104\101\120\102\112\141\171\142\151\143\107\144\111" +
+    "\145\070\146\124\001\002\000\004\027\u032b\001\002\000" +
+    "\130\014\ufe53\015\ufe53\017\ufe53\020\ufe53\021\ufe53\022\ufe53" +
+    "\024\ufe53\025\ufe53\027\ufe53\030\ufe53\075\ufe53\076\ufe53\077" +
+    "\ufe53\100\ufe53\103\ufe53\104\ufe53\105\ufe53\106\ufe53\107\ufe53" +
+    "\110\ufe53\111\ufe53\112\ufe53\113\ufe53\114\ufe53\115\ufe53\116" +
+    "\ufe53\117\ufe53\120\ufe53\121\ufe53\122\ufe53\123\ufe53\124\ufe53" +
+    "\125\ufe53\126\ufe53\127\ufe53\130\ufe53\131\ufe53\132\ufe53\133" +
+    "\ufe53\134\ufe53\135\ufe53\136\ufe53\137\ufe53\001\002\000\004" +
+    "\026\u032d\001\002\000\070\004\130\005\143\006\067\007" +
+    "\103\010\162\011\071\012\155\013\075\016\175\026\100" +
+    "\027\ufe69\050\140\052\125\053\134\074\135\075\066\076" +
+    "\132\077\123\100\104\101\120\102\112\141\171\142\151" +
+    "\143\107\144\111\145\070\146\124\001\002\000\004\027" +
+    "\u032f\001\002\000\130\014\ufe52\015\ufe52\017\ufe52\020\ufe52" +
+    "\021\ufe52\022\ufe52\024\ufe52\025\ufe52\027\ufe52\030\ufe52\075" +
+    "\ufe52\076\ufe52\077\ufe52\100\ufe52\103\ufe52\104\ufe52\105\ufe52" +
+    "\106\ufe52\107\ufe52\110\ufe52\111\ufe52\112\ufe52\113\ufe52\114" +
+    "\ufe52\115\ufe52\116\ufe52\117\ufe52\120\ufe52\121\ufe52\122\ufe52" +
+    "\123\ufe52\124\ufe52\125\ufe52\126\ufe52\127\ufe52\130\ufe52\131" +
+    "\ufe52\132\ufe52\133\ufe52\134\ufe52\135\ufe52\136\ufe52\137\ufe52" +
+    "\001\002\000\004\027\u0331\001\002\000\004\020\u0332\001" +
+    "\002\000\150\004\uff15\005\uff15\006\uff15\007\uff15\010\uff15" +
+    "\011\uff15\012\uff15\013\uff15\016\uff15\020\uff15\023\uff15\024" +
+    "\uff15\026\uff15\033\uff15\034\uff15\035\uff15\036\uff15\037\uff15" +
+    "\040\uff15\041\uff15\042\uff15\043\uff15\044\uff15\045\uff15\050" +
+    "\uff15\052\uff15\053\uff15\054\uff15\055\uff15\057\uff15\062\uff15" +
+    "\063\uff15\064\uff15\065\uff15\066\uff15\067\uff15\070\uff15\071" +
+    "\uff15\074\uff15\075\uff15\076\uff15\140\uff15\141\uff15\142\uff15" +
+    "\143\uff15\144\uff15\145\uff15\146\uff15\151\uff15\152\uff15\154" +
+    "\uff15\001\002\000\154\004\ufedb\005\ufedb\006\ufedb\007\ufedb" +
+    "\010\ufedb\011\ufedb\012\ufedb\013\ufedb\016\ufedb\020\ufedb\023" +
+    "\ufedb\024\ufedb\026\ufedb\033\ufedb\034\ufedb\035\ufedb\036\ufedb" +
+    "\037\ufedb\040\ufedb\041\ufedb\042\ufedb\043\ufedb\044\ufedb\045" +
+    "\ufedb\050\ufedb\052\ufedb\053\ufedb\054\ufedb\055\ufedb\057\ufedb" +
+    "\060\ufedb\061\ufedb\062\ufedb\063\ufedb\064\ufedb\065\ufedb\066" +
+    "\ufedb\067\ufedb\070\ufedb\071\ufedb\074\ufedb\075\ufedb\076\ufedb" +
+    "\140\ufedb\141\ufedb\142\ufedb\143\ufedb\144\ufedb\145\ufedb\146" +
+    "\ufedb\151\ufedb\152\ufedb\154\ufedb\001\002\000\150\004\130" +
+    "\005\143\006\067\007\103\010\162\011\071\012\155\013" +
+    "\075\016\u01ff\020\u0226\023\u0133\024\u0336\026\u020c\033\045" +
+    "\034\042\035\015\036\021\037\030\040\044\041\041\042" +
+    "\u0230\043\032\044\050\045\uff9b\050\140\052\125\053\134" +
+    "\054\uff9b\055\u0232\057\u021d\062\u021e\063\u0219\064\u021f\065" +
+    "\u0223\066\u0231\067\u0220\070\u0206\071\u0221\074\135\075\066" +
+    "\076\132\140\053\141\171\142\151\143\107\144\111\145" +
+    "\070\146\124\151\012\152\u0235\154\uff9b\001\002\000\074" +
+    "\004\uff1a\005\uff1a\006\uff1a\007\uff1a\010\uff1a\011\uff1a\012" +
+    "\uff1a\013\uff1a\016\uff1a\020\uff1a\023\uff1a\024\uff1a\033\uff1a" +
+    "\034\uff1a\035\uff1a\036\uff1a\037\uff1a\040\uff1a\041\uff1a\042" +
+    "\uff1a\043\uff1a\044\uff1a\045\uff1a\050\uff1a\054\uff1a\110\uff1a" +
+    "\140\uff1a\151\uff1a\154\uff1a\001\002\000\074\004\uff1b\005" +
+    "\uff1b\006\uff1b\007\uff1b\010\uff1b\011\uff1b\012\uff1b\013\uff1b" +
+    "\016\uff1b\020\uff1b\023\uff1b\024\uff1b\033\uff1b\034\uff1b\035" +
+    "\uff1b\036\uff1b\037\uff1b\040\uff1b\041\uff1b\042\uff1b\043\uff1b" +
+    "\044\uff1b\045\uff1b\050\uff1b\054\uff1b\110\uff1b\140\uff1b\151" +
+    "\uff1b\154\uff1b\001\002\000\050\027\ufdd3\077\u03b1\100\u03b2" +
+    "\105\ufdd3\106\ufdd3\107\ufdd3\110\ufdd3\111\ufdd3\112\ufdd3\113" +
+    "\ufdd3\114\ufdd3\115\ufdd3\116\ufdd3\117\ufdd3\120\ufdd3\121\ufdd3" +
+    "\122\ufdd3\123\ufdd3\124\ufdd3\001\002\000\004\027\ufda7\001" +
+    "\002\000\112\021\ufdea\025\ufe4a\027\ufdea\075\ufe4a\076\ufe4a" +
+    "\077\ufdea\100\ufdea\103\ufdea\104\ufdea\105\ufdea\106\ufdea\107" +
+    "\ufdea\110\ufdea\111\ufdea\112\ufdea\113\ufdea\114\ufdea\115\ufdea" +
+    "\116\ufdea\117\ufdea\120\ufdea\121\ufdea\122\ufdea\123\ufdea\124" +
+    "\ufdea\125\ufe4a\126\ufe4a\127\ufe4a\130\ufe4a\131\ufe4a\132\ufe4a" +
+    "\133\ufe4a\134\ufe4a\135\ufe4a\136\ufe4a\137\ufe4a\001\002\000" +
+    "\056\021\ufde7\027\ufde7\077\ufde7\100\ufde7\103\ufde7\104\ufde7" +
+    "\105\ufde7\106\ufde7\107\ufde7\110\ufde7\111\ufde7\112\ufde7\113" +
+    "\ufde7\114\ufde7\115\ufde7\116\ufde7\117\ufde7\120\ufde7\121\ufde7" +
+    "\122\ufde7\123\ufde7\124\ufde7\001\002\000\044\027\ufdcc\105" +
+    "\u03a9\106\u03ab\107\u03aa\110\u03a7\111\u03a8\112\ufdcc\113\ufdcc" +
+    "\114\ufdcc\115\ufdcc\116\ufdcc\117\ufdcc\120\ufdcc\121\ufdcc\122" +
+    "\ufdcc\123\ufdcc\124\ufdcc\001\002\000\066\004\130\005\143" +
+    "\006\067\007\103\010\162\011\071\012\155\013\075\016" +
+    "\175\026\100\050\140\052\125\053\134\074\135\075\066" +
+    "\076\132\077\123\100\104\101\120\102\112\141\171\142" +
+    "\151\143\107\144\111\145\070\146\124\001\002\000\004" +
+    "\027\u03a5\001\002\000\056\021\ufddf\027\ufddf\077\ufddf\100" +
+    "\ufddf\103\ufddf\104\ufddf\105\ufddf\106\ufddf\107\ufddf\110\ufddf" +
+    "\111\ufddf\112\ufddf\113\ufddf\114\ufddf\115\ufddf\116\ufddf\117" +
+    "\ufddf\120\ufddf\121\ufddf\122\ufddf\123\ufddf\124\ufddf\001\002" +
+    "\000\120\014\u0269\017\u026c\021\u0385\025\ufe4b\026\u026a\027" +
+    "\u037d\075\ufe4b\076\ufe4b\077\u037b\100\u0389\103\u0388\104\u0377" +
+    "\105\u0383\106\u037f\107\u0381\110\u0379\111\u0382\112\u0384\113" +
+    "\u038a\114\u038d\115\u038c\116\u037c\117\u0378\120\u038b\121\u037e" +
+    "\122\u0386\123\u0380\124\u037a\125\ufe4b\126\ufe4b\127\ufe4b\130" +
+    "\ufe4b\131\ufe4b\132\ufe4b\133\ufe4b\134\ufe4b\135\ufe4b\136\ufe4b" +
+    "\137\ufe4b\001\002\000\066\004\130\005\143\006\067\007" +
+    "\103\010\162\011\071\012\155\013\075\016\175\026\100" +
+    "\050\140\052\125\053\134\074\135\075\066\076\132\077" +
+    "\123\100\104\101\120\102\112\141\171\142\151\143\107" +
+    "\144\111\145\070\146\124\001\002\000\056\021\ufde0\027" +
+    "\ufde0\077\ufde0\100\ufde0\103\ufde0\104\ufde0\105\ufde0\106\ufde0" +
+    "\107\ufde0\110\ufde0\111\ufde0\112\ufde0\113\ufde0\114\ufde0\115" +
+    "\ufde0\116\ufde0\117\ufde0\120\ufde0\121\ufde0\122\ufde0\123\ufde0" +
+    "\124\ufde0\001\002\000\016\027\ufdb5\120\u0374\121\ufdb5\122" +
+    "\ufdb5\123\ufdb5\124\ufdb5\001\002\000\004\027\ufda8\001\002" +
+    "\000\066\004\130\005\143\006\067\007\103\010\162\011" +
+    "\071\012\155\013\075\016\175\026\100\050\140\052\125" +
+    "\053\134\074\135\075\066\076\132\077\123\100\104\101" +
+    "\120\102\112\141\171\142\151\143\107\144\111\145\070" +
+    "\146\124\001\002\000\114\017\u0371\021\ufdeb\025\ufe4c\027" +
+    "\ufdeb\075\ufe4c\076\ufe4c\077\ufdeb\100\ufdeb\103\ufdeb\104\ufdeb" +
+    "\105\ufdeb\106\ufdeb\107\ufdeb\110\ufdeb\111\ufdeb\112\ufdeb\113" +
+    "\ufdeb\114\ufdeb\115\ufdeb\116\ufdeb\117\ufdeb\120\ufdeb\121\ufdeb" +
+    "\122\ufdeb\123\ufdeb\124\ufdeb\125\ufe4c\126\ufe4c\127\ufe4c\130" +
+    "\ufe4c\131\ufe4c\132\ufe4c\133\ufe4c\134\ufe4c\135\ufe4c\136\ufe4c" +
+    "\137\ufe4c\001\002\000\066\004\130\005\143\006\067\007" +
+    "\103\010\162\011\071\012\155\013\075\016\175\026\100" +
+    "\050\140\052\125\053\134\074\135\075\066\076\132\077" +
+    "\123\100\104\101\120\102\112\141\171\142\151\143\107" +
+    "\144\111\145\070\146\124\001\002\000\056\021\u036b\027" +
+    "\ufdd8\077\ufdd8\100\ufdd8\103\u036c\104\u036a\105\ufdd8\106\ufdd8" +
+    "\107\ufdd8\110\ufdd8\111\ufdd8\112\ufdd8\113\ufdd8\114\ufdd8\115" +
+    "\ufdd8\116\ufdd8\117\ufdd8\120\ufdd8\121\ufdd8\122\ufdd8\123\ufdd8" +
+    "\124\ufdd8\001\002\000\112\021\ufde9\025\ufe49\027\ufde9\075" +
+    "\ufe49\076\ufe49\077\ufde9\100\ufde9\103\ufde9\104\ufde9\105\ufde9" +
+    "\106\ufde9\107\ufde9\110\ufde9\111\ufde9\112\ufde9\113\ufde9\114" +
+    "\ufde9\115\ufde9\116\ufde9\117\ufde9\120\ufde9\121\ufde9\122\ufde9" +
+    "\123\ufde9\124\ufde9\125\ufe49\126\ufe49\127\ufe49\130\ufe49\131" +
+    "\ufe49\132\ufe49\133\ufe49\134\ufe49\135\ufe49\136\ufe49\137\ufe49" +
+    "\001\002\000\032\027\ufdc3\112\u0367\113\u0366\114\ufdc3\115" +
+    "\ufdc3\116\ufdc3\117\ufdc3\120\ufdc3\121\ufdc3\122\ufdc3\123\ufdc3" +
+    "\124\ufdc3\001\002\000\014\027\ufdb2\121\u0364\122\ufdb2\123" +
+    "\ufdb2\124\ufdb2\001\002\000\012\027\ufdaf\122\u0362\123\ufdaf" +
+    "\124\ufdaf\001\002\000\056\021\ufde3\027\ufde3\077\ufde3\100" +
+    "\ufde3\103\ufde3\104\ufde3\105\ufde3\106\ufde3\107\ufde3\110\ufde3" +
+    "\111\ufde3\112\ufde3\113\ufde3\114\ufde3\115\ufde3\116\ufde3\117" +
+    "\ufde3\120\ufde3\121\ufde3\122\ufde3\123\ufde3\124\ufde3\001\002" +
+    "\000\004\027\ufda9\001\002\000\010\027\ufdac\123\u035c\124" +
+    "\u035d\001\002\000\026\027\ufdc0\114\u035a\115\ufdc0\116\ufdc0" +
+    "\117\ufdc0\120\ufdc0\121\ufdc0\122\ufdc0\123\ufdc0\124\ufdc0\001" +
+    "\002\000\024\027\ufdbb\115\u0357\116\u0356\117\ufdbb\120\ufdbb" +
+    "\121\ufdbb\122\ufdbb\123\ufdbb\124\ufdbb\001\002\000\056\021" +
+    "\ufde8\027\ufde8\077\ufde8\100\ufde8\103\ufde8\104\ufde8\105\ufde8" +
+    "\106\ufde8\107\ufde8\110\ufde8\111\ufde8\112\ufde8\113\ufde8\114" +
+    "\ufde8\115\ufde8\116\ufde8\117\ufde8\120\ufde8\121\ufde8\122\ufde8" +
+    "\123\ufde8\124\ufde8\001\002\000\020\027\ufdb8\117\u0354\120" +
+    "\ufdb8\121\ufdb8\122\ufdb8\123\ufdb8\124\ufdb8\001\002\000\056" +
+    "\021\ufde4\027\ufde4\077\ufde4\100\ufde4\103\ufde4\104\ufde4\105" +
+    "\ufde4\106\ufde4\107\ufde4\110\ufde4\111\ufde4\112\ufde4\113\ufde4" +
+    "\114\ufde4\115\ufde4\116\ufde4\117\ufde4\120\ufde4\121\ufde4\122" +
+    "\ufde4\123\ufde4\124\ufde4\001\002\000\066\004\130\005\143" +
+    "\006\067\007\103\010\162\011\071\012\155\013\075\016" +
+    "\175\026\100\050\140\052\125\053\134\074\135\075\066" +
+    "\076\132\077\123\100\104\101\120\102\112\141\171\142" +
+    "\151\143\107\144\111\145\070\146\124\001\002\000\024" +
+    "\027\ufdb9\115\u0103\116\u0102\117\ufdb9\120\ufdb9\121\ufdb9\122" +
+    "\ufdb9\123\ufdb9\124\ufdb9\001\002\000\066\004\130\005\143" +
+    "\006\067\007\103\010\162\011\071\012\155\013\075\016" +
+    "\175\026\100\050\140\052\125\053\134\074\135\075\066" +
+    "\076\132\077\123\100\104\101\120\102\112\141\171\142" +
+    "\151\143\107\144\111\145\070\146\124\001\002\000\066" +
+    "\004\130\005\143\006\067\007\103\010\162\011\071\012" +
+    "\155\013\075\016\175\026\100\050\140\052\125\053\134" +
+    "\074\135\075\066\076\132\077\123\100\104\101\120\102" +
+    "\112\141\171\142\151\143\107\144\111\145\070\146\124" +
+    "\001\002\000\026\027\ufdbe\114\256\115\ufdbe\116\ufdbe\117" +
+    "\ufdbe\120\ufdbe\121\ufdbe\122\ufdbe\123\ufdbe\124\ufdbe\001\002" +
+    "\000\026\027\ufdbc\114\256\115\ufdbc\116\ufdbc\117\ufdbc\120" +
+    "\ufdbc\121\ufdbc\122\ufdbc\123\ufdbc\124\ufdbc\001\002\000\024" +
+    "\004\130\005\143\006\067\007\103\010\162\011\071\012" +
+    "\155\013\075\016\175\001\002\000\026\027\ufdc1\114\ufdc1" +
+    "\115\ufdc1\116\ufdc1\117\ufdc1\120\ufdc1\121\ufdc1\122\ufdc1\123" +
+    "\ufdc1\124\ufdc1\001\002\000\066\004\130\005\143\006\067" +
+    "\007\103\010\162\011\071\012\155\013\075\016\175\026" +
+    "\100\050\140\052\125\053\134\074\135\075\066\076\132" +
+    "\077\123\100\104\101\120\102\112\141\171\142\151\143" +
+    "\107\144\111\145\070\146\124\001\002\000\066\004\130" +
+    "\005\143\006\067\007\103\010\162\011\071\012\155\013" +
+    "\075\016\175\026\100\050\140\052\125\053\134\074\135" +
+    "\075\066\076\132\077\123\100\104\101\120\102\112\141" +
+    "\171\142\151\143\107\144\111\145\070\146\124\001\002" +
+    "\000\004\030\u035f\001\002\000\066\004\130\005\143\006" +
+    "\067\007\103\010\162\011\071\012\155\013\075\016\175" +
+    "\026\100\050\140\052\125\053\134\074\135\075\066\076" +
+    "\132\077\123\100\104\101\120\102\112\141\171\142\151" +
+    "\143\107\144\111\145\070\146\124\001\002\000\004\027" +
+    "\ufdaa\001\002\000\012\027\ufdad\122\u0115\123\ufdad\124\ufdad" +
+    "\001\002\000\066\004\130\005\143\006\067\007\103\010" +
+    "\162\011\071\012\155\013\075\016\175\026\100\050\140" +
+    "\052\125\053\134\074\135\075\066\076\132\077\123\100" +
+    "\104\101\120\102\112\141\171\142\151\143\107\144\111" +
+    "\145\070\146\124\001\002\000\014\027\ufdb0\121\374\122" +
+    "\ufdb0\123\ufdb0\124\ufdb0\001\002\000\066\004\130\005\143" +
+    "\006\067\007\103\010\162\011\071\012\155\013\075\016" +
+    "\175\026\100\050\140\052\125\053\134\074\135\075\066" +
+    "\076\132\077\123\100\104\101\120\102\112\141\171\142" +
+    "\151\143\107\144\111\145\070\146\124\001\002\000\016" +
+    "\027\ufdb3\120\376\121\ufdb3\122\ufdb3\123\ufdb3\124\ufdb3\001" +
+    "\002\000\066\004\130\005\143\006\067\007\103\010\162" +
+    "\011\071\012\155\013\075\016\175\026\100\050\140\052" +
+    "\125\053\134\074\135\075\066\076\132\077\123\100\104" +
+    "\101\120\102\112\141\171\142\151\143\107\144\111\145" +
+    "\070\146\124\001\002\000\066\004\130\005\143\006\067" +
+    "\007\103\010\162\011\071\012\155\013\075\016\175\026" +
+    "\100\050\140\052\125\053\134\074\135\075\066\076\132" +
+    "\077\123\100\104\101\120\102\112\141\171\142\151\143" +
+    "\107\144\111\145\070\146\124\001\002\000\040\027\ufdc6" +
+    "\105\203\106\205\107\204\112\ufdc6\113\ufdc6\114\ufdc6\115" +
+    "\ufdc6\116\ufdc6\117\ufdc6\120\ufdc6\121\ufdc6\122\ufdc6\123\ufdc6" +
+    "\124\ufdc6\001\002\000\040\027\ufdc4\105\203\106\205\107" +
+    "\204\112\ufdc4\113\ufdc4\114\ufdc4\115\ufdc4\116\ufdc4\117\ufdc4" +
+    "\120\ufdc4\121\ufdc4\122\ufdc4\123\ufdc4\124\ufdc4\001\002\000" +
+    "\066\004\130\005\143\006\067\007\103\010\162\011\071" +
+    "\012\155\013\075\016\175\026\100\050\140\052\125\053" +
+    "\134\074\135\075\066\076\132\077\123\100\104\101\120" +
+    "\102\112\141\171\142\151\143\107\144\111\145\070\146" +
+    "\124\001\002\000\066\004\130\005\143\006\067\007\103" +
+    "\010\162\011\071\012\155\013\075\016\175\026\100\050" +
+    "\140\052\125\053\134\074\135\075\066\076\132\077\123" +
+    "\100\104\101\120\102\112\141\171\142\151\143\107\144" +
+    "\111\145\070\146\124\001\002\000\066\004\130\005\143" +
+    "\006\067\007\103\010\162\011\071\012\155\013\075\016" +
+    "\175\026\100\050\140\052\125\053\134\074\135\075\066" +
+    "\076\132\077\123\100\104\101\120\102\112\141\171\142" +
+    "\151\143\107\144\111\145\070\146\124\001\002\000\056" +
+    "\021\ufddb\027\ufddb\077\ufddb\100\ufddb\103\ufddb\104\ufddb\105" +
+    "\ufddb\106\ufddb\107\ufddb\110\ufddb\111\ufddb\112\ufddb\113\ufddb" +
+    "\114\ufddb\115\ufddb\116\ufddb\117\ufddb\120\ufddb\121\ufddb\122" +
+    "\ufddb\123\ufddb\124\ufddb\001\002\000\056\021\ufddd\027\ufddd" +
+    "\077\ufddd\100\ufddd\103\ufddd\104\ufddd\105\ufddd\106\ufddd\107" +
+    "\ufddd\110\ufddd\111\ufddd\112\ufddd\113\ufddd\114\ufddd\115\ufddd" +
+    "\116\ufddd\117\ufddd\120\ufddd\121\ufddd\122\ufddd\123\ufddd\124" +
+    "\ufddd\001\002\000\056\021\ufdd9\027\ufdd9\077\ufdd9\100\ufdd9" +
+    "\103\ufdd9\104\ufdd9\105\ufdd9\106\ufdd9\107\ufdd9\110\ufdd9\111" +
+    "\ufdd9\112\ufdd9\113\ufdd9\114\ufdd9\115\ufdd9\116\ufdd9\117\ufdd9" +
+    "\120\ufdd9\121\ufdd9\122\ufdd9\123\ufdd9\124\ufdd9\001\002\000" +
+    "\056\021\ufde6\027\ufde6\077\ufde6\100\ufde6\103\ufde6\104\ufde6" +
+    "\105\ufde6\106\ufde6\107\ufde6\110\ufde6\111\ufde6\112\ufde6\113" +
+    "\ufde6\114\ufde6\115\ufde6\116\ufde6\117\ufde6\120\ufde6\121\ufde6" +
+    "\122\ufde6\123\ufde6\124\ufde6\001\002\000\010\016\u02b7\074" +
+    "\u02b6\110\u011e\001\002\000\004\016\u02c3\001\002\000\056" +
+    "\021\ufde2\027\ufde2\077\ufde2\100\ufde2\103\ufde2\104\ufde2\105" +
+    "\ufde2\106\ufde2\107\ufde2\110\ufde2\111\ufde2\112\ufde2\113\ufde2" +
+    "\114\ufde2\115\ufde2\116\ufde2\117\ufde2\120\ufde2\121\ufde2\122" +
+    "\ufde2\123\ufde2\124\ufde2\001\002\000\066\004\130\005\143" +
+    "\006\067\007\103\010\162\011\071\012\155\013\075\016" +
+    "\175\026\100\050\140\052\125\053\134\074\135\075\066" +
+    "\076\132\077\123\100\104\101\120\102\112\141\171\142" +
+    "\151\143\107\144\111\145\070\146\124\001\002\000\020" +
+    "\027\ufdb6\117\u0100\120\ufdb6\121\ufdb6\122\ufdb6\123\ufdb6\124" +
+    "\ufdb6\001\002\000\056\021\ufde1\027\ufde1\077\ufde1\100\ufde1" +
+    "\103\ufde1\104\ufde1\105\ufde1\106\ufde1\107\ufde1\110\ufde1\111" +
+    "\ufde1\112\ufde1\113\ufde1\114\ufde1\115\ufde1\116\ufde1\117\ufde1" +
+    "\120\ufde1\121\ufde1\122\ufde1\123\ufde1\124\ufde1\001\002\000" +
+    "\066\004\130\005\143\006\067\007\103\010\162\011\071" +
+    "\012\155\013\075\016\175\026\100\050\140\052\125\053" +
+    "\134\074\135\075\066\076\132\077\123\100\104\101\120" +
+    "\102\112\141\171\142\151\143\107\144\111\145\070\146" +
+    "\124\001\002\000\066\004\130\005\143\006\067\007\103" +
+    "\010\162\011\071\012\155\013\075\016\175\026\100\050" +
+    "\140\052\125\053\134\074\135\075\066\076\132\077\123" +
+    "\100\104\101\120\102\112\141\171\142\151\143\107\144" +
+    "\111\145\070\146\124\001\002\000\066\004\130\005\143" +
+    "\006\067\007\103\010\162\011\071\012\155\013\075\016" +
+    "\175\026\100\050\140\052\125\053\134\074\135\075\066" +
+    "\076\132\077\123\100\104\101\120\102\112\141\171\142" +
+    "\151\143\107\144\111\145\070\146\124\001\002\000\066" +
+    "\004\130\005\143\006\067\007\103\010\162\011\071\012" +
+    "\155\013\075\016\175\026\100\050\140\052\125\053\134" +
+    "\074\135\075\066\076\132\077\123\100\104\101\120\102" +
+    "\112\141\171\142\151\143\107\144\111\145\070\146\124" +
+    "\001\002\000\066\004\130\005\143\006\067\007\103\010" +
+    "\162\011\071\012\155\013\075\016\175\026\100\050\140" +
+    "\052\125\053\134\074\135\075\066\076\132\077\123\100" +
+    "\104\101\120\102\112\141\171\142\151\143\107\144\111" +
+    "\145\070\146\124\001\002\000\066\004\130\005\143\006" +
+    "\067\007\103\010\162\011\071\012\155\013\075\016\175" +
+    "\026\100\050\140\052\125\053\134\074\135\075\066\076" +
+    "\132\077\123\100\104\101\120\102\112\141\171\142\151" +
+    "\143\107\144\111\145\070\146\124\001\002\000\042\014" +
+    "\ufe7d\017\ufe7d\025\ufe7d\075\ufe7d\076\ufe7d\125\ufe7d\126\ufe7d" +
+    "\127\ufe7d\130\ufe7d\131\ufe7d\132\ufe7d\133\ufe7d\134\ufe7d\135" +
+    "\ufe7d\136\ufe7d\137\ufe7d\001\002\000\066\004\130\005\143" +
+    "\006\067\007\103\010\162\011\071\012\155\013\075\016" +
+    "\175\026\100\050\140\052\125\053\134\074\135\075\066" +
+    "\076\132\077\123\100\104\101\120\102\112\141\171\142" +
+    "\151\143\107\144\111\145\070\146\124\001\002\000\066" +
+    "\004\130\005\143\006\067\007\103\010\162\011\071\012" +
+    "\155\013\075\016\175\026\100\050\140\052\125\053\134" +
+    "\074\135\075\066\076\132\077\123\100\104\101\120\102" +
+    "\112\141\171\142\151\143\107\144\111\145\070\146\124" +
+    "\001\002\000\066\004\130\005\143\006\067\007\103\010" +
+    "\162\011\071\012\155\013\075\016\175\026\100\050\140" +
+    "\052\125\053\134\074\135\075\066\076\132\077\123\100" +
+    "\104\101\120\102\112\141\171\142\151\143\107\144\111" +
+    "\145\070\146\124\001\002\000\066\004\130\005\143\006" +
+    "\067\007\103\010\162\011\071\012\155\013\075\016\175" +
+    "\026\100\050\140\052\125\053\134\074\135\075\066\076" +
+    "\132\077\123\100\104\101\120\102\112\141\171\142\151" +
+    "\143\107\144\111\145\070\146\124\001\002\000\066\004" +
+    "\130\005\143\006\067\007\103\010\162\011\071\012\155" +
+    "\013\075\016\175\026\100\050\140\052\125\053\134\074" +
+    "\135\075\066\076\132\077\123\100\104\101\120\102\112" +
+    "\141\171\142\151\143\107\144\111\145\070\146\124\001" +
+    "\002\000\066\004\130\005\143\006\067\007\103\010\162" +
+    "\011\071\012\155\013\075\016\175\026\100\050\140\052" +
+    "\125\053\134\074\135\075\066\076\132\077\123\100\104" +
+    "\101\120\102\112\141\171\142\151\143\107\144\111\145" +
+    "\070\146\124\001\002\000\066\004\130\005\143\006\067" +
+    "\007\103\010\162\011\071\012\155\013\075\016\175\026" +
+    "\100\050\140\052\125\053\134\074\135\075\066\076\132" +
+    "\077\123\100\104\101\120\102\112\141\171\142\151\143" +
+    "\107\144\111\145\070\146\124\001\002\000\066\004\130" +
+    "\005\143\006\067\007\103\010\162\011\071\012\155\013" +
+    "\075\016\175\026\100\050\140\052\125\053\134\074\135" +
+    "\075\066\076\132\077\123\100\104\101\120\102\112\141" +
+    "\171\142\151\143\107\144\111\145\070\146\124\001\002" +
+    "\000\066\004\130\005\143\006\067\007\103\010\162\011" +
+    "\071\012\155\013\075\016\175\026\100\050\140\052\125" +
+    "\053\134\074\135\075\066\076\132\077\123\100\104\101" +
+    "\120\102\112\141\171\142\151\143\107\144\111\145\070" +
+    "\146\124\001\002\000\006\014\271\017\u0288\001\002\000" +
+    "\066\004\130\005\143\006\067\007\103\010\162\011\071" +
+    "\012\155\013\075\016\175\026\100\050\140\052\125\053" +
+    "\134\074\135\075\066\076\132\077\123\100\104\101\120" +
+    "\102\112\141\171\142\151\143\107\144\111\145\070\146" +
+    "\124\001\002\000\066\004\130\005\143\006\067\007\103" +
+    "\010\162\011\071\012\155\013\075\016\175\026\100\050" +
+    "\140\052\125\053\134\074\135\075\066\076\132\077\123" +
+    "\100\104\101\120\102\112\141\171\142\151\143\107\144" +
+    "\111\145\070\146\124\001\002\000\066\004\130\005\143" +
+    "\006\067\007\103\010\162\011\071\012\155\013\075\016" +
+    "\175\026\100\050\140\052\125\053\134\074\135\075\066" +
+    "\076\132\077\123\100\104\101\120\102\112\141\171\142" +
+    "\151\143\107\144\111\145\070\146\124\001\002\000\066" +
+    "\004\130\005\143\006\067\007\103\010\162\011\071\012" +
+    "\155\013\075\016\175\026\100\050\140\052\125\053\134" +
+    "\074\135\075\066\076\132\077\123\100\104\101\120\102" +
+    "\112\141\171\142\151\143\107\144\111\145\070\146\124" +
+    "\001\002\000\066\004\130\005\143\006\067\007\103\010" +
+    "\162\011\071\012\155\013\075\016\175\026\100\050\140" +
+    "\052\125\053\134\074\135\075\066\076\132\077\123\100" +
+    "\104\101\120\102\112\141\171\142\151\143\107\144\111" +
+    "\145\070\146\124\001\002\000\024\004\130\005\143\006" +
+    "\067\007\103\010\162\011\071\012\155\013\075\016\175" +
+    "\001\002\000\026\027\ufdc2\114\ufdc2\115\ufdc2\116\ufdc2\117" +
+    "\ufdc2\120\ufdc2\121\ufdc2\122\ufdc2\123\ufdc2\124\ufdc2\001\002" +
+    "\000\026\027\ufdbf\114\256\115\ufdbf\116\ufdbf\117\ufdbf\120" +
+    "\ufdbf\121\ufdbf\122\ufdbf\123\ufdbf\124\ufdbf\001\002\000\020" +
+    "\027\ufdb7\117\u0100\120\ufdb7\121\ufdb7\122\ufdb7\123\ufdb7\124" +
+    "\ufdb7\001\002\000\040\027\ufdc5\105\203\106\205\107\204" +
+    "\112\ufdc5\113\ufdc5\114\ufdc5\115\ufdc5\116\ufdc5\117\ufdc5\120" +
+    "\ufdc5\121\ufdc5\122\ufdc5\123\ufdc5\124\ufdc5\001\002\000\056" +
+    "\021\213\027\ufdd5\077\ufdd5\100\ufdd5\103\214\104\212\105" +
+    "\ufdd5\106\ufdd5\107\ufdd5\110\ufdd5\111\ufdd5\112\ufdd5\113\ufdd5" +
+    "\114\ufdd5\115\ufdd5\116\ufdd5\117\ufdd5\120\ufdd5\121\ufdd5\122" +
+    "\ufdd5\123\ufdd5\124\ufdd5\001\002\000\056\021\ufddc\027\ufddc" +
+    "\077\ufddc\100\ufddc\103\ufddc\104\ufddc\105\ufddc\106\ufddc\107" +
+    "\ufddc\110\ufddc\111\ufddc\112\ufddc\113\ufddc\114\ufddc\115\ufddc" +
+    "\116\ufddc\117\ufddc\120\ufddc\121\ufddc\122\ufddc\123\ufddc\124" +
+    "\ufddc\001\002\000\014\027\ufdb1\121\374\122\ufdb1\123\ufdb1" +
+    "\124\ufdb1\001\002\000\056\021\ufdde\027\ufdde\077\ufdde\100" +
+    "\ufdde\103\ufdde\104\ufdde\105\ufdde\106\ufdde\107\ufdde\110\ufdde" +
+    "\111\ufdde\112\ufdde\113\ufdde\114\ufdde\115\ufdde\116\ufdde\117" +
+    "\ufdde\120\ufdde\121\ufdde\122\ufdde\123\ufdde\124\ufdde\001\002" +
+    "\000\040\027\ufdc7\105\203\106\205\107\204\112\ufdc7\113" +
+    "\ufdc7\114\ufdc7\115\ufdc7\116\ufdc7\117\ufdc7\120\ufdc7\121\ufdc7" +
+    "\122\ufdc7\123\ufdc7\124\ufdc7\001\002\000\050\027\ufdd2\077" +
+    "\207\100\210\105\ufdd2\106\ufdd2\107\ufdd2\110\ufdd2\111\ufdd2" +
+    "\112\ufdd2\113\ufdd2\114\ufdd2\115\ufdd2\116\ufdd2\117\ufdd2\120" +
+    "\ufdd2\121\ufdd2\122\ufdd2\123\ufdd2\124\ufdd2\001\002\000\040" +
+    "\027\ufdc9\105\203\106\205\107\204\112\ufdc9\113\ufdc9\114" +
+    "\ufdc9\115\ufdc9\116\ufdc9\117\ufdc9\120\ufdc9\121\ufdc9\122\ufdc9" +
+    "\123\ufdc9\124\ufdc9\001\002\000\050\027\ufdce\077\207\100" +
+    "\210\105\ufdce\106\ufdce\107\ufdce\110\ufdce\111\ufdce\112\ufdce" +
+    "\113\ufdce\114\ufdce\115\ufdce\116\ufdce\117\ufdce\120\ufdce\121" +
+    "\ufdce\122\ufdce\123\ufdce\124\ufdce\001\002\000\012\027\ufdae" +
+    "\122\u0115\123\ufdae\124\ufdae\001\002\000\050\027\ufdd0\077" +
+    "\207\100\210\105\ufdd0\106\ufdd0\107\ufdd0\110\ufdd0\111\ufdd0" +
+    "\112\ufdd0\113\ufdd0\114\ufdd0\115\ufdd0\116\ufdd0\117\ufdd0\120" +
+    "\ufdd0\121\ufdd0\122\ufdd0\123\ufdd0\124\ufdd0\001\002\000\016" +
+    "\027\ufdb4\120\376\121\ufdb4\122\ufdb4\123\ufdb4\124\ufdb4\001" +
+    "\002\000\026\027\ufdbd\114\256\115\ufdbd\116\ufdbd\117\ufdbd" +
+    "\120\ufdbd\121\ufdbd\122\ufdbd\123\ufdbd\124\ufdbd\001\002\000" +
+    "\056\021\213\027\ufdd7\077\ufdd7\100\ufdd7\103\214\104\212" +
+    "\105\ufdd7\106\ufdd7\107\ufdd7\110\ufdd7\111\ufdd7\112\ufdd7\113" +
+    "\ufdd7\114\ufdd7\115\ufdd7\116\ufdd7\117\ufdd7\120\ufdd7\121\ufdd7" +
+    "\122\ufdd7\123\ufdd7\124\ufdd7\001\002\000\004\030\u03a0\001" +
+    "\002\000\066\004\130\005\143\006\067\007\103\010\162" +
+    "\011\071\012\155\013\075\016\175\026\100\050\140\052" +
+    "\125\053\134\074\135\075\066\076\132\077\123\100\104" +
+    "\101\120\102\112\141\171\142\151\143\107\144\111\145" +
+    "\070\146\124\001\002\000\004\027\ufdab\001\002\000\040" +
+    "\027\ufdcb\105\203\106\205\107\204\112\ufdcb\113\ufdcb\114" +
+    "\ufdcb\115\ufdcb\116\ufdcb\117\ufdcb\120\ufdcb\121\ufdcb\122\ufdcb" +
+    "\123\ufdcb\124\ufdcb\001\002\000\024\027\ufdba\115\u0103\116" +
+    "\u0102\117\ufdba\120\ufdba\121\ufdba\122\ufdba\123\ufdba\124\ufdba" +
+    "\001\002\000\056\021\ufdda\027\ufdda\077\ufdda\100\ufdda\103" +
+    "\ufdda\104\ufdda\105\ufdda\106\ufdda\107\ufdda\110\ufdda\111\ufdda" +
+    "\112\ufdda\113\ufdda\114\ufdda\115\ufdda\116\ufdda\117\ufdda\120" +
+    "\ufdda\121\ufdda\122\ufdda\123\ufdda\124\ufdda\001\002\000\130" +
+    "\014\ufe7c\015\ufe7c\017\ufe7c\020\ufe7c\021\ufe7c\022\ufe7c\024" +
+    "\ufe7c\025\ufe7c\027\ufe7c\030\ufe7c\075\ufe7c\076\ufe7c\077\ufe7c" +
+    "\100\ufe7c\103\ufe7c\104\ufe7c\105\ufe7c\106\ufe7c\107\ufe7c\110" +
+    "\ufe7c\111\ufe7c\112\ufe7c\113\ufe7c\114\ufe7c\115\ufe7c\116\ufe7c" +
+    "\117\ufe7c\120\ufe7c\121\ufe7c\122\ufe7c\123\ufe7c\124\ufe7c\125" +
+    "\ufe7c\126\ufe7c\127\ufe7c\130\ufe7c\131\ufe7c\132\ufe7c\133\ufe7c" +
+    "\134\ufe7c\135\ufe7c\136\ufe7c\137\ufe7c\001\002\000\056\021" +
+    "\ufde5\027\ufde5\077\ufde5\100\ufde5\103\ufde5\104\ufde5\105\ufde5" +
+    "\106\ufde5\107\ufde5\110\ufde5\111\ufde5\112\ufde5\113\ufde5\114" +
+    "\ufde5\115\ufde5\116\ufde5\117\ufde5\120\ufde5\121\ufde5\122\ufde5" +
+    "\123\ufde5\124\ufde5\001\002\000\066\004\130\005\143\006" +
+    "\067\007\103\010\162\011\071\012\155\013\075\016\175" +
+    "\026\100\050\140\052\125\053\134\074\135\075\066\076" +
+    "\132\077\123\100\104\101\120\102\112\141\171\142\151" +
+    "\143\107\144\111\145\070\146\124\001\002\000\066\004" +
+    "\130\005\143\006\067\007\103\010\162\011\071\012\155" +
+    "\013\075\016\175\026\100\050\140\052\125\053\134\074" +
+    "\135\075\066\076\132\077\123\100\104\101\120\102\112" +
+    "\141\171\142\151\143\107\144\111\145\070\146\124\001" +
+    "\002\000\066\004\130\005\143\006\067\007\103\010\162" +
+    "\011\071\012\155\013\075\016\175\026\100\050\140\052" +
+    "\125\053\134\074\135\075\066\076\132\077\123\100\104" +
+    "\101\120\102\112\141\171\142\151\143\107\144\111\145" +
+    "\070\146\124\001\002\000\066\004\130\005\143\006\067" +
+    "\007\103\010\162\011\071\012\155\013\075\016\175\026" +
+    "\100\050\140\052\125\053\134\074\135\075\066\076\132" +
+    "\077\123\100\104\101\120\102\112\141\171\142\151\143" +
+    "\107\144\111\145\070\146\124\001\002\000\066\004\130" +
+    "\005\143\006\067\007\103\010\162\011\071\012\155\013" +
+    "\075\016\175\026\100\050\140\052\125\053\134\074\135" +
+    "\075\066\076\132\077\123\100\104\101\120\102\112\141" +
+    "\171\142\151\143\107\144\111\145\070\146\124\001\002" +
+    "\000\050\027\ufdcf\077\207\100\210\105\ufdcf\106\ufdcf\107" +
+    "\ufdcf\110\ufdcf\111\ufdcf\112\ufdcf\113\ufdcf\114\ufdcf\115\ufdcf" +
+    "\116\ufdcf\117\ufdcf\120\ufdcf\121\ufdcf\122\ufdcf\123\ufdcf\124" +
+    "\ufdcf\001\002\000\050\027\ufdcd\077\207\100\210\105\ufdcd" +
+    "\106\ufdcd\107\ufdcd\110\ufdcd\111\ufdcd\112\ufdcd\113\ufdcd\114" +
+    "\ufdcd\115\ufdcd\116\ufdcd\117\ufdcd\120\ufdcd\121\ufdcd\122\ufdcd" +
+    "\123\ufdcd\124\ufdcd\001\002\000\050\027\ufdd1\077\207\100" +
+    "\210\105\ufdd1\106\ufdd1\107\ufdd1\110\ufdd1\111\ufdd1\112\ufdd1" +
+    "\113\ufdd1\114\ufdd1\115\ufdd1\116\ufdd1\117\ufdd1\120\ufdd1\121" +
+    "\ufdd1\122\ufdd1\123\ufdd1\124\ufdd1\001\002\000\040\027\ufdc8" +
+    "\105\203\106\205\107\204\112\ufdc8\113\ufdc8\114\ufdc8\115" +
+    "\ufdc8\116\ufdc8\117\ufdc8\120\ufdc8\121\ufdc8\122\ufdc8\123\ufdc8" +
+    "\124\ufdc8\001\002\000\040\027\ufdca\105\203\106\205\107" +
+    "\204\112\ufdca\113\ufdca\114\ufdca\115\ufdca\116\ufdca\117\ufdca" +
+    "\120\ufdca\121\ufdca\122\ufdca\123\ufdca\124\ufdca\001\002\000" +
+    "\066\004\130\005\143\006\067\007\103\010\162\011\071" +
+    "\012\155\013\075\016\175\026\100\050\140\052\125\053" +
+    "\134\074\135\075\066\076\132\077\123\100\104\101\120" +
+    "\102\112\141\171\142\151\143\107\144\111\145\070\146" +
+    "\124\001\002\000\066\004\130\005\143\006\067\007\103" +
+    "\010\162\011\071\012\155\013\075\016\175\026\100\050" +
+    "\140\052\125\053\134\074\135\075\066\076\132\077\123" +
+    "\100\104\101\120\102\112\141\171\142\151\143\107\144" +
+    "\111\145\070\146\124\001\002\000\056\021\213\027\ufdd4" +
+    "\077\ufdd4\100\ufdd4\103\214\104\212\105\ufdd4\106\ufdd4\107" +
+    "\ufdd4\110\ufdd4\111\ufdd4\112\ufdd4\113\ufdd4\114\ufdd4\115\ufdd4" +
+    "\116\ufdd4\117\ufdd4\120\ufdd4\121\ufdd4\122\ufdd4\123\ufdd4\124" +
+    "\ufdd4\001\002\000\056\021\213\027\ufdd6\077\ufdd6\100\ufdd6" +
+    "\103\214\104\212\105\ufdd6\106\ufdd6\107\ufdd6\110\ufdd6\111" +
+    "\ufdd6\112\ufdd6\113\ufdd6\114\ufdd6\115\ufdd6\116\ufdd6\117\ufdd6" +
+    "\120\ufdd6\121\ufdd6\122\ufdd6\123\ufdd6\124\ufdd6\001\002\000" +
+    "\156\004\ufebc\005\ufebc\006\ufebc\007\ufebc\010\ufebc\011\ufebc" +
+    "\012\ufebc\013\ufebc\016\ufebc\020\ufebc\023\ufebc\024\ufebc\026" +
+    "\ufebc\033\ufebc\034\ufebc\035\ufebc\036\ufebc\037\ufebc\040\ufebc" +
+    "\041\ufebc\042\ufebc\043\ufebc\044\ufebc\045\ufebc\050\ufebc\052" +
+    "\ufebc\053\ufebc\054\ufebc\055\ufebc\056\ufebc\057\ufebc\060\ufebc" +
+    "\061\ufebc\062\ufebc\063\ufebc\064\ufebc\065\ufebc\066\ufebc\067" +
+    "\ufebc\070\ufebc\071\ufebc\074\ufebc\075\ufebc\076\ufebc\140\ufebc" +
+    "\141\ufebc\142\ufebc\143\ufebc\144\ufebc\145\ufebc\146\ufebc\151" +
+    "\ufebc\152\ufebc\154\ufebc\001\002\000\004\020\u03b7\001\002" +
+    "\000\156\004\ufe8e\005\ufe8e\006\ufe8e\007\ufe8e\010\ufe8e\011" +
+    "\ufe8e\012\ufe8e\013\ufe8e\016\ufe8e\020\ufe8e\023\ufe8e\024\ufe8e" +
+    "\026\ufe8e\033\ufe8e\034\ufe8e\035\ufe8e\036\ufe8e\037\ufe8e\040" +
+    "\ufe8e\041\ufe8e\042\ufe8e\043\ufe8e\044\ufe8e\045\ufe8e\050\ufe8e" +
+    "\052\ufe8e\053\ufe8e\054\ufe8e\055\ufe8e\056\ufe8e\057\ufe8e\060" +
+    "\ufe8e\061\ufe8e\062\ufe8e\063\ufe8e\064\ufe8e\065\ufe8e\066\ufe8e" +
+    "\067\ufe8e\070\ufe8e\071\ufe8e\074\ufe8e\075\ufe8e\076\ufe8e\140" +
+    "\ufe8e\141\ufe8e\142\ufe8e\143\ufe8e\144\ufe8e\145\ufe8e\146\ufe8e" +
+    "\151\ufe8e\152\ufe8e\154\ufe8e\001\002\000\004\026\u03be\001" +
+    "\002\000\004\026\u03ba\001\002\000\070\004\130\005\143" +
+    "\006\067\007\103\010\162\011\071\012\155\013\075\016" +
+    "\175\026\100\027\ufe69\050\140\052\125\053\134\074\135" +
+    "\075\066\076\132\077\123\100\104\101\120\102\112\141" +
+    "\171\142\151\143\107\144\111\145\070\146\124\001\002" +
+    "\000\004\027\u03bc\001\002\000\004\020\u03bd\001\002\000" +
+    "\150\004\uff16\005\uff16\006\uff16\007\uff16\010\uff16\011\uff16" +
+    "\012\uff16\013\uff16\016\uff16\020\uff16\023\uff16\024\uff16\026" +
+    "\uff16\033\uff16\034\uff16\035\uff16\036\uff16\037\uff16\040\uff16" +
+    "\041\uff16\042\uff16\043\uff16\044\uff16\045\uff16\050\uff16\052" +
+    "\uff16\053\uff16\054\uff16\055\uff16\057\uff16\062\uff16\063\uff16" +
+    "\064\uff16\065\uff16\066\uff16\067\uff16\070\uff16\071\uff16\074" +
+    "\uff16\075\uff16\076\uff16\140\uff16\141\uff16\142\uff16\143\uff16" +
+    "\144\uff16\145\uff16\146\uff16\151\uff16\152\uff16\154\uff16\001" +
+    "\002\000\070\004\130\005\143\006\067\007\103\010\162" +
+    "\011\071\012\155\013\075\016\175\026\100\027\ufe69\050" +
+    "\140\052\125\053\134\074\135\075\066\076\132\077\123" +
+    "\100\104\101\120\102\112\141\171\142\151\143\107\144" +
+    "\111\145\070\146\124\001\002\000\004\027\u03c0\001\002" +
+    "\000\004\020\u03c1\001\002\000\150\004\uff14\005\uff14\006" +
+    "\uff14\007\uff14\010\uff14\011\uff14\012\uff14\013\uff14\016\uff14" +
+    "\020\uff14\023\uff14\024\uff14\026\uff14\033\uff14\034\uff14\035" +
+    "\uff14\036\uff14\037\uff14\040\uff14\041\uff14\042\uff14\043\uff14" +
+    "\044\uff14\045\uff14\050\uff14\052\uff14\053\uff14\054\uff14\055" +
+    "\uff14\057\uff14\062\uff14\063\uff14\064\uff14\065\uff14\066\uff14" +
+    "\067\uff14\070\uff14\071\uff14\074\uff14\075\uff14\076\uff14\140" +
+    "\uff14\141\uff14\142\uff14\143\uff14\144\uff14\145\uff14\146\uff14" +
+    "\151\uff14\152\uff14\154\uff14\001\002\000\112\004\130\005" +
+    "\143\006\067\007\103\010\162\011\071\012\155\013\075" +
+    "\016\u01ff\020\u0226\023\u0133\026\u020c\042\u024b\050\140\052" +
+    "\125\053\134\055\u0232\057\u021d\062\u021e\063\u0219\064\u021f" +
+    "\065\u0223\066\u0231\067\u0220\070\u0206\071\u0221\074\135\075" +
+    "\066\076\132\141\171\142\151\143\107\144\111\145\070" +
+    "\146\124\152\u0235\001\002\000\074\004\uff19\005\uff19\006" +
+    "\uff19\007\uff19\010\uff19\011\uff19\012\uff19\013\uff19\016\uff19" +
+    "\020\uff19\023\uff19\024\uff19\033\uff19\034\uff19\035\uff19\036" +
+    "\uff19\037\uff19\040\uff19\041\uff19\042\uff19\043\uff19\044\uff19" +
+    "\045\uff19\050\uff19\054\uff19\110\uff19\140\uff19\151\uff19\154" +
+    "\uff19\001\002\000\012\014\u015f\020\uff26\023\uff26\051\u0160" +
+    "\001\002\000\006\020\u0168\023\u0133\001\002\000\074\004" +
+    "\uff3c\005\uff3c\006\uff3c\007\uff3c\010\uff3c\011\uff3c\012\uff3c", 
+    "\013", 
+    "\uff3c", 
+    "\016", 
+    "\uff3c", 
+    "\020", 
+    "\uff3c", 
+    "\023", 
+    "\uff3c", 
+    "\024", 
+    "\uff3c", 
+    "\033", 
+    "\uff3c", 
+    "\034", 
+    "\uff3c", 
+    "\035", 
+    "\uff3c", 
+    "\036", 
+    "\uff3c", 
+    "\037", 
+    "\uff3c", 
+    "\040", 
+    "\uff3c", 
+    "\041", 
+    "\uff3c", 
+    "\042", 
+    "\uff3c", 
+    "\043", 
+    "\uff3c", 
+    "\044", 
+    "\uff3c", 
+    "\045", 
+    "\uff3c", 
+    "\050", 
+    "\uff3c", 
+    "\054", 
+    "\uff3c", 
+    "\110", 
+    "\uff3c", 
+    "\140", 
+    "\uff3c", 
+    "\151", 
+    "\uff3c", 
+    "\154", 
+    "\uff3c", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\012", 
+    "\023", 
+    "\ufe01", 
+    "\046", 
+    "\ufe01", 
+    "\047", 
+    "\ufe01", 
+    "\110", 
+    "\u016b", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\010", 
+    "\023", 
+    "\uff6a", 
+    "\046", 
+    "\u01c7", 
+    "\047", 
+    "\uff6a", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\006", 
+    "\023", 
+    "\uff67", 
+    "\047", 
+    "\u0190", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\004", 
+    "\023", 
+    "\u012c", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\074", 
+    "\004", 
+    "\uff56", 
+    "\005", 
+    "\uff56", 
+    "\006", 
+    "\uff56", 
+    "\007", 
+    "\uff56", 
+    "\010", 
+    "\uff56", 
+    "\011", 
+    "\uff56", 
+    "\012", 
+    "\uff56", 
+    "\013", 
+    "\uff56", 
+    "\016", 
+    "\uff56", 
+    "\020", 
+    "\uff56", 
+    "\023", 
+    "\uff56", 
+    "\024", 
+    "\uff56", 
+    "\033", 
+    "\uff56", 
+    "\034", 
+    "\uff56", 
+    "\035", 
+    "\uff56", 
+    "\036", 
+    "\uff56", 
+    "\037", 
+    "\uff56", 
+    "\040", 
+    "\uff56", 
+    "\041", 
+    "\uff56", 
+    "\042", 
+    "\uff56", 
+    "\043", 
+    "\uff56", 
+    "\044", 
+    "\uff56", 
+    "\045", 
+    "\uff56", 
+    "\050", 
+    "\uff56", 
+    "\054", 
+    "\uff56", 
+    "\110", 
+    "\uff56", 
+    "\140", 
+    "\uff56", 
+    "\151", 
+    "\uff56", 
+    "\154", 
+    "\uff56", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\026", 
+    "\004", 
+    "\130", 
+    "\005", 
+    "\143", 
+    "\006", 
+    "\067", 
+    "\007", 
+    "\103", 
+    "\010", 
+    "\162", 
+    "\011", 
+    "\071", 
+    "\012", 
+    "\155", 
+    "\013", 
+    "\075", 
+    "\016", 
+    "\175", 
+    "\050", 
+    "\u03cf", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\004", 
+    "\016", 
+    "\u0148", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\006", 
+    "\023", 
+    "\uff26", 
+    "\051", 
+    "\u0160", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\004", 
+    "\016", 
+    "\u0148", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\012", 
+    "\014", 
+    "\u015f", 
+    "\020", 
+    "\uff26", 
+    "\023", 
+    "\uff26", 
+    "\051", 
+    "\u0160", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\006", 
+    "\020", 
+    "\u0168", 
+    "\023", 
+    "\u0133", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\074", 
+    "\004", 
+    "\uff39", 
+    "\005", 
+    "\uff39", 
+    "\006", 
+    "\uff39", 
+    "\007", 
+    "\uff39", 
+    "\010", 
+    "\uff39", 
+    "\011", 
+    "\uff39", 
+    "\012", 
+    "\uff39", 
+    "\013", 
+    "\uff39", 
+    "\016", 
+    "\uff39", 
+    "\020", 
+    "\uff39", 
+    "\023", 
+    "\uff39", 
+    "\024", 
+    "\uff39", 
+    "\033", 
+    "\uff39", 
+    "\034", 
+    "\uff39", 
+    "\035", 
+    "\uff39", 
+    "\036", 
+    "\uff39", 
+    "\037", 
+    "\uff39", 
+    "\040", 
+    "\uff39", 
+    "\041", 
+    "\uff39", 
+    "\042", 
+    "\uff39", 
+    "\043", 
+    "\uff39", 
+    "\044", 
+    "\uff39", 
+    "\045", 
+    "\uff39", 
+    "\050", 
+    "\uff39", 
+    "\054", 
+    "\uff39", 
+    "\110", 
+    "\uff39", 
+    "\140", 
+    "\uff39", 
+    "\151", 
+    "\uff39", 
+    "\154", 
+    "\uff39", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\004", 
+    "\023", 
+    "\u01fa", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\074", 
+    "\004", 
+    "\uff1d", 
+    "\005", 
+    "\uff1d", 
+    "\006", 
+    "\uff1d", 
+    "\007", 
+    "\uff1d", 
+    "\010", 
+    "\uff1d", 
+    "\011", 
+    "\uff1d", 
+    "\012", 
+    "\uff1d", 
+    "\013", 
+    "\uff1d", 
+    "\016", 
+    "\uff1d", 
+    "\020", 
+    "\uff1d", 
+    "\023", 
+    "\uff1d", 
+    "\024", 
+    "\uff1d", 
+    "\033", 
+    "\uff1d", 
+    "\034", 
+    "\uff1d", 
+    "\035", 
+    "\uff1d", 
+    "\036", 
+    "\uff1d", 
+    "\037", 
+    "\uff1d", 
+    "\040", 
+    "\uff1d", 
+    "\041", 
+    "\uff1d", 
+    "\042", 
+    "\uff1d", 
+    "\043", 
+    "\uff1d", 
+    "\044", 
+    "\uff1d", 
+    "\045", 
+    "\uff1d", 
+    "\050", 
+    "\uff1d", 
+    "\054", 
+    "\uff1d", 
+    "\110", 
+    "\uff1d", 
+    "\140", 
+    "\uff1d", 
+    "\151", 
+    "\uff1d", 
+    "\154", 
+    "\uff1d", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\012", 
+    "\014", 
+    "\u015f", 
+    "\020", 
+    "\uff26", 
+    "\023", 
+    "\uff26", 
+    "\051", 
+    "\u0160", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\006", 
+    "\020", 
+    "\u0168", 
+    "\023", 
+    "\u0133", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\074", 
+    "\004", 
+    "\uff3b", 
+    "\005", 
+    "\uff3b", 
+    "\006", 
+    "\uff3b", 
+    "\007", 
+    "\uff3b", 
+    "\010", 
+    "\uff3b", 
+    "\011", 
+    "\uff3b", 
+    "\012", 
+    "\uff3b", 
+    "\013", 
+    "\uff3b", 
+    "\016", 
+    "\uff3b", 
+    "\020", 
+    "\uff3b", 
+    "\023", 
+    "\uff3b", 
+    "\024", 
+    "\uff3b", 
+    "\033", 
+    "\uff3b", 
+    "\034", 
+    "\uff3b", 
+    "\035", 
+    "\uff3b", 
+    "\036", 
+    "\uff3b", 
+    "\037", 
+    "\uff3b", 
+    "\040", 
+    "\uff3b", 
+    "\041", 
+    "\uff3b", 
+    "\042", 
+    "\uff3b", 
+    "\043", 
+    "\uff3b", 
+    "\044", 
+    "\uff3b", 
+    "\045", 
+    "\uff3b", 
+    "\050", 
+    "\uff3b", 
+    "\054", 
+    "\uff3b", 
+    "\110", 
+    "\uff3b", 
+    "\140", 
+    "\uff3b", 
+    "\151", 
+    "\uff3b", 
+    "\154", 
+    "\uff3b", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\074", 
+    "\004", 
+    "\uff5d", 
+    "\005", 
+    "\uff5d", 
+    "\006", 
+    "\uff5d", 
+    "\007", 
+    "\uff5d", 
+    "\010", 
+    "\uff5d", 
+    "\011", 
+    "\uff5d", 
+    "\012", 
+    "\uff5d", 
+    "\013", 
+    "\uff5d", 
+    "\016", 
+    "\uff5d", 
+    "\020", 
+    "\uff5d", 
+    "\023", 
+    "\uff5d", 
+    "\024", 
+    "\uff5d", 
+    "\033", 
+    "\uff5d", 
+    "\034", 
+    "\uff5d", 
+    "\035", 
+    "\uff5d", 
+    "\036", 
+    "\uff5d", 
+    "\037", 
+    "\uff5d", 
+    "\040", 
+    "\uff5d", 
+    "\041", 
+    "\uff5d", 
+    "\042", 
+    "\uff5d", 
+    "\043", 
+    "\uff5d", 
+    "\044", 
+    "\uff5d", 
+    "\045", 
+    "\uff5d", 
+    "\050", 
+    "\uff5d", 
+    "\054", 
+    "\uff5d", 
+    "\110", 
+    "\uff5d", 
+    "\140", 
+    "\uff5d", 
+    "\151", 
+    "\uff5d", 
+    "\154", 
+    "\uff5d", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\274", 
+    "\002", 
+    "\uff63", 
+    "\004", 
+    "\uff63", 
+    "\005", 
+    "\uff63", 
+    "\006", 
+    "\uff63", 
+    "\007", 
+    "\uff63", 
+    "\010", 
+    "\uff63", 
+    "\011", 
+    "\uff63", 
+    "\012", 
+    "\uff63", 
+    "\013", 
+    "\uff63", 
+    "\014", 
+    "\uff63", 
+    "\015", 
+    "\uff63", 
+    "\016", 
+    "\uff63", 
+    "\017", 
+    "\uff63", 
+    "\020", 
+    "\uff63", 
+    "\021", 
+    "\uff63", 
+    "\022", 
+    "\uff63", 
+    "\023", 
+    "\uff63", 
+    "\024", 
+    "\uff63", 
+    "\025", 
+    "\uff63", 
+    "\026", 
+    "\uff63", 
+    "\027", 
+    "\uff63", 
+    "\030", 
+    "\uff63", 
+    "\033", 
+    "\uff63", 
+    "\034", 
+    "\uff63", 
+    "\035", 
+    "\uff63", 
+    "\036", 
+    "\uff63", 
+    "\037", 
+    "\uff63", 
+    "\040", 
+    "\uff63", 
+    "\041", 
+    "\uff63", 
+    "\042", 
+    "\uff63", 
+    "\043", 
+    "\uff63", 
+    "\044", 
+    "\uff63", 
+    "\045", 
+    "\uff63", 
+    "\050", 
+    "\uff63", 
+    "\052", 
+    "\uff63", 
+    "\053", 
+    "\uff63", 
+    "\054", 
+    "\uff63", 
+    "\055", 
+    "\uff63", 
+    "\057", 
+    "\uff63", 
+    "\060", 
+    "\uff63", 
+    "\061", 
+    "\uff63", 
+    "\062", 
+    "\uff63", 
+    "\063", 
+    "\uff63", 
+    "\064", 
+    "\uff63", 
+    "\065", 
+    "\uff63", 
+    "\066", 
+    "\uff63", 
+    "\067", 
+    "\uff63", 
+    "\070", 
+    "\uff63", 
+    "\071", 
+    "\uff63", 
+    "\074", 
+    "\uff63", 
+    "\075", 
+    "\uff63", 
+    "\076", 
+    "\uff63", 
+    "\077", 
+    "\uff63", 
+    "\100", 
+    "\uff63", 
+    "\103", 
+    "\uff63", 
+    "\104", 
+    "\uff63", 
+    "\105", 
+    "\uff63", 
+    "\106", 
+    "\uff63", 
+    "\107", 
+    "\uff63", 
+    "\110", 
+    "\uff63", 
+    "\111", 
+    "\uff63", 
+    "\112", 
+    "\uff63", 
+    "\113", 
+    "\uff63", 
+    "\114", 
+    "\uff63", 
+    "\115", 
+    "\uff63", 
+    "\116", 
+    "\uff63", 
+    "\117", 
+    "\uff63", 
+    "\120", 
+    "\uff63", 
+    "\121", 
+    "\uff63", 
+    "\122", 
+    "\uff63", 
+    "\123", 
+    "\uff63", 
+    "\124", 
+    "\uff63", 
+    "\125", 
+    "\uff63", 
+    "\126", 
+    "\uff63", 
+    "\127", 
+    "\uff63", 
+    "\130", 
+    "\uff63", 
+    "\131", 
+    "\uff63", 
+    "\132", 
+    "\uff63", 
+    "\133", 
+    "\uff63", 
+    "\134", 
+    "\uff63", 
+    "\135", 
+    "\uff63", 
+    "\136", 
+    "\uff63", 
+    "\137", 
+    "\uff63", 
+    "\140", 
+    "\uff63", 
+    "\141", 
+    "\uff63", 
+    "\142", 
+    "\uff63", 
+    "\143", 
+    "\uff63", 
+    "\144", 
+    "\uff63", 
+    "\145", 
+    "\uff63", 
+    "\146", 
+    "\uff63", 
+    "\151", 
+    "\uff63", 
+    "\152", 
+    "\uff63", 
+    "\154", 
+    "\uff63", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\074", 
+    "\004", 
+    "\uff1f", 
+    "\005", 
+    "\uff1f", 
+    "\006", 
+    "\uff1f", 
+    "\007", 
+    "\uff1f", 
+    "\010", 
+    "\uff1f", 
+    "\011", 
+    "\uff1f", 
+    "\012", 
+    "\uff1f", 
+    "\013", 
+    "\uff1f", 
+    "\016", 
+    "\uff1f", 
+    "\020", 
+    "\uff1f", 
+    "\023", 
+    "\uff1f", 
+    "\024", 
+    "\uff1f", 
+    "\033", 
+    "\uff1f", 
+    "\034", 
+    "\uff1f", 
+    "\035", 
+    "\uff1f", 
+    "\036", 
+    "\uff1f", 
+    "\037", 
+    "\uff1f", 
+    "\040", 
+    "\uff1f", 
+    "\041", 
+    "\uff1f", 
+    "\042", 
+    "\uff1f", 
+    "\043", 
+    "\uff1f", 
+    "\044", 
+    "\uff1f", 
+    "\045", 
+    "\uff1f", 
+    "\050", 
+    "\uff1f", 
+    "\054", 
+    "\uff1f", 
+    "\110", 
+    "\uff1f", 
+    "\140", 
+    "\uff1f", 
+    "\151", 
+    "\uff1f", 
+    "\154", 
+    "\uff1f", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\150", 
+    "\004", 
+    "\130", 
+    "\005", 
+    "\143", 
+    "\006", 
+    "\067", 
+    "\007", 
+    "\103", 
+    "\010", 
+    "\162", 
+    "\011", 
+    "\071", 
+    "\012", 
+    "\155", 
+    "\013", 
+    "\075", 
+    "\016", 
+    "\u01ff", 
+    "\020", 
+    "\u0226", 
+    "\023", 
+    "\u0133", 
+    "\024", 
+    "\ufee3", 
+    "\026", 
+    "\u020c", 
+    "\033", 
+    "\045", 
+    "\034", 
+    "\042", 
+    "\035", 
+    "\015", 
+    "\036", 
+    "\021", 
+    "\037", 
+    "\030", 
+    "\040", 
+    "\044", 
+    "\041", 
+    "\041", 
+    "\042", 
+    "\u0230", 
+    "\043", 
+    "\032", 
+    "\044", 
+    "\050", 
+    "\045", 
+    "\uff9b", 
+    "\050", 
+    "\140", 
+    "\052", 
+    "\125", 
+    "\053", 
+    "\134", 
+    "\054", 
+    "\uff9b", 
+    "\055", 
+    "\u0232", 
+    "\057", 
+    "\u021d", 
+    "\062", 
+    "\u021e", 
+    "\063", 
+    "\u0219", 
+    "\064", 
+    "\u021f", 
+    "\065", 
+    "\u0223", 
+    "\066", 
+    "\u0231", 
+    "\067", 
+    "\u0220", 
+    "\070", 
+    "\u0206", 
+    "\071", 
+    "\u0221", 
+    "\074", 
+    "\135", 
+    "\075", 
+    "\066", 
+    "\076", 
+    "\132", 
+    "\140", 
+    "\053", 
+    "\141", 
+    "\171", 
+    "\142", 
+    "\151", 
+    "\143", 
+    "\107", 
+    "\144", 
+    "\111", 
+    "\145", 
+    "\070", 
+    "\146", 
+    "\124", 
+    "\151", 
+    "\012", 
+    "\152", 
+    "\u0235", 
+    "\154", 
+    "\uff9b", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\004", 
+    "\024", 
+    "\u03dd", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\164", 
+    "\004", 
+    "\ufee5", 
+    "\005", 
+    "\ufee5", 
+    "\006", 
+    "\ufee5", 
+    "\007", 
+    "\ufee5", 
+    "\010", 
+    "\ufee5", 
+    "\011", 
+    "\ufee5", 
+    "\012", 
+    "\ufee5", 
+    "\013", 
+    "\ufee5", 
+    "\016", 
+    "\ufee5", 
+    "\020", 
+    "\ufee5", 
+    "\023", 
+    "\ufee5", 
+    "\024", 
+    "\ufee5", 
+    "\026", 
+    "\ufee5", 
+    "\033", 
+    "\ufee5", 
+    "\034", 
+    "\ufee5", 
+    "\035", 
+    "\ufee5", 
+    "\036", 
+    "\ufee5", 
+    "\037", 
+    "\ufee5", 
+    "\040", 
+    "\ufee5", 
+    "\041", 
+    "\ufee5", 
+    "\042", 
+    "\ufee5", 
+    "\043", 
+    "\ufee5", 
+    "\044", 
+    "\ufee5", 
+    "\045", 
+    "\ufee5", 
+    "\050", 
+    "\ufee5", 
+    "\052", 
+    "\ufee5", 
+    "\053", 
+    "\ufee5", 
+    "\054", 
+    "\ufee5", 
+    "\055", 
+    "\ufee5", 
+    "\056", 
+    "\ufee5", 
+    "\057", 
+    "\ufee5", 
+    "\060", 
+    "\ufee5", 
+    "\061", 
+    "\ufee5", 
+    "\062", 
+    "\ufee5", 
+    "\063", 
+    "\ufee5", 
+    "\064", 
+    "\ufee5", 
+    "\065", 
+    "\ufee5", 
+    "\066", 
+    "\ufee5", 
+    "\067", 
+    "\ufee5", 
+    "\070", 
+    "\ufee5", 
+    "\071", 
+    "\ufee5", 
+    "\072", 
+    "\ufee5", 
+    "\073", 
+    "\ufee5", 
+    "\074", 
+    "\ufee5", 
+    "\075", 
+    "\ufee5", 
+    "\076", 
+    "\ufee5", 
+    "\110", 
+    "\ufee5", 
+    "\140", 
+    "\ufee5", 
+    "\141", 
+    "\ufee5", 
+    "\142", 
+    "\ufee5", 
+    "\143", 
+    "\ufee5", 
+    "\144", 
+    "\ufee5", 
+    "\145", 
+    "\ufee5", 
+    "\146", 
+    "\ufee5", 
+    "\151", 
+    "\ufee5", 
+    "\152", 
+    "\ufee5", 
+    "\154", 
+    "\ufee5", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\066", 
+    "\004", 
+    "\uff93", 
+    "\005", 
+    "\uff93", 
+    "\006", 
+    "\uff93", 
+    "\007", 
+    "\uff93", 
+    "\010", 
+    "\uff93", 
+    "\011", 
+    "\uff93", 
+    "\012", 
+    "\uff93", 
+    "\013", 
+    "\uff93", 
+    "\016", 
+    "\uff93", 
+    "\033", 
+    "\uff93", 
+    "\034", 
+    "\uff93", 
+    "\035", 
+    "\uff93", 
+    "\036", 
+    "\uff93", 
+    "\037", 
+    "\uff93", 
+    "\040", 
+    "\uff93", 
+    "\041", 
+    "\uff93", 
+    "\042", 
+    "\uff93", 
+    "\043", 
+    "\uff93", 
+    "\044", 
+    "\uff93", 
+    "\045", 
+    "\uff93", 
+    "\050", 
+    "\uff93", 
+    "\054", 
+    "\uff93", 
+    "\110", 
+    "\uff93", 
+    "\140", 
+    "\uff93", 
+    "\151", 
+    "\uff93", 
+    "\154", 
+    "\uff93", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\130", 
+    "\014", 
+    "\ufe61", 
+    "\015", 
+    "\ufe61", 
+    "\017", 
+    "\ufe61", 
+    "\020", 
+    "\ufe61", 
+    "\021", 
+    "\ufe61", 
+    "\022", 
+    "\ufe61", 
+    "\024", 
+    "\ufe61", 
+    "\025", 
+    "\ufe61", 
+    "\027", 
+    "\ufe61", 
+    "\030", 
+    "\ufe61", 
+    "\075", 
+    "\ufe61", 
+    "\076", 
+    "\ufe61", 
+    "\077", 
+    "\ufe61", 
+    "\100", 
+    "\ufe61", 
+    "\103", 
+    "\ufe61", 
+    "\104", 
+    "\ufe61", 
+    "\105", 
+    "\ufe61", 
+    "\106", 
+    "\ufe61", 
+    "\107", 
+    "\ufe61", 
+    "\110", 
+    "\ufe61", 
+    "\111", 
+    "\ufe61", 
+    "\112", 
+    "\ufe61", 
+    "\113", 
+    "\ufe61", 
+    "\114", 
+    "\ufe61", 
+    "\115", 
+    "\ufe61", 
+    "\116", 
+    "\ufe61", 
+    "\117", 
+    "\ufe61", 
+    "\120", 
+    "\ufe61", 
+    "\121", 
+    "\ufe61", 
+    "\122", 
+    "\ufe61", 
+    "\123", 
+    "\ufe61", 
+    "\124", 
+    "\ufe61", 
+    "\125", 
+    "\ufe61", 
+    "\126", 
+    "\ufe61", 
+    "\127", 
+    "\ufe61", 
+    "\130", 
+    "\ufe61", 
+    "\131", 
+    "\ufe61", 
+    "\132", 
+    "\ufe61", 
+    "\133", 
+    "\ufe61", 
+    "\134", 
+    "\ufe61", 
+    "\135", 
+    "\ufe61", 
+    "\136", 
+    "\ufe61", 
+    "\137", 
+    "\ufe61", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\070", 
+    "\004", 
+    "\130", 
+    "\005", 
+    "\143", 
+    "\006", 
+    "\067", 
+    "\007", 
+    "\103", 
+    "\010", 
+    "\162", 
+    "\011", 
+    "\071", 
+    "\012", 
+    "\155", 
+    "\013", 
+    "\075", 
+    "\015", 
+    "\273", 
+    "\016", 
+    "\175", 
+    "\026", 
+    "\100", 
+    "\050", 
+    "\140", 
+    "\052", 
+    "\125", 
+    "\053", 
+    "\134", 
+    "\074", 
+    "\135", 
+    "\075", 
+    "\066", 
+    "\076", 
+    "\132", 
+    "\077", 
+    "\123", 
+    "\100", 
+    "\104", 
+    "\101", 
+    "\120", 
+    "\102", 
+    "\112", 
+    "\141", 
+    "\171", 
+    "\142", 
+    "\151", 
+    "\143", 
+    "\107", 
+    "\144", 
+    "\111", 
+    "\145", 
+    "\070", 
+    "\146", 
+    "\124", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\130", 
+    "\014", 
+    "\u03e0", 
+    "\015", 
+    "\ufe5e", 
+    "\017", 
+    "\ufe5e", 
+    "\020", 
+    "\ufe5e", 
+    "\021", 
+    "\ufe5e", 
+    "\022", 
+    "\ufe5e", 
+    "\024", 
+    "\ufe5e", 
+    "\025", 
+    "\ufe5e", 
+    "\027", 
+    "\ufe5e", 
+    "\030", 
+    "\ufe5e", 
+    "\075", 
+    "\ufe5e", 
+    "\076", 
+    "\ufe5e", 
+    "\077", 
+    "\ufe5e", 
+    "\100", 
+    "\ufe5e", 
+    "\103", 
+    "\ufe5e", 
+    "\104", 
+    "\ufe5e", 
+    "\105", 
+    "\ufe5e", 
+    "\106", 
+    "\ufe5e", 
+    "\107", 
+    "\ufe5e", 
+    "\110", 
+    "\ufe5e", 
+    "\111", 
+    "\ufe5e", 
+    "\112", 
+    "\ufe5e", 
+    "\113", 
+    "\ufe5e", 
+    "\114", 
+    "\ufe5e", 
+    "\115", 
+    "\ufe5e", 
+    "\116", 
+    "\ufe5e", 
+    "\117", 
+    "\ufe5e", 
+    "\120", 
+    "\ufe5e", 
+    "\121", 
+    "\ufe5e", 
+    "\122", 
+    "\ufe5e", 
+    "\123", 
+    "\ufe5e", 
+    "\124", 
+    "\ufe5e", 
+    "\125", 
+    "\ufe5e", 
+    "\126", 
+    "\ufe5e", 
+    "\127", 
+    "\ufe5e", 
+    "\130", 
+    "\ufe5e", 
+    "\131", 
+    "\ufe5e", 
+    "\132", 
+    "\ufe5e", 
+    "\133", 
+    "\ufe5e", 
+    "\134", 
+    "\ufe5e", 
+    "\135", 
+    "\ufe5e", 
+    "\136", 
+    "\ufe5e", 
+    "\137", 
+    "\ufe5e", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\006", 
+    "\014", 
+    "\271", 
+    "\023", 
+    "\u01b9", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\130", 
+    "\014", 
+    "\ufe63", 
+    "\015", 
+    "\ufe63", 
+    "\017", 
+    "\ufe63", 
+    "\020", 
+    "\ufe63", 
+    "\021", 
+    "\ufe63", 
+    "\022", 
+    "\ufe63", 
+    "\024", 
+    "\ufe63", 
+    "\025", 
+    "\ufe63", 
+    "\027", 
+    "\ufe63", 
+    "\030", 
+    "\ufe63", 
+    "\075", 
+    "\ufe63", 
+    "\076", 
+    "\ufe63", 
+    "\077", 
+    "\ufe63", 
+    "\100", 
+    "\ufe63", 
+    "\103", 
+    "\ufe63", 
+    "\104", 
+    "\ufe63", 
+    "\105", 
+    "\ufe63", 
+    "\106", 
+    "\ufe63", 
+    "\107", 
+    "\ufe63", 
+    "\110", 
+    "\ufe63", 
+    "\111", 
+    "\ufe63", 
+    "\112", 
+    "\ufe63", 
+    "\113", 
+    "\ufe63", 
+    "\114", 
+    "\ufe63", 
+    "\115", 
+    "\ufe63", 
+    "\116", 
+    "\ufe63", 
+    "\117", 
+    "\ufe63", 
+    "\120", 
+    "\ufe63", 
+    "\121", 
+    "\ufe63", 
+    "\122", 
+    "\ufe63", 
+    "\123", 
+    "\ufe63", 
+    "\124", 
+    "\ufe63", 
+    "\125", 
+    "\ufe63", 
+    "\126", 
+    "\ufe63", 
+    "\127", 
+    "\ufe63", 
+    "\130", 
+    "\ufe63", 
+    "\131", 
+    "\ufe63", 
+    "\132", 
+    "\ufe63", 
+    "\133", 
+    "\ufe63", 
+    "\134", 
+    "\ufe63", 
+    "\135", 
+    "\ufe63", 
+    "\136", 
+    "\ufe63", 
+    "\137", 
+    "\ufe63", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\126", 
+    "\015", 
+    "\ufe65", 
+    "\017", 
+    "\ufe65", 
+    "\020", 
+    "\ufe65", 
+    "\021", 
+    "\ufe65", 
+    "\022", 
+    "\ufe65", 
+    "\024", 
+    "\ufe65", 
+    "\025", 
+    "\ufe65", 
+    "\027", 
+    "\ufe65", 
+    "\030", 
+    "\ufe65", 
+    "\075", 
+    "\ufe65", 
+    "\076", 
+    "\ufe65", 
+    "\077", 
+    "\ufe65", 
+    "\100", 
+    "\ufe65", 
+    "\103", 
+    "\ufe65", 
+    "\104", 
+    "\ufe65", 
+    "\105", 
+    "\ufe65", 
+    "\106", 
+    "\ufe65", 
+    "\107", 
+    "\ufe65", 
+    "\110", 
+    "\ufe65", 
+    "\111", 
+    "\ufe65", 
+    "\112", 
+    "\ufe65", 
+    "\113", 
+    "\ufe65", 
+    "\114", 
+    "\ufe65", 
+    "\115", 
+    "\ufe65", 
+    "\116", 
+    "\ufe65", 
+    "\117", 
+    "\ufe65", 
+    "\120", 
+    "\ufe65", 
+    "\121", 
+    "\ufe65", 
+    "\122", 
+    "\ufe65", 
+    "\123", 
+    "\ufe65", 
+    "\124", 
+    "\ufe65", 
+    "\125", 
+    "\ufe65", 
+    "\126", 
+    "\ufe65", 
+    "\127", 
+    "\ufe65", 
+    "\130", 
+    "\ufe65", 
+    "\131", 
+    "\ufe65", 
+    "\132", 
+    "\ufe65", 
+    "\133", 
+    "\ufe65", 
+    "\134", 
+    "\ufe65", 
+    "\135", 
+    "\ufe65", 
+    "\136", 
+    "\ufe65", 
+    "\137", 
+    "\ufe65", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\130", 
+    "\014", 
+    "\ufe60", 
+    "\015", 
+    "\ufe60", 
+    "\017", 
+    "\ufe60", 
+    "\020", 
+    "\ufe60", 
+    "\021", 
+    "\ufe60", 
+    "\022", 
+    "\ufe60", 
+    "\024", 
+    "\ufe60", 
+    "\025", 
+    "\ufe60", 
+    "\027", 
+    "\ufe60", 
+    "\030", 
+    "\ufe60", 
+    "\075", 
+    "\ufe60", 
+    "\076", 
+    "\ufe60", 
+    "\077", 
+    "\ufe60", 
+    "\100", 
+    "\ufe60", 
+    "\103", 
+    "\ufe60", 
+    "\104", 
+    "\ufe60", 
+    "\105", 
+    "\ufe60", 
+    "\106", 
+    "\ufe60", 
+    "\107", 
+    "\ufe60", 
+    "\110", 
+    "\ufe60", 
+    "\111", 
+    "\ufe60", 
+    "\112", 
+    "\ufe60", 
+    "\113", 
+    "\ufe60", 
+    "\114", 
+    "\ufe60", 
+    "\115", 
+    "\ufe60", 
+    "\116", 
+    "\ufe60", 
+    "\117", 
+    "\ufe60", 
+    "\120", 
+    "\ufe60", 
+    "\121", 
+    "\ufe60", 
+    "\122", 
+    "\ufe60", 
+    "\123", 
+    "\ufe60", 
+    "\124", 
+    "\ufe60", 
+    "\125", 
+    "\ufe60", 
+    "\126", 
+    "\ufe60", 
+    "\127", 
+    "\ufe60", 
+    "\130", 
+    "\ufe60", 
+    "\131", 
+    "\ufe60", 
+    "\132", 
+    "\ufe60", 
+    "\133", 
+    "\ufe60", 
+    "\134", 
+    "\ufe60", 
+    "\135", 
+    "\ufe60", 
+    "\136", 
+    "\ufe60", 
+    "\137", 
+    "\ufe60", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\130", 
+    "\014", 
+    "\271", 
+    "\015", 
+    "\ufe5d", 
+    "\017", 
+    "\ufe5d", 
+    "\020", 
+    "\ufe5d", 
+    "\021", 
+    "\ufe5d", 
+    "\022", 
+    "\ufe5d", 
+    "\024", 
+    "\ufe5d", 
+    "\025", 
+    "\ufe5d", 
+    "\027", 
+    "\ufe5d", 
+    "\030", 
+    "\ufe5d", 
+    "\075", 
+    "\ufe5d", 
+    "\076", 
+    "\ufe5d", 
+    "\077", 
+    "\ufe5d", 
+    "\100", 
+    "\ufe5d", 
+    "\103", 
+    "\ufe5d", 
+    "\104", 
+    "\ufe5d", 
+    "\105", 
+    "\ufe5d", 
+    "\106", 
+    "\ufe5d", 
+    "\107", 
+    "\ufe5d", 
+    "\110", 
+    "\ufe5d", 
+    "\111", 
+    "\ufe5d", 
+    "\112", 
+    "\ufe5d", 
+    "\113", 
+    "\ufe5d", 
+    "\114", 
+    "\ufe5d", 
+    "\115", 
+    "\ufe5d", 
+    "\116", 
+    "\ufe5d", 
+    "\117", 
+    "\ufe5d", 
+    "\120", 
+    "\ufe5d", 
+    "\121", 
+    "\ufe5d", 
+    "\122", 
+    "\ufe5d", 
+    "\123", 
+    "\ufe5d", 
+    "\124", 
+    "\ufe5d", 
+    "\125", 
+    "\ufe5d", 
+    "\126", 
+    "\ufe5d", 
+    "\127", 
+    "\ufe5d", 
+    "\130", 
+    "\ufe5d", 
+    "\131", 
+    "\ufe5d", 
+    "\132", 
+    "\ufe5d", 
+    "\133", 
+    "\ufe5d", 
+    "\134", 
+    "\ufe5d", 
+    "\135", 
+    "\ufe5d", 
+    "\136", 
+    "\ufe5d", 
+    "\137", 
+    "\ufe5d", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\004", 
+    "\015", 
+    "\u03e8", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\130", 
+    "\014", 
+    "\ufe5f", 
+    "\015", 
+    "\ufe5f", 
+    "\017", 
+    "\ufe5f", 
+    "\020", 
+    "\ufe5f", 
+    "\021", 
+    "\ufe5f", 
+    "\022", 
+    "\ufe5f", 
+    "\024", 
+    "\ufe5f", 
+    "\025", 
+    "\ufe5f", 
+    "\027", 
+    "\ufe5f", 
+    "\030", 
+    "\ufe5f", 
+    "\075", 
+    "\ufe5f", 
+    "\076", 
+    "\ufe5f", 
+    "\077", 
+    "\ufe5f", 
+    "\100", 
+    "\ufe5f", 
+    "\103", 
+    "\ufe5f", 
+    "\104", 
+    "\ufe5f", 
+    "\105", 
+    "\ufe5f", 
+    "\106", 
+    "\ufe5f", 
+    "\107", 
+    "\ufe5f", 
+    "\110", 
+    "\ufe5f", 
+    "\111", 
+    "\ufe5f", 
+    "\112", 
+    "\ufe5f", 
+    "\113", 
+    "\ufe5f", 
+    "\114", 
+    "\ufe5f", 
+    "\115", 
+    "\ufe5f", 
+    "\116", 
+    "\ufe5f", 
+    "\117", 
+    "\ufe5f", 
+    "\120", 
+    "\ufe5f", 
+    "\121", 
+    "\ufe5f", 
+    "\122", 
+    "\ufe5f", 
+    "\123", 
+    "\ufe5f", 
+    "\124", 
+    "\ufe5f", 
+    "\125", 
+    "\ufe5f", 
+    "\126", 
+    "\ufe5f", 
+    "\127", 
+    "\ufe5f", 
+    "\130", 
+    "\ufe5f", 
+    "\131", 
+    "\ufe5f", 
+    "\132", 
+    "\ufe5f", 
+    "\133", 
+    "\ufe5f", 
+    "\134", 
+    "\ufe5f", 
+    "\135", 
+    "\ufe5f", 
+    "\136", 
+    "\ufe5f", 
+    "\137", 
+    "\ufe5f", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\130", 
+    "\014", 
+    "\u03e0", 
+    "\015", 
+    "\ufe5e", 
+    "\017", 
+    "\ufe5e", 
+    "\020", 
+    "\ufe5e", 
+    "\021", 
+    "\ufe5e", 
+    "\022", 
+    "\ufe5e", 
+    "\024", 
+    "\ufe5e", 
+    "\025", 
+    "\ufe5e", 
+    "\027", 
+    "\ufe5e", 
+    "\030", 
+    "\ufe5e", 
+    "\075", 
+    "\ufe5e", 
+    "\076", 
+    "\ufe5e", 
+    "\077", 
+    "\ufe5e", 
+    "\100", 
+    "\ufe5e", 
+    "\103", 
+    "\ufe5e", 
+    "\104", 
+    "\ufe5e", 
+    "\105", 
+    "\ufe5e", 
+    "\106", 
+    "\ufe5e", 
+    "\107", 
+    "\ufe5e", 
+    "\110", 
+    "\ufe5e", 
+    "\111", 
+    "\ufe5e", 
+    "\112", 
+    "\ufe5e", 
+    "\113", 
+    "\ufe5e", 
+    "\114", 
+    "\ufe5e", 
+    "\115", 
+    "\ufe5e", 
+    "\116", 
+    "\ufe5e", 
+    "\117", 
+    "\ufe5e", 
+    "\120", 
+    "\ufe5e", 
+    "\121", 
+    "\ufe5e", 
+    "\122", 
+    "\ufe5e", 
+    "\123", 
+    "\ufe5e", 
+    "\124", 
+    "\ufe5e", 
+    "\125", 
+    "\ufe5e", 
+    "\126", 
+    "\ufe5e", 
+    "\127", 
+    "\ufe5e", 
+    "\130", 
+    "\ufe5e", 
+    "\131", 
+    "\ufe5e", 
+    "\132", 
+    "\ufe5e", 
+    "\133", 
+    "\ufe5e", 
+    "\134", 
+    "\ufe5e", 
+    "\135", 
+    "\ufe5e", 
+    "\136", 
+    "\ufe5e", 
+    "\137", 
+    "\ufe5e", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\070", 
+    "\004", 
+    "\130", 
+    "\005", 
+    "\143", 
+    "\006", 
+    "\067", 
+    "\007", 
+    "\103", 
+    "\010", 
+    "\162", 
+    "\011", 
+    "\071", 
+    "\012", 
+    "\155", 
+    "\013", 
+    "\075", 
+    "\016", 
+    "\175", 
+    "\026", 
+    "\100", 
+    "\027", 
+    "\ufe69", 
+    "\050", 
+    "\140", 
+    "\052", 
+    "\125", 
+    "\053", 
+    "\134", 
+    "\074", 
+    "\135", 
+    "\075", 
+    "\066", 
+    "\076", 
+    "\132", 
+    "\077", 
+    "\123", 
+    "\100", 
+    "\104", 
+    "\101", 
+    "\120", 
+    "\102", 
+    "\112", 
+    "\141", 
+    "\171", 
+    "\142", 
+    "\151", 
+    "\143", 
+    "\107", 
+    "\144", 
+    "\111", 
+    "\145", 
+    "\070", 
+    "\146", 
+    "\124", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\006", 
+    "\014", 
+    "\271", 
+    "\023", 
+    "\u01b9", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\130", 
+    "\014", 
+    "\ufe62", 
+    "\015", 
+    "\ufe62", 
+    "\017", 
+    "\ufe62", 
+    "\020", 
+    "\ufe62", 
+    "\021", 
+    "\ufe62", 
+    "\022", 
+    "\ufe62", 
+    "\024", 
+    "\ufe62", 
+    "\025", 
+    "\ufe62", 
+    "\027", 
+    "\ufe62", 
+    "\030", 
+    "\ufe62", 
+    "\075", 
+    "\ufe62", 
+    "\076", 
+    "\ufe62", 
+    "\077", 
+    "\ufe62", 
+    "\100", 
+    "\ufe62", 
+    "\103", 
+    "\ufe62", 
+    "\104", 
+    "\ufe62", 
+    "\105", 
+    "\ufe62", 
+    "\106", 
+    "\ufe62", 
+    "\107", 
+    "\ufe62", 
+    "\110", 
+    "\ufe62", 
+    "\111", 
+    "\ufe62", 
+    "\112", 
+    "\ufe62", 
+    "\113", 
+    "\ufe62", 
+    "\114", 
+    "\ufe62", 
+    "\115", 
+    "\ufe62", 
+    "\116", 
+    "\ufe62", 
+    "\117", 
+    "\ufe62", 
+    "\120", 
+    "\ufe62", 
+    "\121", 
+    "\ufe62", 
+    "\122", 
+    "\ufe62", 
+    "\123", 
+    "\ufe62", 
+    "\124", 
+    "\ufe62", 
+    "\125", 
+    "\ufe62", 
+    "\126", 
+    "\ufe62", 
+    "\127", 
+    "\ufe62", 
+    "\130", 
+    "\ufe62", 
+    "\131", 
+    "\ufe62", 
+    "\132", 
+    "\ufe62", 
+    "\133", 
+    "\ufe62", 
+    "\134", 
+    "\ufe62", 
+    "\135", 
+    "\ufe62", 
+    "\136", 
+    "\ufe62", 
+    "\137", 
+    "\ufe62", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\004", 
+    "\027", 
+    "\u03ee", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\132", 
+    "\014", 
+    "\ufe71", 
+    "\015", 
+    "\ufe71", 
+    "\017", 
+    "\ufe71", 
+    "\020", 
+    "\ufe71", 
+    "\021", 
+    "\ufe71", 
+    "\022", 
+    "\ufe71", 
+    "\023", 
+    "\u012c", 
+    "\024", 
+    "\ufe71", 
+    "\025", 
+    "\ufe71", 
+    "\027", 
+    "\ufe71", 
+    "\030", 
+    "\ufe71", 
+    "\075", 
+    "\ufe71", 
+    "\076", 
+    "\ufe71", 
+    "\077", 
+    "\ufe71", 
+    "\100", 
+    "\ufe71", 
+    "\103", 
+    "\ufe71", 
+    "\104", 
+    "\ufe71", 
+    "\105", 
+    "\ufe71", 
+    "\106", 
+    "\ufe71", 
+    "\107", 
+    "\ufe71", 
+    "\110", 
+    "\ufe71", 
+    "\111", 
+    "\ufe71", 
+    "\112", 
+    "\ufe71", 
+    "\113", 
+    "\ufe71", 
+    "\114", 
+    "\ufe71", 
+    "\115", 
+    "\ufe71", 
+    "\116", 
+    "\ufe71", 
+    "\117", 
+    "\ufe71", 
+    "\120", 
+    "\ufe71", 
+    "\121", 
+    "\ufe71", 
+    "\122", 
+    "\ufe71", 
+    "\123", 
+    "\ufe71", 
+    "\124", 
+    "\ufe71", 
+    "\125", 
+    "\ufe71", 
+    "\126", 
+    "\ufe71", 
+    "\127", 
+    "\ufe71", 
+    "\130", 
+    "\ufe71", 
+    "\131", 
+    "\ufe71", 
+    "\132", 
+    "\ufe71", 
+    "\133", 
+    "\ufe71", 
+    "\134", 
+    "\ufe71", 
+    "\135", 
+    "\ufe71", 
+    "\136", 
+    "\ufe71", 
+    "\137", 
+    "\ufe71", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\130", 
+    "\014", 
+    "\ufe70", 
+    "\015", 
+    "\ufe70", 
+    "\017", 
+    "\ufe70", 
+    "\020", 
+    "\ufe70", 
+    "\021", 
+    "\ufe70", 
+    "\022", 
+    "\ufe70", 
+    "\024", 
+    "\ufe70", 
+    "\025", 
+    "\ufe70", 
+    "\027", 
+    "\ufe70", 
+    "\030", 
+    "\ufe70", 
+    "\075", 
+    "\ufe70", 
+    "\076", 
+    "\ufe70", 
+    "\077", 
+    "\ufe70", 
+    "\100", 
+    "\ufe70", 
+    "\103", 
+    "\ufe70", 
+    "\104", 
+    "\ufe70", 
+    "\105", 
+    "\ufe70", 
+    "\106", 
+    "\ufe70", 
+    "\107", 
+    "\ufe70", 
+    "\110", 
+    "\ufe70", 
+    "\111", 
+    "\ufe70", 
+    "\112", 
+    "\ufe70", 
+    "\113", 
+    "\ufe70", 
+    "\114", 
+    "\ufe70", 
+    "\115", 
+    "\ufe70", 
+    "\116", 
+    "\ufe70", 
+    "\117", 
+    "\ufe70", 
+    "\120", 
+    "\ufe70", 
+    "\121", 
+    "\ufe70", 
+    "\122", 
+    "\ufe70", 
+    "\123", 
+    "\ufe70", 
+    "\124", 
+    "\ufe70", 
+    "\125", 
+    "\ufe70", 
+    "\126", 
+    "\ufe70", 
+    "\127", 
+    "\ufe70", 
+    "\130", 
+    "\ufe70", 
+    "\131", 
+    "\ufe70", 
+    "\132", 
+    "\ufe70", 
+    "\133", 
+    "\ufe70", 
+    "\134", 
+    "\ufe70", 
+    "\135", 
+    "\ufe70", 
+    "\136", 
+    "\ufe70", 
+    "\137", 
+    "\ufe70", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\126", 
+    "\015", 
+    "\ufe64", 
+    "\017", 
+    "\ufe64", 
+    "\020", 
+    "\ufe64", 
+    "\021", 
+    "\ufe64", 
+    "\022", 
+    "\ufe64", 
+    "\024", 
+    "\ufe64", 
+    "\025", 
+    "\ufe64", 
+    "\027", 
+    "\ufe64", 
+    "\030", 
+    "\ufe64", 
+    "\075", 
+    "\ufe64", 
+    "\076", 
+    "\ufe64", 
+    "\077", 
+    "\ufe64", 
+    "\100", 
+    "\ufe64", 
+    "\103", 
+    "\ufe64", 
+    "\104", 
+    "\ufe64", 
+    "\105", 
+    "\ufe64", 
+    "\106", 
+    "\ufe64", 
+    "\107", 
+    "\ufe64", 
+    "\110", 
+    "\ufe64", 
+    "\111", 
+    "\ufe64", 
+    "\112", 
+    "\ufe64", 
+    "\113", 
+    "\ufe64", 
+    "\114", 
+    "\ufe64", 
+    "\115", 
+    "\ufe64", 
+    "\116", 
+    "\ufe64", 
+    "\117", 
+    "\ufe64", 
+    "\120", 
+    "\ufe64", 
+    "\121", 
+    "\ufe64", 
+    "\122", 
+    "\ufe64", 
+    "\123", 
+    "\ufe64", 
+    "\124", 
+    "\ufe64", 
+    "\125", 
+    "\ufe64", 
+    "\126", 
+    "\ufe64", 
+    "\127", 
+    "\ufe64", 
+    "\130", 
+    "\ufe64", 
+    "\131", 
+    "\ufe64", 
+    "\132", 
+    "\ufe64", 
+    "\133", 
+    "\ufe64", 
+    "\134", 
+    "\ufe64", 
+    "\135", 
+    "\ufe64", 
+    "\136", 
+    "\ufe64", 
+    "\137", 
+    "\ufe64", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\026", 
+    "\004", 
+    "\130", 
+    "\005", 
+    "\143", 
+    "\006", 
+    "\067", 
+    "\007", 
+    "\103", 
+    "\010", 
+    "\162", 
+    "\011", 
+    "\071", 
+    "\012", 
+    "\155", 
+    "\013", 
+    "\075", 
+    "\016", 
+    "\175", 
+    "\124", 
+    "\277", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\022", 
+    "\014", 
+    "\uffe6", 
+    "\017", 
+    "\u03f3", 
+    "\020", 
+    "\uffe6", 
+    "\022", 
+    "\uffe6", 
+    "\023", 
+    "\uffe6", 
+    "\026", 
+    "\uffe6", 
+    "\027", 
+    "\uffe6", 
+    "\047", 
+    "\uffe6", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\004", 
+    "\016", 
+    "\175", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\024", 
+    "\014", 
+    "\uffe8", 
+    "\017", 
+    "\267", 
+    "\020", 
+    "\uffe8", 
+    "\022", 
+    "\uffe8", 
+    "\023", 
+    "\uffe8", 
+    "\026", 
+    "\uffe8", 
+    "\027", 
+    "\uffe8", 
+    "\047", 
+    "\uffe8", 
+    "\110", 
+    "\uffe8", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\012", 
+    "\016", 
+    "\uffdd", 
+    "\026", 
+    "\uffdd", 
+    "\052", 
+    "\uffdd", 
+    "\053", 
+    "\uffdd", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\070", 
+    "\015", 
+    "\ufe40", 
+    "\020", 
+    "\ufe40", 
+    "\021", 
+    "\ufe40", 
+    "\022", 
+    "\ufe40", 
+    "\024", 
+    "\ufe40", 
+    "\027", 
+    "\ufe40", 
+    "\030", 
+    "\ufe40", 
+    "\077", 
+    "\ufe40", 
+    "\100", 
+    "\ufe40", 
+    "\103", 
+    "\ufe40", 
+    "\104", 
+    "\ufe40", 
+    "\105", 
+    "\ufe40", 
+    "\106", 
+    "\ufe40", 
+    "\107", 
+    "\ufe40", 
+    "\110", 
+    "\ufe40", 
+    "\111", 
+    "\ufe40", 
+    "\112", 
+    "\ufe40", 
+    "\113", 
+    "\ufe40", 
+    "\114", 
+    "\ufe40", 
+    "\115", 
+    "\ufe40", 
+    "\116", 
+    "\ufe40", 
+    "\117", 
+    "\ufe40", 
+    "\120", 
+    "\ufe40", 
+    "\121", 
+    "\ufe40", 
+    "\122", 
+    "\ufe40", 
+    "\123", 
+    "\ufe40", 
+    "\124", 
+    "\ufe40", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\100", 
+    "\004", 
+    "\uff7a", 
+    "\005", 
+    "\uff7a", 
+    "\006", 
+    "\uff7a", 
+    "\007", 
+    "\uff7a", 
+    "\010", 
+    "\uff7a", 
+    "\011", 
+    "\uff7a", 
+    "\012", 
+    "\uff7a", 
+    "\013", 
+    "\uff7a", 
+    "\016", 
+    "\uff7a", 
+    "\020", 
+    "\uff7a", 
+    "\022", 
+    "\uff7a", 
+    "\024", 
+    "\uff7a", 
+    "\027", 
+    "\uff7a", 
+    "\031", 
+    "\uff7a", 
+    "\033", 
+    "\uff7a", 
+    "\034", 
+    "\uff7a", 
+    "\035", 
+    "\uff7a", 
+    "\036", 
+    "\uff7a", 
+    "\037", 
+    "\uff7a", 
+    "\040", 
+    "\uff7a", 
+    "\041", 
+    "\uff7a", 
+    "\042", 
+    "\uff7a", 
+    "\043", 
+    "\uff7a", 
+    "\044", 
+    "\uff7a", 
+    "\045", 
+    "\uff7a", 
+    "\050", 
+    "\uff7a", 
+    "\054", 
+    "\uff7a", 
+    "\110", 
+    "\uff7a", 
+    "\140", 
+    "\uff7a", 
+    "\151", 
+    "\uff7a", 
+    "\154", 
+    "\uff7a", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\070", 
+    "\015", 
+    "\ufe44", 
+    "\020", 
+    "\ufe44", 
+    "\021", 
+    "\ufe44", 
+    "\022", 
+    "\ufe44", 
+    "\024", 
+    "\ufe44", 
+    "\027", 
+    "\ufe44", 
+    "\030", 
+    "\ufe44", 
+    "\077", 
+    "\ufe44", 
+    "\100", 
+    "\ufe44", 
+    "\103", 
+    "\ufe44", 
+    "\104", 
+    "\ufe44", 
+    "\105", 
+    "\ufe44", 
+    "\106", 
+    "\ufe44", 
+    "\107", 
+    "\ufe44", 
+    "\110", 
+    "\ufe44", 
+    "\111", 
+    "\ufe44", 
+    "\112", 
+    "\ufe44", 
+    "\113", 
+    "\ufe44", 
+    "\114", 
+    "\ufe44", 
+    "\115", 
+    "\ufe44", 
+    "\116", 
+    "\ufe44", 
+    "\117", 
+    "\ufe44", 
+    "\120", 
+    "\ufe44", 
+    "\121", 
+    "\ufe44", 
+    "\122", 
+    "\ufe44", 
+    "\123", 
+    "\ufe44", 
+    "\124", 
+    "\ufe44", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\070", 
+    "\015", 
+    "\ufe3e", 
+    "\020", 
+    "\ufe3e", 
+    "\021", 
+    "\ufe3e", 
+    "\022", 
+    "\ufe3e", 
+    "\024", 
+    "\ufe3e", 
+    "\027", 
+    "\ufe3e", 
+    "\030", 
+    "\ufe3e", 
+    "\077", 
+    "\ufe3e", 
+    "\100", 
+    "\ufe3e", 
+    "\103", 
+    "\ufe3e", 
+    "\104", 
+    "\ufe3e", 
+    "\105", 
+    "\ufe3e", 
+    "\106", 
+    "\ufe3e", 
+    "\107", 
+    "\ufe3e", 
+    "\110", 
+    "\ufe3e", 
+    "\111", 
+    "\ufe3e", 
+    "\112", 
+    "\ufe3e", 
+    "\113", 
+    "\ufe3e", 
+    "\114", 
+    "\ufe3e", 
+    "\115", 
+    "\ufe3e", 
+    "\116", 
+    "\ufe3e", 
+    "\117", 
+    "\ufe3e", 
+    "\120", 
+    "\ufe3e", 
+    "\121", 
+    "\ufe3e", 
+    "\122", 
+    "\ufe3e", 
+    "\123", 
+    "\ufe3e", 
+    "\124", 
+    "\ufe3e", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\070", 
+    "\015", 
+    "\ufe3d", 
+    "\020", 
+    "\ufe3d", 
+    "\021", 
+    "\ufe3d", 
+    "\022", 
+    "\ufe3d", 
+    "\024", 
+    "\ufe3d", 
+    "\027", 
+    "\ufe3d", 
+    "\030", 
+    "\ufe3d", 
+    "\077", 
+    "\ufe3d", 
+    "\100", 
+    "\ufe3d", 
+    "\103", 
+    "\ufe3d", 
+    "\104", 
+    "\ufe3d", 
+    "\105", 
+    "\ufe3d", 
+    "\106", 
+    "\ufe3d", 
+    "\107", 
+    "\ufe3d", 
+    "\110", 
+    "\ufe3d", 
+    "\111", 
+    "\ufe3d", 
+    "\112", 
+    "\ufe3d", 
+    "\113", 
+    "\ufe3d", 
+    "\114", 
+    "\ufe3d", 
+    "\115", 
+    "\ufe3d", 
+    "\116", 
+    "\ufe3d", 
+    "\117", 
+    "\ufe3d", 
+    "\120", 
+    "\ufe3d", 
+    "\121", 
+    "\ufe3d", 
+    "\122", 
+    "\ufe3d", 
+    "\123", 
+    "\ufe3d", 
+    "\124", 
+    "\ufe3d", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\100", 
+    "\004", 
+    "\uff7c", 
+    "\005", 
+    "\uff7c", 
+    "\006", 
+    "\uff7c", 
+    "\007", 
+    "\uff7c", 
+    "\010", 
+    "\uff7c", 
+    "\011", 
+    "\uff7c", 
+    "\012", 
+    "\uff7c", 
+    "\013", 
+    "\uff7c", 
+    "\016", 
+    "\uff7c", 
+    "\020", 
+    "\uff7c", 
+    "\022", 
+    "\uff7c", 
+    "\024", 
+    "\uff7c", 
+    "\027", 
+    "\uff7c", 
+    "\031", 
+    "\uff7c", 
+    "\033", 
+    "\uff7c", 
+    "\034", 
+    "\uff7c", 
+    "\035", 
+    "\uff7c", 
+    "\036", 
+    "\uff7c", 
+    "\037", 
+    "\uff7c", 
+    "\040", 
+    "\uff7c", 
+    "\041", 
+    "\uff7c", 
+    "\042", 
+    "\uff7c", 
+    "\043", 
+    "\uff7c", 
+    "\044", 
+    "\uff7c", 
+    "\045", 
+    "\uff7c", 
+    "\050", 
+    "\uff7c", 
+    "\054", 
+    "\uff7c", 
+    "\110", 
+    "\uff7c", 
+    "\140", 
+    "\uff7c", 
+    "\151", 
+    "\uff7c", 
+    "\154", 
+    "\uff7c", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\070", 
+    "\015", 
+    "\ufe43", 
+    "\020", 
+    "\ufe43", 
+    "\021", 
+    "\ufe43", 
+    "\022", 
+    "\ufe43", 
+    "\024", 
+    "\ufe43", 
+    "\027", 
+    "\ufe43", 
+    "\030", 
+    "\ufe43", 
+    "\077", 
+    "\ufe43", 
+    "\100", 
+    "\ufe43", 
+    "\103", 
+    "\ufe43", 
+    "\104", 
+    "\ufe43", 
+    "\105", 
+    "\ufe43", 
+    "\106", 
+    "\ufe43", 
+    "\107", 
+    "\ufe43", 
+    "\110", 
+    "\ufe43", 
+    "\111", 
+    "\ufe43", 
+    "\112", 
+    "\ufe43", 
+    "\113", 
+    "\ufe43", 
+    "\114", 
+    "\ufe43", 
+    "\115", 
+    "\ufe43", 
+    "\116", 
+    "\ufe43", 
+    "\117", 
+    "\ufe43", 
+    "\120", 
+    "\ufe43", 
+    "\121", 
+    "\ufe43", 
+    "\122", 
+    "\ufe43", 
+    "\123", 
+    "\ufe43", 
+    "\124", 
+    "\ufe43", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\120", 
+    "\014", 
+    "\u0269", 
+    "\017", 
+    "\u026c", 
+    "\021", 
+    "\u0385", 
+    "\025", 
+    "\ufe4b", 
+    "\026", 
+    "\u026a", 
+    "\027", 
+    "\u0404", 
+    "\075", 
+    "\ufe4b", 
+    "\076", 
+    "\ufe4b", 
+    "\077", 
+    "\u037b", 
+    "\100", 
+    "\u0389", 
+    "\103", 
+    "\u0388", 
+    "\104", 
+    "\u0377", 
+    "\105", 
+    "\u0383", 
+    "\106", 
+    "\u037f", 
+    "\107", 
+    "\u0381", 
+    "\110", 
+    "\u0403", 
+    "\111", 
+    "\u0382", 
+    "\112", 
+    "\u0384", 
+    "\113", 
+    "\u038a", 
+    "\114", 
+    "\u038d", 
+    "\115", 
+    "\u038c", 
+    "\116", 
+    "\u037c", 
+    "\117", 
+    "\u0378", 
+    "\120", 
+    "\u038b", 
+    "\121", 
+    "\u037e", 
+    "\122", 
+    "\u0386", 
+    "\123", 
+    "\u0380", 
+    "\124", 
+    "\u037a", 
+    "\125", 
+    "\ufe4b", 
+    "\126", 
+    "\ufe4b", 
+    "\127", 
+    "\ufe4b", 
+    "\130", 
+    "\ufe4b", 
+    "\131", 
+    "\ufe4b", 
+    "\132", 
+    "\ufe4b", 
+    "\133", 
+    "\ufe4b", 
+    "\134", 
+    "\ufe4b", 
+    "\135", 
+    "\ufe4b", 
+    "\136", 
+    "\ufe4b", 
+    "\137", 
+    "\ufe4b", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\010", 
+    "\014", 
+    "\265", 
+    "\017", 
+    "\u0118", 
+    "\027", 
+    "\ufe5e", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\004", 
+    "\027", 
+    "\u0401", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\010", 
+    "\014", 
+    "\271", 
+    "\017", 
+    "\u011a", 
+    "\027", 
+    "\ufe5d", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\066", 
+    "\004", 
+    "\130", 
+    "\005", 
+    "\143", 
+    "\006", 
+    "\067", 
+    "\007", 
+    "\103", 
+    "\010", 
+    "\162", 
+    "\011", 
+    "\071", 
+    "\012", 
+    "\155", 
+    "\013", 
+    "\075", 
+    "\016", 
+    "\175", 
+    "\026", 
+    "\100", 
+    "\050", 
+    "\140", 
+    "\052", 
+    "\125", 
+    "\053", 
+    "\134", 
+    "\074", 
+    "\135", 
+    "\075", 
+    "\066", 
+    "\076", 
+    "\132", 
+    "\077", 
+    "\123", 
+    "\100", 
+    "\104", 
+    "\101", 
+    "\120", 
+    "\102", 
+    "\112", 
+    "\141", 
+    "\171", 
+    "\142", 
+    "\151", 
+    "\143", 
+    "\107", 
+    "\144", 
+    "\111", 
+    "\145", 
+    "\070", 
+    "\146", 
+    "\124", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\070", 
+    "\015", 
+    "\ufe3b", 
+    "\020", 
+    "\ufe3b", 
+    "\021", 
+    "\ufe3b", 
+    "\022", 
+    "\ufe3b", 
+    "\024", 
+    "\ufe3b", 
+    "\027", 
+    "\ufe3b", 
+    "\030", 
+    "\ufe3b", 
+    "\077", 
+    "\ufe3b", 
+    "\100", 
+    "\ufe3b", 
+    "\103", 
+    "\ufe3b", 
+    "\104", 
+    "\ufe3b", 
+    "\105", 
+    "\ufe3b", 
+    "\106", 
+    "\ufe3b", 
+    "\107", 
+    "\ufe3b", 
+    "\110", 
+    "\ufe3b", 
+    "\111", 
+    "\ufe3b", 
+    "\112", 
+    "\ufe3b", 
+    "\113", 
+    "\ufe3b", 
+    "\114", 
+    "\ufe3b", 
+    "\115", 
+    "\ufe3b", 
+    "\116", 
+    "\ufe3b", 
+    "\117", 
+    "\ufe3b", 
+    "\120", 
+    "\ufe3b", 
+    "\121", 
+    "\ufe3b", 
+    "\122", 
+    "\ufe3b", 
+    "\123", 
+    "\ufe3b", 
+    "\124", 
+    "\ufe3b", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\070", 
+    "\004", 
+    "\130", 
+    "\005", 
+    "\143", 
+    "\006", 
+    "\067", 
+    "\007", 
+    "\103", 
+    "\010", 
+    "\162", 
+    "\011", 
+    "\071", 
+    "\012", 
+    "\155", 
+    "\013", 
+    "\075", 
+    "\016", 
+    "\175", 
+    "\026", 
+    "\100", 
+    "\050", 
+    "\140", 
+    "\052", 
+    "\125", 
+    "\053", 
+    "\134", 
+    "\074", 
+    "\135", 
+    "\075", 
+    "\066", 
+    "\076", 
+    "\132", 
+    "\077", 
+    "\123", 
+    "\100", 
+    "\104", 
+    "\101", 
+    "\120", 
+    "\102", 
+    "\112", 
+    "\124", 
+    "\277", 
+    "\141", 
+    "\171", 
+    "\142", 
+    "\151", 
+    "\143", 
+    "\107", 
+    "\144", 
+    "\111", 
+    "\145", 
+    "\070", 
+    "\146", 
+    "\124", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\204", 
+    "\004", 
+    "\130", 
+    "\005", 
+    "\143", 
+    "\006", 
+    "\067", 
+    "\007", 
+    "\103", 
+    "\010", 
+    "\162", 
+    "\011", 
+    "\071", 
+    "\012", 
+    "\155", 
+    "\013", 
+    "\075", 
+    "\014", 
+    "\ufe7d", 
+    "\015", 
+    "\ufe7d", 
+    "\016", 
+    "\175", 
+    "\017", 
+    "\ufe7d", 
+    "\020", 
+    "\ufe7d", 
+    "\021", 
+    "\ufe7d", 
+    "\022", 
+    "\ufe7d", 
+    "\024", 
+    "\ufe7d", 
+    "\025", 
+    "\ufe7d", 
+    "\026", 
+    "\100", 
+    "\027", 
+    "\ufe7d", 
+    "\030", 
+    "\ufe7d", 
+    "\050", 
+    "\140", 
+    "\052", 
+    "\125", 
+    "\053", 
+    "\134", 
+    "\074", 
+    "\135", 
+    "\075", 
+    "\ufe7d", 
+    "\076", 
+    "\ufe7d", 
+    "\077", 
+    "\ufe7d", 
+    "\100", 
+    "\ufe7d", 
+    "\101", 
+    "\120", 
+    "\102", 
+    "\112", 
+    "\103", 
+    "\ufe7d", 
+    "\104", 
+    "\ufe7d", 
+    "\105", 
+    "\ufe7d", 
+    "\106", 
+    "\ufe7d", 
+    "\107", 
+    "\ufe7d", 
+    "\110", 
+    "\ufe7d", 
+    "\111", 
+    "\ufe7d", 
+    "\112", 
+    "\ufe7d", 
+    "\113", 
+    "\ufe7d", 
+    "\114", 
+    "\ufe7d", 
+    "\115", 
+    "\ufe7d", 
+    "\116", 
+    "\ufe7d", 
+    "\117", 
+    "\ufe7d", 
+    "\120", 
+    "\ufe7d", 
+    "\121", 
+    "\ufe7d", 
+    "\122", 
+    "\ufe7d", 
+    "\123", 
+    "\ufe7d", 
+    "\124", 
+    "\ufe7d", 
+    "\125", 
+    "\ufe7d", 
+    "\126", 
+    "\ufe7d", 
+    "\127", 
+    "\ufe7d", 
+    "\130", 
+    "\ufe7d", 
+    "\131", 
+    "\ufe7d", 
+    "\132", 
+    "\ufe7d", 
+    "\133", 
+    "\ufe7d", 
+    "\134", 
+    "\ufe7d", 
+    "\135", 
+    "\ufe7d", 
+    "\136", 
+    "\ufe7d", 
+    "\137", 
+    "\ufe7d", 
+    "\141", 
+    "\171", 
+    "\142", 
+    "\151", 
+    "\143", 
+    "\107", 
+    "\144", 
+    "\111", 
+    "\145", 
+    "\070", 
+    "\146", 
+    "\124", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\010", 
+    "\014", 
+    "\271", 
+    "\017", 
+    "\u0288", 
+    "\027", 
+    "\u0406", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\056", 
+    "\004", 
+    "\130", 
+    "\005", 
+    "\143", 
+    "\006", 
+    "\067", 
+    "\007", 
+    "\103", 
+    "\010", 
+    "\162", 
+    "\011", 
+    "\071", 
+    "\012", 
+    "\155", 
+    "\013", 
+    "\075", 
+    "\016", 
+    "\175", 
+    "\026", 
+    "\100", 
+    "\050", 
+    "\140", 
+    "\052", 
+    "\125", 
+    "\053", 
+    "\134", 
+    "\074", 
+    "\135", 
+    "\101", 
+    "\120", 
+    "\102", 
+    "\112", 
+    "\141", 
+    "\171", 
+    "\142", 
+    "\151", 
+    "\143", 
+    "\107", 
+    "\144", 
+    "\111", 
+    "\145", 
+    "\070", 
+    "\146", 
+    "\124", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\070", 
+    "\015", 
+    "\ufe39", 
+    "\020", 
+    "\ufe39", 
+    "\021", 
+    "\ufe39", 
+    "\022", 
+    "\ufe39", 
+    "\024", 
+    "\ufe39", 
+    "\027", 
+    "\ufe39", 
+    "\030", 
+    "\ufe39", 
+    "\077", 
+    "\ufe39", 
+    "\100", 
+    "\ufe39", 
+    "\103", 
+    "\ufe39", 
+    "\104", 
+    "\ufe39", 
+    "\105", 
+    "\ufe39", 
+    "\106", 
+    "\ufe39", 
+    "\107", 
+    "\ufe39", 
+    "\110", 
+    "\ufe39", 
+    "\111", 
+    "\ufe39", 
+    "\112", 
+    "\ufe39", 
+    "\113", 
+    "\ufe39", 
+    "\114", 
+    "\ufe39", 
+    "\115", 
+    "\ufe39", 
+    "\116", 
+    "\ufe39", 
+    "\117", 
+    "\ufe39", 
+    "\120", 
+    "\ufe39", 
+    "\121", 
+    "\ufe39", 
+    "\122", 
+    "\ufe39", 
+    "\123", 
+    "\ufe39", 
+    "\124", 
+    "\ufe39", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\070", 
+    "\015", 
+    "\ufe3a", 
+    "\020", 
+    "\ufe3a", 
+    "\021", 
+    "\ufe3a", 
+    "\022", 
+    "\ufe3a", 
+    "\024", 
+    "\ufe3a", 
+    "\027", 
+    "\ufe3a", 
+    "\030", 
+    "\ufe3a", 
+    "\077", 
+    "\ufe3a", 
+    "\100", 
+    "\ufe3a", 
+    "\103", 
+    "\ufe3a", 
+    "\104", 
+    "\ufe3a", 
+    "\105", 
+    "\ufe3a", 
+    "\106", 
+    "\ufe3a", 
+    "\107", 
+    "\ufe3a", 
+    "\110", 
+    "\ufe3a", 
+    "\111", 
+    "\ufe3a", 
+    "\112", 
+    "\ufe3a", 
+    "\113", 
+    "\ufe3a", 
+    "\114", 
+    "\ufe3a", 
+    "\115", 
+    "\ufe3a", 
+    "\116", 
+    "\ufe3a", 
+    "\117", 
+    "\ufe3a", 
+    "\120", 
+    "\ufe3a", 
+    "\121", 
+    "\ufe3a", 
+    "\122", 
+    "\ufe3a", 
+    "\123", 
+    "\ufe3a", 
+    "\124", 
+    "\ufe3a", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\010", 
+    "\014", 
+    "\265", 
+    "\017", 
+    "\u040c", 
+    "\027", 
+    "\ufe5e", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\006", 
+    "\014", 
+    "\265", 
+    "\017", 
+    "\u0118", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\004", 
+    "\027", 
+    "\u0411", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\004", 
+    "\016", 
+    "\175", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\006", 
+    "\014", 
+    "\265", 
+    "\027", 
+    "\ufe5e", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\004", 
+    "\027", 
+    "\u040f", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\056", 
+    "\004", 
+    "\130", 
+    "\005", 
+    "\143", 
+    "\006", 
+    "\067", 
+    "\007", 
+    "\103", 
+    "\010", 
+    "\162", 
+    "\011", 
+    "\071", 
+    "\012", 
+    "\155", 
+    "\013", 
+    "\075", 
+    "\016", 
+    "\175", 
+    "\026", 
+    "\100", 
+    "\050", 
+    "\140", 
+    "\052", 
+    "\125", 
+    "\053", 
+    "\134", 
+    "\074", 
+    "\135", 
+    "\101", 
+    "\120", 
+    "\102", 
+    "\112", 
+    "\141", 
+    "\171", 
+    "\142", 
+    "\151", 
+    "\143", 
+    "\107", 
+    "\144", 
+    "\111", 
+    "\145", 
+    "\070", 
+    "\146", 
+    "\124", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\070", 
+    "\015", 
+    "\ufe37", 
+    "\020", 
+    "\ufe37", 
+    "\021", 
+    "\ufe37", 
+    "\022", 
+    "\ufe37", 
+    "\024", 
+    "\ufe37", 
+    "\027", 
+    "\ufe37", 
+    "\030", 
+    "\ufe37", 
+    "\077", 
+    "\ufe37", 
+    "\100", 
+    "\ufe37", 
+    "\103", 
+    "\ufe37", 
+    "\104", 
+    "\ufe37", 
+    "\105", 
+    "\ufe37", 
+    "\106", 
+    "\ufe37", 
+    "\107", 
+    "\ufe37", 
+    "\110", 
+    "\ufe37", 
+    "\111", 
+    "\ufe37", 
+    "\112", 
+    "\ufe37", 
+    "\113", 
+    "\ufe37", 
+    "\114", 
+    "\ufe37", 
+    "\115", 
+    "\ufe37", 
+    "\116", 
+    "\ufe37", 
+    "\117", 
+    "\ufe37", 
+    "\120", 
+    "\ufe37", 
+    "\121", 
+    "\ufe37", 
+    "\122", 
+    "\ufe37", 
+    "\123", 
+    "\ufe37", 
+    "\124", 
+    "\ufe37", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\056", 
+    "\004", 
+    "\130", 
+    "\005", 
+    "\143", 
+    "\006", 
+    "\067", 
+    "\007", 
+    "\103", 
+    "\010", 
+    "\162", 
+    "\011", 
+    "\071", 
+    "\012", 
+    "\155", 
+    "\013", 
+    "\075", 
+    "\016", 
+    "\175", 
+    "\026", 
+    "\100", 
+    "\050", 
+    "\140", 
+    "\052", 
+    "\125", 
+    "\053", 
+    "\134", 
+    "\074", 
+    "\135", 
+    "\101", 
+    "\120", 
+    "\102", 
+    "\112", 
+    "\141", 
+    "\171", 
+    "\142", 
+    "\151", 
+    "\143", 
+    "\107", 
+    "\144", 
+    "\111", 
+    "\145", 
+    "\070", 
+    "\146", 
+    "\124", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\070", 
+    "\015", 
+    "\ufe38", 
+    "\020", 
+    "\ufe38", 
+    "\021", 
+    "\ufe38", 
+    "\022", 
+    "\ufe38", 
+    "\024", 
+    "\ufe38", 
+    "\027", 
+    "\ufe38", 
+    "\030", 
+    "\ufe38", 
+    "\077", 
+    "\ufe38", 
+    "\100", 
+    "\ufe38", 
+    "\103", 
+    "\ufe38", 
+    "\104", 
+    "\ufe38", 
+    "\105", 
+    "\ufe38", 
+    "\106", 
+    "\ufe38", 
+    "\107", 
+    "\ufe38", 
+    "\110", 
+    "\ufe38", 
+    "\111", 
+    "\ufe38", 
+    "\112", 
+    "\ufe38", 
+    "\113", 
+    "\ufe38", 
+    "\114", 
+    "\ufe38", 
+    "\115", 
+    "\ufe38", 
+    "\116", 
+    "\ufe38", 
+    "\117", 
+    "\ufe38", 
+    "\120", 
+    "\ufe38", 
+    "\121", 
+    "\ufe38", 
+    "\122", 
+    "\ufe38", 
+    "\123", 
+    "\ufe38", 
+    "\124", 
+    "\ufe38", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\004", 
+    "\016", 
+    "\u0415", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\006", 
+    "\022", 
+    "\uff76", 
+    "\027", 
+    "\uff76", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\004", 
+    "\025", 
+    "\173", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\070", 
+    "\015", 
+    "\ufe41", 
+    "\020", 
+    "\ufe41", 
+    "\021", 
+    "\ufe41", 
+    "\022", 
+    "\ufe41", 
+    "\024", 
+    "\ufe41", 
+    "\027", 
+    "\ufe41", 
+    "\030", 
+    "\ufe41", 
+    "\077", 
+    "\ufe41", 
+    "\100", 
+    "\ufe41", 
+    "\103", 
+    "\ufe41", 
+    "\104", 
+    "\ufe41", 
+    "\105", 
+    "\ufe41", 
+    "\106", 
+    "\ufe41", 
+    "\107", 
+    "\ufe41", 
+    "\110", 
+    "\ufe41", 
+    "\111", 
+    "\ufe41", 
+    "\112", 
+    "\ufe41", 
+    "\113", 
+    "\ufe41", 
+    "\114", 
+    "\ufe41", 
+    "\115", 
+    "\ufe41", 
+    "\116", 
+    "\ufe41", 
+    "\117", 
+    "\ufe41", 
+    "\120", 
+    "\ufe41", 
+    "\121", 
+    "\ufe41", 
+    "\122", 
+    "\ufe41", 
+    "\123", 
+    "\ufe41", 
+    "\124", 
+    "\ufe41", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\004", 
+    "\023", 
+    "\u0418", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\066", 
+    "\004", 
+    "\uff9b", 
+    "\005", 
+    "\uff9b", 
+    "\006", 
+    "\uff9b", 
+    "\007", 
+    "\uff9b", 
+    "\010", 
+    "\uff9b", 
+    "\011", 
+    "\uff9b", 
+    "\012", 
+    "\uff9b", 
+    "\013", 
+    "\uff9b", 
+    "\016", 
+    "\uff9b", 
+    "\020", 
+    "\u041a", 
+    "\024", 
+    "\uff09", 
+    "\033", 
+    "\045", 
+    "\034", 
+    "\042", 
+    "\035", 
+    "\015", 
+    "\036", 
+    "\021", 
+    "\037", 
+    "\030", 
+    "\040", 
+    "\044", 
+    "\041", 
+    "\041", 
+    "\042", 
+    "\052", 
+    "\043", 
+    "\032", 
+    "\044", 
+    "\050", 
+    "\045", 
+    "\uff9b", 
+    "\054", 
+    "\uff9b", 
+    "\140", 
+    "\053", 
+    "\151", 
+    "\012", 
+    "\154", 
+    "\uff9b", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\160", 
+    "\002", 
+    "\uff0c", 
+    "\004", 
+    "\uff0c", 
+    "\005", 
+    "\uff0c", 
+    "\006", 
+    "\uff0c", 
+    "\007", 
+    "\uff0c", 
+    "\010", 
+    "\uff0c", 
+    "\011", 
+    "\uff0c", 
+    "\012", 
+    "\uff0c", 
+    "\013", 
+    "\uff0c", 
+    "\016", 
+    "\uff0c", 
+    "\020", 
+    "\uff0c", 
+    "\023", 
+    "\uff0c", 
+    "\024", 
+    "\uff0c", 
+    "\026", 
+    "\uff0c", 
+    "\033", 
+    "\uff0c", 
+    "\034", 
+    "\uff0c", 
+    "\035", 
+    "\uff0c", 
+    "\036", 
+    "\uff0c", 
+    "\037", 
+    "\uff0c", 
+    "\040", 
+    "\uff0c", 
+    "\041", 
+    "\uff0c", 
+    "\042", 
+    "\uff0c", 
+    "\043", 
+    "\uff0c", 
+    "\044", 
+    "\uff0c", 
+    "\045", 
+    "\uff0c", 
+    "\050", 
+    "\uff0c", 
+    "\052", 
+    "\uff0c", 
+    "\053", 
+    "\uff0c", 
+    "\054", 
+    "\uff0c", 
+    "\055", 
+    "\uff0c", 
+    "\057", 
+    "\uff0c", 
+    "\060", 
+    "\uff0c", 
+    "\061", 
+    "\uff0c", 
+    "\062", 
+    "\uff0c", 
+    "\063", 
+    "\uff0c", 
+    "\064", 
+    "\uff0c", 
+    "\065", 
+    "\uff0c", 
+    "\066", 
+    "\uff0c", 
+    "\067", 
+    "\uff0c", 
+    "\070", 
+    "\uff0c", 
+    "\071", 
+    "\uff0c", 
+    "\074", 
+    "\uff0c", 
+    "\075", 
+    "\uff0c", 
+    "\076", 
+    "\uff0c", 
+    "\110", 
+    "\uff0c", 
+    "\140", 
+    "\uff0c", 
+    "\141", 
+    "\uff0c", 
+    "\142", 
+    "\uff0c", 
+    "\143", 
+    "\uff0c", 
+    "\144", 
+    "\uff0c", 
+    "\145", 
+    "\uff0c", 
+    "\146", 
+    "\uff0c", 
+    "\151", 
+    "\uff0c", 
+    "\152", 
+    "\uff0c", 
+    "\154", 
+    "\uff0c", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\066", 
+    "\004", 
+    "\uff00", 
+    "\005", 
+    "\uff00", 
+    "\006", 
+    "\uff00", 
+    "\007", 
+    "\uff00", 
+    "\010", 
+    "\uff00", 
+    "\011", 
+    "\uff00", 
+    "\012", 
+    "\uff00", 
+    "\013", 
+    "\uff00", 
+    "\016", 
+    "\uff00", 
+    "\020", 
+    "\uff00", 
+    "\024", 
+    "\uff00", 
+    "\033", 
+    "\uff00", 
+    "\034", 
+    "\uff00", 
+    "\035", 
+    "\uff00", 
+    "\036", 
+    "\uff00", 
+    "\037", 
+    "\uff00", 
+    "\040", 
+    "\uff00", 
+    "\041", 
+    "\uff00", 
+    "\042", 
+    "\uff00", 
+    "\043", 
+    "\uff00", 
+    "\044", 
+    "\uff00", 
+    "\045", 
+    "\uff00", 
+    "\054", 
+    "\uff00", 
+    "\140", 
+    "\uff00", 
+    "\151", 
+    "\uff00", 
+    "\154", 
+    "\uff00", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\004", 
+    "\024", 
+    "\u042d", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\066", 
+    "\004", 
+    "\uff03", 
+    "\005", 
+    "\uff03", 
+    "\006", 
+    "\uff03", 
+    "\007", 
+    "\uff03", 
+    "\010", 
+    "\uff03", 
+    "\011", 
+    "\uff03", 
+    "\012", 
+    "\uff03", 
+    "\013", 
+    "\uff03", 
+    "\016", 
+    "\uff03", 
+    "\020", 
+    "\uff03", 
+    "\024", 
+    "\uff03", 
+    "\033", 
+    "\uff03", 
+    "\034", 
+    "\uff03", 
+    "\035", 
+    "\uff03", 
+    "\036", 
+    "\uff03", 
+    "\037", 
+    "\uff03", 
+    "\040", 
+    "\uff03", 
+    "\041", 
+    "\uff03", 
+    "\042", 
+    "\uff03", 
+    "\043", 
+    "\uff03", 
+    "\044", 
+    "\uff03", 
+    "\045", 
+    "\uff03", 
+    "\054", 
+    "\uff03", 
+    "\140", 
+    "\uff03", 
+    "\151", 
+    "\uff03", 
+    "\154", 
+    "\uff03", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\066", 
+    "\004", 
+    "\uff07", 
+    "\005", 
+    "\uff07", 
+    "\006", 
+    "\uff07", 
+    "\007", 
+    "\uff07", 
+    "\010", 
+    "\uff07", 
+    "\011", 
+    "\uff07", 
+    "\012", 
+    "\uff07", 
+    "\013", 
+    "\uff07", 
+    "\016", 
+    "\uff07", 
+    "\020", 
+    "\uff07", 
+    "\024", 
+    "\uff07", 
+    "\033", 
+    "\uff07", 
+    "\034", 
+    "\uff07", 
+    "\035", 
+    "\uff07", 
+    "\036", 
+    "\uff07", 
+    "\037", 
+    "\uff07", 
+    "\040", 
+    "\uff07", 
+    "\041", 
+    "\uff07", 
+    "\042", 
+    "\uff07", 
+    "\043", 
+    "\uff07", 
+    "\044", 
+    "\uff07", 
+    "\045", 
+    "\uff07", 
+    "\054", 
+    "\uff07", 
+    "\140", 
+    "\uff07", 
+    "\151", 
+    "\uff07", 
+    "\154", 
+    "\uff07", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\066", 
+    "\004", 
+    "\uff9b", 
+    "\005", 
+    "\uff9b", 
+    "\006", 
+    "\uff9b", 
+    "\007", 
+    "\uff9b", 
+    "\010", 
+    "\uff9b", 
+    "\011", 
+    "\uff9b", 
+    "\012", 
+    "\uff9b", 
+    "\013", 
+    "\uff9b", 
+    "\016", 
+    "\uff9b", 
+    "\020", 
+    "\u041a", 
+    "\024", 
+    "\uff08", 
+    "\033", 
+    "\045", 
+    "\034", 
+    "\042", 
+    "\035", 
+    "\015", 
+    "\036", 
+    "\021", 
+    "\037", 
+    "\030", 
+    "\040", 
+    "\044", 
+    "\041", 
+    "\041", 
+    "\042", 
+    "\052", 
+    "\043", 
+    "\032", 
+    "\044", 
+    "\050", 
+    "\045", 
+    "\uff9b", 
+    "\054", 
+    "\uff9b", 
+    "\140", 
+    "\053", 
+    "\151", 
+    "\012", 
+    "\154", 
+    "\uff9b", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\032", 
+    "\004", 
+    "\130", 
+    "\005", 
+    "\143", 
+    "\006", 
+    "\067", 
+    "\007", 
+    "\103", 
+    "\010", 
+    "\162", 
+    "\011", 
+    "\071", 
+    "\012", 
+    "\155", 
+    "\013", 
+    "\075", 
+    "\016", 
+    "\175", 
+    "\045", 
+    "\u0183", 
+    "\054", 
+    "\u0186", 
+    "\154", 
+    "\u0185", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\066", 
+    "\004", 
+    "\uff02", 
+    "\005", 
+    "\uff02", 
+    "\006", 
+    "\uff02", 
+    "\007", 
+    "\uff02", 
+    "\010", 
+    "\uff02", 
+    "\011", 
+    "\uff02", 
+    "\012", 
+    "\uff02", 
+    "\013", 
+    "\uff02", 
+    "\016", 
+    "\uff02", 
+    "\020", 
+    "\uff02", 
+    "\024", 
+    "\uff02", 
+    "\033", 
+    "\uff02", 
+    "\034", 
+    "\uff02", 
+    "\035", 
+    "\uff02", 
+    "\036", 
+    "\uff02", 
+    "\037", 
+    "\uff02", 
+    "\040", 
+    "\uff02", 
+    "\041", 
+    "\uff02", 
+    "\042", 
+    "\uff02", 
+    "\043", 
+    "\uff02", 
+    "\044", 
+    "\uff02", 
+    "\045", 
+    "\uff02", 
+    "\054", 
+    "\uff02", 
+    "\140", 
+    "\uff02", 
+    "\151", 
+    "\uff02", 
+    "\154", 
+    "\uff02", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\066", 
+    "\004", 
+    "\uff05", 
+    "\005", 
+    "\uff05", 
+    "\006", 
+    "\uff05", 
+    "\007", 
+    "\uff05", 
+    "\010", 
+    "\uff05", 
+    "\011", 
+    "\uff05", 
+    "\012", 
+    "\uff05", 
+    "\013", 
+    "\uff05", 
+    "\016", 
+    "\uff05", 
+    "\020", 
+    "\uff05", 
+    "\024", 
+    "\uff05", 
+    "\033", 
+    "\uff05", 
+    "\034", 
+    "\uff05", 
+    "\035", 
+    "\uff05", 
+    "\036", 
+    "\uff05", 
+    "\037", 
+    "\uff05", 
+    "\040", 
+    "\uff05", 
+    "\041", 
+    "\uff05", 
+    "\042", 
+    "\uff05", 
+    "\043", 
+    "\uff05", 
+    "\044", 
+    "\uff05", 
+    "\045", 
+    "\uff05", 
+    "\054", 
+    "\uff05", 
+    "\140", 
+    "\uff05", 
+    "\151", 
+    "\uff05", 
+    "\154", 
+    "\uff05", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\066", 
+    "\004", 
+    "\uff01", 
+    "\005", 
+    "\uff01", 
+    "\006", 
+    "\uff01", 
+    "\007", 
+    "\uff01", 
+    "\010", 
+    "\uff01", 
+    "\011", 
+    "\uff01", 
+    "\012", 
+    "\uff01", 
+    "\013", 
+    "\uff01", 
+    "\016", 
+    "\uff01", 
+    "\020", 
+    "\uff01", 
+    "\024", 
+    "\uff01", 
+    "\033", 
+    "\uff01", 
+    "\034", 
+    "\uff01", 
+    "\035", 
+    "\uff01", 
+    "\036", 
+    "\uff01", 
+    "\037", 
+    "\uff01", 
+    "\040", 
+    "\uff01", 
+    "\041", 
+    "\uff01", 
+    "\042", 
+    "\uff01", 
+    "\043", 
+    "\uff01", 
+    "\044", 
+    "\uff01", 
+    "\045", 
+    "\uff01", 
+    "\054", 
+    "\uff01", 
+    "\140", 
+    "\uff01", 
+    "\151", 
+    "\uff01", 
+    "\154", 
+    "\uff01", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\004", 
+    "\016", 
+    "\u0424", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\014", 
+    "\014", 
+    "\uff40", 
+    "\020", 
+    "\uff40", 
+    "\022", 
+    "\uff40", 
+    "\025", 
+    "\uff40", 
+    "\026", 
+    "\u0425", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\004", 
+    "\027", 
+    "\u0426", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\006", 
+    "\020", 
+    "\ufeff", 
+    "\061", 
+    "\u0428", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\004", 
+    "\020", 
+    "\ufefe", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\072", 
+    "\004", 
+    "\130", 
+    "\005", 
+    "\143", 
+    "\006", 
+    "\067", 
+    "\007", 
+    "\103", 
+    "\010", 
+    "\162", 
+    "\011", 
+    "\071", 
+    "\012", 
+    "\155", 
+    "\013", 
+    "\075", 
+    "\016", 
+    "\175", 
+    "\023", 
+    "\150", 
+    "\026", 
+    "\100", 
+    "\050", 
+    "\140", 
+    "\052", 
+    "\125", 
+    "\053", 
+    "\134", 
+    "\074", 
+    "\135", 
+    "\075", 
+    "\066", 
+    "\076", 
+    "\132", 
+    "\077", 
+    "\123", 
+    "\100", 
+    "\104", 
+    "\101", 
+    "\120", 
+    "\102", 
+    "\112", 
+    "\140", 
+    "\164", 
+    "\141", 
+    "\171", 
+    "\142", 
+    "\151", 
+    "\143", 
+    "\107", 
+    "\144", 
+    "\111", 
+    "\145", 
+    "\070", 
+    "\146", 
+    "\124", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\004", 
+    "\020", 
+    "\u042a", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\066", 
+    "\004", 
+    "\uff04", 
+    "\005", 
+    "\uff04", 
+    "\006", 
+    "\uff04", 
+    "\007", 
+    "\uff04", 
+    "\010", 
+    "\uff04", 
+    "\011", 
+    "\uff04", 
+    "\012", 
+    "\uff04", 
+    "\013", 
+    "\uff04", 
+    "\016", 
+    "\uff04", 
+    "\020", 
+    "\uff04", 
+    "\024", 
+    "\uff04", 
+    "\033", 
+    "\uff04", 
+    "\034", 
+    "\uff04", 
+    "\035", 
+    "\uff04", 
+    "\036", 
+    "\uff04", 
+    "\037", 
+    "\uff04", 
+    "\040", 
+    "\uff04", 
+    "\041", 
+    "\uff04", 
+    "\042", 
+    "\uff04", 
+    "\043", 
+    "\uff04", 
+    "\044", 
+    "\uff04", 
+    "\045", 
+    "\uff04", 
+    "\054", 
+    "\uff04", 
+    "\140", 
+    "\uff04", 
+    "\151", 
+    "\uff04", 
+    "\154", 
+    "\uff04", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\004", 
+    "\020", 
+    "\ufefd", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\066", 
+    "\004", 
+    "\uff06", 
+    "\005", 
+    "\uff06", 
+    "\006", 
+    "\uff06", 
+    "\007", 
+    "\uff06", 
+    "\010", 
+    "\uff06", 
+    "\011", 
+    "\uff06", 
+    "\012", 
+    "\uff06", 
+    "\013", 
+    "\uff06", 
+    "\016", 
+    "\uff06", 
+    "\020", 
+    "\uff06", 
+    "\024", 
+    "\uff06", 
+    "\033", 
+    "\uff06", 
+    "\034", 
+    "\uff06", 
+    "\035", 
+    "\uff06", 
+    "\036", 
+    "\uff06", 
+    "\037", 
+    "\uff06", 
+    "\040", 
+    "\uff06", 
+    "\041", 
+    "\uff06", 
+    "\042", 
+    "\uff06", 
+    "\043", 
+    "\uff06", 
+    "\044", 
+    "\uff06", 
+    "\045", 
+    "\uff06", 
+    "\054", 
+    "\uff06", 
+    "\140", 
+    "\uff06", 
+    "\151", 
+    "\uff06", 
+    "\154", 
+    "\uff06", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\160", 
+    "\002", 
+    "\uff0a", 
+    "\004", 
+    "\uff0a", 
+    "\005", 
+    "\uff0a", 
+    "\006", 
+    "\uff0a", 
+    "\007", 
+    "\uff0a", 
+    "\010", 
+    "\uff0a", 
+    "\011", 
+    "\uff0a", 
+    "\012", 
+    "\uff0a", 
+    "\013", 
+    "\uff0a", 
+    "\016", 
+    "\uff0a", 
+    "\020", 
+    "\uff0a", 
+    "\023", 
+    "\uff0a", 
+    "\024", 
+    "\uff0a", 
+    "\026", 
+    "\uff0a", 
+    "\033", 
+    "\uff0a", 
+    "\034", 
+    "\uff0a", 
+    "\035", 
+    "\uff0a", 
+    "\036", 
+    "\uff0a", 
+    "\037", 
+    "\uff0a", 
+    "\040", 
+    "\uff0a", 
+    "\041", 
+    "\uff0a", 
+    "\042", 
+    "\uff0a", 
+    "\043", 
+    "\uff0a", 
+    "\044", 
+    "\uff0a", 
+    "\045", 
+    "\uff0a", 
+    "\050", 
+    "\uff0a", 
+    "\052", 
+    "\uff0a", 
+    "\053", 
+    "\uff0a", 
+    "\054", 
+    "\uff0a", 
+    "\055", 
+    "\uff0a", 
+    "\057", 
+    "\uff0a", 
+    "\060", 
+    "\uff0a", 
+    "\061", 
+    "\uff0a", 
+    "\062", 
+    "\uff0a", 
+    "\063", 
+    "\uff0a", 
+    "\064", 
+    "\uff0a", 
+    "\065", 
+    "\uff0a", 
+    "\066", 
+    "\uff0a", 
+    "\067", 
+    "\uff0a", 
+    "\070", 
+    "\uff0a", 
+    "\071", 
+    "\uff0a", 
+    "\074", 
+    "\uff0a", 
+    "\075", 
+    "\uff0a", 
+    "\076", 
+    "\uff0a", 
+    "\110", 
+    "\uff0a", 
+    "\140", 
+    "\uff0a", 
+    "\141", 
+    "\uff0a", 
+    "\142", 
+    "\uff0a", 
+    "\143", 
+    "\uff0a", 
+    "\144", 
+    "\uff0a", 
+    "\145", 
+    "\uff0a", 
+    "\146", 
+    "\uff0a", 
+    "\151", 
+    "\uff0a", 
+    "\152", 
+    "\uff0a", 
+    "\154", 
+    "\uff0a", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\004", 
+    "\016", 
+    "\175", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\006", 
+    "\017", 
+    "\267", 
+    "\020", 
+    "\u0430", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\046", 
+    "\002", 
+    "\uffa8", 
+    "\020", 
+    "\uffa8", 
+    "\032", 
+    "\uffa8", 
+    "\033", 
+    "\uffa8", 
+    "\034", 
+    "\uffa8", 
+    "\035", 
+    "\uffa8", 
+    "\036", 
+    "\uffa8", 
+    "\037", 
+    "\uffa8", 
+    "\040", 
+    "\uffa8", 
+    "\041", 
+    "\uffa8", 
+    "\042", 
+    "\uffa8", 
+    "\043", 
+    "\uffa8", 
+    "\044", 
+    "\uffa8", 
+    "\045", 
+    "\uffa8", 
+    "\054", 
+    "\uffa8", 
+    "\140", 
+    "\uffa8", 
+    "\151", 
+    "\uffa8", 
+    "\154", 
+    "\uffa8", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\066", 
+    "\004", 
+    "\uff92", 
+    "\005", 
+    "\uff92", 
+    "\006", 
+    "\uff92", 
+    "\007", 
+    "\uff92", 
+    "\010", 
+    "\uff92", 
+    "\011", 
+    "\uff92", 
+    "\012", 
+    "\uff92", 
+    "\013", 
+    "\uff92", 
+    "\016", 
+    "\uff92", 
+    "\033", 
+    "\uff92", 
+    "\034", 
+    "\uff92", 
+    "\035", 
+    "\uff92", 
+    "\036", 
+    "\uff92", 
+    "\037", 
+    "\uff92", 
+    "\040", 
+    "\uff92", 
+    "\041", 
+    "\uff92", 
+    "\042", 
+    "\uff92", 
+    "\043", 
+    "\uff92", 
+    "\044", 
+    "\uff92", 
+    "\045", 
+    "\uff92", 
+    "\050", 
+    "\uff92", 
+    "\054", 
+    "\uff92", 
+    "\110", 
+    "\uff92", 
+    "\140", 
+    "\uff92", 
+    "\151", 
+    "\uff92", 
+    "\154", 
+    "\uff92", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\006", 
+    "\016", 
+    "\uff95", 
+    "\054", 
+    "\uff95", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\006", 
+    "\017", 
+    "\u043b", 
+    "\020", 
+    "\u043a", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\004", 
+    "\016", 
+    "\175", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\006", 
+    "\017", 
+    "\u0437", 
+    "\020", 
+    "\u0436", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\046", 
+    "\002", 
+    "\uffa2", 
+    "\020", 
+    "\uffa2", 
+    "\032", 
+    "\uffa2", 
+    "\033", 
+    "\uffa2", 
+    "\034", 
+    "\uffa2", 
+    "\035", 
+    "\uffa2", 
+    "\036", 
+    "\uffa2", 
+    "\037", 
+    "\uffa2", 
+    "\040", 
+    "\uffa2", 
+    "\041", 
+    "\uffa2", 
+    "\042", 
+    "\uffa2", 
+    "\043", 
+    "\uffa2", 
+    "\044", 
+    "\uffa2", 
+    "\045", 
+    "\uffa2", 
+    "\054", 
+    "\uffa2", 
+    "\140", 
+    "\uffa2", 
+    "\151", 
+    "\uffa2", 
+    "\154", 
+    "\uffa2", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\006", 
+    "\016", 
+    "\270", 
+    "\021", 
+    "\u0438", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\004", 
+    "\020", 
+    "\u0439", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\046", 
+    "\002", 
+    "\uffa0", 
+    "\020", 
+    "\uffa0", 
+    "\032", 
+    "\uffa0", 
+    "\033", 
+    "\uffa0", 
+    "\034", 
+    "\uffa0", 
+    "\035", 
+    "\uffa0", 
+    "\036", 
+    "\uffa0", 
+    "\037", 
+    "\uffa0", 
+    "\040", 
+    "\uffa0", 
+    "\041", 
+    "\uffa0", 
+    "\042", 
+    "\uffa0", 
+    "\043", 
+    "\uffa0", 
+    "\044", 
+    "\uffa0", 
+    "\045", 
+    "\uffa0", 
+    "\054", 
+    "\uffa0", 
+    "\140", 
+    "\uffa0", 
+    "\151", 
+    "\uffa0", 
+    "\154", 
+    "\uffa0", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\046", 
+    "\002", 
+    "\uffa3", 
+    "\020", 
+    "\uffa3", 
+    "\032", 
+    "\uffa3", 
+    "\033", 
+    "\uffa3", 
+    "\034", 
+    "\uffa3", 
+    "\035", 
+    "\uffa3", 
+    "\036", 
+    "\uffa3", 
+    "\037", 
+    "\uffa3", 
+    "\040", 
+    "\uffa3", 
+    "\041", 
+    "\uffa3", 
+    "\042", 
+    "\uffa3", 
+    "\043", 
+    "\uffa3", 
+    "\044", 
+    "\uffa3", 
+    "\045", 
+    "\uffa3", 
+    "\054", 
+    "\uffa3", 
+    "\140", 
+    "\uffa3", 
+    "\151", 
+    "\uffa3", 
+    "\154", 
+    "\uffa3", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\006", 
+    "\016", 
+    "\270", 
+    "\021", 
+    "\u043c", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\004", 
+    "\020", 
+    "\u043d", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\046", 
+    "\002", 
+    "\uffa1", 
+    "\020", 
+    "\uffa1", 
+    "\032", 
+    "\uffa1", 
+    "\033", 
+    "\uffa1", 
+    "\034", 
+    "\uffa1", 
+    "\035", 
+    "\uffa1", 
+    "\036", 
+    "\uffa1", 
+    "\037", 
+    "\uffa1", 
+    "\040", 
+    "\uffa1", 
+    "\041", 
+    "\uffa1", 
+    "\042", 
+    "\uffa1", 
+    "\043", 
+    "\uffa1", 
+    "\044", 
+    "\uffa1", 
+    "\045", 
+    "\uffa1", 
+    "\054", 
+    "\uffa1", 
+    "\140", 
+    "\uffa1", 
+    "\151", 
+    "\uffa1", 
+    "\154", 
+    "\uffa1", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\004", 
+    "\002", 
+    "\001", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\044", 
+    "\002", 
+    "\uffa9", 
+    "\020", 
+    "\uffa9", 
+    "\033", 
+    "\uffa9", 
+    "\034", 
+    "\uffa9", 
+    "\035", 
+    "\uffa9", 
+    "\036", 
+    "\uffa9", 
+    "\037", 
+    "\uffa9", 
+    "\040", 
+    "\uffa9", 
+    "\041", 
+    "\uffa9", 
+    "\042", 
+    "\uffa9", 
+    "\043", 
+    "\uffa9", 
+    "\044", 
+    "\uffa9", 
+    "\045", 
+    "\uffa9", 
+    "\054", 
+    "\uffa9", 
+    "\140", 
+    "\uffa9", 
+    "\151", 
+    "\uffa9", 
+    "\154", 
+    "\uffa9", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\046", 
+    "\002", 
+    "\uffb0", 
+    "\020", 
+    "\uffb0", 
+    "\032", 
+    "\037", 
+    "\033", 
+    "\uffb0", 
+    "\034", 
+    "\uffb0", 
+    "\035", 
+    "\uffb0", 
+    "\036", 
+    "\uffb0", 
+    "\037", 
+    "\uffb0", 
+    "\040", 
+    "\uffb0", 
+    "\041", 
+    "\uffb0", 
+    "\042", 
+    "\uffb0", 
+    "\043", 
+    "\uffb0", 
+    "\044", 
+    "\uffb0", 
+    "\045", 
+    "\uffb0", 
+    "\054", 
+    "\uffb0", 
+    "\140", 
+    "\uffb0", 
+    "\151", 
+    "\uffb0", 
+    "\154", 
+    "\uffb0", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\044", 
+    "\002", 
+    "\uffad", 
+    "\020", 
+    "\023", 
+    "\033", 
+    "\045", 
+    "\034", 
+    "\042", 
+    "\035", 
+    "\015", 
+    "\036", 
+    "\021", 
+    "\037", 
+    "\030", 
+    "\040", 
+    "\044", 
+    "\041", 
+    "\041", 
+    "\042", 
+    "\052", 
+    "\043", 
+    "\032", 
+    "\044", 
+    "\050", 
+    "\045", 
+    "\uff9b", 
+    "\054", 
+    "\uff9b", 
+    "\140", 
+    "\053", 
+    "\151", 
+    "\012", 
+    "\154", 
+    "\uff9b", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\004", 
+    "\002", 
+    "\uffb1", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\044", 
+    "\002", 
+    "\uffae", 
+    "\020", 
+    "\023", 
+    "\033", 
+    "\045", 
+    "\034", 
+    "\042", 
+    "\035", 
+    "\015", 
+    "\036", 
+    "\021", 
+    "\037", 
+    "\030", 
+    "\040", 
+    "\044", 
+    "\041", 
+    "\041", 
+    "\042", 
+    "\052", 
+    "\043", 
+    "\032", 
+    "\044", 
+    "\050", 
+    "\045", 
+    "\uff9b", 
+    "\054", 
+    "\uff9b", 
+    "\140", 
+    "\053", 
+    "\151", 
+    "\012", 
+    "\154", 
+    "\uff9b", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\046", 
+    "\002", 
+    "\uffab", 
+    "\020", 
+    "\uffab", 
+    "\032", 
+    "\uffab", 
+    "\033", 
+    "\uffab", 
+    "\034", 
+    "\uffab", 
+    "\035", 
+    "\uffab", 
+    "\036", 
+    "\uffab", 
+    "\037", 
+    "\uffab", 
+    "\040", 
+    "\uffab", 
+    "\041", 
+    "\uffab", 
+    "\042", 
+    "\uffab", 
+    "\043", 
+    "\uffab", 
+    "\044", 
+    "\uffab", 
+    "\045", 
+    "\uffab", 
+    "\054", 
+    "\uffab", 
+    "\140", 
+    "\uffab", 
+    "\151", 
+    "\uffab", 
+    "\154", 
+    "\uffab", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\004", 
+    "\016", 
+    "\u0446", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\004", 
+    "\023", 
+    "\u0418", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\160", 
+    "\002", 
+    "\uff0b", 
+    "\004", 
+    "\uff0b", 
+    "\005", 
+    "\uff0b", 
+    "\006", 
+    "\uff0b", 
+    "\007", 
+    "\uff0b", 
+    "\010", 
+    "\uff0b", 
+    "\011", 
+    "\uff0b", 
+    "\012", 
+    "\uff0b", 
+    "\013", 
+    "\uff0b", 
+    "\016", 
+    "\uff0b", 
+    "\020", 
+    "\uff0b", 
+    "\023", 
+    "\uff0b", 
+    "\024", 
+    "\uff0b", 
+    "\026", 
+    "\uff0b", 
+    "\033", 
+    "\uff0b", 
+    "\034", 
+    "\uff0b", 
+    "\035", 
+    "\uff0b", 
+    "\036", 
+    "\uff0b", 
+    "\037", 
+    "\uff0b", 
+    "\040", 
+    "\uff0b", 
+    "\041", 
+    "\uff0b", 
+    "\042", 
+    "\uff0b", 
+    "\043", 
+    "\uff0b", 
+    "\044", 
+    "\uff0b", 
+    "\045", 
+    "\uff0b", 
+    "\050", 
+    "\uff0b", 
+    "\052", 
+    "\uff0b", 
+    "\053", 
+    "\uff0b", 
+    "\054", 
+    "\uff0b", 
+    "\055", 
+    "\uff0b", 
+    "\057", 
+    "\uff0b", 
+    "\060", 
+    "\uff0b", 
+    "\061", 
+    "\uff0b", 
+    "\062", 
+    "\uff0b", 
+    "\063", 
+    "\uff0b", 
+    "\064", 
+    "\uff0b", 
+    "\065", 
+    "\uff0b", 
+    "\066", 
+    "\uff0b", 
+    "\067", 
+    "\uff0b", 
+    "\070", 
+    "\uff0b", 
+    "\071", 
+    "\uff0b", 
+    "\074", 
+    "\uff0b", 
+    "\075", 
+    "\uff0b", 
+    "\076", 
+    "\uff0b", 
+    "\110", 
+    "\uff0b", 
+    "\140", 
+    "\uff0b", 
+    "\141", 
+    "\uff0b", 
+    "\142", 
+    "\uff0b", 
+    "\143", 
+    "\uff0b", 
+    "\144", 
+    "\uff0b", 
+    "\145", 
+    "\uff0b", 
+    "\146", 
+    "\uff0b", 
+    "\151", 
+    "\uff0b", 
+    "\152", 
+    "\uff0b", 
+    "\154", 
+    "\uff0b", 
+    "\001", 
+    "\002", 
+    "\000", 
+    "\004", 
+    "\002", 
+    "\uffb2", 
+    "\001", 
+    "\002", 
+    "" });
+  }
+
+  /** Decodes the <code>reduce_goto</code> table from its strings. */
+  static short[][] unpackReduceTable() {
+    return Grm15.unpack(new String[] {
+    "\000\u0446\000\072\003\034\022\026\023\007\024\017\025" +
+    "\016\026\021\030\006\032\025\033\054\034\033\035\053" +
+    "\036\012\037\013\040\003\041\024\042\035\043\015\044" +
+    "\032\045\045\046\023\047\037\063\010\121\005\122\042" +
+    "\123\004\347\046\350\030\351\050\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\054\031\u0447" +
+    "\032\u0442\033\u0443\034\033\035\053\036\012\037\013\040" +
+    "\003\041\024\042\035\043\015\044\032\045\045\046\023" +
+    "\047\037\063\010\121\005\122\042\123\004\350\u012e\351" +
+    "\050\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\020\027\u0440\030\u043f\033\054\034" +
+    "\033\035\053\036\012\037\013\001\001\000\002\001\001" +
+    "\000\012\353\u0294\354\060\355\056\356\062\001\001\000" +
+    "\002\001\001\000\036\040\u043e\041\024\042\035\043\015" +
+    "\044\032\045\045\046\023\047\037\063\010\121\005\122" +
+    "\042\123\004\350\u012e\351\050\001\001\000\002\001\001" +
+    "\000\002\001\001\000\004\044\u03dd\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\010\017\u0432\020\166\021\126\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\004\044\u0430\001\001\000\002\001\001\000\002\001\001" +
+    "\000\012\353\u01a5\354\060\355\056\356\062\001\001\000" +
+    "\002\001\001\000\012\353\057\354\060\355\056\356\062" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\126\004\100\006" +
+    "\140\007\113\010\105\011\120\017\107\020\166\021\126" +
+    "\215\121\216\151\217\144\222\164\223\075\230\064\231" +
+    "\153\232\167\233\136\234\073\235\132\236\130\237\141" +
+    "\240\156\241\101\242\116\243\155\244\071\245\143\246" +
+    "\165\247\114\250\146\251\115\252\152\253\072\254\145" +
+    "\255\135\325\157\352\112\365\104\366\076\367\160\372" +
+    "\125\373\162\001\001\000\002\001\001\000\062\004\100" +
+    "\006\140\007\113\010\105\011\120\017\107\020\166\021" +
+    "\126\215\121\216\151\217\144\222\164\223\075\230\064" +
+    "\231\153\232\167\233\136\234\073\235\132\236\u0415\237" +
+    "\141\240\156\241\101\242\116\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\122\004\100\006\u03fd\007" +
+    "\113\010\105\011\120\017\u03fc\020\166\021\126\215\u0344" +
+    "\216\151\217\144\222\164\223\075\230\064\231\153\232" +
+    "\167\233\u020c\234\u0338\235\u0347\240\u0350\241\u0339\242\u0340" +
+    "\257\u0342\326\u034b\327\u033d\330\u0352\331\u0346\332\u0336\333" +
+    "\u033a\334\u0348\335\u034e\336\u034f\337\u0351\340\u0341\341\u0349" +
+    "\342\u034a\343\u034d\344\u034c\345\u0337\346\u033c\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\062" +
+    "\004\100\006\140\007\113\010\105\011\120\017\107\020" +
+    "\166\021\126\215\121\216\151\217\144\222\164\223\075" +
+    "\230\064\231\153\232\167\233\136\234\073\235\132\236" +
+    "\u03fb\237\141\240\156\241\101\242\116\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\004\227" +
+    "\u0386\001\001\000\002\001\001\000\062\004\100\006\140" +
+    "\007\113\010\105\011\120\017\107\020\166\021\126\215" +
+    "\121\216\151\217\144\222\164\223\075\230\064\231\153" +
+    "\232\167\233\136\234\073\235\132\236\u03f9\237\141\240" +
+    "\156\241\101\242\116\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\062\004\100\006\140\007\113\010\105\011\120" +
+    "\017\107\020\166\021\126\215\121\216\151\217\144\222" +
+    "\164\223\075\230\064\231\153\232\167\233\136\234\073" +
+    "\235\132\236\u03f8\237\141\240\156\241\101\242\116\001" +
+    "\001\000\002\001\001\000\002\001\001\000\062\004\100" +
+    "\006\140\007\113\010\105\011\120\017\107\020\166\021" +
+    "\126\215\121\216\151\217\144\222\164\223\075\230\064" +
+    "\231\153\232\167\233\136\234\073\235\132\236\u03f7\237" +
+    "\141\240\156\241\101\242\116\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\062\004\100\006\140" +
+    "\007\113\010\105\011\120\017\107\020\166\021\126\215" +
+    "\121\216\151\217\144\222\164\223\075\230\064\231\153" +
+    "\232\167\233\136\234\073\235\132\236\u03f5\237\141\240" +
+    "\156\241\101\242\116\001\001\000\002\001\001\000\002" +
+    "\001\001\000\026\006\u0120\007\113\010\105\011\120\013" +
+    "\u011f\017\u0122\020\166\021\126\264\u011e\266\u0121\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\004\227\u0116\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\124\004\100\006\140\007\113\010\105" +
+    "\011\120\017\107\020\166\021\126\215\121\216\151\217" +
+    "\144\222\164\223\075\230\064\231\153\232\167\233\136" +
+    "\234\073\235\132\236\130\237\141\240\156\241\101\242" +
+    "\116\243\155\244\071\245\143\246\165\247\114\250\146" +
+    "\251\115\252\152\253\072\254\145\255\135\325\157\352" +
+    "\112\370\u0109\371\u010a\372\u0108\373\162\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\012\353\254\354\060\355\056\356\062" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\120\004\100\006\140\007\113\010\105\011\120\017" +
+    "\107\020\166\021\126\215\121\216\151\217\144\222\164" +
+    "\223\075\230\064\231\153\232\167\233\136\234\073\235" +
+    "\132\236\130\237\141\240\156\241\101\242\116\243\155" +
+    "\244\071\245\143\246\165\247\114\250\146\251\115\252" +
+    "\152\253\072\254\145\255\135\325\157\352\112\372\173" +
+    "\373\162\001\001\000\002\001\001\000\002\001\001\000" +
+    "\070\004\100\006\140\007\113\010\105\011\120\017\107" +
+    "\020\166\021\126\215\121\216\151\217\144\222\164\223" +
+    "\075\230\064\231\153\232\167\233\136\234\073\235\132" +
+    "\236\130\237\141\240\156\241\101\242\116\243\155\244" +
+    "\071\245\224\001\001\000\070\004\100\006\140\007\113" +
+    "\010\105\011\120\017\107\020\166\021\126\215\121\216" +
+    "\151\217\144\222\164\223\075\230\064\231\153\232\167" +
+    "\233\136\234\073\235\132\236\130\237\141\240\156\241" +
+    "\101\242\116\243\155\244\071\245\223\001\001\000\070" +
+    "\004\100\006\140\007\113\010\105\011\120\017\107\020" +
+    "\166\021\126\215\121\216\151\217\144\222\164\223\075" +
+    "\230\064\231\153\232\167\233\136\234\073\235\132\236" +
+    "\130\237\141\240\156\241\101\242\116\243\155\244\071" +
+    "\245\222\001\001\000\070\004\100\006\140\007\113\010" +
+    "\105\011\120\017\107\020\166\021\126\215\121\216\151" +
+    "\217\144\222\164\223\075\230\064\231\153\232\167\233" +
+    "\136\234\073\235\132\236\130\237\141\240\156\241\101" +
+    "\242\116\243\155\244\071\245\201\001\001\000\002\001" +
+    "\001\000\066\004\100\006\140\007\113\010\105\011\120" +
+    "\017\107\020\166\021\126\215\121\216\151\217\144\222" +
+    "\164\223\075\230\064\231\153\232\167\233\136\234\073" +
+    "\235\132\236\130\237\141\240\156\241\101\242\116\243" +
+    "\155\244\221\001\001\000\066\004\100\006\140\007\113" +
+    "\010\105\011\120\017\107\020\166\021\126\215\121\216" +
+    "\151\217\144\222\164\223\075\230\064\231\153\232\167" +
+    "\233\136\234\073\235\132\236\130\237\141\240\156\241" +
+    "\101\242\116\243\155\244\220\001\001\000\066\004\100" +
+    "\006\140\007\113\010\105\011\120\017\107\020\166\021" +
+    "\126\215\121\216\151\217\144\222\164\223\075\230\064" +
+    "\231\153\232\167\233\136\234\073\235\132\236\130\237" +
+    "\141\240\156\241\101\242\116\243\155\244\205\001\001" +
+    "\000\002\001\001\000\064\004\100\006\140\007\113\010" +
+    "\105\011\120\017\107\020\166\021\126\215\121\216\151" +
+    "\217\144\222\164\223\075\230\064\231\153\232\167\233" +
+    "\136\234\073\235\132\236\130\237\141\240\156\241\101" +
+    "\242\116\243\217\001\001\000\064\004\100\006\140\007" +
+    "\113\010\105\011\120\017\107\020\166\021\126\215\121" +
+    "\216\151\217\144\222\164\223\075\230\064\231\153\232" +
+    "\167\233\136\234\073\235\132\236\130\237\141\240\156" +
+    "\241\101\242\116\243\210\001\001\000\002\001\001\000" +
+    "\062\004\100\006\140\007\113\010\105\011\120\017\107" +
+    "\020\166\021\126\215\121\216\151\217\144\222\164\223" +
+    "\075\230\064\231\153\232\167\233\136\234\073\235\132" +
+    "\236\216\237\141\240\156\241\101\242\116\001\001\000" +
+    "\062\004\100\006\140\007\113\010\105\011\120\017\107" +
+    "\020\166\021\126\215\121\216\151\217\144\222\164\223" +
+    "\075\230\064\231\153\232\167\233\136\234\073\235\132" +
+    "\236\215\237\141\240\156\241\101\242\116\001\001\000" +
+    "\062\004\100\006\140\007\113\010\105\011\120\017\107" +
+    "\020\166\021\126\215\121\216\151\217\144\222\164\223" +
+    "\075\230\064\231\153\232\167\233\136\234\073\235\132" +
+    "\236\214\237\141\240\156\241\101\242\116\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\120\004\100" +
+    "\006\140\007\113\010\105\011\120\017\107\020\166\021" +
+    "\126\215\121\216\151\217\144\222\164\223\075\230\064" +
+    "\231\153\232\167\233\231\234\073\235\132\236\130\237" +
+    "\141\240\156\241\101\242\116\243\155\244\071\245\143" +
+    "\246\165\247\114\250\146\251\115\252\152\253\072\254" +
+    "\145\255\230\256\232\257\226\262\227\325\157\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\004\260\246\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\116\004\100\006\140\007\113\010\105\011\120" +
+    "\017\107\020\166\021\126\215\121\216\151\217\144\222" +
+    "\164\223\075\230\064\231\153\232\167\233\231\234\073" +
+    "\235\132\236\130\237\141\240\156\241\101\242\116\243" +
+    "\155\244\071\245\143\246\165\247\114\250\146\251\115" +
+    "\252\152\253\072\254\145\255\230\256\252\257\226\325" +
+    "\157\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\030\006\261\007\113\010\105\011\120\012\260" +
+    "\013\257\016\262\017\263\020\166\021\126\264\256\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\004\227\273\001\001\000\002\001\001\000\004\227" +
+    "\265\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\046\006\261" +
+    "\007\113\010\105\011\120\012\303\013\257\016\262\017" +
+    "\263\020\166\021\126\264\300\270\302\271\306\272\304" +
+    "\315\277\316\305\321\301\322\275\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\004\227\307\001\001" +
+    "\000\002\001\001\000\010\017\311\020\166\021\126\001" +
+    "\001\000\004\227\312\001\001\000\002\001\001\000\002" +
+    "\001\001\000\042\006\261\007\113\010\105\011\120\012" +
+    "\303\013\257\016\262\017\263\020\166\021\126\264\300" +
+    "\272\304\315\277\316\305\321\316\322\315\001\001\000" +
+    "\002\001\001\000\002\001\001\000\056\006\261\007\113" +
+    "\010\105\011\120\012\324\013\257\016\262\017\263\020" +
+    "\166\021\126\264\322\270\323\271\306\272\304\273\327" +
+    "\274\325\315\277\316\305\317\326\321\301\322\275\323" +
+    "\320\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\050\006\261\007\113\010\105\011\120\012\324\013" +
+    "\257\016\262\017\263\020\166\021\126\264\322\272\304" +
+    "\274\325\315\277\316\305\317\326\321\316\322\315\323" +
+    "\332\001\001\000\002\001\001\000\066\006\261\007\113" +
+    "\010\105\011\120\012\341\013\257\016\262\017\263\020" +
+    "\166\021\126\264\322\270\336\271\306\272\304\273\327" +
+    "\274\325\275\337\276\340\315\277\316\305\317\326\320" +
+    "\334\321\301\322\275\323\320\324\335\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\036\006\261\007\113\010\105\011\120\012\355\013" +
+    "\257\016\262\017\263\020\166\021\126\264\322\272\360" +
+    "\274\357\276\356\001\001\000\036\006\261\007\113\010" +
+    "\105\011\120\012\350\013\257\016\262\017\263\020\166" +
+    "\021\126\264\322\272\353\274\352\276\351\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\056\006\261\007" +
+    "\113\010\105\011\120\012\341\013\257\016\262\017\263" +
+    "\020\166\021\126\264\322\272\304\274\325\276\340\315" +
+    "\277\316\305\317\326\320\334\321\316\322\315\323\332" +
+    "\324\362\001\001\000\002\001\001\000\034\006\261\007" +
+    "\113\010\105\011\120\012\366\013\257\016\262\017\263" +
+    "\020\166\021\126\264\322\272\360\274\357\001\001\000" +
+    "\034\006\261\007\113\010\105\011\120\012\365\013\257" +
+    "\016\262\017\263\020\166\021\126\264\322\272\353\274" +
+    "\352\001\001\000\002\001\001\000\002\001\001\000\032" +
+    "\006\261\007\113\010\105\011\120\012\372\013\257\016" +
+    "\262\017\263\020\166\021\126\264\300\272\360\001\001" +
+    "\000\032\006\261\007\113\010\105\011\120\012\371\013" +
+    "\257\016\262\017\263\020\166\021\126\264\300\272\353" +
+    "\001\001\000\002\001\001\000\002\001\001\000\102\004" +
+    "\100\006\140\007\113\010\105\011\120\017\107\020\166" +
+    "\021\126\215\121\216\151\217\144\222\164\223\075\230" +
+    "\064\231\153\232\167\233\136\234\073\235\132\236\130" +
+    "\237\141\240\156\241\101\242\116\243\155\244\071\245" +
+    "\143\246\165\247\114\250\146\251\374\325\157\001\001" +
+    "\000\002\001\001\000\100\004\100\006\140\007\113\010" +
+    "\105\011\120\017\107\020\166\021\126\215\121\216\151" +
+    "\217\144\222\164\223\075\230\064\231\153\232\167\233" +
+    "\136\234\073\235\132\236\130\237\141\240\156\241\101" +
+    "\242\116\243\155\244\071\245\143\246\165\247\114\250" +
+    "\376\325\157\001\001\000\002\001\001\000\076\004\100" +
+    "\006\140\007\113\010\105\011\120\017\107\020\166\021" +
+    "\126\215\121\216\151\217\144\222\164\223\075\230\064" +
+    "\231\153\232\167\233\136\234\073\235\132\236\130\237" +
+    "\141\240\156\241\101\242\116\243\155\244\071\245\143" +
+    "\246\165\247\u0100\325\157\001\001\000\002\001\001\000" +
+    "\074\004\100\006\140\007\113\010\105\011\120\017\107" +
+    "\020\166\021\126\215\121\216\151\217\144\222\164\223" +
+    "\075\230\064\231\153\232\167\233\136\234\073\235\132" +
+    "\236\130\237\141\240\156\241\101\242\116\243\155\244" +
+    "\071\245\143\246\165\325\u0104\001\001\000\074\004\100" +
+    "\006\140\007\113\010\105\011\120\017\107\020\166\021" +
+    "\126\215\121\216\151\217\144\222\164\223\075\230\064" +
+    "\231\153\232\167\233\136\234\073\235\132\236\130\237" +
+    "\141\240\156\241\101\242\116\243\155\244\071\245\143" +
+    "\246\165\325\u0103\001\001\000\002\001\001\000\002\001" +
+    "\001\000\120\004\100\006\140\007\113\010\105\011\120" +
+    "\017\107\020\166\021\126\215\121\216\151\217\144\222" +
+    "\164\223\075\230\064\231\153\232\167\233\231\234\073" +
+    "\235\132\236\130\237\141\240\156\241\101\242\116\243" +
+    "\155\244\071\245\143\246\165\247\114\250\146\251\115" +
+    "\252\152\253\072\254\145\255\230\256\232\257\226\262" +
+    "\u0106\325\157\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\120\004\100\006\140\007\113\010\105\011\120\017\107" +
+    "\020\166\021\126\215\121\216\151\217\144\222\164\223" +
+    "\075\230\064\231\153\232\167\233\136\234\073\235\132" +
+    "\236\130\237\141\240\156\241\101\242\116\243\155\244" +
+    "\071\245\143\246\165\247\114\250\146\251\115\252\152" +
+    "\253\072\254\145\255\135\325\157\352\112\372\u010c\373" +
+    "\162\001\001\000\002\001\001\000\002\001\001\000\106" +
+    "\004\100\006\140\007\113\010\105\011\120\017\107\020" +
+    "\166\021\126\215\121\216\151\217\144\222\164\223\075" +
+    "\230\064\231\153\232\167\233\136\234\073\235\132\236" +
+    "\130\237\141\240\156\241\101\242\116\243\155\244\071" +
+    "\245\143\246\165\247\114\250\146\251\115\252\152\253" +
+    "\u0113\325\157\001\001\000\120\004\100\006\140\007\113" +
+    "\010\105\011\120\017\107\020\166\021\126\215\121\216" +
+    "\151\217\144\222\164\223\075\230\064\231\153\232\167" +
+    "\233\231\234\073\235\132\236\130\237\141\240\156\241" +
+    "\101\242\116\243\155\244\071\245\143\246\165\247\114" +
+    "\250\146\251\115\252\152\253\072\254\145\255\230\256" +
+    "\232\257\226\262\u0110\325\157\001\001\000\002\001\001" +
+    "\000\112\004\100\006\140\007\113\010\105\011\120\017" +
+    "\107\020\166\021\126\215\121\216\151\217\144\222\164" +
+    "\223\075\230\064\231\153\232\167\233\136\234\073\235" +
+    "\132\236\130\237\141\240\156\241\101\242\116\243\155" +
+    "\244\071\245\143\246\165\247\114\250\146\251\115\252" +
+    "\152\253\072\254\145\255\u0112\325\157\001\001\000\002" +
+    "\001\001\000\002\001\001\000\104\004\100\006\140\007" +
+    "\113\010\105\011\120\017\107\020\166\021\126\215\121" +
+    "\216\151\217\144\222\164\223\075\230\064\231\153\232" +
+    "\167\233\136\234\073\235\132\236\130\237\141\240\156" +
+    "\241\101\242\116\243\155\244\071\245\143\246\165\247" +
+    "\114\250\146\251\115\252\u0115\325\157\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\046\006\261\007\113\010\105\011" +
+    "\120\012\303\013\257\016\262\017\263\020\166\021\126" +
+    "\264\300\270\302\271\u03f4\272\304\315\277\316\305\321" +
+    "\301\322\275\001\001\000\002\001\001\000\010\224\u03e8" +
+    "\225\u03de\227\u03ea\001\001\000\010\224\u03e0\225\u03de\227" +
+    "\u03e1\001\001\000\014\013\u0123\017\u0122\020\166\021\126" +
+    "\264\u011e\001\001\000\002\001\001\000\002\001\001\000" +
+    "\124\004\100\006\140\007\113\010\105\011\120\017\107" +
+    "\020\166\021\126\215\121\216\151\217\144\220\u0125\221" +
+    "\u0127\222\164\223\075\230\064\231\153\232\167\233\231" +
+    "\234\073\235\132\236\130\237\141\240\156\241\101\242" +
+    "\116\243\155\244\071\245\143\246\165\247\114\250\146" +
+    "\251\115\252\152\253\072\254\145\255\230\256\232\257" +
+    "\226\262\u0126\325\157\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\120\004\100\006\140\007" +
+    "\113\010\105\011\120\017\107\020\166\021\126\215\121" +
+    "\216\151\217\144\222\164\223\075\230\064\231\153\232" +
+    "\167\233\231\234\073\235\132\236\130\237\141\240\156" +
+    "\241\101\242\116\243\155\244\071\245\143\246\165\247" +
+    "\114\250\146\251\115\252\152\253\072\254\145\255\230" +
+    "\256\232\257\226\262\u0129\325\157\001\001\000\002\001" +
+    "\001\000\004\055\u012c\001\001\000\046\041\u0139\042\035" +
+    "\043\015\044\032\045\045\046\023\057\u0138\060\u0136\061" +
+    "\u0137\062\u013b\072\u013a\077\u0130\114\u0134\115\u012d\123\u0131" +
+    "\136\u0133\350\u012e\351\050\001\001\000\002\001\001\000" +
+    "\002\001\001\000\004\044\u03dd\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\206\004\100\005" +
+    "\u021a\006\u0227\007\113\010\105\011\120\012\u0141\013\257" +
+    "\016\262\017\u0261\020\166\021\126\041\024\042\u0224\043" +
+    "\015\044\032\045\045\046\023\047\u0202\063\u0219\121\u020d" +
+    "\122\042\123\004\136\u0209\137\u03db\140\u03da\141\u0200\142" +
+    "\u020e\143\u0212\144\u0235\146\u021b\147\u0214\150\u022e\152\u0221" +
+    "\153\u0206\154\u0217\155\u022d\157\u0201\165\u0229\167\u0236\170" +
+    "\u0237\172\u01fc\202\u0210\203\u022b\204\u0215\205\u0232\206\u01ff" +
+    "\207\u0207\214\u0211\215\121\216\151\217\u0208\222\164\223" +
+    "\075\230\064\231\u01fd\232\167\233\u020c\234\u0233\235\u020a" +
+    "\240\u0213\241\u022c\257\u0228\264\256\350\u012e\351\050\001" +
+    "\001\000\002\001\001\000\002\001\001\000\004\136\u03d9" +
+    "\001\001\000\002\001\001\000\002\001\001\000\042\041" +
+    "\u0139\042\035\043\015\044\032\045\045\046\023\061\u03d7" +
+    "\062\u013b\072\u013a\077\u0130\114\u0134\115\u012d\123\u0131\136" +
+    "\u0133\350\u012e\351\050\001\001\000\034\005\u013e\006\u0142" +
+    "\007\113\010\105\011\120\012\u0141\013\257\016\262\017" +
+    "\263\020\u0140\021\126\116\u013f\264\256\001\001\000\002" +
+    "\001\001\000\002\001\001\000\014\265\u01d0\301\u01cf\302" +
+    "\u01cc\303\u01cb\304\u03cb\001\001\000\002\001\001\000\012" +
+    "\073\u01b0\074\u01ae\075\u01ad\101\u03c3\001\001\000\006\110" +
+    "\u01f8\111\u015c\001\001\000\002\001\001\000\002\001\001" +
+    "\000\004\227\273\001\001\000\002\001\001\000\002\001" +
+    "\001\000\004\101\u0146\001\001\000\006\110\u015d\111\u015c" +
+    "\001\001\000\002\001\001\000\020\102\u0149\103\u014b\104" +
+    "\u014e\105\u014f\106\u014a\107\u014d\352\u014c\001\001\000\002" +
+    "\001\001\000\006\107\u015a\352\u014c\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\032\005\u0151\006\u0142\007\113\010\105\011\120\012" +
+    "\u0141\013\257\016\262\017\263\020\166\021\126\264\256" +
+    "\001\001\000\002\001\001\000\004\075\u0152\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\014\104" +
+    "\u0159\105\u014f\106\u014a\107\u014d\352\u014c\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\006\113\u0166\136\u0168\001\001\000\002\001\001" +
+    "\000\020\013\u0161\014\u0162\017\u0122\020\166\021\126\112" +
+    "\u0160\264\u011e\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\016\013\u0161\014\u0164\017\u0122\020" +
+    "\166\021\126\264\u011e\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\006\277\u016c\300\u016b\001\001\000\014\265\u01d0" +
+    "\301\u01cf\302\u01cc\303\u01cb\304\u01f1\001\001\000\006\124" +
+    "\u016e\125\u016f\001\001\000\002\001\001\000\016\013\u0172" +
+    "\015\u01f0\017\u0122\020\166\021\126\264\u011e\001\001\000" +
+    "\004\126\u0174\001\001\000\002\001\001\000\016\013\u0172" +
+    "\015\u0171\017\u0122\020\166\021\126\264\u011e\001\001\000" +
+    "\002\001\001\000\002\001\001\000\052\041\u017c\042\035" +
+    "\043\015\044\032\045\045\046\023\047\u0178\063\u017e\072" +
+    "\u017d\100\u0179\121\u0180\122\042\123\004\127\u017b\130\u017a" +
+    "\131\u0177\132\u017f\133\u0175\350\u012e\351\050\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\046\041" +
+    "\u017c\042\035\043\015\044\032\045\045\046\023\047\u0178" +
+    "\063\u017e\072\u017d\100\u0179\121\u0180\122\042\123\004\131" +
+    "\u01ee\132\u017f\133\u0175\350\u012e\351\050\001\001\000\002" +
+    "\001\001\000\032\005\u0183\006\u0142\007\113\010\105\011" +
+    "\120\012\u0141\013\257\016\262\017\263\020\166\021\126" +
+    "\264\256\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\014\265\u01d0\301\u01cf" +
+    "\302\u01cc\303\u01cb\304\u01cd\001\001\000\002\001\001\000" +
+    "\012\073\u01b0\074\u01ae\075\u01ad\101\u01ac\001\001\000\002" +
+    "\001\001\000\002\001\001\000\004\101\u0187\001\001\000" +
+    "\006\110\u0188\111\u015c\001\001\000\002\001\001\000\006" +
+    "\277\u016c\300\u018a\001\001\000\006\124\u018b\125\u016f\001" +
+    "\001\000\004\126\u018c\001\001\000\002\001\001\000\006" +
+    "\052\u0190\053\u018e\001\001\000\004\064\u0196\001\001\000" +
+    "\020\013\u0172\015\u0192\017\u0122\020\166\021\126\054\u0191" +
+    "\264\u011e\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\016\013\u0172\015\u0194\017\u0122\020\166" +
+    "\021\126\264\u011e\001\001\000\002\001\001\000\016\065" +
+    "\u019a\066\u0199\067\u0197\347\u019d\350\u019c\351\u019b\001\001" +
+    "\000\002\001\001\000\002\001\001\000\012\353\057\354" +
+    "\060\355\056\356\062\001\001\000\002\001\001\000\004" +
+    "\071\u01a6\001\001\000\012\353\u01a5\354\060\355\056\356" +
+    "\062\001\001\000\002\001\001\000\002\001\001\000\004" +
+    "\070\u01a0\001\001\000\124\004\100\006\140\007\113\010" +
+    "\105\011\120\017\107\020\166\021\126\215\121\216\151" +
+    "\217\144\220\u01a2\221\u0127\222\164\223\075\230\064\231" +
+    "\153\232\167\233\231\234\073\235\132\236\130\237\141" +
+    "\240\156\241\101\242\116\243\155\244\071\245\143\246" +
+    "\165\247\114\250\146\251\115\252\152\253\072\254\145" +
+    "\255\230\256\232\257\226\262\u0126\325\157\001\001\000" +
+    "\004\055\u01a1\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\046\041\u0139\042\035\043\015\044\032" +
+    "\045\045\046\023\057\u0138\060\u01a8\061\u0137\062\u013b\072" +
+    "\u013a\077\u0130\114\u0134\115\u012d\123\u0131\136\u0133\350\u012e" +
+    "\351\050\001\001\000\002\001\001\000\002\001\001\000" +
+    "\012\067\u01ab\347\u019d\350\u019c\351\u019b\001\001\000\002" +
+    "\001\001\000\006\110\u01c2\111\u015c\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\006\074\u01b3\075\u01ad\001\001\000\002\001\001\000" +
+    "\002\001\001\000\124\004\100\006\140\007\113\010\105" +
+    "\011\120\017\107\020\166\021\126\076\u01b6\134\u01b7\215" +
+    "\121\216\151\217\144\222\164\223\075\230\064\231\153" +
+    "\232\167\233\231\234\073\235\132\236\130\237\141\240" +
+    "\156\241\101\242\116\243\155\244\071\245\143\246\165" +
+    "\247\114\250\146\251\115\252\152\253\072\254\145\255" +
+    "\230\256\232\257\226\262\u01b5\325\157\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\126\004" +
+    "\100\006\140\007\113\010\105\011\120\017\107\020\166" +
+    "\021\126\076\u01bb\134\u01b7\135\u01b9\215\121\216\151\217" +
+    "\144\222\164\223\075\230\064\231\153\232\167\233\231" +
+    "\234\073\235\132\236\130\237\141\240\156\241\101\242" +
+    "\116\243\155\244\071\245\143\246\165\247\114\250\146" +
+    "\251\115\252\152\253\072\254\145\255\230\256\232\257" +
+    "\226\262\u01b5\325\157\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\124\004\100\006\140\007\113\010\105\011\120" +
+    "\017\107\020\166\021\126\076\u01c0\134\u01b7\215\121\216" +
+    "\151\217\144\222\164\223\075\230\064\231\153\232\167" +
+    "\233\231\234\073\235\132\236\130\237\141\240\156\241" +
+    "\101\242\116\243\155\244\071\245\143\246\165\247\114" +
+    "\250\146\251\115\252\152\253\072\254\145\255\230\256" +
+    "\232\257\226\262\u01b5\325\157\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\006\277\u016c\300\u01c4\001\001\000\006\050\u01c7\051\u01c5" +
+    "\001\001\000\006\052\u0190\053\u01c9\001\001\000\016\013" +
+    "\u0161\014\u01c8\017\u0122\020\166\021\126\264\u011e\001\001" +
+    "\000\002\001\001\000\002\001\001\000\004\055\u01ca\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\032\005\u01e4\006\u0142\007\113\010\105\011\120\012" +
+    "\u0141\013\257\016\262\017\263\020\166\021\126\264\256" +
+    "\001\001\000\002\001\001\000\002\001\001\000\010\305" +
+    "\u01d2\306\u01d1\307\u01d5\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\032\006\261\007\113\010" +
+    "\105\011\120\012\u01d6\013\257\016\262\017\263\020\166" +
+    "\021\126\264\300\272\u01d7\001\001\000\002\001\001\000" +
+    "\014\310\u01d8\311\u01d9\312\u01dc\313\u01db\314\u01dd\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\034\006\261\007\113\010\105\011\120\012\u01e1\013\u01e0" +
+    "\015\u01e3\016\262\017\263\020\166\021\126\264\300\272" +
+    "\u01e2\001\001\000\012\310\u01de\312\u01df\313\u01db\314\u01dd" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\004\101\u01e8\001" +
+    "\001\000\004\101\u01e6\001\001\000\006\110\u01e7\111\u015c" +
+    "\001\001\000\002\001\001\000\006\110\u01e9\111\u015c\001" +
+    "\001\000\002\001\001\000\010\265\u01d0\301\u01ec\303\u01eb" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\006\052\u0190\053\u01f3\001\001\000" +
+    "\004\064\u01f4\001\001\000\002\001\001\000\020\102\u01f6" +
+    "\103\u014b\104\u014e\105\u014f\106\u014a\107\u014d\352\u014c\001" +
+    "\001\000\002\001\001\000\002\001\001\000\004\117\u01fa" +
+    "\001\001\000\210\004\100\005\u021a\006\u0227\007\113\010" +
+    "\105\011\120\012\u0141\013\257\016\262\017\u0223\020\166" +
+    "\021\126\041\024\042\u0224\043\015\044\032\045\045\046" +
+    "\023\047\u0202\063\u0219\120\u020f\121\u020d\122\042\123\004" +
+    "\136\u0209\140\u01fb\141\u0200\142\u020e\143\u0212\144\u0235\146" +
+    "\u021b\147\u0214\150\u022e\152\u0221\153\u0206\154\u0217\155\u022d" +
+    "\157\u0201\165\u0229\167\u0236\170\u0237\172\u01fc\202\u0210\203" +
+    "\u022b\204\u0215\205\u0232\206\u01ff\207\u0207\214\u0211\215\u022a" +
+    "\216\151\217\u0208\222\164\223\075\230\064\231\u01fd\232" +
+    "\167\233\u020c\234\u0233\235\u020a\240\u0213\241\u022c\257\u0228" +
+    "\264\256\266\u0203\350\u012e\351\050\001\001\000\002\001" +
+    "\001\000\202\004\100\005\u021a\006\u0227\007\113\010\105" +
+    "\011\120\012\u0141\013\257\016\262\017\u0261\020\166\021" +
+    "\126\041\024\042\u0224\043\015\044\032\045\045\046\023" +
+    "\047\u0202\063\u0219\121\u020d\122\042\123\004\136\u0209\141" +
+    "\u0318\142\u020e\143\u0212\144\u0235\146\u021b\147\u0214\150\u022e" +
+    "\152\u0221\153\u0206\154\u0217\155\u022d\157\u0201\165\u0229\167" +
+    "\u0236\170\u0237\172\u01fc\202\u0210\203\u022b\204\u0215\205\u0232" +
+    "\206\u01ff\207\u0207\214\u0211\215\121\216\151\217\u0208\222" +
+    "\164\223\075\230\064\231\u01fd\232\167\233\u020c\234\u0233" +
+    "\235\u020a\240\u0213\241\u022c\257\u0228\264\256\350\u012e\351" +
+    "\050\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\120\004\100\006\140\007\113\010\105\011\120\017" +
+    "\107\020\166\021\126\215\121\216\151\217\144\222\164" +
+    "\223\075\230\064\231\153\232\167\233\231\234\073\235" +
+    "\132\236\130\237\141\240\156\241\101\242\116\243\155" +
+    "\244\071\245\143\246\165\247\114\250\146\251\115\252" +
+    "\152\253\072\254\145\255\230\256\232\257\226\262\u03b5" +
+    "\325\157\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\122" +
+    "\004\100\006\140\007\113\010\105\011\120\017\u033e\020" +
+    "\166\021\126\215\u0344\216\151\217\144\222\164\223\075" +
+    "\230\064\231\153\232\167\233\u020c\234\u0338\235\u0347\240" +
+    "\u0350\241\u0339\242\u0340\257\u0342\326\u034b\327\u033d\330\u0352" +
+    "\331\u0346\332\u0336\333\u033a\334\u0348\335\u034e\336\u034f\337" +
+    "\u0351\340\u0341\341\u0349\342\u034a\343\u034d\344\u034c\345\u0337" +
+    "\346\u033c\001\001\000\004\260\246\001\001\000\002\001" +
+    "\001\000\002\001\001\000\204\004\100\005\u021a\006\u0227" +
+    "\007\113\010\105\011\120\012\u0141\013\257\016\262\017" +
+    "\u0261\020\166\021\126\041\024\042\u0224\043\015\044\032" +
+    "\045\045\046\023\047\u0202\063\u0219\121\u020d\122\042\123" +
+    "\004\136\u0209\140\u0333\141\u0200\142\u020e\143\u0212\144\u0235" +
+    "\146\u021b\147\u0214\150\u022e\152\u0221\153\u0206\154\u0217\155" +
+    "\u022d\157\u0201\165\u0229\167\u0236\170\u0237\172\u01fc\202\u0210" +
+    "\203\u022b\204\u0215\205\u0232\206\u01ff\207\u0207\214\u0211\215" +
+    "\121\216\151\217\u0208\222\164\223\075\230\064\231\u01fd" +
+    "\232\167\233\u020c\234\u0233\235\u020a\240\u0213\241\u022c\257" +
+    "\u0228\264\256\350\u012e\351\050\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\010\073" +
+    "\u028e\074\u01ae\075\u01ad\001\001\000\002\001\001\000\002" +
+    "\001\001\000\130\004\100\006\140\007\113\010\105\011" +
+    "\120\017\107\020\166\021\126\136\u0209\144\u0303\146\u021b" +
+    "\147\u0214\150\u022e\152\u0221\153\u0206\154\u0217\155\u022d\157" +
+    "\u0201\165\u0229\167\u0236\170\u0237\172\u01fc\202\u0210\203\u022b" +
+    "\204\u0215\205\u0232\206\u01ff\207\u0207\214\u0211\215\121\216" +
+    "\151\217\u0208\222\164\223\075\230\064\231\u01fd\232\167" +
+    "\233\u020c\234\u0233\235\u020a\240\u0213\241\u022c\257\u0228\001" +
+    "\001\000\002\001\001\000\122\004\100\006\140\007\113" +
+    "\010\105\011\120\017\107\020\166\021\126\215\121\216" +
+    "\151\217\144\222\164\223\075\230\064\231\153\232\167" +
+    "\233\231\234\073\235\132\236\130\237\141\240\156\241" +
+    "\101\242\116\243\155\244\071\245\143\246\165\247\114" +
+    "\250\146\251\115\252\152\253\072\254\145\255\230\256" +
+    "\232\257\226\261\u02ee\262\u0296\325\157\001\001\000\004" +
+    "\136\u02e1\001\001\000\002\001\001\000\004\201\u02df\001" +
+    "\001\000\004\227\u026a\001\001\000\032\005\u0266\006\u0142" +
+    "\007\113\010\105\011\120\012\u0141\013\257\016\262\017" +
+    "\263\020\166\021\126\264\256\001\001\000\002\001\001" +
+    "\000\002\001\001\000\004\227\u02ce\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\004\201\u02af\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\120\004\100\006" +
+    "\140\007\113\010\105\011\120\017\107\020\166\021\126" +
+    "\215\121\216\151\217\144\222\164\223\075\230\064\231" +
+    "\153\232\167\233\231\234\073\235\132\236\130\237\141" +
+    "\240\156\241\101\242\116\243\155\244\071\245\143\246" +
+    "\165\247\114\250\146\251\115\252\152\253\072\254\145" +
+    "\255\230\256\232\257\226\262\u0238\325\157\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\120\004\100\006\140\007" +
+    "\113\010\105\011\120\017\107\020\166\021\126\215\121" +
+    "\216\151\217\144\222\164\223\075\230\064\231\153\232" +
+    "\167\233\231\234\073\235\132\236\130\237\141\240\156" +
+    "\241\101\242\116\243\155\244\071\245\143\246\165\247" +
+    "\114\250\146\251\115\252\152\253\072\254\145\255\230" +
+    "\256\232\257\226\262\u023b\325\157\001\001\000\002\001" +
+    "\001\000\002\001\001\000\120\004\100\006\140\007\113" +
+    "\010\105\011\120\017\107\020\166\021\126\215\121\216" +
+    "\151\217\144\222\164\223\075\230\064\231\153\232\167" +
+    "\233\231\234\073\235\132\236\130\237\141\240\156\241" +
+    "\101\242\116\243\155\244\071\245\143\246\165\247\114" +
+    "\250\146\251\115\252\152\253\072\254\145\255\230\256" +
+    "\232\257\226\262\u023e\325\157\001\001\000\002\001\001" +
+    "\000\144\004\100\006\140\007\113\010\105\011\120\017" +
+    "\107\020\166\021\126\136\u0209\144\u024c\145\u0248\146\u0245" +
+    "\147\u0214\150\u022e\151\u0243\152\u0221\153\u0206\154\u0217\155" +
+    "\u022d\156\u0241\157\u0201\165\u0229\166\u0247\167\u0236\170\u0237" +
+    "\171\u0249\172\u01fc\173\u0242\202\u0210\203\u022b\204\u0215\205" +
+    "\u0232\206\u01ff\207\u0207\214\u0211\215\121\216\151\217\u0208" +
+    "\222\164\223\075\230\064\231\u01fd\232\167\233\u020c\234" +
+    "\u0233\235\u020a\240\u0213\241\u022c\257\u0228\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\120" +
+    "\004\100\006\140\007\113\010\105\011\120\017\107\020" +
+    "\166\021\126\215\121\216\151\217\144\222\164\223\075" +
+    "\230\064\231\153\232\167\233\231\234\073\235\132\236" +
+    "\130\237\141\240\156\241\101\242\116\243\155\244\071" +
+    "\245\143\246\165\247\114\250\146\251\115\252\152\253" +
+    "\072\254\145\255\230\256\232\257\226\262\u024e\325\157" +
+    "\001\001\000\002\001\001\000\144\004\100\006\140\007" +
+    "\113\010\105\011\120\017\107\020\166\021\126\136\u0209" +
+    "\144\u024c\145\u0250\146\u0245\147\u0214\150\u022e\151\u0243\152" +
+    "\u0221\153\u0206\154\u0217\155\u022d\156\u0241\157\u0201\165\u0229" +
+    "\166\u0247\167\u0236\170\u0237\171\u0249\172\u01fc\173\u0242\202" +
+    "\u0210\203\u022b\204\u0215\205\u0232\206\u01ff\207\u0207\214\u0211" +
+    "\215\121\216\151\217\u0208\222\164\223\075\230\064\231" +
+    "\u01fd\232\167\233\u020c\234\u0233\235\u020a\240\u0213\241\u022c" +
+    "\257\u0228\001\001\000\002\001\001\000\144\004\100\006" +
+    "\140\007\113\010\105\011\120\017\107\020\166\021\126" +
+    "\136\u0209\144\u0253\145\u0252\146\u0245\147\u0214\150\u022e\151" +
+    "\u0243\152\u0221\153\u0206\154\u0217\155\u022d\156\u0241\157\u0201" +
+    "\165\u0229\166\u0247\167\u0236\170\u0237\171\u0249\172\u01fc\173" +
+    "\u0242\202\u0210\203\u022b\204\u0215\205\u0232\206\u01ff\207\u0207" +
+    "\214\u0211\215\121\216\151\217\u0208\222\164\223\075\230" +
+    "\064\231\u01fd\232\167\233\u020c\234\u0233\235\u020a\240\u0213" +
+    "\241\u022c\257\u0228\001\001\000\002\001\001\000\002\001" +
+    "\001\000\120\004\100\006\140\007\113\010\105\011\120" +
+    "\017\107\020\166\021\126\215\121\216\151\217\144\222" +
+    "\164\223\075\230\064\231\153\232\167\233\231\234\073" +
+    "\235\132\236\130\237\141\240\156\241\101\242\116\243" +
+    "\155\244\071\245\143\246\165\247\114\250\146\251\115" +
+    "\252\152\253\072\254\145\255\230\256\232\257\226\262" +
+    "\u0255\325\157\001\001\000\002\001\001\000\004\136\u0257" +
+    "\001\001\000\002\001\001\000\130\004\100\006\140\007" +
+    "\113\010\105\011\120\017\107\020\166\021\126\136\u0209" +
+    "\144\u0253\146\u021b\147\u0214\150\u022e\152\u0221\153\u0206\154" +
+    "\u0217\155\u022d\157\u0201\165\u0229\167\u0236\170\u0237\172\u01fc" +
+    "\202\u0210\203\u022b\204\u0215\205\u0232\206\u01ff\207\u0207\214" +
+    "\u0211\215\121\216\151\217\u0208\222\164\223\075\230\064" +
+    "\231\u01fd\232\167\233\u020c\234\u0233\235\u020a\240\u0213\241" +
+    "\u022c\257\u0228\001\001\000\002\001\001\000\116\004\100" +
+    "\005\u0260\006\u0227\007\113\010\105\011\120\012\u0141\013" +
+    "\257\016\262\017\u0261\020\166\021\126\042\u0262\044\032" +
+    "\045\045\046\u025d\143\u025f\153\u025c\174\u025b\175\u025e\200" +
+    "\u0263\215\121\216\151\217\u0208\222\164\223\075\230\064" +
+    "\231\u01fd\232\167\233\u020c\234\u0233\235\u020a\240\u0213\241" +
+    "\u022c\257\u0228\264\256\350\u012e\351\u019b\001\001\000\002" +
+    "\001\001\000\002\001\001\000\012\353\u0294\354\060\355" +
+    "\056\356\062\001\001\000\002\001\001\000\002\001\001" +
+    "\000\010\073\u028e\074\u01ae\075\u028d\001\001\000\004\227" +
+    "\u026a\001\001\000\032\005\u0266\006\u0142\007\113\010\105" +
+    "\011\120\012\u0141\013\257\016\262\017\263\020\166\021" +
+    "\126\264\256\001\001\000\002\001\001\000\060\004\100" +
+    "\006\140\007\113\010\105\011\120\017\107\020\166\021" +
+    "\126\153\u0265\215\121\216\151\217\u0208\222\164\223\075" +
+    "\230\064\231\u01fd\232\167\233\u020c\234\u0233\235\u020a\240" +
+    "\u0213\241\u022c\257\u0228\001\001\000\002\001\001\000\010" +
+    "\073\u0267\074\u01ae\075\u01ad\001\001\000\002\001\001\000" +
+    "\120\004\100\006\140\007\113\010\105\011\120\017\107" +
+    "\020\166\021\126\215\121\216\151\217\144\222\164\223" +
+    "\075\230\064\231\153\232\167\233\231\234\073\235\132" +
+    "\236\130\237\141\240\156\241\101\242\116\243\155\244" +
+    "\071\245\143\246\165\247\114\250\146\251\115\252\152" +
+    "\253\072\254\145\255\230\256\232\257\226\262\u028b\325" +
+    "\157\001\001\000\124\004\100\006\140\007\113\010\105" +
+    "\011\120\017\107\020\166\021\126\215\121\216\151\217" +
+    "\144\220\u0289\221\u0127\222\164\223\075\230\064\231\153" +
+    "\232\167\233\231\234\073\235\132\236\130\237\141\240" +
+    "\156\241\101\242\116\243\155\244\071\245\143\246\165" +
+    "\247\114\250\146\251\115\252\152\253\072\254\145\255" +
+    "\230\256\232\257\226\262\u0126\325\157\001\001\000\002" +
+    "\001\001\000\004\266\u026d\001\001\000\002\001\001\000" +
+    "\002\001\001\000\006\266\u0271\267\u0272\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\006\266\u0271\267\u0274\001\001\000\002\001\001" +
+    "\000\124\004\100\006\140\007\113\010\105\011\120\017" +
+    "\107\020\166\021\126\215\121\216\151\217\144\220\u0276" +
+    "\221\u0127\222\164\223\075\230\064\231\153\232\167\233" +
+    "\231\234\073\235\132\236\130\237\141\240\156\241\101" +
+    "\242\116\243\155\244\071\245\143\246\165\247\114\250" +
+    "\146\251\115\252\152\253\072\254\145\255\230\256\232" +
+    "\257\226\262\u0126\325\157\001\001\000\002\001\001\000" +
+    "\004\055\u0278\001\001\000\002\001\001\000\002\001\001" +
+    "\000\124\004\100\006\140\007\113\010\105\011\120\017" +
+    "\107\020\166\021\126\215\121\216\151\217\144\220\u027b" +
+    "\221\u0127\222\164\223\075\230\064\231\153\232\167\233" +
+    "\231\234\073\235\132\236\130\237\141\240\156\241\101" +
+    "\242\116\243\155\244\071\245\143\246\165\247\114\250" +
+    "\146\251\115\252\152\253\072\254\145\255\230\256\232" +
+    "\257\226\262\u0126\325\157\001\001\000\002\001\001\000" +
+    "\002\001\001\000\004\266\u027e\001\001\000\002\001\001" +
+    "\000\002\001\001\000\124\004\100\006\140\007\113\010" +
+    "\105\011\120\017\107\020\166\021\126\215\121\216\151" +
+    "\217\144\220\u0281\221\u0127\222\164\223\075\230\064\231" +
+    "\153\232\167\233\231\234\073\235\132\236\130\237\141" +
+    "\240\156\241\101\242\116\243\155\244\071\245\143\246" +
+    "\165\247\114\250\146\251\115\252\152\253\072\254\145" +
+    "\255\230\256\232\257\226\262\u0126\325\157\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\124" +
+    "\004\100\006\140\007\113\010\105\011\120\017\107\020" +
+    "\166\021\126\215\121\216\151\217\144\220\u0285\221\u0127" +
+    "\222\164\223\075\230\064\231\153\232\167\233\231\234" +
+    "\073\235\132\236\130\237\141\240\156\241\101\242\116" +
+    "\243\155\244\071\245\143\246\165\247\114\250\146\251" +
+    "\115\252\152\253\072\254\145\255\230\256\232\257\226" +
+    "\262\u0126\325\157\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\120\004\100\006\140" +
+    "\007\113\010\105\011\120\017\107\020\166\021\126\215" +
+    "\121\216\151\217\144\222\164\223\075\230\064\231\153" +
+    "\232\167\233\231\234\073\235\132\236\130\237\141\240" +
+    "\156\241\101\242\116\243\155\244\071\245\143\246\165" +
+    "\247\114\250\146\251\115\252\152\253\072\254\145\255" +
+    "\230\256\232\257\226\262\u0290\325\157\001\001\000\002" +
+    "\001\001\000\144\004\100\006\140\007\113\010\105\011" +
+    "\120\017\107\020\166\021\126\136\u0209\144\u0293\145\u0292" +
+    "\146\u0245\147\u0214\150\u022e\151\u0243\152\u0221\153\u0206\154" +
+    "\u0217\155\u022d\156\u0241\157\u0201\165\u0229\166\u0247\167\u0236" +
+    "\170\u0237\171\u0249\172\u01fc\173\u0242\202\u0210\203\u022b\204" +
+    "\u0215\205\u0232\206\u01ff\207\u0207\214\u0211\215\121\216\151" +
+    "\217\u0208\222\164\223\075\230\064\231\u01fd\232\167\233" +
+    "\u020c\234\u0233\235\u020a\240\u0213\241\u022c\257\u0228\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\122\004\100\006\140\007\113\010\105\011\120\017\107" +
+    "\020\166\021\126\215\121\216\151\217\144\222\164\223" +
+    "\075\230\064\231\153\232\167\233\231\234\073\235\132" +
+    "\236\130\237\141\240\156\241\101\242\116\243\155\244" +
+    "\071\245\143\246\165\247\114\250\146\251\115\252\152" +
+    "\253\072\254\145\255\230\256\232\257\226\261\u0297\262" +
+    "\u0296\325\157\001\001\000\002\001\001\000\002\001\001" +
+    "\000\066\004\100\006\140\007\113\010\105\011\120\017" +
+    "\107\020\166\021\126\153\u025c\176\u029b\177\u0299\200\u029a" +
+    "\215\121\216\151\217\u0208\222\164\223\075\230\064\231" +
+    "\u01fd\232\167\233\u020c\234\u0233\235\u020a\240\u0213\241\u022c" +
+    "\257\u0228\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\144\004\100\006\140\007\113\010\105" +
+    "\011\120\017\107\020\166\021\126\136\u0209\144\u029e\145" +
+    "\u029d\146\u0245\147\u0214\150\u022e\151\u0243\152\u0221\153\u0206" +
+    "\154\u0217\155\u022d\156\u0241\157\u0201\165\u0229\166\u0247\167" +
+    "\u0236\170\u0237\171\u0249\172\u01fc\173\u0242\202\u0210\203\u022b" +
+    "\204\u0215\205\u0232\206\u01ff\207\u0207\214\u0211\215\121\216" +
+    "\151\217\u0208\222\164\223\075\230\064\231\u01fd\232\167" +
+    "\233\u020c\234\u0233\235\u020a\240\u0213\241\u022c\257\u0228\001" +
+    "\001\000\002\001\001\000\002\001\001\000\032\005\u02a0" +
+    "\006\u0142\007\113\010\105\011\120\012\u0141\013\257\016" +
+    "\262\017\263\020\166\021\126\264\256\001\001\000\004" +
+    "\075\u02a1\001\001\000\002\001\001\000\120\004\100\006" +
+    "\140\007\113\010\105\011\120\017\107\020\166\021\126" +
+    "\215\121\216\151\217\144\222\164\223\075\230\064\231" +
+    "\153\232\167\233\231\234\073\235\132\236\130\237\141" +
+    "\240\156\241\101\242\116\243\155\244\071\245\143\246" +
+    "\165\247\114\250\146\251\115\252\152\253\072\254\145" +
+    "\255\230\256\232\257\226\262\u02a3\325\157\001\001\000" +
+    "\002\001\001\000\144\004\100\006\140\007\113\010\105" +
+    "\011\120\017\107\020\166\021\126\136\u0209\144\u02a6\145" +
+    "\u02a5\146\u0245\147\u0214\150\u022e\151\u0243\152\u0221\153\u0206" +
+    "\154\u0217\155\u022d\156\u0241\157\u0201\165\u0229\166\u0247\167" +
+    "\u0236\170\u0237\171\u0249\172\u01fc\173\u0242\202\u0210\203\u022b" +
+    "\204\u0215\205\u0232\206\u01ff\207\u0207\214\u0211\215\121\216" +
+    "\151\217\u0208\222\164\223\075\230\064\231\u01fd\232\167" +
+    "\233\u020c\234\u0233\235\u020a\240\u0213\241\u022c\257\u0228\001" +
+    "\001\000\002\001\001\000\002\001\001\000\120\004\100" +
+    "\006\140\007\113\010\105\011\120\017\107\020\166\021" +
+    "\126\215\121\216\151\217\144\222\164\223\075\230\064" +
+    "\231\153\232\167\233\231\234\073\235\132\236\130\237" +
+    "\141\240\156\241\101\242\116\243\155\244\071\245\143" +
+    "\246\165\247\114\250\146\251\115\252\152\253\072\254" +
+    "\145\255\230\256\232\257\226\262\u02a8\325\157\001\001" +
+    "\000\002\001\001\000\144\004\100\006\140\007\113\010" +
+    "\105\011\120\017\107\020\166\021\126\136\u0209\144\u02ab" +
+    "\145\u02aa\146\u0245\147\u0214\150\u022e\151\u0243\152\u0221\153" +
+    "\u0206\154\u0217\155\u022d\156\u0241\157\u0201\165\u0229\166\u0247" +
+    "\167\u0236\170\u0237\171\u0249\172\u01fc\173\u0242\202\u0210\203" +
+    "\u022b\204\u0215\205\u0232\206\u01ff\207\u0207\214\u0211\215\121" +
+    "\216\151\217\u0208\222\164\223\075\230\064\231\u01fd\232" +
+    "\167\233\u020c\234\u0233\235\u020a\240\u0213\241\u022c\257\u0228" +
+    "\001\001\000\002\001\001\000\002\001\001\000\144\004" +
+    "\100\006\140\007\113\010\105\011\120\017\107\020\166" +
+    "\021\126\136\u0209\144\u02ae\145\u02ad\146\u0245\147\u0214\150" +
+    "\u022e\151\u0243\152\u0221\153\u0206\154\u0217\155\u022d\156\u0241" +
+    "\157\u0201\165\u0229\166\u0247\167\u0236\170\u0237\171\u0249\172" +
+    "\u01fc\173\u0242\202\u0210\203\u022b\204\u0215\205\u0232\206\u01ff" +
+    "\207\u0207\214\u0211\215\121\216\151\217\u0208\222\164\223" +
+    "\075\230\064\231\u01fd\232\167\233\u020c\234\u0233\235\u020a" +
+    "\240\u0213\241\u022c\257\u0228\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\004\266\u02b4\001\001\000\002\001\001\000" +
+    "\002\001\001\000\006\266\u0271\267\u02ba\001\001\000\002" +
+    "\001\001\000\124\004\100\006\140\007\113\010\105\011" +
+    "\120\017\107\020\166\021\126\215\121\216\151\217\144" +
+    "\220\u02b8\221\u0127\222\164\223\075\230\064\231\153\232" +
+    "\167\233\231\234\073\235\132\236\130\237\141\240\156" +
+    "\241\101\242\116\243\155\244\071\245\143\246\165\247" +
+    "\114\250\146\251\115\252\152\253\072\254\145\255\230" +
+    "\256\232\257\226\262\u0126\325\157\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\006\266\u0271" +
+    "\267\u02bc\001\001\000\002\001\001\000\124\004\100\006" +
+    "\140\007\113\010\105\011\120\017\107\020\166\021\126" +
+    "\215\121\216\151\217\144\220\u02be\221\u0127\222\164\223" +
+    "\075\230\064\231\153\232\167\233\231\234\073\235\132" +
+    "\236\130\237\141\240\156\241\101\242\116\243\155\244" +
+    "\071\245\143\246\165\247\114\250\146\251\115\252\152" +
+    "\253\072\254\145\255\230\256\232\257\226\262\u0126\325" +
+    "\157\001\001\000\002\001\001\000\004\055\u02c0\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\124\004\100\006\140\007\113\010\105\011\120\017\107" +
+    "\020\166\021\126\215\121\216\151\217\144\220\u02c4\221" +
+    "\u0127\222\164\223\075\230\064\231\153\232\167\233\231" +
+    "\234\073\235\132\236\130\237\141\240\156\241\101\242" +
+    "\116\243\155\244\071\245\143\246\165\247\114\250\146" +
+    "\251\115\252\152\253\072\254\145\255\230\256\232\257" +
+    "\226\262\u0126\325\157\001\001\000\002\001\001\000\002" +
+    "\001\001\000\124\004\100\006\140\007\113\010\105\011" +
+    "\120\017\107\020\166\021\126\215\121\216\151\217\144" +
+    "\220\u02c7\221\u0127\222\164\223\075\230\064\231\153\232" +
+    "\167\233\231\234\073\235\132\236\130\237\141\240\156" +
+    "\241\101\242\116\243\155\244\071\245\143\246\165\247" +
+    "\114\250\146\251\115\252\152\253\072\254\145\255\230" +
+    "\256\232\257\226\262\u0126\325\157\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\124\004\100" +
+    "\006\140\007\113\010\105\011\120\017\107\020\166\021" +
+    "\126\215\121\216\151\217\144\220\u02cb\221\u0127\222\164" +
+    "\223\075\230\064\231\153\232\167\233\231\234\073\235" +
+    "\132\236\130\237\141\240\156\241\101\242\116\243\155" +
+    "\244\071\245\143\246\165\247\114\250\146\251\115\252" +
+    "\152\253\072\254\145\255\230\256\232\257\226\262\u0126" +
+    "\325\157\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\124\004\100\006\140" +
+    "\007\113\010\105\011\120\017\107\020\166\021\126\215" +
+    "\121\216\151\217\144\220\u02d0\221\u0127\222\164\223\075" +
+    "\230\064\231\153\232\167\233\231\234\073\235\132\236" +
+    "\130\237\141\240\156\241\101\242\116\243\155\244\071" +
+    "\245\143\246\165\247\114\250\146\251\115\252\152\253" +
+    "\072\254\145\255\230\256\232\257\226\262\u0126\325\157" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\004\266\u02d5\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\124\004\100\006\140\007" +
+    "\113\010\105\011\120\017\107\020\166\021\126\215\121" +
+    "\216\151\217\144\220\u02d8\221\u0127\222\164\223\075\230" +
+    "\064\231\153\232\167\233\231\234\073\235\132\236\130" +
+    "\237\141\240\156\241\101\242\116\243\155\244\071\245" +
+    "\143\246\165\247\114\250\146\251\115\252\152\253\072" +
+    "\254\145\255\230\256\232\257\226\262\u0126\325\157\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\124\004\100\006\140\007\113\010\105\011\120\017" +
+    "\107\020\166\021\126\215\121\216\151\217\144\220\u02dc" +
+    "\221\u0127\222\164\223\075\230\064\231\153\232\167\233" +
+    "\231\234\073\235\132\236\130\237\141\240\156\241\101" +
+    "\242\116\243\155\244\071\245\143\246\165\247\114\250" +
+    "\146\251\115\252\152\253\072\254\145\255\230\256\232" +
+    "\257\226\262\u0126\325\157\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\010\210\u02e4\211\u02e2\212\u02e3\001\001\000" +
+    "\004\212\u02ed\001\001\000\002\001\001\000\004\213\u02eb" +
+    "\001\001\000\002\001\001\000\014\104\u02e7\105\u014f\106" +
+    "\u014a\107\u014d\352\u014c\001\001\000\002\001\001\000\004" +
+    "\136\u02e9\001\001\000\002\001\001\000\004\136\u02ec\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\116\004\100\005\u02f3\006\u0227\007\113\010\105\011\120" +
+    "\012\u0141\013\257\016\262\017\u0261\020\166\021\126\042" +
+    "\u0262\044\032\045\045\046\u025d\143\u025f\153\u025c\174\u02f2" +
+    "\175\u025e\200\u0263\215\121\216\151\217\u0208\222\164\223" +
+    "\075\230\064\231\u01fd\232\167\233\u020c\234\u0233\235\u020a" +
+    "\240\u0213\241\u022c\257\u0228\264\256\350\u012e\351\u019b\001" +
+    "\001\000\002\001\001\000\010\073\u028e\074\u01ae\075\u02f4" +
+    "\001\001\000\002\001\001\000\120\004\100\006\140\007" +
+    "\113\010\105\011\120\017\107\020\166\021\126\215\121" +
+    "\216\151\217\144\222\164\223\075\230\064\231\153\232" +
+    "\167\233\231\234\073\235\132\236\130\237\141\240\156" +
+    "\241\101\242\116\243\155\244\071\245\143\246\165\247" +
+    "\114\250\146\251\115\252\152\253\072\254\145\255\230" +
+    "\256\232\257\226\262\u02f6\325\157\001\001\000\002\001" +
+    "\001\000\130\004\100\006\140\007\113\010\105\011\120" +
+    "\017\107\020\166\021\126\136\u0209\144\u0293\146\u021b\147" +
+    "\u0214\150\u022e\152\u0221\153\u0206\154\u0217\155\u022d\157\u0201" +
+    "\165\u0229\167\u0236\170\u0237\172\u01fc\202\u0210\203\u022b\204" +
+    "\u0215\205\u0232\206\u01ff\207\u0207\214\u0211\215\121\216\151" +
+    "\217\u0208\222\164\223\075\230\064\231\u01fd\232\167\233" +
+    "\u020c\234\u0233\235\u020a\240\u0213\241\u022c\257\u0228\001\001" +
+    "\000\122\004\100\006\140\007\113\010\105\011\120\017" +
+    "\107\020\166\021\126\215\121\216\151\217\144\222\164" +
+    "\223\075\230\064\231\153\232\167\233\231\234\073\235" +
+    "\132\236\130\237\141\240\156\241\101\242\116\243\155" +
+    "\244\071\245\143\246\165\247\114\250\146\251\115\252" +
+    "\152\253\072\254\145\255\230\256\232\257\226\261\u02f9" +
+    "\262\u0296\325\157\001\001\000\002\001\001\000\066\004" +
+    "\100\006\140\007\113\010\105\011\120\017\107\020\166" +
+    "\021\126\153\u025c\176\u02fb\177\u0299\200\u029a\215\121\216" +
+    "\151\217\u0208\222\164\223\075\230\064\231\u01fd\232\167" +
+    "\233\u020c\234\u0233\235\u020a\240\u0213\241\u022c\257\u0228\001" +
+    "\001\000\002\001\001\000\130\004\100\006\140\007\113" +
+    "\010\105\011\120\017\107\020\166\021\126\136\u0209\144" +
+    "\u029e\146\u021b\147\u0214\150\u022e\152\u0221\153\u0206\154\u0217" +
+    "\155\u022d\157\u0201\165\u0229\167\u0236\170\u0237\172\u01fc\202" +
+    "\u0210\203\u022b\204\u0215\205\u0232\206\u01ff\207\u0207\214\u0211" +
+    "\215\121\216\151\217\u0208\222\164\223\075\230\064\231" +
+    "\u01fd\232\167\233\u020c\234\u0233\235\u020a\240\u0213\241\u022c" +
+    "\257\u0228\001\001\000\032\005\u02fe\006\u0142\007\113\010" +
+    "\105\011\120\012\u0141\013\257\016\262\017\263\020\166" +
+    "\021\126\264\256\001\001\000\004\075\u02ff\001\001\000" +
+    "\002\001\001\000\120\004\100\006\140\007\113\010\105" +
+    "\011\120\017\107\020\166\021\126\215\121\216\151\217" +
+    "\144\222\164\223\075\230\064\231\153\232\167\233\231" +
+    "\234\073\235\132\236\130\237\141\240\156\241\101\242" +
+    "\116\243\155\244\071\245\143\246\165\247\114\250\146" +
+    "\251\115\252\152\253\072\254\145\255\230\256\232\257" +
+    "\226\262\u0301\325\157\001\001\000\002\001\001\000\130" +
+    "\004\100\006\140\007\113\010\105\011\120\017\107\020" +
+    "\166\021\126\136\u0209\144\u02a6\146\u021b\147\u0214\150\u022e" +
+    "\152\u0221\153\u0206\154\u0217\155\u022d\157\u0201\165\u0229\167" +
+    "\u0236\170\u0237\172\u01fc\202\u0210\203\u022b\204\u0215\205\u0232" +
+    "\206\u01ff\207\u0207\214\u0211\215\121\216\151\217\u0208\222" +
+    "\164\223\075\230\064\231\u01fd\232\167\233\u020c\234\u0233" +
+    "\235\u020a\240\u0213\241\u022c\257\u0228\001\001\000\002\001" +
+    "\001\000\002\001\001\000\120\004\100\006\140\007\113" +
+    "\010\105\011\120\017\107\020\166\021\126\215\121\216" +
+    "\151\217\144\222\164\223\075\230\064\231\153\232\167" +
+    "\233\231\234\073\235\132\236\130\237\141\240\156\241" +
+    "\101\242\116\243\155\244\071\245\143\246\165\247\114" +
+    "\250\146\251\115\252\152\253\072\254\145\255\230\256" +
+    "\232\257\226\262\u0306\325\157\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\120\004\100\006" +
+    "\140\007\113\010\105\011\120\017\107\020\166\021\126" +
+    "\215\121\216\151\217\144\222\164\223\075\230\064\231" +
+    "\153\232\167\233\231\234\073\235\132\236\130\237\141" +
+    "\240\156\241\101\242\116\243\155\244\071\245\143\246" +
+    "\165\247\114\250\146\251\115\252\152\253\072\254\145" +
+    "\255\230\256\232\257\226\262\u030a\325\157\001\001\000" +
+    "\002\001\001\000\004\160\u030d\001\001\000\012\161\u0310" +
+    "\162\u0311\163\u0314\164\u0312\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\010\162\u031d\163\u031e" +
+    "\164\u0312\001\001\000\002\001\001\000\002\001\001\000" +
+    "\122\004\100\006\140\007\113\010\105\011\120\017\107" +
+    "\020\166\021\126\215\121\216\151\217\144\222\164\223" +
+    "\075\230\064\231\153\232\167\233\231\234\073\235\132" +
+    "\236\130\237\141\240\156\241\101\242\116\243\155\244" +
+    "\071\245\143\246\165\247\114\250\146\251\115\252\152" +
+    "\253\072\254\145\255\230\256\232\257\226\262\u031a\263" +
+    "\u0319\325\157\001\001\000\206\004\100\005\u021a\006\u0227" +
+    "\007\113\010\105\011\120\012\u0141\013\257\016\262\017" +
+    "\u0261\020\166\021\126\041\024\042\u0224\043\015\044\032" +
+    "\045\045\046\023\047\u0202\063\u0219\121\u020d\122\042\123" +
+    "\004\136\u0209\140\u0315\141\u0200\142\u020e\143\u0212\144\u0235" +
+    "\146\u021b\147\u0214\150\u022e\152\u0221\153\u0206\154\u0217\155" +
+    "\u022d\157\u0201\164\u0316\165\u0229\167\u0236\170\u0237\172\u01fc" +
+    "\202\u0210\203\u022b\204\u0215\205\u0232\206\u01ff\207\u0207\214" +
+    "\u0211\215\121\216\151\217\u0208\222\164\223\075\230\064" +
+    "\231\u01fd\232\167\233\u020c\234\u0233\235\u020a\240\u0213\241" +
+    "\u022c\257\u0228\264\256\350\u012e\351\050\001\001\000\202" +
+    "\004\100\005\u021a\006\u0227\007\113\010\105\011\120\012" +
+    "\u0141\013\257\016\262\017\u0261\020\166\021\126\041\024" +
+    "\042\u0224\043\015\044\032\045\045\046\023\047\u0202\063" +
+    "\u0219\121\u020d\122\042\123\004\136\u0209\141\u0318\142\u020e" +
+    "\143\u0212\144\u0235\146\u021b\147\u0214\150\u022e\152\u0221\153" +
+    "\u0206\154\u0217\155\u022d\157\u0201\165\u0229\167\u0236\170\u0237" +
+    "\172\u01fc\202\u0210\203\u022b\204\u0215\205\u0232\206\u01ff\207" +
+    "\u0207\214\u0211\215\121\216\151\217\u0208\222\164\223\075" +
+    "\230\064\231\u01fd\232\167\233\u020c\234\u0233\235\u020a\240" +
+    "\u0213\241\u022c\257\u0228\264\256\350\u012e\351\050\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\206\004\100\005\u021a\006" +
+    "\u0227\007\113\010\105\011\120\012\u0141\013\257\016\262" +
+    "\017\u0261\020\166\021\126\041\024\042\u0224\043\015\044" +
+    "\032\045\045\046\023\047\u0202\063\u0219\121\u020d\122\042" +
+    "\123\004\136\u0209\140\u0315\141\u0200\142\u020e\143\u0212\144" +
+    "\u0235\146\u021b\147\u0214\150\u022e\152\u0221\153\u0206\154\u0217" +
+    "\155\u022d\157\u0201\164\u0316\165\u0229\167\u0236\170\u0237\172" +
+    "\u01fc\202\u0210\203\u022b\204\u0215\205\u0232\206\u01ff\207\u0207" +
+    "\214\u0211\215\121\216\151\217\u0208\222\164\223\075\230" +
+    "\064\231\u01fd\232\167\233\u020c\234\u0233\235\u020a\240\u0213" +
+    "\241\u022c\257\u0228\264\256\350\u012e\351\050\001\001\000" +
+    "\002\001\001\000\002\001\001\000\120\004\100\006\140" +
+    "\007\113\010\105\011\120\017\107\020\166\021\126\215" +
+    "\121\216\151\217\144\222\164\223\075\230\064\231\153" +
+    "\232\167\233\231\234\073\235\132\236\130\237\141\240" +
+    "\156\241\101\242\116\243\155\244\071\245\143\246\165" +
+    "\247\114\250\146\251\115\252\152\253\072\254\145\255" +
+    "\230\256\232\257\226\262\u0322\325\157\001\001\000\002" +
+    "\001\001\000\130\004\100\006\140\007\113\010\105\011" +
+    "\120\017\107\020\166\021\126\136\u0209\144\u02ab\146\u021b" +
+    "\147\u0214\150\u022e\152\u0221\153\u0206\154\u0217\155\u022d\157" +
+    "\u0201\165\u0229\167\u0236\170\u0237\172\u01fc\202\u0210\203\u022b" +
+    "\204\u0215\205\u0232\206\u01ff\207\u0207\214\u0211\215\121\216" +
+    "\151\217\u0208\222\164\223\075\230\064\231\u01fd\232\167" +
+    "\233\u020c\234\u0233\235\u020a\240\u0213\241\u022c\257\u0228\001" +
+    "\001\000\124\004\100\006\140\007\113\010\105\011\120" +
+    "\017\107\020\166\021\126\215\121\216\151\217\144\220" +
+    "\u032f\221\u0127\222\164\223\075\230\064\231\153\232\167" +
+    "\233\231\234\073\235\132\236\130\237\141\240\156\241" +
+    "\101\242\116\243\155\244\071\245\143\246\165\247\114" +
+    "\250\146\251\115\252\152\253\072\254\145\255\230\256" +
+    "\232\257\226\262\u0126\325\157\001\001\000\004\266\u0326" +
+    "\001\001\000\002\001\001\000\002\001\001\000\124\004" +
+    "\100\006\140\007\113\010\105\011\120\017\107\020\166" +
+    "\021\126\215\121\216\151\217\144\220\u0329\221\u0127\222" +
+    "\164\223\075\230\064\231\153\232\167\233\231\234\073" +
+    "\235\132\236\130\237\141\240\156\241\101\242\116\243" +
+    "\155\244\071\245\143\246\165\247\114\250\146\251\115" +
+    "\252\152\253\072\254\145\255\230\256\232\257\226\262" +
+    "\u0126\325\157\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\124\004\100\006\140\007\113\010" +
+    "\105\011\120\017\107\020\166\021\126\215\121\216\151" +
+    "\217\144\220\u032d\221\u0127\222\164\223\075\230\064\231" +
+    "\153\232\167\233\231\234\073\235\132\236\130\237\141" +
+    "\240\156\241\101\242\116\243\155\244\071\245\143\246" +
+    "\165\247\114\250\146\251\115\252\152\253\072\254\145" +
+    "\255\230\256\232\257\226\262\u0126\325\157\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\202\004" +
+    "\100\005\u021a\006\u0227\007\113\010\105\011\120\012\u0141" +
+    "\013\257\016\262\017\u0261\020\166\021\126\041\024\042" +
+    "\u0224\043\015\044\032\045\045\046\023\047\u0202\063\u0219" +
+    "\121\u020d\122\042\123\004\136\u0209\141\u0318\142\u020e\143" +
+    "\u0212\144\u0235\146\u021b\147\u0214\150\u022e\152\u0221\153\u0206" +
+    "\154\u0217\155\u022d\157\u0201\165\u0229\167\u0236\170\u0237\172" +
+    "\u01fc\202\u0210\203\u022b\204\u0215\205\u0232\206\u01ff\207\u0207" +
+    "\214\u0211\215\121\216\151\217\u0208\222\164\223\075\230" +
+    "\064\231\u01fd\232\167\233\u020c\234\u0233\235\u020a\240\u0213" +
+    "\241\u022c\257\u0228\264\256\350\u012e\351\050\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\062\004\100\006\140\007\113\010\105\011\120" +
+    "\017\107\020\166\021\126\215\121\216\151\217\144\222" +
+    "\164\223\075\230\064\231\153\232\167\233\136\234\073" +
+    "\235\132\236\u03a5\237\141\240\156\241\101\242\116\001" +
+    "\001\000\002\001\001\000\002\001\001\000\004\227\u0386" +
+    "\001\001\000\062\004\100\006\140\007\113\010\105\011" +
+    "\120\017\107\020\166\021\126\215\121\216\151\217\144" +
+    "\222\164\223\075\230\064\231\153\232\167\233\136\234" +
+    "\073\235\132\236\u0375\237\141\240\156\241\101\242\116" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\062\004\100\006\140\007\113\010\105\011\120" +
+    "\017\107\020\166\021\126\215\121\216\151\217\144\222" +
+    "\164\223\075\230\064\231\153\232\167\233\136\234\073" +
+    "\235\132\236\u0372\237\141\240\156\241\101\242\116\001" +
+    "\001\000\002\001\001\000\062\004\100\006\140\007\113" +
+    "\010\105\011\120\017\107\020\166\021\126\215\121\216" +
+    "\151\217\144\222\164\223\075\230\064\231\153\232\167" +
+    "\233\136\234\073\235\132\236\u036f\237\141\240\156\241" +
+    "\101\242\116\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\076\004\100\006\140\007\113" +
+    "\010\105\011\120\017\107\020\166\021\126\215\121\216" +
+    "\151\217\144\222\164\223\075\230\064\231\153\232\167" +
+    "\233\136\234\073\235\132\236\130\237\141\240\156\241" +
+    "\101\242\116\243\155\244\071\245\143\246\165\247\u0354" +
+    "\325\157\001\001\000\002\001\001\000\074\004\100\006" +
+    "\140\007\113\010\105\011\120\017\107\020\166\021\126" +
+    "\215\121\216\151\217\144\222\164\223\075\230\064\231" +
+    "\153\232\167\233\136\234\073\235\132\236\130\237\141" +
+    "\240\156\241\101\242\116\243\155\244\071\245\143\246" +
+    "\165\325\u0358\001\001\000\074\004\100\006\140\007\113" +
+    "\010\105\011\120\017\107\020\166\021\126\215\121\216" +
+    "\151\217\144\222\164\223\075\230\064\231\153\232\167" +
+    "\233\136\234\073\235\132\236\130\237\141\240\156\241" +
+    "\101\242\116\243\155\244\071\245\143\246\165\325\u0357" +
+    "\001\001\000\002\001\001\000\002\001\001\000\030\006" +
+    "\261\007\113\010\105\011\120\012\u035a\013\257\016\262" +
+    "\017\263\020\166\021\126\264\256\001\001\000\002\001" +
+    "\001\000\106\004\100\006\140\007\113\010\105\011\120" +
+    "\017\107\020\166\021\126\215\121\216\151\217\144\222" +
+    "\164\223\075\230\064\231\153\232\167\233\136\234\073" +
+    "\235\132\236\130\237\141\240\156\241\101\242\116\243" +
+    "\155\244\071\245\143\246\165\247\114\250\146\251\115" +
+    "\252\152\253\u0360\325\157\001\001\000\120\004\100\006" +
+    "\140\007\113\010\105\011\120\017\107\020\166\021\126" +
+    "\215\121\216\151\217\144\222\164\223\075\230\064\231" +
+    "\153\232\167\233\231\234\073\235\132\236\130\237\141" +
+    "\240\156\241\101\242\116\243\155\244\071\245\143\246" +
+    "\165\247\114\250\146\251\115\252\152\253\072\254\145" +
+    "\255\230\256\232\257\226\262\u035d\325\157\001\001\000" +
+    "\002\001\001\000\112\004\100\006\140\007\113\010\105" +
+    "\011\120\017\107\020\166\021\126\215\121\216\151\217" +
+    "\144\222\164\223\075\230\064\231\153\232\167\233\136" +
+    "\234\073\235\132\236\130\237\141\240\156\241\101\242" +
+    "\116\243\155\244\071\245\143\246\165\247\114\250\146" +
+    "\251\115\252\152\253\072\254\145\255\u035f\325\157\001" +
+    "\001\000\002\001\001\000\002\001\001\000\104\004\100" +
+    "\006\140\007\113\010\105\011\120\017\107\020\166\021" +
+    "\126\215\121\216\151\217\144\222\164\223\075\230\064" +
+    "\231\153\232\167\233\136\234\073\235\132\236\130\237" +
+    "\141\240\156\241\101\242\116\243\155\244\071\245\143" +
+    "\246\165\247\114\250\146\251\115\252\u0362\325\157\001" +
+    "\001\000\002\001\001\000\102\004\100\006\140\007\113" +
+    "\010\105\011\120\017\107\020\166\021\126\215\121\216" +
+    "\151\217\144\222\164\223\075\230\064\231\153\232\167" +
+    "\233\136\234\073\235\132\236\130\237\141\240\156\241" +
+    "\101\242\116\243\155\244\071\245\143\246\165\247\114" +
+    "\250\146\251\u0364\325\157\001\001\000\002\001\001\000" +
+    "\070\004\100\006\140\007\113\010\105\011\120\017\107" +
+    "\020\166\021\126\215\121\216\151\217\144\222\164\223" +
+    "\075\230\064\231\153\232\167\233\136\234\073\235\132" +
+    "\236\130\237\141\240\156\241\101\242\116\243\155\244" +
+    "\071\245\u0368\001\001\000\070\004\100\006\140\007\113" +
+    "\010\105\011\120\017\107\020\166\021\126\215\121\216" +
+    "\151\217\144\222\164\223\075\230\064\231\153\232\167" +
+    "\233\136\234\073\235\132\236\130\237\141\240\156\241" +
+    "\101\242\116\243\155\244\071\245\u0367\001\001\000\002" +
+    "\001\001\000\002\001\001\000\062\004\100\006\140\007" +
+    "\113\010\105\011\120\017\107\020\166\021\126\215\121" +
+    "\216\151\217\144\222\164\223\075\230\064\231\153\232" +
+    "\167\233\136\234\073\235\132\236\u036e\237\141\240\156" +
+    "\241\101\242\116\001\001\000\062\004\100\006\140\007" +
+    "\113\010\105\011\120\017\107\020\166\021\126\215\121" +
+    "\216\151\217\144\222\164\223\075\230\064\231\153\232" +
+    "\167\233\136\234\073\235\132\236\u036d\237\141\240\156" +
+    "\241\101\242\116\001\001\000\062\004\100\006\140\007" +
+    "\113\010\105\011\120\017\107\020\166\021\126\215\121" +
+    "\216\151\217\144\222\164\223\075\230\064\231\153\232" +
+    "\167\233\136\234\073\235\132\236\u036c\237\141\240\156" +
+    "\241\101\242\116\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\004\266\u0371" +
+    "\001\001\000\002\001\001\000\002\001\001\000\100\004" +
+    "\100\006\140\007\113\010\105\011\120\017\107\020\166" +
+    "\021\126\215\121\216\151\217\144\222\164\223\075\230" +
+    "\064\231\153\232\167\233\136\234\073\235\132\236\130" +
+    "\237\141\240\156\241\101\242\116\243\155\244\071\245" +
+    "\143\246\165\247\114\250\u0374\325\157\001\001\000\002" +
+    "\001\001\000\002\001\001\000\062\004\100\006\140\007" +
+    "\113\010\105\011\120\017\107\020\166\021\126\215\121" +
+    "\216\151\217\144\222\164\223\075\230\064\231\153\232" +
+    "\167\233\136\234\073\235\132\236\u03a3\237\141\240\156" +
+    "\241\101\242\116\001\001\000\076\004\100\006\140\007" +
+    "\113\010\105\011\120\017\107\020\166\021\126\215\121" +
+    "\216\151\217\144\222\164\223\075\230\064\231\153\232" +
+    "\167\233\136\234\073\235\132\236\130\237\141\240\156" +
+    "\241\101\242\116\243\155\244\071\245\143\246\165\247" +
+    "\u03a2\325\157\001\001\000\070\004\100\006\140\007\113" +
+    "\010\105\011\120\017\107\020\166\021\126\215\121\216" +
+    "\151\217\144\222\164\223\075\230\064\231\153\232\167" +
+    "\233\136\234\073\235\132\236\130\237\141\240\156\241" +
+    "\101\242\116\243\155\244\071\245\u03a1\001\001\000\120" +
+    "\004\100\006\140\007\113\010\105\011\120\017\107\020" +
+    "\166\021\126\215\121\216\151\217\144\222\164\223\075" +
+    "\230\064\231\153\232\167\233\231\234\073\235\132\236" +
+    "\130\237\141\240\156\241\101\242\116\243\155\244\071" +
+    "\245\143\246\165\247\114\250\146\251\115\252\152\253" +
+    "\072\254\145\255\230\256\232\257\226\262\u039e\325\157" +
+    "\001\001\000\064\004\100\006\140\007\113\010\105\011" +
+    "\120\017\107\020\166\021\126\215\121\216\151\217\144" +
+    "\222\164\223\075\230\064\231\153\232\167\233\136\234" +
+    "\073\235\132\236\130\237\141\240\156\241\101\242\116" +
+    "\243\u039d\001\001\000\074\004\100\006\140\007\113\010" +
+    "\105\011\120\017\107\020\166\021\126\215\121\216\151" +
+    "\217\144\222\164\223\075\230\064\231\153\232\167\233" +
+    "\136\234\073\235\132\236\130\237\141\240\156\241\101" +
+    "\242\116\243\155\244\071\245\143\246\165\325\u039c\001" +
+    "\001\000\002\001\001\000\102\004\100\006\140\007\113" +
+    "\010\105\011\120\017\107\020\166\021\126\215\121\216" +
+    "\151\217\144\222\164\223\075\230\064\231\153\232\167" +
+    "\233\136\234\073\235\132\236\130\237\141\240\156\241" +
+    "\101\242\116\243\155\244\071\245\143\246\165\247\114" +
+    "\250\146\251\u039b\325\157\001\001\000\066\004\100\006" +
+    "\140\007\113\010\105\011\120\017\107\020\166\021\126" +
+    "\215\121\216\151\217\144\222\164\223\075\230\064\231" +
+    "\153\232\167\233\136\234\073\235\132\236\130\237\141" +
+    "\240\156\241\101\242\116\243\155\244\u039a\001\001\000" +
+    "\106\004\100\006\140\007\113\010\105\011\120\017\107" +
+    "\020\166\021\126\215\121\216\151\217\144\222\164\223" +
+    "\075\230\064\231\153\232\167\233\136\234\073\235\132" +
+    "\236\130\237\141\240\156\241\101\242\116\243\155\244" +
+    "\071\245\143\246\165\247\114\250\146\251\115\252\152" +
+    "\253\u0399\325\157\001\001\000\066\004\100\006\140\007" +
+    "\113\010\105\011\120\017\107\020\166\021\126\215\121" +
+    "\216\151\217\144\222\164\223\075\230\064\231\153\232" +
+    "\167\233\136\234\073\235\132\236\130\237\141\240\156" +
+    "\241\101\242\116\243\155\244\u0398\001\001\000\070\004" +
+    "\100\006\140\007\113\010\105\011\120\017\107\020\166" +
+    "\021\126\215\121\216\151\217\144\222\164\223\075\230" +
+    "\064\231\153\232\167\233\136\234\073\235\132\236\130" +
+    "\237\141\240\156\241\101\242\116\243\155\244\071\245" +
+    "\u0397\001\001\000\066\004\100\006\140\007\113\010\105" +
+    "\011\120\017\107\020\166\021\126\215\121\216\151\217" +
+    "\144\222\164\223\075\230\064\231\153\232\167\233\136" +
+    "\234\073\235\132\236\130\237\141\240\156\241\101\242" +
+    "\116\243\155\244\u0396\001\001\000\070\004\100\006\140" +
+    "\007\113\010\105\011\120\017\107\020\166\021\126\215" +
+    "\121\216\151\217\144\222\164\223\075\230\064\231\153" +
+    "\232\167\233\136\234\073\235\132\236\130\237\141\240" +
+    "\156\241\101\242\116\243\155\244\071\245\u0395\001\001" +
+    "\000\062\004\100\006\140\007\113\010\105\011\120\017" +
+    "\107\020\166\021\126\215\121\216\151\217\144\222\164" +
+    "\223\075\230\064\231\153\232\167\233\136\234\073\235" +
+    "\132\236\u0394\237\141\240\156\241\101\242\116\001\001" +
+    "\000\104\004\100\006\140\007\113\010\105\011\120\017" +
+    "\107\020\166\021\126\215\121\216\151\217\144\222\164" +
+    "\223\075\230\064\231\153\232\167\233\136\234\073\235" +
+    "\132\236\130\237\141\240\156\241\101\242\116\243\155" +
+    "\244\071\245\143\246\165\247\114\250\146\251\115\252" +
+    "\u0393\325\157\001\001\000\002\001\001\000\062\004\100" +
+    "\006\140\007\113\010\105\011\120\017\107\020\166\021" +
+    "\126\215\121\216\151\217\144\222\164\223\075\230\064" +
+    "\231\153\232\167\233\136\234\073\235\132\236\u0392\237" +
+    "\141\240\156\241\101\242\116\001\001\000\064\004\100" +
+    "\006\140\007\113\010\105\011\120\017\107\020\166\021" +
+    "\126\215\121\216\151\217\144\222\164\223\075\230\064" +
+    "\231\153\232\167\233\136\234\073\235\132\236\130\237" +
+    "\141\240\156\241\101\242\116\243\u0391\001\001\000\070" +
+    "\004\100\006\140\007\113\010\105\011\120\017\107\020" +
+    "\166\021\126\215\121\216\151\217\144\222\164\223\075" +
+    "\230\064\231\153\232\167\233\136\234\073\235\132\236" +
+    "\130\237\141\240\156\241\101\242\116\243\155\244\071" +
+    "\245\u0390\001\001\000\100\004\100\006\140\007\113\010" +
+    "\105\011\120\017\107\020\166\021\126\215\121\216\151" +
+    "\217\144\222\164\223\075\230\064\231\153\232\167\233" +
+    "\136\234\073\235\132\236\130\237\141\240\156\241\101" +
+    "\242\116\243\155\244\071\245\143\246\165\247\114\250" +
+    "\u038f\325\157\001\001\000\074\004\100\006\140\007\113" +
+    "\010\105\011\120\017\107\020\166\021\126\215\121\216" +
+    "\151\217\144\222\164\223\075\230\064\231\153\232\167" +
+    "\233\136\234\073\235\132\236\130\237\141\240\156\241" +
+    "\101\242\116\243\155\244\071\245\143\246\165\325\u038e" +
+    "\001\001\000\030\006\261\007\113\010\105\011\120\012" +
+    "\u038d\013\257\016\262\017\263\020\166\021\126\264\256" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\112\004\100" +
+    "\006\140\007\113\010\105\011\120\017\107\020\166\021" +
+    "\126\215\121\216\151\217\144\222\164\223\075\230\064" +
+    "\231\153\232\167\233\136\234\073\235\132\236\130\237" +
+    "\141\240\156\241\101\242\116\243\155\244\071\245\143" +
+    "\246\165\247\114\250\146\251\115\252\152\253\072\254" +
+    "\145\255\u03a0\325\157\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\070\004\100\006\140\007\113" +
+    "\010\105\011\120\017\107\020\166\021\126\215\121\216" +
+    "\151\217\144\222\164\223\075\230\064\231\153\232\167" +
+    "\233\136\234\073\235\132\236\130\237\141\240\156\241" +
+    "\101\242\116\243\155\244\071\245\u03af\001\001\000\070" +
+    "\004\100\006\140\007\113\010\105\011\120\017\107\020" +
+    "\166\021\126\215\121\216\151\217\144\222\164\223\075" +
+    "\230\064\231\153\232\167\233\136\234\073\235\132\236" +
+    "\130\237\141\240\156\241\101\242\116\243\155\244\071" +
+    "\245\u03ae\001\001\000\066\004\100\006\140\007\113\010" +
+    "\105\011\120\017\107\020\166\021\126\215\121\216\151" +
+    "\217\144\222\164\223\075\230\064\231\153\232\167\233" +
+    "\136\234\073\235\132\236\130\237\141\240\156\241\101" +
+    "\242\116\243\155\244\u03ad\001\001\000\066\004\100\006" +
+    "\140\007\113\010\105\011\120\017\107\020\166\021\126" +
+    "\215\121\216\151\217\144\222\164\223\075\230\064\231" +
+    "\153\232\167\233\136\234\073\235\132\236\130\237\141" +
+    "\240\156\241\101\242\116\243\155\244\u03ac\001\001\000" +
+    "\066\004\100\006\140\007\113\010\105\011\120\017\107" +
+    "\020\166\021\126\215\121\216\151\217\144\222\164\223" +
+    "\075\230\064\231\153\232\167\233\136\234\073\235\132" +
+    "\236\130\237\141\240\156\241\101\242\116\243\155\244" +
+    "\u03ab\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\064\004" +
+    "\100\006\140\007\113\010\105\011\120\017\107\020\166" +
+    "\021\126\215\121\216\151\217\144\222\164\223\075\230" +
+    "\064\231\153\232\167\233\136\234\073\235\132\236\130" +
+    "\237\141\240\156\241\101\242\116\243\u03b3\001\001\000" +
+    "\064\004\100\006\140\007\113\010\105\011\120\017\107" +
+    "\020\166\021\126\215\121\216\151\217\144\222\164\223" +
+    "\075\230\064\231\153\232\167\233\136\234\073\235\132" +
+    "\236\130\237\141\240\156\241\101\242\116\243\u03b2\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\124\004\100\006\140\007\113\010\105" +
+    "\011\120\017\107\020\166\021\126\215\121\216\151\217" +
+    "\144\220\u03ba\221\u0127\222\164\223\075\230\064\231\153" +
+    "\232\167\233\231\234\073\235\132\236\130\237\141\240" +
+    "\156\241\101\242\116\243\155\244\071\245\143\246\165" +
+    "\247\114\250\146\251\115\252\152\253\072\254\145\255" +
+    "\230\256\232\257\226\262\u0126\325\157\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\124\004" +
+    "\100\006\140\007\113\010\105\011\120\017\107\020\166" +
+    "\021\126\215\121\216\151\217\144\220\u03be\221\u0127\222" +
+    "\164\223\075\230\064\231\153\232\167\233\231\234\073" +
+    "\235\132\236\130\237\141\240\156\241\101\242\116\243" +
+    "\155\244\071\245\143\246\165\247\114\250\146\251\115" +
+    "\252\152\253\072\254\145\255\230\256\232\257\226\262" +
+    "\u0126\325\157\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\130\004\100\006\140\007\113\010" +
+    "\105\011\120\017\107\020\166\021\126\136\u0209\144\u02ae" +
+    "\146\u021b\147\u0214\150\u022e\152\u0221\153\u0206\154\u0217\155" +
+    "\u022d\157\u0201\165\u0229\167\u0236\170\u0237\172\u01fc\202\u0210" +
+    "\203\u022b\204\u0215\205\u0232\206\u01ff\207\u0207\214\u0211\215" +
+    "\121\216\151\217\u0208\222\164\223\075\230\064\231\u01fd" +
+    "\232\167\233\u020c\234\u0233\235\u020a\240\u0213\241\u022c\257" +
+    "\u0228\001\001\000\002\001\001\000\006\110\u03c4\111\u015c" +
+    "\001\001\000\006\113\u03c5\136\u0168\001\001\000\002\001" +
+    "\001\000\006\277\u016c\300\u03c7\001\001\000\006\050\u01c7" +
+    "\051\u03c8\001\001\000\006\052\u0190\053\u03c9\001\001\000" +
+    "\004\055\u03ca\001\001\000\002\001\001\000\034\005\u03cc" +
+    "\006\u0142\007\113\010\105\011\120\012\u0141\013\257\016" +
+    "\262\017\263\020\u0140\021\126\116\u03cd\264\256\001\001" +
+    "\000\004\101\u03d4\001\001\000\006\110\u03d2\111\u015c\001" +
+    "\001\000\004\101\u03cf\001\001\000\006\110\u03d0\111\u015c" +
+    "\001\001\000\006\113\u03d1\136\u0168\001\001\000\002\001" +
+    "\001\000\004\117\u03d3\001\001\000\002\001\001\000\006" +
+    "\110\u03d5\111\u015c\001\001\000\006\113\u03d6\136\u0168\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\202\004\100\005\u021a\006\u0227\007" +
+    "\113\010\105\011\120\012\u0141\013\257\016\262\017\u0261" +
+    "\020\166\021\126\041\024\042\u0224\043\015\044\032\045" +
+    "\045\046\023\047\u0202\063\u0219\121\u020d\122\042\123\004" +
+    "\136\u0209\141\u0318\142\u020e\143\u0212\144\u0235\146\u021b\147" +
+    "\u0214\150\u022e\152\u0221\153\u0206\154\u0217\155\u022d\157\u0201" +
+    "\165\u0229\167\u0236\170\u0237\172\u01fc\202\u0210\203\u022b\204" +
+    "\u0215\205\u0232\206\u01ff\207\u0207\214\u0211\215\121\216\151" +
+    "\217\u0208\222\164\223\075\230\064\231\u01fd\232\167\233" +
+    "\u020c\234\u0233\235\u020a\240\u0213\241\u022c\257\u0228\264\256" +
+    "\350\u012e\351\050\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\120\004\100" +
+    "\006\140\007\113\010\105\011\120\017\107\020\166\021" +
+    "\126\215\121\216\151\217\144\222\164\223\075\230\064" +
+    "\231\153\232\167\233\231\234\073\235\132\236\130\237" +
+    "\141\240\156\241\101\242\116\243\155\244\071\245\143" +
+    "\246\165\247\114\250\146\251\115\252\152\253\072\254" +
+    "\145\255\230\256\232\257\226\262\u03e6\325\157\001\001" +
+    "\000\010\225\u03e4\226\u03e3\227\u03e5\001\001\000\004\134" +
+    "\u03e2\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\010\225\u03e4\226\u03ef\227\u03e5\001\001\000\124" +
+    "\004\100\006\140\007\113\010\105\011\120\017\107\020" +
+    "\166\021\126\215\121\216\151\217\144\220\u03ec\221\u0127" +
+    "\222\164\223\075\230\064\231\153\232\167\233\231\234" +
+    "\073\235\132\236\130\237\141\240\156\241\101\242\116" +
+    "\243\155\244\071\245\143\246\165\247\114\250\146\251" +
+    "\115\252\152\253\072\254\145\255\230\256\232\257\226" +
+    "\262\u0126\325\157\001\001\000\004\134\u03eb\001\001\000" +
+    "\002\001\001\000\002\001\001\000\004\055\u03ee\001\001" +
+    "\000\002\001\001\000\002\001\001\000\046\006\261\007" +
+    "\113\010\105\011\120\012\303\013\257\016\262\017\263" +
+    "\020\166\021\126\264\300\270\302\271\u03f1\272\304\315" +
+    "\277\316\305\321\301\322\275\001\001\000\002\001\001" +
+    "\000\010\017\u03f3\020\166\021\126\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\004\227\u0404\001\001" +
+    "\000\006\226\u03fe\227\u03ff\001\001\000\002\001\001\000" +
+    "\002\001\001\000\062\004\100\006\140\007\113\010\105" +
+    "\011\120\017\107\020\166\021\126\215\121\216\151\217" +
+    "\144\222\164\223\075\230\064\231\153\232\167\233\136" +
+    "\234\073\235\132\236\u0401\237\141\240\156\241\101\242" +
+    "\116\001\001\000\002\001\001\000\116\004\100\006\u0409" +
+    "\007\113\010\105\011\120\012\303\013\257\016\262\017" +
+    "\u0261\020\166\021\126\215\121\216\151\217\144\222\164" +
+    "\223\075\230\064\231\153\232\167\233\136\234\073\235" +
+    "\132\236\130\237\141\240\156\241\101\242\116\243\155" +
+    "\244\071\245\u03a1\264\300\270\302\271\u0408\272\304\315" +
+    "\277\316\305\321\301\322\275\001\001\000\054\004\100" +
+    "\006\140\007\113\010\105\011\120\017\107\020\166\021" +
+    "\126\215\121\216\151\217\144\222\164\223\075\230\064" +
+    "\231\153\232\167\233\136\234\073\235\132\237\u0407\242" +
+    "\116\001\001\000\002\001\001\000\054\004\100\006\140" +
+    "\007\113\010\105\011\120\017\107\020\166\021\126\215" +
+    "\121\216\151\217\144\222\164\223\075\230\064\231\153" +
+    "\232\167\233\136\234\073\235\132\237\u0406\242\116\001" +
+    "\001\000\002\001\001\000\002\001\001\000\006\226\u040a" +
+    "\227\u03e5\001\001\000\004\227\u02ce\001\001\000\002\001" +
+    "\001\000\014\013\u040c\017\u0122\020\166\021\126\264\u011e" +
+    "\001\001\000\006\226\u040d\227\u03e5\001\001\000\002\001" +
+    "\001\000\054\004\100\006\140\007\113\010\105\011\120" +
+    "\017\107\020\166\021\126\215\121\216\151\217\144\222" +
+    "\164\223\075\230\064\231\153\232\167\233\136\234\073" +
+    "\235\132\237\u040f\242\116\001\001\000\002\001\001\000" +
+    "\054\004\100\006\140\007\113\010\105\011\120\017\107" +
+    "\020\166\021\126\215\121\216\151\217\144\222\164\223" +
+    "\075\230\064\231\153\232\167\233\136\234\073\235\132" +
+    "\237\u0411\242\116\001\001\000\002\001\001\000\004\367" +
+    "\u0413\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\004\357\u0418\001\001\000\046\041\u041e\042" +
+    "\035\043\015\044\032\045\045\046\023\047\u041b\063\u041f" +
+    "\072\u017d\121\u0421\122\042\123\004\132\u0420\350\u012e\351" +
+    "\050\360\u041d\361\u041a\362\u041c\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\042\041\u041e\042\035\043\015\044\032" +
+    "\045\045\046\023\047\u041b\063\u041f\072\u017d\121\u0421\122" +
+    "\042\123\004\132\u0420\350\u012e\351\050\362\u042b\001\001" +
+    "\000\032\005\u0422\006\u0142\007\113\010\105\011\120\012" +
+    "\u0141\013\257\016\262\017\263\020\166\021\126\264\256" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\010\073\u01b0\074\u01ae\075\u01ad\001\001\000\002" +
+    "\001\001\000\002\001\001\000\006\363\u0428\364\u0426\001" +
+    "\001\000\002\001\001\000\120\004\100\006\140\007\113" +
+    "\010\105\011\120\017\107\020\166\021\126\215\121\216" +
+    "\151\217\144\222\164\223\075\230\064\231\153\232\167" +
+    "\233\136\234\073\235\132\236\130\237\141\240\156\241" +
+    "\101\242\116\243\155\244\071\245\143\246\165\247\114" +
+    "\250\146\251\115\252\152\253\072\254\145\255\135\325" +
+    "\157\352\112\372\u042a\373\162\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\010\017\u042e\020\166\021\126\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\010\017\u0434\020\166" +
+    "\021\126\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\014\033\u0443" +
+    "\034\033\035\053\036\012\037\013\001\001\000\042\031" +
+    "\u0441\032\u0442\040\003\041\024\042\035\043\015\044\032" +
+    "\045\045\046\023\047\037\063\010\121\005\122\042\123" +
+    "\004\350\u012e\351\050\001\001\000\002\001\001\000\036" +
+    "\040\u043e\041\024\042\035\043\015\044\032\045\045\046" +
+    "\023\047\037\063\010\121\005\122\042\123\004\350\u012e" +
+    "\351\050\001\001\000\002\001\001\000\002\001\001\000" +
+    "\004\357\u0446\001\001\000\002\001\001\000\002\001\001" +
+    "" });
+  }
+
+}
@@ -20,7 +20,7 @@
  */
 package plag.parser.java;
 
-import plag.parser.CodeExcluder;
+import plag.parser.FileCodeExcluder;
 import plag.parser.TokenList;
 import plag.parser.Stats;
 
@@ -31,7 +31,7 @@ import java.util.Iterator;
  *
  */
 public class InterfaceCodeExcluder
-    implements CodeExcluder
+    implements FileCodeExcluder
 {
     /**
      * Initializes the statistics collection.
@@ -39,6 +39,7 @@ public class InterfaceCodeExcluder
     {
 	try {
 	    Stats.newCounter("tokens_excluded_as_interface_code");
+	    Stats.newCounter("interfaces_excluded");
 	}
 	catch (Exception e) {
 	}
@@ -52,30 +53,21 @@ public class InterfaceCodeExcluder
 		     boolean[] marksA,
 		     boolean[] marksB)
     {
-	boolean curMark = false;
-	for (int i = 0; i < tokensA.size(); i++) {
-	    int value = tokensA.getToken(i).getValue();
-	    if (curMark)
-		marksA[i] = true;
-	    if (value == PlagSym.INTERFACE_DECLARATION) {
-		marksA[i] = true;
-		try {
-		    Stats.incCounter("interfaces_excluded");
-		}
-		catch (Exception e) {
-		}
-		curMark = true;
-	    }
-	    else if (value == PlagSym.INTERFACE_DECLARATION_END) {
-		curMark = false;
-	    }
-	}
+	mark(tokensA, marksA);
+	mark(tokensB, marksB);
+    }
 
-	curMark = false;
-	for (int i = 0; i < tokensB.size(); i++) {
-	    int value = tokensB.getToken(i).getValue();
+    /**
+     * Marks the interface code in the token list in the given array as true.
+     */
+    public void mark(TokenList tokens,
+		     boolean[] marks)
+    {
+	boolean curMark = false;
+	for (int i = 0; i < tokens.size(); i++) {
+	    int value = tokens.valueAt(i);
 	    if (curMark) {
-		marksB[i] = true;
+		marks[i] = true;
 		try {
 		    Stats.incCounter("tokens_excluded_as_interface_code");
 		}
@@ -83,9 +75,10 @@ public class InterfaceCodeExcluder
 		}
 	    }
 	    if (value == PlagSym.INTERFACE_DECLARATION) {
-		marksB[i] = true;
+		marks[i] = true;
 		try {
 		    Stats.incCounter("tokens_excluded_as_interface_code");
+		    Stats.incCounter("interfaces_excluded");
 		}
 		catch (Exception e) {
 		}
@@ -35,28 +35,74 @@ public class JavaTokenizer
     implements CodeTokenizer
 {
 
+    /** The parser of each thread */
+    private static final ThreadLocal parsers = new ThreadLocal();
+
+    /** Whether to use FastLexer instead of Lexer */
+    private boolean fastLexer = true;
+
     public JavaTokenizer()
     {
     }
 
     /**
-     * Returns a token list of the given Java source code file.
+     * Sets whether to scan the files with FastLexer, which gives the
+     * same tokens as Lexer without creating objects for the lexemes.
+     * FastLexer is used by default.
+     */
+    public void setFastLexer(boolean fastLexer)
+    {
+	this.fastLexer = fastLexer;
+    }
+
+    /**
+     * Returns the parser of the current thread. The parsers are
+     * reused for all the files tokenized by the thread.
+     */
+    private static Grm15 getParser()
+    {
+	Grm15 parser = (Grm15)parsers.get();
+	if (parser == null) {
+	    parser = new Grm15();
+	    parsers.set(parser);
+	}
+	return parser;
+    }
+
+    /**
+     * Returns a token list of the given Java source code file. Each
+     * call uses a tokenization context of its own and the parser of
+     * the current thread, so several files can be tokenized at the
+     * same time.
      */
     public TokenList tokenize(File file)
 	throws Exception
     {
-		PlagSym.init(file.getPath());
-		
-		Reader fr = new BufferedReader(new FileReader(file));
-		Lexer l = new Lexer(fr, 5);
-		java_cup.runtime.lr_parser g = new Grm15(l);
+	TokenizationContext context = new TokenizationContext(file);
+	Grm15 g = getParser();
+
+	if (fastLexer) {
+	    g.setInput(context.createFastLexer(5), context);
+	    try {
 		g.parse();
-	
-		TokenList tokens = PlagSym.getTokenList();
-	
-		fr.close();
-	
-		return tokens;
+	    }
+	    finally {
+		g.setInput(null, null);
+	    }
+	    return context.getTokenList();
+	}
+
+	Reader fr = context.getReader();
+	try {
+	    g.setInput(new Lexer(fr, 5), context);
+	    g.parse();
+	}
+	finally {
+	    g.setInput(null, null);
+	    fr.close();
+	}
+
+	return context.getTokenList();
     }
 
     /**
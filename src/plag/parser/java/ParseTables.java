@@ -0,0 +1,301 @@
+/* 
+ *  Copyright (C) 2006 Aleksi Ahtiainen, Mikko Rahikainen.
+ * 
+ *  This file is part of Plaggie.
+ *
+ *  Plaggie is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published
+ *  by the Free Software Foundation; either version 2 of the License,
+ *  or (at your option) any later version.
+ *
+ *  Plaggie is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Plaggie; if not, write to the Free Software
+ *  Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ *  02110-1301  USA
+ */
+package plag.parser.java;
+
+import java.io.*;
+import java.lang.reflect.Method;
+
+/**
+ * Reads and writes the parse tables of Grm15 as a binary resource.
+ * Reading the resource is much faster than decoding the tables from
+ * the strings of the generated parser, which is done at every start
+ * otherwise.
+ *
+ * The resource has a magic number and the length of the rest as ints,
+ * then the number of the tables, the number of the rows of each table
+ * and the length of each row as ints, and then all the entries of the
+ * tables as shorts.
+ *
+ * The parser generated by CUP is split first, so that its tables are
+ * decoded from the strings only without the resource. Then the
+ * resource is written from the strings: <pre>
+ *   java plag.parser.java.ParseTables -split plag/parser/java/Grm15.java
+ *   java plag.parser.java.ParseTables plag/parser/java/Grm15.tables
+ * </pre>
+ */
+public class ParseTables
+{
+
+    /** The first int of the resource, "PTB1" */
+    private static final int MAGIC = 0x50544231;
+
+    /**
+     * Returns the tables read from the given resource of the class,
+     * or null if there is no such resource or it cannot be read.
+     */
+    public static short[][][] read(Class c, String resource)
+    {
+	InputStream in = c.getResourceAsStream(resource);
+	if (in == null)
+	    return null;
+
+	try {
+	    byte[] bytes;
+	    DataInputStream data = new DataInputStream(in);
+	    try {
+		if (data.readInt() != MAGIC)
+		    return null;
+		bytes = new byte[data.readInt()];
+		data.readFully(bytes);
+	    }
+	    finally {
+		data.close();
+	    }
+
+	    // Decoded by hand, this runs mostly in the interpreter and
+	    // is faster than the view buffers of java.nio
+	    int p = 0;
+	    short[][][] tables = new short[getInt(bytes, p)][][];
+	    p += 4;
+	    for (int i=0; i < tables.length; i++) {
+		tables[i] = new short[getInt(bytes, p)][];
+		p += 4;
+		for (int j=0; j < tables[i].length; j++) {
+		    tables[i][j] = new short[getInt(bytes, p)];
+		    p += 4;
+		}
+	    }
+	    for (int i=0; i < tables.length; i++) {
+		for (int j=0; j < tables[i].length; j++) {
+		    short[] row = tables[i][j];
+		    for (int k=0; k < row.length; k++, p += 2) {
+			row[k] = (short)((bytes[p] << 8) | (bytes[p+1] & 0xff));
+		    }
+		}
+	    }
+	    return tables;
+	}
+	catch (IOException e) {
+	    return null;
+	}
+	catch (RuntimeException e) {
+	    // A truncated or otherwise broken resource
+	    return null;
+	}
+    }
+
+    /**
+     * Returns the big-endian int at bytes[p..p+3].
+     */
+    private static int getInt(byte[] bytes, int p) {
+	return (bytes[p] << 24) | ((bytes[p+1] & 0xff) << 16) |
+	    ((bytes[p+2] & 0xff) << 8) | (bytes[p+3] & 0xff);
+    }
+
+    /**
+     * Writes the tables to the given file in the format read by
+     * read().
+     */
+    public static void write(short[][][] tables, File file)
+	throws IOException
+    {
+	ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+	DataOutputStream data = new DataOutputStream(bytes);
+	data.writeInt(tables.length);
+	for (int i=0; i < tables.length; i++) {
+	    data.writeInt(tables[i].length);
+	    for (int j=0; j < tables[i].length; j++) {
+		data.writeInt(tables[i][j].length);
+	    }
+	}
+	for (int i=0; i < tables.length; i++) {
+	    for (int j=0; j < tables[i].length; j++) {
+		for (int k=0; k < tables[i][j].length; k++) {
+		    data.writeShort(tables[i][j][k]);
+		}
+	    }
+	}
+	data.flush();
+
+	DataOutputStream out =
+	    new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+	try {
+	    out.writeInt(MAGIC);
+	    out.writeInt(bytes.size());
+	    bytes.writeTo(out);
+	}
+	finally {
+	    out.close();
+	}
+    }
+
+    /** The names of the tables in the order of the resource */
+    private static final String[] TABLE_NAMES =
+	new String[] { "production", "action", "reduce" };
+
+    /** The start of a table initializer generated by CUP */
+    private static final String INITIALIZER_START =
+	" = \n    unpackFromStrings(new String[] {\n";
+
+    /** The end of a table initializer generated by CUP */
+    private static final String INITIALIZER_END = "\" });\n";
+
+    /**
+     * Splits the parser source generated by CUP: moves the strings of
+     * the tables from the static initializers of the parser to the
+     * methods of a class named after the parser with the suffix
+     * Tables, and makes the parser read the tables from its resource
+     * or else decode them with those methods. Does nothing if the
+     * parser has been split already.
+     */
+    public static void split(File parserFile)
+	throws IOException
+    {
+	String parser = readFile(parserFile);
+	if (parser.indexOf(INITIALIZER_START) < 0)
+	    return;
+
+	String name = parserFile.getName();
+	name = name.substring(0, name.lastIndexOf('.'));
+	String tablesName = name + "Tables";
+
+	// The comment of the generated file and the package declaration
+	int packageEnd = parser.indexOf(";\n", parser.indexOf("package ")) + 2;
+	StringBuffer tables = new StringBuffer(parser.substring(0, packageEnd));
+	tables.append("\n/** The parse tables of "+name+" as the strings generated by CUP. Used\n"+
+		      "  * only when the tables are not read from the binary resource, and\n"+
+		      "  * by ParseTables to write the resource.\n"+
+		      "  */\n"+
+		      "class "+tablesName+" {\n");
+
+	StringBuffer loader = new StringBuffer();
+	for (int i=0; i < TABLE_NAMES.length; i++) {
+	    String field = "_"+TABLE_NAMES[i]+"_table";
+	    String method = "unpack"+Character.toUpperCase(TABLE_NAMES[i].charAt(0))+
+		TABLE_NAMES[i].substring(1)+"Table";
+
+	    int start = parser.indexOf(INITIALIZER_START, parser.indexOf(field));
+	    int end = parser.indexOf(INITIALIZER_END, start) + INITIALIZER_END.length();
+	    // The comment before the field, e.g. "/** Production table. */"
+	    int commentStart = parser.lastIndexOf("/** ", start) + 4;
+	    String comment = parser.substring(commentStart, parser.indexOf(". */", commentStart));
+
+	    tables.append("\n  /** Decodes the "+Character.toLowerCase(comment.charAt(0))+
+			  comment.substring(1)+" from its strings. */\n"+
+			  "  static short[][] "+method+"() {\n"+
+			  "    return "+name+".unpack(new String[] {\n"+
+			  parser.substring(start + INITIALIZER_START.length(), end)+
+			  "  }\n");
+	    loader.append((i == 0) ? "" : ",\n").append("\t"+tablesName+"."+method+"()");
+
+	    parser = parser.substring(0, start) + ";\n" + parser.substring(end);
+	}
+	tables.append("\n}\n");
+
+	String accessor = "  public short[][] reduce_table() {return _reduce_table;}\n";
+	int accessorEnd = parser.indexOf(accessor) + accessor.length();
+	parser = parser.substring(0, accessorEnd) +
+	    "\n"+
+	    "  /** The resource of the tables written by ParseTables. */\n"+
+	    "  static final String TABLES_RESOURCE = \""+name+".tables\";\n"+
+	    "\n"+
+	    "  /* Read the tables from the resource, or decode them from the\n"+
+	    "     strings if there is no resource. */\n"+
+	    "  static {\n"+
+	    "    short[][][] tables = ParseTables.read("+name+".class, TABLES_RESOURCE);\n"+
+	    "    if (tables == null)\n"+
+	    "      tables = new short[][][] {\n"+
+	    loader+" };\n"+
+	    "    _production_table = tables[0];\n"+
+	    "    _action_table = tables[1];\n"+
+	    "    _reduce_table = tables[2];\n"+
+	    "  }\n"+
+	    "\n"+
+	    "  /** Decodes a table from the strings of "+tablesName+". */\n"+
+	    "  static short[][] unpack(String[] sa) {\n"+
+	    "    return unpackFromStrings(sa);\n"+
+	    "  }\n" +
+	    parser.substring(accessorEnd);
+
+	writeFile(parserFile, parser);
+	writeFile(new File(parserFile.getParentFile(), tablesName + ".java"),
+		  tables.toString());
+    }
+
+    private static String readFile(File file)
+	throws IOException
+    {
+	byte[] bytes = new byte[(int)file.length()];
+	DataInputStream in = new DataInputStream(new FileInputStream(file));
+	try {
+	    in.readFully(bytes);
+	}
+	finally {
+	    in.close();
+	}
+	return new String(bytes, "ISO-8859-1");
+    }
+
+    private static void writeFile(File file, String contents)
+	throws IOException
+    {
+	OutputStream out = new FileOutputStream(file);
+	try {
+	    out.write(contents.getBytes("ISO-8859-1"));
+	}
+	finally {
+	    out.close();
+	}
+    }
+
+    /**
+     * Splits the generated parser source given after -split, or
+     * writes the tables of Grm15, decoded from the strings, to the
+     * file given as the argument.
+     */
+    public static void main(String[] args)
+	throws Exception
+    {
+	if ((args.length == 2) && args[0].equals("-split")) {
+	    split(new File(args[1]));
+	    return;
+	}
+	if (args.length != 1) {
+	    System.err.println("Usage: java plag.parser.java.ParseTables -split <parser source>");
+	    System.err.println("       java plag.parser.java.ParseTables <file>");
+	    System.exit(1);
+	}
+
+	// Grm15Tables is found by name, so this class can be compiled
+	// before the parser has been split
+	Class tablesClass = Class.forName("plag.parser.java.Grm15Tables");
+	short[][][] tables = new short[TABLE_NAMES.length][][];
+	for (int i=0; i < TABLE_NAMES.length; i++) {
+	    String method = "unpack"+Character.toUpperCase(TABLE_NAMES[i].charAt(0))+
+		TABLE_NAMES[i].substring(1)+"Table";
+	    Method unpack = tablesClass.getDeclaredMethod(method, new Class[0]);
+	    unpack.setAccessible(true);
+	    tables[i] = (short[][])unpack.invoke(null, new Object[0]);
+	}
+	write(tables, new File(args[0]));
+    }
+
+}
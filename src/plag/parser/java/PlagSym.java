@@ -20,146 +20,19 @@
  */
 package plag.parser.java;
 
-import plag.parser.TokenList;
-import plag.parser.Token;
-import java.io.*;
-import java.util.*;
-
 /**
- * Implements the plagiarisim detection support to Java parsing.
+ * Implements the plagiarisim detection support to Java parsing. The
+ * tokens of a file are collected to a TokenizationContext.
  *
  */
 public class PlagSym {
 
-    /** The String to prepend to each line of multiline code, if it 
-     * is printed */
-    private static final String PRE_MULTILINE = "";
-    
-    /** How many code lines maximum are printed. Defaults to 1, if set
-     * to 0, no code lines printed */
-    private static int multiLineThreshold = 1;
-
-    /** Should the line numbers be printed */
-    private static boolean printLineNumbers = true;
-
     /** Should the value strings be one character long */
     private static boolean useOneCharacterValueStrings = false;
 
-    /** String to use as separator between tokens */
-    private static String separator = "\n";
-
-    /** The beginning character number of each line */
-    private static int[] lineStarts = null;
-    
-    /** All the characters in the checked file */
-    private static StringBuffer fileContents = null;
-
-    /** All the tokens as Token objects */
-    private static TokenList tokens = null;
-
-    /** Column length to use for printing the code on separate column */
-    private static final int COL_LENGTH = 40;
-
-    /**
-     * Returns the line number of the character at charNumber.
-     */
-    private static int getLineNumber(int charNumber) {
-	for (int i = 1; i < lineStarts.length; i++) {
-	    if ((charNumber >= lineStarts[i-1]) && (charNumber < lineStarts[i])) {
-		return i;
-	    }
-	}
-	if (charNumber == lineStarts[lineStarts.length-1]) 
-	    return lineStarts.length;
-	return -1;
-    }
-
-    /**
-     * Returns the characters indicated by the given indices, which
-     * are also included in the returned string.
-     */
-    private static String getChars(int leftChar, int rightChar) {
-	return fileContents.substring(leftChar, rightChar+1);
-    }
-
-    private static String createEmptyString(int l) {
-	String s = "";
-	for (int i = 0; i < l; i++) {
-	    s+=" ";
-	}
-	return s;
-    }
-
-    /**
-     * Adds a token.
-     */
-    public static void addToken(int leftChar, int rightChar, int value) {
-	int lineLeft = getLineNumber(leftChar);
-	int lineRight = getLineNumber(rightChar);
-
-	Token t = new Token(lineLeft, lineRight, leftChar, rightChar, value);
-
-	tokens.addToken(t);
-	
-    }
-
-    public static void init(String filename, int multilineThreshold,
-			    boolean printLineNumbers) {
-	PlagSym.printLineNumbers = printLineNumbers;
-	init(filename, multilineThreshold);
-    }
-
-    public static void init(String filename, int multilineThreshold) {
-	PlagSym.multiLineThreshold = multilineThreshold;
-	PlagSym.init(filename);
-    }
-
-    /**
-     * Initializes the token printing for the given file.
-     */
-    public static void init(String filename) {
-	initValueStrings();
-	fileContents = new StringBuffer(10000);
-	tokens = new TokenList(filename);
-	try {
-	    File f = new File(filename);
-	    int length = (int)f.length();
-	    
-	    FileReader fis = new FileReader(f);
-	    LineNumberReader b = new LineNumberReader(fis);
-
-	    Vector vLineStarts = new Vector();
-	    int curLine = -1;
-
-	    /* Create the chars array and collect the line starts to a
-	     * vector */
-	    for (int i=0; i < length; i++) {
-		if (b.getLineNumber() > curLine) {
-		    curLine = b.getLineNumber();
-		    vLineStarts.add(new Integer(i));
-		}
-		fileContents.append((char)b.read());
-	    }
-
-	    b.close();
-	    fis.close();
-
-	    /* Create the array of line start character numbers */
-	    lineStarts = new int[vLineStarts.size()];
-	    for (int i = 0; i < vLineStarts.size(); i++) {
-		Integer j = (Integer)vLineStarts.get(i);
-		lineStarts[i] = j.intValue();
-	    }
-
-	}
-	catch (Exception e) {
-	    e.printStackTrace();
-	    System.exit(1);
-	}
-    }
-
     /**
-     *  Only initializes the value strings. Has to be done, if used with results read from a file.
+     *  Only initializes the value strings. They are initialized also
+     *  when the class is loaded.
      */
     public static void init() {
 	initValueStrings();
@@ -176,10 +49,6 @@ public class PlagSym {
 		
     }
 
-    public static TokenList getTokenList() {
-	return tokens;
-    }
-
     public final static int IMPORT_DECLARATION = 1;
     public final static int CLASS_DECLARATION = 2;
     public final static int INTERFACE_DECLARATION = 3;
@@ -244,6 +113,10 @@ public class PlagSym {
 
     private static String[] valueStrings = 
 	new String[INNER_ENUM_DECLARATION_END+1];
+
+    static {
+	initValueStrings();
+    }
     
     private static void initValueStrings() {
 	valueStrings[IMPORT_DECLARATION] = "IMPORT_DECLARATION";
@@ -0,0 +1,225 @@
+/* 
+ *  Copyright (C) 2006 Aleksi Ahtiainen, Mikko Rahikainen.
+ * 
+ *  This file is part of Plaggie.
+ *
+ *  Plaggie is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published
+ *  by the Free Software Foundation; either version 2 of the License,
+ *  or (at your option) any later version.
+ *
+ *  Plaggie is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Plaggie; if not, write to the Free Software
+ *  Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ *  02110-1301  USA
+ */
+package plag.parser.java;
+
+import plag.parser.TokenList;
+import plag.parser.java.lex.FastLexer;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * The state of tokenizing one Java source file: the line starts of
+ * the file and the tokens found so far. Each parser has a context of
+ * its own, where its actions add the tokens, so several files can be
+ * tokenized at the same time.
+ */
+public class TokenizationContext
+{
+
+    /** The beginning character number of each line */
+    private int[] lineStarts = null;
+
+    /** The number of lines in lineStarts */
+    private int lineCount = 0;
+
+    /** The characters of the file, decoded once */
+    private CharBuffer contents = null;
+
+    /** All the tokens added */
+    private TokenList tokens = null;
+
+    /**
+     * Creates the context for tokenizing the given file. Reads the
+     * whole file once and finds the line starts from its characters;
+     * the lexer reads the same characters through getReader().
+     */
+    public TokenizationContext(File file)
+	throws IOException
+    {
+	tokens = new TokenList(file.getPath());
+
+	byte[] bytes = readBytes(file);
+	contents = Charset.defaultCharset().decode(ByteBuffer.wrap(bytes));
+
+	char[] chars = contents.array();
+	int offset = contents.arrayOffset() + contents.position();
+	int end = offset + contents.remaining();
+
+	lineStarts = new int[256];
+	int curLine = -1;
+
+	/* Collect the line start character numbers. The characters
+	   are counted as LineNumberReader reads them: a CR LF pair is
+	   one character, and a last line without a line terminator
+	   ends at the end of the file. */
+	int line = 0;
+	boolean lastWasChar = false;
+	boolean skipLF = false;
+	int pos = offset;
+	for (int i=0; i < bytes.length; i++) {
+	    if (line > curLine) {
+		curLine = line;
+		if (lineCount == lineStarts.length) {
+		    int[] newLineStarts = new int[2*lineCount];
+		    System.arraycopy(lineStarts, 0, newLineStarts, 0, lineCount);
+		    lineStarts = newLineStarts;
+		}
+		lineStarts[lineCount++] = i;
+	    }
+	    int c = (pos < end) ? chars[pos++] : -1;
+	    if (skipLF) {
+		if (c == '\n')
+		    c = (pos < end) ? chars[pos++] : -1;
+		skipLF = false;
+	    }
+	    if ((c == '\r') || (c == '\n')) {
+		skipLF = (c == '\r');
+		line++;
+		lastWasChar = false;
+	    }
+	    else if (c == -1) {
+		if (lastWasChar)
+		    line++;
+		lastWasChar = false;
+	    }
+	    else {
+		lastWasChar = true;
+	    }
+	}
+    }
+
+    /**
+     * Reads all the bytes of the file with one open and as few reads
+     * as possible.
+     */
+    private static byte[] readBytes(File file)
+	throws IOException
+    {
+	FileInputStream fis = new FileInputStream(file);
+	try {
+	    byte[] bytes = new byte[(int)file.length()];
+	    int length = 0;
+	    while (true) {
+		if (length == bytes.length) {
+		    // The file may have grown after its length was asked
+		    int c = fis.read();
+		    if (c < 0)
+			break;
+		    byte[] newBytes = new byte[2*bytes.length + 1];
+		    System.arraycopy(bytes, 0, newBytes, 0, length);
+		    bytes = newBytes;
+		    bytes[length++] = (byte)c;
+		}
+		int n = fis.read(bytes, length, bytes.length - length);
+		if (n < 0)
+		    break;
+		length += n;
+	    }
+	    if (length < bytes.length) {
+		byte[] newBytes = new byte[length];
+		System.arraycopy(bytes, 0, newBytes, 0, length);
+		bytes = newBytes;
+	    }
+	    return bytes;
+	}
+	finally {
+	    fis.close();
+	}
+    }
+
+    /**
+     * Returns a reader of the characters of the file, for the lexer.
+     * The reader shares the characters read by the constructor, the
+     * file is not read again.
+     */
+    public Reader getReader() {
+	return new CharArrayReader(contents.array(),
+				   contents.arrayOffset() + contents.position(),
+				   contents.remaining());
+    }
+
+    /**
+     * Returns a FastLexer of the characters of the file. The lexer
+     * scans the characters read by the constructor.
+     */
+    public FastLexer createFastLexer(int java_minor_version)
+	throws IOException
+    {
+	return new FastLexer(contents.array(),
+			     contents.arrayOffset() + contents.position(),
+			     contents.remaining(), java_minor_version);
+    }
+
+    /**
+     * Returns the characters of the file as a read-only buffer.
+     */
+    public CharBuffer getContents() {
+	return contents.asReadOnlyBuffer();
+    }
+
+    /**
+     * Returns the line number of the character at charNumber. The
+     * character at the start of the last line gets the number of the
+     * last line, the other characters after it and before the first
+     * line get -1. The line is found by binary search, the line starts
+     * are in ascending order.
+     */
+    private int getLineNumber(int charNumber) {
+	// Find the last line starting at or before charNumber
+	int low = 0;
+	int high = lineCount - 1;
+	while (low <= high) {
+	    int mid = (low + high) >>> 1;
+	    if (lineStarts[mid] <= charNumber) {
+		low = mid + 1;
+	    }
+	    else {
+		high = mid - 1;
+	    }
+	}
+	if ((high < 0) || (high == lineCount - 1)) {
+	    if ((lineCount > 0) && (charNumber == lineStarts[lineCount-1]))
+		return lineCount;
+	    return -1;
+	}
+	return high + 1;
+    }
+
+    /**
+     * Adds a token.
+     */
+    public void addToken(int leftChar, int rightChar, int value) {
+	int lineLeft = getLineNumber(leftChar);
+	int lineRight = getLineNumber(rightChar);
+
+	tokens.addToken(lineLeft, lineRight, leftChar, rightChar, value);
+    }
+
+    /**
+     * Returns the tokens added to this context.
+     */
+    public TokenList getTokenList() {
+	return tokens;
+    }
+
+}
@@ -9,12 +9,27 @@ public class EscapedUnicodeReader extends FilterReader {
   int pushback=-1;
   boolean isEvenSlash = true;
 
+  // characters read from the underlying reader but not yet translated.
+  char[] buf = new char[8192];
+  int bufPos = 0, bufEnd = 0;
+
   public EscapedUnicodeReader(Reader in) {
     super(in);
   }
+  // next untranslated character, or -1 at the end of stream.
+  private int next() throws IOException {
+    if (bufPos==bufEnd && !fill()) return -1;
+    return buf[bufPos++];
+  }
+  private boolean fill() throws IOException {
+    int n = in.read(buf, 0, buf.length);
+    if (n<=0) return false;
+    bufPos=0; bufEnd=n;
+    return true;
+  }
   public int read() throws IOException
     {
-    int r = (pushback==-1)?in.read():pushback; pushback=-1;
+    int r = (pushback==-1)?next():pushback; pushback=-1;
     
     if (r!='\\') {
       isEvenSlash=true;
@@ -26,7 +41,7 @@ public class EscapedUnicodeReader extends FilterReader {
       }
       
       // Check for the trailing u.
-      pushback=in.read();
+      pushback=next();
       if (pushback!='u') {
 	isEvenSlash=false;
 	return '\\';
@@ -35,12 +50,12 @@ public class EscapedUnicodeReader extends FilterReader {
       // OK, we've found backslash-u.  
       // Reset pushback and snarf up all trailing u's.
       pushback=-1;
-      while((r=in.read())=='u')
+      while((r=next())=='u')
 	;
       // Now we should find 4 hex digits. 
       // If we don't, we can raise bloody hell.
       int val=0;
-      for (int i=0; i<4; i++, r=in.read()) {
+      for (int i=0; i<4; i++, r=next()) {
 	int d=Character.digit((char)r, 16);
 	if (r<0 || d<0)
 	  throw new IOException("Invalid unicode escape character.");
@@ -52,20 +67,41 @@ public class EscapedUnicodeReader extends FilterReader {
       return val;
     }
   }
-  // synthesize array read from single-character read.
+  // copy the spans without backslashes as they are, translate
+  // character by character only around the backslashes.
   public int read(char cbuf[], int off, int len) throws IOException {
-    for (int i=0; i<len; i++) {
+    int i=0;
+    while (i<len) {
+      if (pushback==-1) {
+	if (bufPos==bufEnd && !fill())
+	  return (i==0)?-1:i; // end of stream reached.
+	int start=bufPos, end=Math.min(bufEnd, bufPos+len-i);
+	while (bufPos<end && buf[bufPos]!='\\')
+	  bufPos++;
+	if (bufPos>start) {
+	  System.arraycopy(buf, start, cbuf, off+i, bufPos-start);
+	  i+=bufPos-start;
+	  isEvenSlash=true;
+	  continue;
+	}
+      }
       int c = read();
       if (c==-1) return (i==0)?-1:i; // end of stream reached.
-      else cbuf[i+off] = (char) c;
+      else cbuf[off+i++] = (char) c;
     }
     return len;
   }
+  public long skip(long n) throws IOException {
+    long i=0;
+    while (i<n && read()!=-1)
+      i++;
+    return i;
+  }
 
   public boolean markSupported() { return false; }
 
   public boolean ready() throws IOException {
-    if (pushback!=-1) return true;
+    if (pushback!=-1 || bufPos<bufEnd) return true;
     else return in.ready();
   }
 }
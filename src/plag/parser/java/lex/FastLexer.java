@@ -0,0 +1,681 @@
+/* 
+ *  Copyright (C) 2006 Aleksi Ahtiainen, Mikko Rahikainen.
+ * 
+ *  This file is part of Plaggie.
+ *
+ *  Plaggie is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published
+ *  by the Free Software Foundation; either version 2 of the License,
+ *  or (at your option) any later version.
+ *
+ *  Plaggie is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Plaggie; if not, write to the Free Software
+ *  Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ *  02110-1301  USA
+ */
+package plag.parser.java.lex;
+
+import java.io.IOException;
+
+/**
+ * A Java lexer working directly on the characters of a source file.
+ * Gives the same tokens with the same positions as Lexer, but returns
+ * them as symbol numbers and positions in primitive fields, and skips
+ * white space and comments without creating objects. nextToken()
+ * creates a Symbol without a value for the parser; the grammar uses
+ * only the positions of the terminals.
+ */
+public class FastLexer implements plag.parser.java.Lexer
+{
+
+    /** The keywords and the literal words in alphabetical order */
+    private static final String[] WORDS = new String[] {
+	"abstract", "assert", "boolean", "break", "byte", "case", "catch",
+	"char", "class", "const", "continue", "default", "do", "double",
+	"else", "enum", "extends", "false", "final", "finally", "float",
+	"for", "goto", "if", "implements", "import", "instanceof", "int",
+	"interface", "long", "native", "new", "null", "package", "private",
+	"protected", "public", "return", "short", "static", "strictfp",
+	"super", "switch", "synchronized", "this", "throw", "throws",
+	"transient", "true", "try", "void", "volatile", "while" };
+
+    /** The symbols of WORDS */
+    private static final int[] WORD_SYMBOLS = new int[] {
+	Sym.ABSTRACT, Sym.ASSERT, Sym.BOOLEAN, Sym.BREAK, Sym.BYTE,
+	Sym.CASE, Sym.CATCH, Sym.CHAR, Sym.CLASS, Sym.CONST, Sym.CONTINUE,
+	Sym.DEFAULT, Sym.DO, Sym.DOUBLE, Sym.ELSE, Sym.ENUM, Sym.EXTENDS,
+	Sym.BOOLEAN_LITERAL, Sym.FINAL, Sym.FINALLY, Sym.FLOAT, Sym.FOR,
+	Sym.GOTO, Sym.IF, Sym.IMPLEMENTS, Sym.IMPORT, Sym.INSTANCEOF,
+	Sym.INT, Sym.INTERFACE, Sym.LONG, Sym.NATIVE, Sym.NEW,
+	Sym.NULL_LITERAL, Sym.PACKAGE, Sym.PRIVATE, Sym.PROTECTED,
+	Sym.PUBLIC, Sym.RETURN, Sym.SHORT, Sym.STATIC, Sym.STRICTFP,
+	Sym.SUPER, Sym.SWITCH, Sym.SYNCHRONIZED, Sym.THIS, Sym.THROW,
+	Sym.THROWS, Sym.TRANSIENT, Sym.BOOLEAN_LITERAL, Sym.TRY, Sym.VOID,
+	Sym.VOLATILE, Sym.WHILE };
+
+    /** WORDS as character arrays */
+    private static final char[][] WORD_CHARS = new char[WORDS.length][];
+
+    static {
+	for (int i=0; i < WORDS.length; i++) {
+	    WORD_CHARS[i] = WORDS[i].toCharArray();
+	}
+    }
+
+    private boolean isJava12;
+    private boolean isJava14;
+    private boolean isJava15;
+
+    /** The characters to scan */
+    private char[] buf;
+
+    /** The index of the first character in buf */
+    private int base;
+
+    /** The index after the last character in buf */
+    private int end;
+
+    /** The index of the next character to scan */
+    private int pos;
+
+    /** The first character position of the last token */
+    private int left = 0;
+
+    /** The last character position of the last token */
+    private int right = 0;
+
+    /**
+     * Creates a lexer for the given characters. Unicode escapes are
+     * translated and the line terminators are changed to '\n' the
+     * same way as Lexer reads its input, so the token positions are
+     * the same. The characters are copied only if there is something
+     * to change.
+     */
+    public FastLexer(char[] chars, int offset, int length, int java_minor_version)
+	throws IOException
+    {
+	this.isJava12 = java_minor_version >= 2;
+	this.isJava14 = java_minor_version >= 4;
+	this.isJava15 = java_minor_version >= 5;
+
+	int last = offset + length;
+	boolean copy = (length > 0) && (chars[last-1] != '\n');
+	for (int i=offset; !copy && (i < last); i++) {
+	    if ((chars[i] == '\\') || (chars[i] == '\r'))
+		copy = true;
+	}
+
+	if (!copy) {
+	    buf = chars;
+	    base = offset;
+	    end = last;
+	}
+	else {
+	    buf = new char[length + 1];
+	    base = 0;
+	    end = translate(chars, offset, last, buf);
+	}
+	pos = base;
+    }
+
+    /**
+     * Translates the unicode escapes of chars[offset..last-1] like
+     * EscapedUnicodeReader and the line terminators like readLine()
+     * to out, and ends the last line with '\n'. Returns the number of
+     * characters in out.
+     */
+    private static int translate(char[] chars, int offset, int last, char[] out)
+	throws IOException
+    {
+	int n = 0;
+	boolean isEvenSlash = true;
+	boolean skipLF = false;
+	for (int i=offset; i < last; i++) {
+	    char c = chars[i];
+	    if (c != '\\') {
+		isEvenSlash = true;
+	    }
+	    else if (!isEvenSlash) {
+		// Only even slashes are eligible unicode escapes.
+		isEvenSlash = true;
+	    }
+	    else if ((i+1 < last) && (chars[i+1] == 'u')) {
+		int j = i + 2;
+		while ((j < last) && (chars[j] == 'u'))
+		    j++;
+		int val = 0;
+		for (int k=0; k < 4; k++, j++) {
+		    int d = (j < last) ? Character.digit(chars[j], 16) : -1;
+		    if (d < 0)
+			throw new IOException("Invalid unicode escape character.");
+		    val = (val*16) + d;
+		}
+		c = (char)val;
+		i = j - 1;
+		isEvenSlash = true;
+	    }
+	    else {
+		isEvenSlash = false;
+	    }
+
+	    if (skipLF && (c == '\n')) {
+		skipLF = false;
+		continue;
+	    }
+	    skipLF = (c == '\r');
+	    out[n++] = skipLF ? '\n' : c;
+	}
+	if ((n > 0) && (out[n-1] != '\n'))
+	    out[n++] = '\n';
+	return n;
+    }
+
+    /**
+     * Returns the first character position of the token returned
+     * last by next().
+     */
+    public int getLeft() {
+	return left;
+    }
+
+    /**
+     * Returns the last character position of the token returned last
+     * by next().
+     */
+    public int getRight() {
+	return right;
+    }
+
+    /**
+     * Returns the next token as a Symbol without a value.
+     */
+    public java_cup.runtime.Symbol nextToken()
+	throws LexerException
+    {
+	int sym = next();
+	return new java_cup.runtime.Symbol(sym, left, right);
+    }
+
+    /**
+     * Scans the next token. Returns its symbol number, its positions
+     * are then given by getLeft() and getRight().
+     */
+    public int next()
+	throws LexerException
+    {
+	while (true) {
+	    int start = pos;
+	    if (pos >= end) {
+		left = pos - base;
+		right = left - 1;
+		return Sym.EOF;
+	    }
+	    switch (buf[pos]) {
+		// White space:
+	    case ' ':
+	    case '\t':
+	    case '\f':
+	    case '\n':
+		pos++;
+		continue;
+
+		// EOF character:
+	    case '\020':
+		pos++;
+		left = right = start - base;
+		return Sym.EOF;
+
+		// Comment prefix, every line ends with '\n':
+	    case '/':
+		if (buf[pos+1] == '/') {
+		    while (buf[pos] != '\n')
+			pos++;
+		    pos++;
+		    continue;
+		}
+		if (buf[pos+1] == '*') {
+		    skipComment();
+		    continue;
+		}
+		break;
+
+	    default:
+		break;
+	    }
+	    int sym = getToken();
+	    left = start - base;
+	    right = pos - base - 1;
+	    return sym;
+	}
+    }
+
+    /**
+     * Skips a traditional or documentation comment starting at pos.
+     */
+    private void skipComment()
+	throws LexerException
+    {
+	for (int i=pos+2; i < end-1; i++) {
+	    if ((buf[i] == '*') && (buf[i+1] == '/')) {
+		pos = i + 2;
+		return;
+	    }
+	}
+	throw new LexerException("Unterminated comment at end of file.");
+    }
+
+    private int getToken()
+	throws LexerException
+    {
+	int start = pos;
+	char c = buf[pos];
+	switch (c) {
+	    // Separators: (period is a special case)
+	case '(':
+	case ')':
+	case '{':
+	case '}':
+	case '[':
+	case ']':
+	case ';':
+	case ',':
+	case '@':
+	    if (!isJava15)
+		break;
+	    pos++;
+	    return getSeparator(c);
+
+	    // Operators:
+	case '=':
+	case '>':
+	case '<':
+	case '!':
+	case '~':
+	case '?':
+	case ':':
+	case '&':
+	case '|':
+	case '+':
+	case '-':
+	case '*':
+	case '/':
+	case '^':
+	case '%':
+	    return getOperator();
+	case '\'':
+	    return getCharLiteral();
+	case '\"':
+	    return getStringLiteral();
+
+	    // a period is a special case:
+	case '.':
+	    if (Character.digit(buf[pos+1],10) != -1)
+		return getNumericLiteral();
+	    if (isJava15 && (buf[pos+1] == '.') && (buf[pos+2] == '.')) {
+		pos += 3;
+		return Sym.ELLIPSIS;
+	    }
+	    pos++;
+	    return Sym.DOT;
+
+	default:
+	    break;
+	}
+	if (Character.isJavaIdentifierStart(c))
+	    return getIdentifier();
+	if (Character.isDigit(c))
+	    return getNumericLiteral();
+	throw new LexerException("Illegal character on line "+getLine(start));
+    }
+
+    private static int getSeparator(char c) {
+	switch (c) {
+	case '(': return Sym.LPAREN;
+	case ')': return Sym.RPAREN;
+	case '{': return Sym.LBRACE;
+	case '}': return Sym.RBRACE;
+	case '[': return Sym.LBRACK;
+	case ']': return Sym.RBRACK;
+	case ';': return Sym.SEMICOLON;
+	case ',': return Sym.COMMA;
+	default: return Sym.AT;
+	}
+    }
+
+    private int getIdentifier() {
+	int start = pos++;
+	while (Character.isJavaIdentifierPart(buf[pos]))
+	    pos++;
+	int length = pos - start;
+
+	// Binary search of the keywords and literal words
+	for (int l=0, r=WORD_CHARS.length; r > l; ) {
+	    int x = (l+r)/2;
+	    int cmp = compare(start, length, WORD_CHARS[x]);
+	    if (cmp < 0) {
+		r = x;
+	    }
+	    else if (cmp > 0) {
+		l = x + 1;
+	    }
+	    else {
+		int sym = WORD_SYMBOLS[x];
+		// pre-java 1.5, 1.4 and 1.2 compatibility:
+		if (((sym == Sym.ENUM) && !isJava15) ||
+		    ((sym == Sym.ASSERT) && !isJava14) ||
+		    ((sym == Sym.STRICTFP) && !isJava12))
+		    return Sym.IDENTIFIER;
+		return sym;
+	    }
+	}
+	return Sym.IDENTIFIER;
+    }
+
+    /**
+     * Compares buf[start..start+length-1] to word like String.compareTo.
+     */
+    private int compare(int start, int length, char[] word) {
+	int n = Math.min(length, word.length);
+	for (int i=0; i < n; i++) {
+	    if (buf[start+i] != word[i])
+		return buf[start+i] - word[i];
+	}
+	return length - word.length;
+    }
+
+    private int getNumericLiteral()
+	throws LexerException
+    {
+	// leading decimal indicates float.
+	if (buf[pos] == '.')
+	    return getFloatingPointLiteral();
+	// 0x indicates Hex.
+	if ((buf[pos] == '0') && ((buf[pos+1] == 'x') || (buf[pos+1] == 'X'))) {
+	    int start = pos;
+	    pos += 2;
+	    return getIntegerLiteral(16, start);
+	}
+	// otherwise scan to first non-numeric
+	int i = pos;
+	while (Character.digit(buf[i],10) != -1)
+	    i++;
+	switch (buf[i]) {
+	case '.':
+	case 'f':
+	case 'F':
+	case 'd':
+	case 'D':
+	case 'e':
+	case 'E':
+	    return getFloatingPointLiteral();
+	default:
+	    if (buf[pos] == '0')
+		return getIntegerLiteral(8, pos);
+	    return getIntegerLiteral(10, pos);
+	}
+    }
+
+    private int getIntegerLiteral(int radix, int start)
+	throws LexerException
+    {
+	long val = 0;
+	while (Character.digit(buf[pos],radix) != -1)
+	    val = (val*radix) + Character.digit(buf[pos++],radix);
+	if ((buf[pos] == 'l') || (buf[pos] == 'L')) {
+	    pos++;
+	    return Sym.INTEGER_LITERAL;
+	}
+	// we compare MAX_VALUE against val/2 to allow constants like
+	// 0xFFFF0000 to get past the test. (unsigned long->signed int)
+	if (((val/2) > Integer.MAX_VALUE) || (val < Integer.MIN_VALUE))
+	    throw new LexerException("Constant does not fit in integer on line "+getLine(start));
+	return Sym.INTEGER_LITERAL;
+    }
+
+    private int getFloatingPointLiteral()
+	throws LexerException
+    {
+	int start = pos;
+	skipDigits();
+	if (buf[pos] == '.') {
+	    pos++;
+	    skipDigits();
+	}
+	int exponentDigits = -1;
+	if ((buf[pos] == 'e') || (buf[pos] == 'E')) {
+	    pos++;
+	    if ((buf[pos] == '+') || (buf[pos] == '-'))
+		pos++;
+	    exponentDigits = skipDigits();
+	}
+	boolean isFloat = (buf[pos] == 'f') || (buf[pos] == 'F');
+	// An exponent without digits and digits other than the ASCII
+	// ones do not parse, let the parse give the same error as Lexer
+	boolean check = (exponentDigits == 0);
+	for (int i=start; !check && (i < pos); i++) {
+	    if (buf[i] > 0x7f)
+		check = true;
+	}
+	if (check) {
+	    String rep = new String(buf, start, pos - start);
+	    try {
+		if (isFloat)
+		    Float.valueOf(rep);
+		else
+		    Double.valueOf(rep);
+	    } catch (NumberFormatException e) {
+		throw new LexerException("Illegal floating-point on line "+getLine(start)+": "+e);
+	    }
+	}
+	if (isFloat) {
+	    pos++;
+	    return Sym.FLOATING_POINT_LITERAL;
+	}
+	if ((buf[pos] == 'd') || (buf[pos] == 'D'))
+	    pos++;
+	return Sym.FLOATING_POINT_LITERAL;
+    }
+
+    /**
+     * Skips decimal digits, returns the number of them.
+     */
+    private int skipDigits() {
+	int start = pos;
+	while (Character.digit(buf[pos],10) != -1)
+	    pos++;
+	return pos - start;
+    }
+
+    private int getOperator() {
+	char first = buf[pos++];
+	char second = buf[pos];
+
+	switch (first) {
+	    // single-character operators.
+	case '~':
+	    return Sym.COMP;
+	case '?':
+	    return Sym.QUESTION;
+	case ':':
+	    return Sym.COLON;
+	    // doubled operators
+	case '+':
+	case '-':
+	case '&':
+	case '|':
+	    if (first == second) {
+		pos++;
+		switch (first) {
+		case '+': return Sym.PLUSPLUS;
+		case '-': return Sym.MINUSMINUS;
+		case '&': return Sym.ANDAND;
+		default: return Sym.OROR;
+		}
+	    }
+	default:
+	    break;
+	}
+	// Check for trailing '='
+	if (second == '=') {
+	    pos++;
+	    return getAssignmentOperator(first);
+	}
+
+	// Special-case '<<', '>>' and '>>>'
+	if (((first == '<') && (second == '<')) ||
+	    ((first == '>') && (second == '>'))) {
+	    pos++;
+	    int sym = (first == '<') ? Sym.LSHIFT : Sym.RSHIFT;
+	    if ((first == '>') && (buf[pos] == '>')) {
+		pos++;
+		sym = Sym.URSHIFT;
+	    }
+	    if (buf[pos] == '=') {
+		pos++;
+		switch (sym) {
+		case Sym.LSHIFT: return Sym.LSHIFTEQ;
+		case Sym.RSHIFT: return Sym.RSHIFTEQ;
+		default: return Sym.URSHIFTEQ;
+		}
+	    }
+	    return sym;
+	}
+
+	// Otherwise return single operator.
+	switch (first) {
+	case '=': return Sym.EQ;
+	case '>': return Sym.GT;
+	case '<': return Sym.LT;
+	case '!': return Sym.NOT;
+	case '+': return Sym.PLUS;
+	case '-': return Sym.MINUS;
+	case '*': return Sym.MULT;
+	case '/': return Sym.DIV;
+	case '&': return Sym.AND;
+	case '|': return Sym.OR;
+	case '^': return Sym.XOR;
+	default: return Sym.MOD;
+	}
+    }
+
+    /**
+     * Returns the symbol of the operator first followed by '='.
+     */
+    private static int getAssignmentOperator(char first) {
+	switch (first) {
+	case '=': return Sym.EQEQ;
+	case '<': return Sym.LTEQ;
+	case '>': return Sym.GTEQ;
+	case '!': return Sym.NOTEQ;
+	case '+': return Sym.PLUSEQ;
+	case '-': return Sym.MINUSEQ;
+	case '*': return Sym.MULTEQ;
+	case '/': return Sym.DIVEQ;
+	case '&': return Sym.ANDEQ;
+	case '|': return Sym.OREQ;
+	case '^': return Sym.XOREQ;
+	default: return Sym.MODEQ;
+	}
+    }
+
+    private int getCharLiteral()
+	throws LexerException
+    {
+	int start = pos++;
+	switch (buf[pos]) {
+	case '\\':
+	    skipEscapeSequence(start);
+	    break;
+	case '\'':
+	case '\n':
+	    throw new LexerException("Invalid character literal on line "+getLine(start));
+	default:
+	    pos++;
+	    break;
+	}
+	if (buf[pos++] != '\'')
+	    throw new LexerException("Invalid character literal on line "+getLine(start));
+	return Sym.CHARACTER_LITERAL;
+    }
+
+    private int getStringLiteral()
+	throws LexerException
+    {
+	int start = pos++;
+	while (buf[pos] != '\"') {
+	    switch (buf[pos]) {
+	    case '\\':
+		skipEscapeSequence(start);
+		break;
+	    case '\n':
+		throw new LexerException("Invalid string literal on line "+getLine(start));
+	    default:
+		pos++;
+		break;
+	    }
+	}
+	pos++;
+	return Sym.STRING_LITERAL;
+    }
+
+    private void skipEscapeSequence(int start)
+	throws LexerException
+    {
+	pos++;
+	switch (buf[pos]) {
+	case 'b':
+	case 't':
+	case 'n':
+	case 'f':
+	case 'r':
+	case '\"':
+	case '\'':
+	case '\\':
+	    pos++;
+	    return;
+	case '0':
+	case '1':
+	case '2':
+	case '3':
+	    skipOctal(3);
+	    return;
+	case '4':
+	case '5':
+	case '6':
+	case '7':
+	    skipOctal(2);
+	    return;
+	default:
+	    throw new LexerException("Invalid escape sequence on line "+getLine(start));
+	}
+    }
+
+    private void skipOctal(int maxlength) {
+	// At most three digits starting with 0-3 fit in a byte
+	for (int i=0; (i < maxlength) && (Character.digit(buf[pos], 8) != -1); i++)
+	    pos++;
+    }
+
+    /**
+     * Returns the line number of the character at index i of buf.
+     * Used only for error messages.
+     */
+    private int getLine(int i) {
+	int line = 1;
+	for (int j=base; j < i; j++) {
+	    if (buf[j] == '\n')
+		line++;
+	}
+	return line;
+    }
+
+    public void errorMsg(String msg, java_cup.runtime.Symbol info) {
+	int n = (info.left < 0) ? 0 : getLine(base + Math.min(info.left, end - base));
+	System.err.println(msg+" at line "+n);
+    }
+}
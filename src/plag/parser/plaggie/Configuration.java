@@ -78,10 +78,48 @@ public class Configuration
 
     public String codeTokenizer;
 
+    public String tokenSimilarityChecker;
+
     public String filenameFilter;
 
     public int maximumDetectionResultsToReport;
 
+    public boolean boundedTiling;
+
+    public boolean deferredTiling;
+
+    public boolean wholeSubmissionTiling;
+
+    public boolean indexTemplates;
+
+    public double frequentCodeSubmissions;
+
+    public int minimumSharedFingerprints;
+
+    public int fingerprintWindow;
+
+    public double minHashSimilarity;
+
+    public double minHashRecall;
+
+    public int minHashRows;
+
+    public int comparisonThreads;
+
+    public int tokenizationThreads;
+
+    public int tokenListCacheSize;
+
+    public boolean detectIdenticalFiles;
+
+    public boolean fastLexer;
+
+    public String tokenStoreDirectory;
+
+    /** The greedy string tiling implementation used, if not configured */
+    private static final String DEFAULT_TOKEN_SIMILARITY_CHECKER =
+	"plag.parser.RabinKarpTokenSimilarityChecker";
+
     private String getProperty(Properties prop, String propName) 
 	throws ConfigurationException 
     {
@@ -93,6 +131,15 @@ public class Configuration
 	return ret;
     }
 
+    /**
+     * Returns the value of an optional property, or the given default
+     * value if the property is not found in the configuration file.
+     */
+    private String getProperty(Properties prop, String propName, String defaultValue)
+    {
+	return prop.getProperty(propName, defaultValue);
+    }
+
     /**
      * Reads the configuration from file specified by the parameter.
      */
@@ -167,6 +214,86 @@ public class Configuration
 	codeTokenizer = 
 	    this.getProperty(prop, "plag.parser.plaggie.codeTokenizer");
 
+	tokenSimilarityChecker =
+	    this.getProperty(prop, "plag.parser.plaggie.tokenSimilarityChecker",
+			     DEFAULT_TOKEN_SIMILARITY_CHECKER);
+
+	// Whether to stop the file comparisons, which can not reach
+	// minimumFileSimilarityValueToReport
+	boundedTiling =
+	    (this.getProperty(prop, "plag.parser.plaggie.boundedTiling", "false").equals("true"));
+
+	// Whether to count only the similarity values of all the
+	// comparisons and the tiles only for the reported results
+	deferredTiling =
+	    (this.getProperty(prop, "plag.parser.plaggie.deferredTiling", "true").equals("true"));
+
+	// Whether all the files of two submissions are tiled at once
+	// instead of tiling each pair of files
+	wholeSubmissionTiling =
+	    (this.getProperty(prop, "plag.parser.plaggie.wholeSubmissionTiling", "false").equals("true"));
+
+	// Whether the templates are excluded through one index of
+	// their k-grams instead of tiling each file with each template
+	indexTemplates =
+	    (this.getProperty(prop, "plag.parser.plaggie.indexTemplates", "false").equals("true"));
+
+	// The fraction of the submissions, in which a token sequence
+	// has to occur to be excluded as common code, 0 for none
+	frequentCodeSubmissions =
+	    Double.parseDouble(this.getProperty(prop, "plag.parser.plaggie.frequentCodeSubmissions", "0"));
+
+	// Only the submission pairs sharing at least this many
+	// fingerprints are compared, 0 compares all the pairs
+	minimumSharedFingerprints =
+	    Integer.parseInt(this.getProperty(prop, "plag.parser.plaggie.minimumSharedFingerprints", "0"));
+
+	fingerprintWindow =
+	    Integer.parseInt(this.getProperty(prop, "plag.parser.plaggie.fingerprintWindow", "4"));
+
+	// Only the submission pairs found by MinHash signatures are
+	// compared. The pairs with this similarity of their token
+	// sequence sets are found with probability minHashRecall, 0
+	// compares all the pairs
+	minHashSimilarity =
+	    Double.parseDouble(this.getProperty(prop, "plag.parser.plaggie.minHashSimilarity", "0"));
+
+	minHashRecall =
+	    Double.parseDouble(this.getProperty(prop, "plag.parser.plaggie.minHashRecall", "0.95"));
+
+	minHashRows =
+	    Integer.parseInt(this.getProperty(prop, "plag.parser.plaggie.minHashRows", "4"));
+
+	// The number of threads comparing the submissions, 0 uses all
+	// the processors
+	comparisonThreads =
+	    Integer.parseInt(this.getProperty(prop, "plag.parser.plaggie.comparisonThreads", "1"));
+
+	// The number of threads tokenizing the files before the
+	// comparisons, when the token lists are cached. 0 uses all the
+	// processors
+	tokenizationThreads =
+	    Integer.parseInt(this.getProperty(prop, "plag.parser.plaggie.tokenizationThreads", "0"));
+
+	// The megabytes of token lists kept in the cache, 0 keeps all
+	tokenListCacheSize =
+	    Integer.parseInt(this.getProperty(prop, "plag.parser.plaggie.tokenListCacheSize", "0"));
+
+	// Whether the files with identical contents share their token
+	// lists and comparisons, needs the token list cache
+	detectIdenticalFiles =
+	    (this.getProperty(prop, "plag.parser.plaggie.detectIdenticalFiles", "true").equals("true"));
+
+	// Whether the Java tokenizer scans the files with the lexer
+	// creating no objects for the lexemes
+	fastLexer =
+	    (this.getProperty(prop, "plag.parser.plaggie.fastLexer", "true").equals("true"));
+
+	// The directory where the token lists are kept across runs, an
+	// empty value keeps them only during a run
+	tokenStoreDirectory =
+	    this.getProperty(prop, "plag.parser.plaggie.tokenStoreDirectory", "");
+
 	filenameFilter = 
 	    this.getProperty(prop, "plag.parser.plaggie.filenameFilter");
 	
@@ -180,6 +307,23 @@ public class Configuration
     		minimumSubmissionSimilarityValue = 0.5;
     		minimumFileSimilarityValueToReport = 0.5;
     		codeTokenizer = "plag.parser.java.JavaTokenizer";
+    		tokenSimilarityChecker = DEFAULT_TOKEN_SIMILARITY_CHECKER;
+    		boundedTiling = false;
+    		deferredTiling = true;
+    		wholeSubmissionTiling = false;
+    		indexTemplates = false;
+    		frequentCodeSubmissions = 0.0;
+    		minimumSharedFingerprints = 0;
+    		fingerprintWindow = 4;
+    		minHashSimilarity = 0.0;
+    		minHashRecall = 0.95;
+    		minHashRows = 4;
+    		comparisonThreads = 1;
+    		tokenizationThreads = 0;
+    		tokenListCacheSize = 0;
+    		detectIdenticalFiles = true;
+    		fastLexer = true;
+    		tokenStoreDirectory = "";
     		
     		debugMessages = false;
     		printTokenLists = false;
@@ -239,6 +383,33 @@ public class Configuration
 	printHtmlIntegerValue(out,"Maximum number of detection results to report", maximumDetectionResultsToReport);
 	printHtmlDoubleValue(out,"Minimum file similarity to report",minimumFileSimilarityValueToReport);
 	printHtmlStringValue(out,"Code tokenizer used",codeTokenizer);
+	printHtmlBooleanValue(out,"Java files scanned with the fast lexer", fastLexer);
+	if (tokenStoreDirectory.length() > 0) {
+	    printHtmlStringValue(out,"Token lists stored in directory", tokenStoreDirectory);
+	}
+	printHtmlStringValue(out,"Token similarity checker used",tokenSimilarityChecker);
+	printHtmlBooleanValue(out,"File comparisons stopped below minimum file similarity", boundedTiling);
+	printHtmlBooleanValue(out,"Tiles counted only for reported results", deferredTiling);
+	printHtmlBooleanValue(out,"All files of two submissions tiled at once", wholeSubmissionTiling);
+	printHtmlBooleanValue(out,"Templates excluded through one k-gram index", indexTemplates);
+	if (frequentCodeSubmissions > 0.0) {
+	    printHtmlDoubleValue(out,"Code excluded in at least this fraction of submissions", frequentCodeSubmissions);
+	}
+	if (minimumSharedFingerprints > 0) {
+	    printHtmlIntegerValue(out,"Minimum shared fingerprints of compared submissions", minimumSharedFingerprints);
+	    printHtmlIntegerValue(out,"Fingerprint window length", fingerprintWindow);
+	}
+	else if (minHashSimilarity > 0.0) {
+	    printHtmlDoubleValue(out,"Similarity of compared submissions' MinHash signatures", minHashSimilarity);
+	    printHtmlDoubleValue(out,"Probability of comparing such submissions", minHashRecall);
+	    printHtmlIntegerValue(out,"MinHash rows per band", minHashRows);
+	}
+	printHtmlIntegerValue(out,"Comparison threads (0 = one per processor)", comparisonThreads);
+	if (cacheTokenLists) {
+	    printHtmlIntegerValue(out,"Tokenization threads (0 = one per processor)", tokenizationThreads);
+	    printHtmlIntegerValue(out,"Token list cache size in megabytes (0 = unbounded)", tokenListCacheSize);
+	    printHtmlBooleanValue(out,"Identical files compared only once", detectIdenticalFiles);
+	}
 	printHtmlStringValue(out,"Filename filter used", filenameFilter);
 	if (createResultFile) {
 	    printHtmlStringValue(out,"Detection results stored in file", resultFile);
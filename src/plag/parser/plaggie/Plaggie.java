@@ -27,10 +27,19 @@ import plag.parser.report.*;
 import java.util.Iterator;
 import java.util.Properties;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.TreeSet;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveAction;
 import java.util.StringTokenizer;
 import java.util.logging.FileHandler;
 import java.util.logging.Level;
@@ -39,6 +48,7 @@ import java.util.logging.SimpleFormatter;
 
 
 import java.io.*;
+import java.lang.reflect.Constructor;
 
 /**
  * A compare tool for comparing two assignment submssions and
@@ -60,6 +70,8 @@ public class Plaggie
 
     private static CodeTokenizer codeTokenizer = null;
 
+    private static IdenticalFiles identicalFiles = null;
+
     /**
      * Reads the configuration file and initializes the config object.
      */
@@ -193,35 +205,68 @@ public class Plaggie
 	
 	StringTokenizer tokenizer = new StringTokenizer(config.templates, ",");
 	
+	ArrayList templates = new ArrayList();
 	while (tokenizer.hasMoreTokens()) 
 	{
 	    String token = tokenizer.nextToken().trim();
-	    CodeExcluder cE = 
-		new ExistingCodeExcluder(createTokenList(token, codeTokenizer),
-					 config.minimumMatchLength);
-	    codeExcluders.add(cE);
+	    TokenList templateTokens = createTokenList(token, codeTokenizer);
+	    if (config.indexTemplates) {
+		templates.add(templateTokens);
+	    }
+	    else {
+		CodeExcluder cE = 
+		    new ExistingCodeExcluder(templateTokens,
+					     config.minimumMatchLength);
+		codeExcluders.add(cE);
+	    }
+	}
+	if (!templates.isEmpty()) {
+	    codeExcluders.add(new TemplateCodeExcluder(templates,
+						       config.minimumMatchLength));
+	}
+
+	FrequentCodeExcluder frequentCodeExcluder = null;
+	if (config.frequentCodeSubmissions > 0.0) {
+	    frequentCodeExcluder = 
+		new FrequentCodeExcluder(config.minimumMatchLength,
+					 config.frequentCodeSubmissions);
+	    codeExcluders.add(frequentCodeExcluder);
 	}
 	
-	CodeExcluder codeExcluder = new MultipleCodeExcluder(codeExcluders);
+	// The excluders mark each file alone, so the marks of a file
+	// are counted once for all its comparisons
+	CodeExcluder codeExcluder =
+	    new CachingCodeExcluder(new MultipleFileCodeExcluder(codeExcluders));
 	
 	TokenSimilarityChecker tokenChecker = 
-	    new SimpleTokenSimilarityChecker(config.minimumMatchLength,
-					     codeExcluder);
+	    createTokenSimilarityChecker(codeExcluder);
+	if (config.wholeSubmissionTiling && !isWholeSubmissionTiling(tokenChecker)) {
+	    System.out.println("Token similarity checker "+config.tokenSimilarityChecker+
+			       " does not support whole submission tiling, each pair of files is tiled.");
+	}
+
+	// With deferred tiling, the comparisons count only the
+	// similarity values, the tiles are counted afterwards for the
+	// results reported
+	boolean deferredTiling = false;
+	if (config.deferredTiling && !isWholeSubmissionTiling(tokenChecker) &&
+	    (tokenChecker instanceof AbstractTokenSimilarityChecker)) {
+	    ((AbstractTokenSimilarityChecker)tokenChecker).setScoreOnly(true);
+	    deferredTiling = true;
+	}
 
 	
 	// No file excluders currently used, therefore null's
-	SubmissionSimilarityChecker checker;
+	TokenListCache tokenListCache = null;
 	if (config.cacheTokenLists) {
-	    checker = 
-		new CachingSimpleSubmissionSimilarityChecker(tokenChecker,
-							     codeTokenizer,
-							     new HashMap());
-	}
-	else {
-	    checker =
-		new SimpleSubmissionSimilarityChecker(tokenChecker,
-						      codeTokenizer);
+	    tokenListCache = new TokenListCache(config.tokenListCacheSize*1024L*1024L);
+	    if (config.detectIdenticalFiles) {
+		identicalFiles = findIdenticalFiles(submissions);
+		tokenListCache.setIdenticalFiles(identicalFiles);
+	    }
 	}
+	SubmissionSimilarityChecker checker =
+	    createSubmissionSimilarityChecker(tokenChecker, tokenListCache);
 	
 	
 	// Generate all the submission detection results
@@ -238,6 +283,24 @@ public class Plaggie
 	System.out.println("Starting time: "+startTime);
 	System.out.println("Similarity value report threshold: "+config.minimumSubmissionSimilarityValue);
 	System.out.println("Memory used/free: "+runtime.totalMemory()+" / "+runtime.freeMemory());
+
+	// Tokenize all the files before comparing them
+	if (tokenListCache != null) {
+	    tokenizeSubmissions(submissions, tokenListCache);
+	}
+
+	// Count the code common to the submissions
+	if (frequentCodeExcluder != null) {
+	    addSubmissionsToFrequentCodeExcluder(frequentCodeExcluder, submissions,
+						 tokenListCache);
+	}
+
+	// Find the submission pairs worth comparing
+	CandidateIndex candidateIndex = createCandidateIndex();
+	if (candidateIndex != null) {
+	    addSubmissionsToIndex(candidateIndex, submissions, tokenListCache);
+	}
+
 	System.out.print("Running "+totalCalculations+" submission comparisons: ");
 	
 	/*	
@@ -278,61 +341,460 @@ public class Plaggie
 	Timer timer = new Timer();
 	timer.schedule(printStatsTask, 0, 5000);
 	*/
+	if (config.comparisonThreads == 1) {
+	    for (int i=0; i < submissions.size(); i++) {
+		compareRow(i, submissions, candidateIndex, checker, blacklist, detResults);
+	    }
+	}
+	else {
+	    compareInParallel(submissions, candidateIndex, codeExcluder, deferredTiling,
+			      tokenListCache, blacklist, detResults);
+	}
+	//timer.cancel();
+	System.out.println();
+
+	if (deferredTiling) {
+	    countReportedTiles(detResults,
+			       createTokenSimilarityChecker(codeExcluder));
+	}
+
+	System.out.println("Ending time: "+(new Date()));
+	System.out.println();
+	Stats.print(System.out);
+
+	return detResults;
+
+    }
+
+    /**
+     * Hashes the contents of all the files of the given submissions
+     * to find the identical files.
+     */
+    private static IdenticalFiles findIdenticalFiles(ArrayList submissions)
+    {
+	System.out.print("Hashing the files of "+submissions.size()+" submissions: ");
+	IdenticalFiles identical = new IdenticalFiles();
 	for (int i=0; i < submissions.size(); i++) {
-	    for (int j=0; j < i; j++) {
-		Submission subA = (Submission)submissions.get(i);
-		Submission subB = (Submission)submissions.get(j);
-		SubmissionDetectionResult detResult = 
-		    new SubmissionDetectionResult(subA,
-						  subB,
-						  checker,
-						  config.minimumFileSimilarityValueToReport);
+	    identical.addSubmission((Submission)submissions.get(i));
+	}
+	System.out.println("done.");
+	return identical;
+    }
+
+    /**
+     * Tokenizes all the files of the given submissions to the token
+     * list cache on a pool of tokenizationThreads threads. The parse
+     * failures are stored in the cache and counted once, they are
+     * reported when the files are compared.
+     */
+    private static void tokenizeSubmissions(ArrayList submissions,
+					    final Map tokenListCache)
+	throws Exception
+    {
+	int threads = config.tokenizationThreads;
+	if (threads <= 0) {
+	    threads = Runtime.getRuntime().availableProcessors();
+	}
+
+	ArrayList files = new ArrayList();
+	Iterator iter = submissions.iterator();
+	while (iter.hasNext()) {
+	    Iterator subFiles = ((Submission)iter.next()).getFiles();
+	    while (subFiles.hasNext()) {
+		files.add(subFiles.next());
+	    }
+	}
+
+	System.out.print("Tokenizing "+files.size()+" files using "+threads+" threads: ");
+	ExecutorService pool = Executors.newFixedThreadPool(threads);
+	try {
+	    ArrayList tasks = new ArrayList();
+	    for (int i=0; i < files.size(); i++) {
+		final File file = (File)files.get(i);
+		tasks.add(pool.submit(new Callable() {
+			public Object call() {
+			    try {
+				CachingDetectionResult.getTokenList(file,
+								    codeTokenizer,
+								    tokenListCache);
+			    }
+			    catch (Exception e) {
+				// Stored in the cache
+			    }
+			    return null;
+			}
+		    }));
+	    }
+	    for (int i=0; i < tasks.size(); i++) {
+		((Future)tasks.get(i)).get();
+	    }
+	}
+	finally {
+	    pool.shutdown();
+	}
+	System.out.println("done.");
+    }
+
+    /**
+     * Compares submission i to the submissions before it (row i of the
+     * triangular comparison matrix) and updates the statistics. The
+     * detection results to report are added to results.
+     */
+    private static void compareRow(int i,
+				   ArrayList submissions,
+				   CandidateIndex candidateIndex,
+				   SubmissionSimilarityChecker checker,
+				   HashMap blacklist,
+				   List results)
+	throws Exception
+    {
+	boolean[] candidates = null;
+	if (candidateIndex != null) {
+	    candidates = candidateIndex.getCandidates(i);
+	}
+	for (int j=0; j < i; j++) {
+	    Submission subA = (Submission)submissions.get(i);
+	    Submission subB = (Submission)submissions.get(j);
+	    if ((candidates != null) && !candidates[j]) {
+		// Blacklisted pairs are compared, if all of them are shown
+		if (!(config.showAllBlacklistedResults &&
+		      ((blacklist.get(subA.getName().toUpperCase()) != null) ||
+		       (blacklist.get(subB.getName().toUpperCase()) != null)))) {
+		    Stats.incCounter("skipped_similarity_comparisons");
+		    continue;
+		}
+	    }
+	    SubmissionDetectionResult detResult = 
+		new SubmissionDetectionResult(subA,
+					      subB,
+					      checker,
+					      config.minimumFileSimilarityValueToReport);
 	      
-		Stats.addToDistribution("submission_similarities_a",detResult.getSimilarityA());
-		Stats.addToDistribution("submission_similarities_b",detResult.getSimilarityB());
-		Stats.addToDistribution("submission_similarities",detResult.getSimilarityA()*detResult.getSimilarityB());
-		Stats.addToDistribution("maximum_file_similarities",detResult.getMaxFileSimilarityProduct());
-		Stats.addToDistribution(subA.getName(), detResult.getSimilarityA());
-		Stats.addToDistribution(subB.getName(), detResult.getSimilarityB());
-		boolean onBlacklist = false;
-		if (blacklist.get(detResult.getSubmissionA().getName().toUpperCase()) != null) {
-		    detResult.setBlacklistedA(true);
-		    onBlacklist = true;
+	    Stats.addToDistribution("submission_similarities_a",detResult.getSimilarityA());
+	    Stats.addToDistribution("submission_similarities_b",detResult.getSimilarityB());
+	    Stats.addToDistribution("submission_similarities",detResult.getSimilarityA()*detResult.getSimilarityB());
+	    Stats.addToDistribution("maximum_file_similarities",detResult.getMaxFileSimilarityProduct());
+	    Stats.addToDistribution(subA.getName(), detResult.getSimilarityA());
+	    Stats.addToDistribution(subB.getName(), detResult.getSimilarityB());
+	    boolean onBlacklist = false;
+	    if (blacklist.get(detResult.getSubmissionA().getName().toUpperCase()) != null) {
+		detResult.setBlacklistedA(true);
+		onBlacklist = true;
+	    }
+	    if (blacklist.get(detResult.getSubmissionB().getName().toUpperCase()) != null) {
+		detResult.setBlacklistedB(true);
+		onBlacklist = true;
+	    }
+
+		
+	    boolean alreadyAdded = false;
+	    if (onBlacklist) {
+		Stats.incCounter("blacklisted_detection_results");
+		if (config.showAllBlacklistedResults) {
+		    results.add(detResult);
+		    alreadyAdded = true;
 		}
-		if (blacklist.get(detResult.getSubmissionB().getName().toUpperCase()) != null) {
-		    detResult.setBlacklistedB(true);
-		    onBlacklist = true;
+	    }
+
+	    if ((detResult.getSimilarityA() >= config.minimumSubmissionSimilarityValue) ||
+		(detResult.getSimilarityB() >= config.minimumSubmissionSimilarityValue)) {
+		if (!alreadyAdded) {
+		    results.add(detResult);
 		}
+		Stats.incCounter("similarity_over_threshold");
+	    }
+	    Stats.incCounter("similarity_comparisons");
+	}
+    }
 
-		
-		boolean alreadyAdded = false;
-		if (onBlacklist) {
-		    Stats.incCounter("blacklisted_detection_results");
-		    if (config.showAllBlacklistedResults) {
-			detResults.add(detResult);
-			alreadyAdded = true;
+    /**
+     * Compares the submissions on a fork/join pool of
+     * comparisonThreads threads. Each thread uses checkers of its own,
+     * the detection results are collected by row and added to
+     * detResults in the same order as in the serial comparison.
+     */
+    private static void compareInParallel(ArrayList submissions,
+					  CandidateIndex candidateIndex,
+					  final CodeExcluder codeExcluder,
+					  final boolean scoreOnly,
+					  final Map tokenListCache,
+					  HashMap blacklist,
+					  ArrayList detResults)
+	throws Exception
+    {
+	int threads = config.comparisonThreads;
+	if (threads <= 0) {
+	    threads = Runtime.getRuntime().availableProcessors();
+	}
+	System.out.print("(using "+threads+" threads) ");
+
+	ThreadLocal checkers = new ThreadLocal() {
+		protected Object initialValue() {
+		    try {
+			TokenSimilarityChecker tokenChecker =
+			    createTokenSimilarityChecker(codeExcluder);
+			if (scoreOnly) {
+			    ((AbstractTokenSimilarityChecker)tokenChecker).setScoreOnly(true);
+			}
+			return createSubmissionSimilarityChecker(tokenChecker, tokenListCache);
+		    }
+		    catch (Exception e) {
+			throw new RuntimeException(e);
 		    }
 		}
+	    };
+
+	List[] rowResults = new List[submissions.size()];
+	ForkJoinPool pool = new ForkJoinPool(threads);
+	try {
+	    pool.invoke(new ComparisonTask(0, submissions.size(), submissions,
+					   candidateIndex, checkers, blacklist,
+					   rowResults));
+	}
+	finally {
+	    pool.shutdown();
+	}
+	for (int i = 0; i < rowResults.length; i++) {
+	    detResults.addAll(rowResults[i]);
+	}
+    }
 
-		if ((detResult.getSimilarityA() >= config.minimumSubmissionSimilarityValue) ||
-		    (detResult.getSimilarityB() >= config.minimumSubmissionSimilarityValue)) {
-		    if (!alreadyAdded) {
-			detResults.add(detResult);
-		    }
-		    Stats.incCounter("similarity_over_threshold");
+    /**
+     * Compares the submissions on the rows from start to end of the
+     * triangular comparison matrix. The rows are split to two tasks of
+     * about the same number of comparisons, until a task has at most
+     * TASK_COMPARISONS comparisons or only one row.
+     */
+    private static class ComparisonTask
+	extends RecursiveAction
+    {
+	private static final int TASK_COMPARISONS = 64;
+
+	private int start;
+	private int end;
+	private ArrayList submissions;
+	private CandidateIndex candidateIndex;
+	private ThreadLocal checkers;
+	private HashMap blacklist;
+	private List[] rowResults;
+
+	ComparisonTask(int start,
+		       int end,
+		       ArrayList submissions,
+		       CandidateIndex candidateIndex,
+		       ThreadLocal checkers,
+		       HashMap blacklist,
+		       List[] rowResults)
+	{
+	    this.start = start;
+	    this.end = end;
+	    this.submissions = submissions;
+	    this.candidateIndex = candidateIndex;
+	    this.checkers = checkers;
+	    this.blacklist = blacklist;
+	    this.rowResults = rowResults;
+	}
+
+	protected void compute() {
+	    // Row i has i comparisons
+	    long comparisons = ((long)start + end - 1) * (end - start) / 2;
+	    if ((end - start > 1) && (comparisons > TASK_COMPARISONS)) {
+		int mid = (int)Math.sqrt((((double)start)*start + ((double)end)*end) / 2.0);
+		mid = Math.max(start + 1, Math.min(end - 1, mid));
+		invokeAll(new ComparisonTask(start, mid, submissions, candidateIndex,
+					     checkers, blacklist, rowResults),
+			  new ComparisonTask(mid, end, submissions, candidateIndex,
+					     checkers, blacklist, rowResults));
+		return;
+	    }
+
+	    SubmissionSimilarityChecker checker = 
+		(SubmissionSimilarityChecker)checkers.get();
+	    for (int i = start; i < end; i++) {
+		List results = new ArrayList();
+		try {
+		    compareRow(i, submissions, candidateIndex, checker, blacklist, results);
 		}
-		Stats.incCounter("similarity_comparisons");
-		
+		catch (Exception e) {
+		    throw new RuntimeException(e);
+		}
+		rowResults[i] = results;
 	    }
 	}
-	//timer.cancel();
-	System.out.println();
-	System.out.println("Ending time: "+(new Date()));
-	System.out.println();
-	Stats.print(System.out);
+    }
 
-	return detResults;
+    /**
+     * Returns true, if all the files of two submissions are tiled at
+     * once with the given token similarity checker.
+     */
+    private static boolean isWholeSubmissionTiling(TokenSimilarityChecker tokenChecker)
+    {
+	return config.wholeSubmissionTiling &&
+	    (tokenChecker instanceof AbstractTokenSimilarityChecker);
+    }
+
+    /**
+     * Creates the submission similarity checker using the given token
+     * similarity checker. If the token list cache is given, the token
+     * lists are cached in it, and the identical files found are
+     * compared only once.
+     */
+    private static SubmissionSimilarityChecker 
+	createSubmissionSimilarityChecker(TokenSimilarityChecker tokenChecker,
+					  Map tokenListCache)
+    {
+	if (isWholeSubmissionTiling(tokenChecker)) {
+	    return new WholeSubmissionSimilarityChecker((AbstractTokenSimilarityChecker)tokenChecker,
+							codeTokenizer,
+							tokenListCache);
+	}
+	SimpleSubmissionSimilarityChecker checker;
+	if (tokenListCache != null) {
+	    checker = new CachingSimpleSubmissionSimilarityChecker(tokenChecker,
+								   codeTokenizer,
+								   tokenListCache,
+								   identicalFiles);
+	}
+	else {
+	    checker = new SimpleSubmissionSimilarityChecker(tokenChecker,
+							    codeTokenizer);
+	}
+	// The file comparisons stopped by bounded tiling are completed
+	// only for the submissions, which may be reported
+	if (!(config.showAllBlacklistedResults &&
+	      !((config.blacklistFile == null) || config.blacklistFile.equals("")))) {
+	    checker.setSubmissionSimilarityThreshold(config.minimumSubmissionSimilarityValue);
+	}
+	return checker;
+    }
+
+    /**
+     * Creates the index for finding the submission pairs to compare
+     * according to the configuration. Returns null, if all the pairs
+     * are compared. If both the fingerprints and the MinHash
+     * signatures are configured, the fingerprints are used.
+     */
+    private static CandidateIndex createCandidateIndex() 
+    {
+	if (config.minimumSharedFingerprints > 0) {
+	    return new FingerprintIndex(config.minimumMatchLength,
+					config.fingerprintWindow,
+					config.minimumSharedFingerprints);
+	}
+	if (config.minHashSimilarity > 0.0) {
+	    int bands = MinHashIndex.getBandCount(config.minHashSimilarity,
+						  config.minHashRecall,
+						  config.minHashRows);
+	    System.out.println("Using MinHash signatures of "+bands+" bands of "+
+			       config.minHashRows+" rows");
+	    return new MinHashIndex(config.minimumMatchLength,
+				    bands,
+				    config.minHashRows);
+	}
+	return null;
+    }
+
+    /**
+     * Returns the token lists of the files of the given submission.
+     * The files failing to parse are left out, the failures are
+     * reported when the files are compared. If the token list cache
+     * is given, the token lists are stored in it.
+     */
+    private static ArrayList getTokenLists(Submission sub,
+					   Map tokenListCache)
+    {
+	ArrayList tokenLists = new ArrayList();
+	Iterator files = sub.getFiles();
+	while (files.hasNext()) {
+	    File file = (File)files.next();
+	    try {
+		if (tokenListCache != null) {
+		    tokenLists.add(CachingDetectionResult.getTokenList(file,
+								       codeTokenizer,
+								       tokenListCache));
+		}
+		else {
+		    tokenLists.add(codeTokenizer.tokenize(file));
+		}
+	    }
+	    catch (Exception e) {
+		Debug.println("File "+file.getPath()+" left out: "+e);
+	    }
+	}
+	return tokenLists;
+    }
+
+    /**
+     * Adds the given submissions to the candidate index.
+     */
+    private static void addSubmissionsToIndex(CandidateIndex index,
+					      ArrayList submissions,
+					      Map tokenListCache)
+    {
+	System.out.print("Indexing "+submissions.size()+" submissions: ");
+	for (int i=0; i < submissions.size(); i++) {
+	    Submission sub = (Submission)submissions.get(i);
+	    index.addSubmission(getTokenLists(sub, tokenListCache).iterator());
+	}
+	System.out.println("done.");
+    }
+
+    /**
+     * Adds the given submissions to the counts of the frequent code
+     * excluder.
+     */
+    private static void addSubmissionsToFrequentCodeExcluder(FrequentCodeExcluder excluder,
+							     ArrayList submissions,
+							     Map tokenListCache)
+    {
+	System.out.print("Counting the code common to "+submissions.size()+" submissions: ");
+	for (int i=0; i < submissions.size(); i++) {
+	    Submission sub = (Submission)submissions.get(i);
+	    excluder.addSubmission(getTokenLists(sub, tokenListCache).iterator());
+	}
+	System.out.println("done.");
+    }
+
+    /**
+     * Counts the tiles of the file detection results, which are
+     * reported. The HTML report contains only the first
+     * maximumDetectionResultsToReport results, others report all the
+     * results. If the results are stored in a file, all of them get
+     * the tiles.
+     */
+    private static void countReportedTiles(ArrayList detResults,
+					   TokenSimilarityChecker tokenChecker)
+    {
+	Collection reported = detResults;
+	if (config.htmlReport && !config.createResultFile &&
+	    (detResults.size() > config.maximumDetectionResultsToReport)) {
+	    TreeSet sorted = 
+		new TreeSet(new SimpleHtmlSubmissionReportGenerator
+			    .SimilarityProductComparator());
+	    sorted.addAll(detResults);
+	    reported = new ArrayList();
+	    Iterator iter = sorted.iterator();
+	    for (int i=0; i < config.maximumDetectionResultsToReport; i++) {
+		reported.add(iter.next());
+	    }
+	}
+
+	// The results completed without the threshold are counted
+	// completely again
+	if (tokenChecker instanceof BoundedTokenSimilarityChecker) {
+	    ((BoundedTokenSimilarityChecker)tokenChecker).setSimilarityThreshold(0.0);
+	}
 
+	System.out.print("Counting tiles of "+reported.size()+" reported submission comparisons: ");
+	Iterator iter = reported.iterator();
+	while (iter.hasNext()) {
+	    SubmissionDetectionResult detResult = (SubmissionDetectionResult)iter.next();
+	    Iterator fileIter = detResult.getFileDetectionResults().iterator();
+	    while (fileIter.hasNext()) {
+		((DetectionResult)fileIter.next()).recountMatches(tokenChecker);
+	    }
+	}
+	System.out.println("done.");
     }
 
     /**
@@ -476,6 +938,54 @@ public class Plaggie
 	
     }
 
+    /**
+     * Creates the token similarity checker (i.e. the greedy string
+     * tiling implementation) according to the configuration. The
+     * class has to have a constructor taking the minimum match length
+     * and a code excluder.
+     */
+    private static TokenSimilarityChecker createTokenSimilarityChecker(CodeExcluder codeExcluder)
+	throws Exception
+    {
+	Class checkerClass = Class.forName(config.tokenSimilarityChecker);
+	Constructor constructor =
+	    checkerClass.getConstructor(new Class[] { Integer.TYPE, CodeExcluder.class });
+	TokenSimilarityChecker checker = (TokenSimilarityChecker)
+	    constructor.newInstance(new Object[] { Integer.valueOf(config.minimumMatchLength),
+						   codeExcluder });
+	if (config.boundedTiling) {
+	    if (checker instanceof BoundedTokenSimilarityChecker) {
+		((BoundedTokenSimilarityChecker)checker)
+		    .setSimilarityThreshold(config.minimumFileSimilarityValueToReport);
+	    }
+	    else {
+		System.out.println("Token similarity checker "+config.tokenSimilarityChecker+
+				   " does not support bounded tiling, all comparisons are run completely.");
+	    }
+	}
+	return checker;
+    }
+
+    /**
+     * Creates the code tokenizer according to the configuration. With
+     * a token store directory, the tokenizer keeps its token lists
+     * there across runs.
+     */
+    private static CodeTokenizer createCodeTokenizer()
+	throws Exception
+    {
+	CodeTokenizer tokenizer =
+	    (CodeTokenizer)Class.forName(config.codeTokenizer).newInstance();
+	if (tokenizer instanceof JavaTokenizer) {
+	    ((JavaTokenizer)tokenizer).setFastLexer(config.fastLexer);
+	}
+	if (config.tokenStoreDirectory.length() > 0) {
+	    tokenizer = new TokenStore(new File(config.tokenStoreDirectory),
+				       config.codeTokenizer, tokenizer);
+	}
+	return tokenizer;
+    }
+
     /**
      * Returns the token list of the given file.
      */    
@@ -638,7 +1148,7 @@ public class Plaggie
 	    }
 	    
 	    // -- Create the code tokenizer object for parsing the source code files
-	    codeTokenizer = (CodeTokenizer)Class.forName(config.codeTokenizer).newInstance();
+	    codeTokenizer = createCodeTokenizer();
 
 
 	    // -- Read and create the submissions, if the results are not
@@ -655,8 +1165,11 @@ public class Plaggie
 		Stats.newCounter("parse_failures");
 		Stats.newCounter("failed_file_comparisons");
 		Stats.newCounter("file_comparisons");
+		Stats.newCounter("file_comparisons_below_threshold");
+		Stats.newCounter("file_comparisons_recounted");
 		Stats.newCounter("similarity_over_threshold");
 		Stats.newCounter("similarity_comparisons");
+		Stats.newCounter("skipped_similarity_comparisons");
 		Stats.newCounter("blacklisted_detection_results");
 		
 		Stats.newDistribution("files_in_submission");
@@ -816,7 +1329,7 @@ public class Plaggie
 	
 			// -- Create the code tokenizer object for parsing the source code
 			// files
-			codeTokenizer = (CodeTokenizer) Class.forName(config.codeTokenizer).newInstance();
+			codeTokenizer = createCodeTokenizer();
 			
 			// -- Instruct the code tokenizer to read and accept the Plaggie
 			// configuration settings
@@ -835,8 +1348,11 @@ public class Plaggie
 				Stats.newCounter("parse_failures");
 				Stats.newCounter("failed_file_comparisons");
 				Stats.newCounter("file_comparisons");
+				Stats.newCounter("file_comparisons_below_threshold");
+				Stats.newCounter("file_comparisons_recounted");
 				Stats.newCounter("similarity_over_threshold");
 				Stats.newCounter("similarity_comparisons");
+				Stats.newCounter("skipped_similarity_comparisons");
 				Stats.newCounter("blacklisted_detection_results");
 
 				Stats.newDistribution("files_in_submission");
@@ -272,7 +272,7 @@ public class SimpleHtmlSubmissionReportGenerator
 	while ( (line = br.readLine()) != null) {
 	    lineCount++;
 	    if ((!withinMatch) && (mt != null) && 
-		(mt.getTileA().getStartToken().getStartLine() == lineCount)) {
+		(mt.getTileA().getStartLine() == lineCount)) {
 		// We moved into new matched tile
 		withinMatch = true;
 		matchCount++;
@@ -281,11 +281,11 @@ public class SimpleHtmlSubmissionReportGenerator
 		fa.print(mt.getId());
 		fa.print("</A>");
 		// Scan through all the matches ending on this same line
-		while ( (mt != null) && (mt.getTileA().getEndToken().getEndLine() == lineCount)) {
+		while ( (mt != null) && (mt.getTileA().getEndLine() == lineCount)) {
 		    withinMatch = false;
 		    if (it.hasNext()) {
 			mt = (MatchedTile)it.next();
-			if (mt.getTileA().getStartToken().getStartLine() == lineCount) {
+			if (mt.getTileA().getStartLine() == lineCount) {
 				// And the next match starts on this same line, too...
 			    withinMatch = true;
 			    matchCount++;
@@ -311,14 +311,14 @@ public class SimpleHtmlSubmissionReportGenerator
 			}
 	    }
 	    else if ((withinMatch) && 
-		     (mt.getTileA().getEndToken().getEndLine() == lineCount)) {
+		     (mt.getTileA().getEndLine() == lineCount)) {
 		// We are on the last line of a match
 		withinMatch = false;
 		//fa.print(mt.getId());
 		int tmpId = mt.getId();
 		if (it.hasNext()) {
 		    mt = (MatchedTile)it.next();
-		    if (mt.getTileA().getStartToken().getStartLine() == lineCount) {
+		    if (mt.getTileA().getStartLine() == lineCount) {
 			withinMatch = true;
 			matchCount++;
 			fa.print("<A NAME=\"match"+mt.getId()+"\"></A>");
@@ -333,11 +333,11 @@ public class SimpleHtmlSubmissionReportGenerator
 		}
 		// Scan through all the remaining matches, that happen to end on this same line
 		while ( (mt != null) &&
-			(mt.getTileA().getEndToken().getEndLine() == lineCount)) {
+			(mt.getTileA().getEndLine() == lineCount)) {
 		    withinMatch = false;
 		    if (it.hasNext()) {
 			mt = (MatchedTile)it.next();
-			if (mt.getTileA().getStartToken().getStartLine() == lineCount) {
+			if (mt.getTileA().getStartLine() == lineCount) {
 				// And the next one starts here, too
 			    withinMatch = true;
 			    matchCount++;
@@ -394,7 +394,7 @@ public class SimpleHtmlSubmissionReportGenerator
 	while ( (line = br.readLine()) != null) {
 	    lineCount++;
 	    if ((!withinMatch) && (mt != null) && 
-		(mt.getTileB().getStartToken().getStartLine() == lineCount)) {
+		(mt.getTileB().getStartLine() == lineCount)) {
 		// We moved into new matched tile
 		withinMatch = true;
 		matchCount++;
@@ -403,11 +403,11 @@ public class SimpleHtmlSubmissionReportGenerator
 		fb.print(mt.getId());
 		fb.print("</A>");
 		// Scan through all the matches ending on this same line
-		while ( (mt != null) && (mt.getTileB().getEndToken().getEndLine() == lineCount)) {
+		while ( (mt != null) && (mt.getTileB().getEndLine() == lineCount)) {
 		    withinMatch = false;
 		    if (it.hasNext()) {
 			mt = (MatchedTile)it.next();
-			if (mt.getTileB().getStartToken().getStartLine() == lineCount) {
+			if (mt.getTileB().getStartLine() == lineCount) {
 				// And the next match starts on this same line, too...
 			    withinMatch = true;
 			    matchCount++;
@@ -433,14 +433,14 @@ public class SimpleHtmlSubmissionReportGenerator
 		}
 	    }
 	    else if ((withinMatch) && 
-		     (mt.getTileB().getEndToken().getEndLine() == lineCount)) {
+		     (mt.getTileB().getEndLine() == lineCount)) {
 		// We are on the last line of a match
 		withinMatch = false;
 		//fb.print(mt.getId());
 		int tmpId = mt.getId();
 		if (it.hasNext()) {
 		    mt = (MatchedTile)it.next();
-		    if (mt.getTileB().getStartToken().getStartLine() == lineCount) {
+		    if (mt.getTileB().getStartLine() == lineCount) {
 			withinMatch = true;
 			matchCount++;
 			fb.print("<A NAME=\"match"+mt.getId()+"\"></A>");
@@ -455,11 +455,11 @@ public class SimpleHtmlSubmissionReportGenerator
 		}
 		// Scan through all the remaining matches, that happen to end on this same line
 		while ( (mt != null) &&
-			(mt.getTileB().getEndToken().getEndLine() == lineCount)) {
+			(mt.getTileB().getEndLine() == lineCount)) {
 		    withinMatch = false;
 		    if (it.hasNext()) {
 			mt = (MatchedTile)it.next();
-			if (mt.getTileB().getStartToken().getStartLine() == lineCount) {
+			if (mt.getTileB().getStartLine() == lineCount) {
 				// And the next one starts here, too
 			    withinMatch = true;
 			    matchCount++;
@@ -565,22 +565,18 @@ public class SimpleHtmlSubmissionReportGenerator
 	out.println("<CODE><PRE>");
 
 	StringBuffer fileContents = getChars(br);
-	Iterator iter = tokens.iterator();
-	
-	int count = 0;
+	int size = tokens.size();
 
-	while (iter.hasNext()) {
-	    Token t = (Token)iter.next();
-	    
+	for (int count = 0; count < size; count++) {
 	    String ps = "<A NAME=\"token"+count+"\">";
 	    ps += count+":";
 	    ps += "</A>";
 
-	    int lineLeft = t.getStartLine();
-	    int lineRight = t.getEndLine();
-	    int leftChar = t.getStartChar();
-	    int rightChar = t.getEndChar();
-	    int value = t.getValue();
+	    int lineLeft = tokens.startLineAt(count);
+	    int lineRight = tokens.endLineAt(count);
+	    int leftChar = tokens.startCharAt(count);
+	    int rightChar = tokens.endCharAt(count);
+	    int value = tokens.valueAt(count);
 
 	    //	    if (printLineNumbers) {
 	    ps += lineLeft+"("+leftChar+")-"+
@@ -624,7 +620,6 @@ public class SimpleHtmlSubmissionReportGenerator
 	    else {
 		out.print(separator);
 	    }
-	    count++;
 	}
 	
 	out.println("</PRE></CODE>");
@@ -1072,9 +1067,9 @@ public class SimpleHtmlSubmissionReportGenerator
 
     /**
      * Compares submission detection results using product of the two similarity
-     * values.
+     * values. The detection results reported are the first ones in this order.
      */
-    private static class SimilarityProductComparator
+    public static class SimilarityProductComparator
 	implements Comparator, Serializable
     {
 	public int compare(Object o1, Object o2) {
@@ -140,19 +140,16 @@ public class SimpleTextReportGenerator
     {
 
 	StringBuffer fileContents = getChars(br);
-	Iterator iter = tokens.iterator();
-	
-	int count = 0;
+	int size = tokens.size();
 
-	while (iter.hasNext()) {
-	    Token t = (Token)iter.next();
+	for (int count = 0; count < size; count++) {
 	    String ps = count+":";
 
-	    int lineLeft = t.getStartLine();
-	    int lineRight = t.getEndLine();
-	    int leftChar = t.getStartChar();
-	    int rightChar = t.getEndChar();
-	    int value = t.getValue();
+	    int lineLeft = tokens.startLineAt(count);
+	    int lineRight = tokens.endLineAt(count);
+	    int leftChar = tokens.startCharAt(count);
+	    int rightChar = tokens.endCharAt(count);
+	    int value = tokens.valueAt(count);
 
 	    if (printLineNumbers) {
 		ps += lineLeft+"("+leftChar+")-"+
@@ -196,7 +193,6 @@ public class SimpleTextReportGenerator
 	    else {
 		out.print(separator);
 	    }
-	    count++;
 	}
     }
 
@@ -243,17 +239,17 @@ public class SimpleTextReportGenerator
 	while ( (line = br.readLine()) != null) {
 	    lineCount++;
 	    if ((!withinMatch) && (mt != null) && 
-		(mt.getTileA().getStartToken().getStartLine() == lineCount)) {
+		(mt.getTileA().getStartLine() == lineCount)) {
 		// We moved into new matched tile
 		withinMatch = true;
 		matchCount++;
 		out.print(mt.getId());
 		// Scan through all the matches ending on this same line
-		while ( (mt != null) && (mt.getTileA().getEndToken().getEndLine() == lineCount)) {
+		while ( (mt != null) && (mt.getTileA().getEndLine() == lineCount)) {
 		    withinMatch = false;
 		    if (it.hasNext()) {
 			mt = (MatchedTile)it.next();
-			if (mt.getTileA().getStartToken().getStartLine() == lineCount) {
+			if (mt.getTileA().getStartLine() == lineCount) {
 				// And the next match starts on this same line, too...
 			    withinMatch = true;
 			    matchCount++;
@@ -268,13 +264,13 @@ public class SimpleTextReportGenerator
 		out.println(":"+line);
 	    }
 	    else if ((withinMatch) && 
-		     (mt.getTileA().getEndToken().getEndLine() == lineCount)) {
+		     (mt.getTileA().getEndLine() == lineCount)) {
 		// We are on the last line of a match
 		withinMatch = false;
 		out.print(mt.getId());
 		if (it.hasNext()) {
 		    mt = (MatchedTile)it.next();
-		    if (mt.getTileA().getStartToken().getStartLine() == lineCount) {
+		    if (mt.getTileA().getStartLine() == lineCount) {
 			withinMatch = true;
 			matchCount++;
 			out.print(","+mt.getId());
@@ -285,11 +281,11 @@ public class SimpleTextReportGenerator
 		}
 		// Scan through all the remaining matches, that happen to end on this same line
 		while ( (mt != null) &&
-			(mt.getTileA().getEndToken().getEndLine() == lineCount)) {
+			(mt.getTileA().getEndLine() == lineCount)) {
 		    withinMatch = false;
 		    if (it.hasNext()) {
 			mt = (MatchedTile)it.next();
-			if (mt.getTileA().getStartToken().getStartLine() == lineCount) {
+			if (mt.getTileA().getStartLine() == lineCount) {
 				// And the next one starts here, too
 			    withinMatch = true;
 			    matchCount++;
@@ -338,17 +334,17 @@ public class SimpleTextReportGenerator
 	while ( (line = br.readLine()) != null) {
 	    lineCount++;
 	    if ((!withinMatch) && (mt != null) && 
-		(mt.getTileB().getStartToken().getStartLine() == lineCount)) {
+		(mt.getTileB().getStartLine() == lineCount)) {
 		// We moved into new matched tile
 		withinMatch = true;
 		matchCount++;
 		out.print(mt.getId());
 		// Scan through all the matches ending on this same line
-		while ( (mt != null) && (mt.getTileB().getEndToken().getEndLine() == lineCount)) {
+		while ( (mt != null) && (mt.getTileB().getEndLine() == lineCount)) {
 		    withinMatch = false;
 		    if (it.hasNext()) {
 			mt = (MatchedTile)it.next();
-			if (mt.getTileB().getStartToken().getStartLine() == lineCount) {
+			if (mt.getTileB().getStartLine() == lineCount) {
 				// And the next match starts on this same line, too...
 			    withinMatch = true;
 			    matchCount++;
@@ -363,13 +359,13 @@ public class SimpleTextReportGenerator
 		out.println(":"+line);
 	    }
 	    else if ((withinMatch) && 
-		     (mt.getTileB().getEndToken().getEndLine() == lineCount)) {
+		     (mt.getTileB().getEndLine() == lineCount)) {
 		// We are on the last line of a match
 		withinMatch = false;
 		out.print(mt.getId());
 		if (it.hasNext()) {
 		    mt = (MatchedTile)it.next();
-		    if (mt.getTileB().getStartToken().getStartLine() == lineCount) {
+		    if (mt.getTileB().getStartLine() == lineCount) {
 			withinMatch = true;
 			matchCount++;
 			out.print(","+mt.getId());
@@ -380,11 +376,11 @@ public class SimpleTextReportGenerator
 		}
 		// Scan through all the remaining matches, that happen to end on this same line
 		while ( (mt != null) &&
-			(mt.getTileB().getEndToken().getEndLine() == lineCount)) {
+			(mt.getTileB().getEndLine() == lineCount)) {
 		    withinMatch = false;
 		    if (it.hasNext()) {
 			mt = (MatchedTile)it.next();
-			if (mt.getTileB().getStartToken().getStartLine() == lineCount) {
+			if (mt.getTileB().getStartLine() == lineCount) {
 				// And the next one starts here, too
 			    withinMatch = true;
 			    matchCount++;